@@ -2,12 +2,21 @@ package com.jobmanager.orchestrator.api.controller;
 
 import com.jobmanager.orchestrator.api.dto.CancelJobResponse;
 import com.jobmanager.orchestrator.api.dto.JobExecutionResponse;
+import com.jobmanager.orchestrator.api.dto.JobStatusLookupRequest;
 import com.jobmanager.orchestrator.api.dto.JobStatusResponse;
 import com.jobmanager.orchestrator.api.mapper.JobStatusMapper;
 import com.jobmanager.orchestrator.application.service.JobOrchestrationService;
+import com.jobmanager.orchestrator.application.service.JobReservation;
+import com.jobmanager.orchestrator.application.service.RequestBodySpool;
+import com.jobmanager.orchestrator.application.service.ResponseStore;
+import com.jobmanager.orchestrator.application.service.StoredResponse;
 import com.jobmanager.orchestrator.domain.entity.JobStatus;
 import com.jobmanager.orchestrator.domain.exception.JobMappingNotFoundException;
 import com.jobmanager.orchestrator.domain.exception.JobNotFoundException;
+import com.jobmanager.orchestrator.domain.exception.RequestBodyUnreadableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,6 +24,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -22,24 +32,36 @@ import jakarta.validation.constraints.Size;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.StreamUtils;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * REST controller for job orchestration operations.
@@ -54,12 +76,26 @@ public class JobController {
     private static final Logger logger = LoggerFactory.getLogger(JobController.class);
     private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
+    // ETag suffixes, one per representation of a job's status
+    private static final String FULL_STATUS = "";
+    private static final String STATUS_WITHOUT_RESPONSE = "-nr";
+    private static final String RESPONSE_BODY = "-body";
+
     @Autowired
     private JobOrchestrationService orchestrationService;
     
     @Autowired
     private JobStatusMapper statusMapper;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RequestBodySpool requestBodySpool;
+
+    @Autowired
+    private ResponseStore responseStore;
+
     /**
      * Creates and executes a job by forwarding the entire incoming HTTP request.
      * Supports any HTTP method (POST, PUT, DELETE, PATCH, etc.).
@@ -76,8 +112,10 @@ public class JobController {
                            "Requires Idempotency-Key header for idempotent requests.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Job execution created successfully"),
-        @ApiResponse(responseCode = "400", description = "Invalid request or missing Idempotency-Key header"),
-        @ApiResponse(responseCode = "404", description = "Job mapping not found")
+        @ApiResponse(responseCode = "400", description = "Invalid request, unreadable request body or missing Idempotency-Key header"),
+        @ApiResponse(responseCode = "404", description = "Job mapping not found"),
+        @ApiResponse(responseCode = "429", description = "Target service is at capacity"),
+        @ApiResponse(responseCode = "503", description = "Request body could not be spooled")
     })
     public ResponseEntity<JobExecutionResponse> createJob(
             @Parameter(description = "Job name to resolve destination service", required = true)
@@ -102,24 +140,33 @@ public class JobController {
             // Extract all headers (excluding Idempotency-Key as it's internal)
             Map<String, String> headers = extractHeaders(request);
 
-            // Extract query parameters
-            Map<String, String> queryParams = extractQueryParams(request);
-
-            // Extract request body
+            // Extract request body, before the parameters: reading parameters would consume a form body
             Object requestBody = extractRequestBody(request);
 
-            // Create and trigger job
-            UUID executionUuid = orchestrationService.createAndTriggerJob(
-                    jobName, idempotencyKey, httpMethod, headers, queryParams, requestBody);
+            // Extract query parameters
+            Map<String, String> queryParams = extractQueryParams(request);
 
-            logger.info("Job execution created with UUID: {} for job: {}", executionUuid, jobName);
-            return ResponseEntity.ok(new JobExecutionResponse(executionUuid));
+            // Create and trigger job; a repeated idempotency key returns the existing UUID.
+            // A spooled body belongs to the job once it is queued, and is dropped otherwise.
+            JobReservation reservation;
+            try {
+                reservation = orchestrationService.createAndTriggerJob(
+                        jobName, idempotencyKey, httpMethod, headers, queryParams, requestBody);
+            } catch (RuntimeException e) {
+                releaseSpooledBody(requestBody);
+                throw e;
+            }
+            if (!reservation.isCreated()) {
+                releaseSpooledBody(requestBody);
+            }
 
-        } catch (JobOrchestrationService.IdempotentRequestException e) {
-            // Idempotent request - return existing UUID
-            logger.info("Idempotent request detected for job: {}, returning existing UUID: {}", 
-                    jobName, e.getExistingUuid());
-            return ResponseEntity.ok(new JobExecutionResponse(e.getExistingUuid()));
+            if (reservation.isCreated()) {
+                logger.info("Job execution created with UUID: {} for job: {}", reservation.getUuid(), jobName);
+            } else {
+                logger.info("Idempotent request detected for job: {}, returning existing UUID: {}",
+                        jobName, reservation.getUuid());
+            }
+            return ResponseEntity.ok(new JobExecutionResponse(reservation.getUuid()));
 
         } catch (JobMappingNotFoundException e) {
             logger.warn("Job mapping not found: {}", e.getMessage());
@@ -132,15 +179,24 @@ public class JobController {
 
     /**
      * Returns the current execution status of a job.
+     * The response carries an ETag for the status version; a poll whose If-None-Match header
+     * still matches gets 304 Not Modified without a body. With includeResponse=false the
+     * response payload is left out and not loaded; it can be fetched from {@code /{uuid}/response}.
+     * That representation has its own ETag, so it never validates a full status.
      * 
      * @param uuid the job execution UUID
+     * @param ifNoneMatch the ETags the client already has, if any
+     * @param includeResponse whether to return the response payload
      * @return JobStatusResponse containing status, response payload, HTTP status, timestamps
      */
     @GetMapping("/{uuid}")
     @Operation(summary = "Get job execution status", 
-               description = "Retrieves the current status of a job execution by UUID")
+               description = "Retrieves the current status of a job execution by UUID. " +
+                           "Supports conditional requests through ETag and If-None-Match. " +
+                           "With includeResponse=false the response payload is neither loaded nor returned.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Job status retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Job status has not changed since the given ETag"),
         @ApiResponse(responseCode = "400", description = "Invalid UUID format"),
         @ApiResponse(responseCode = "404", description = "Job not found")
     })
@@ -150,15 +206,219 @@ public class JobController {
             @NotBlank(message = "UUID is required")
             @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$", 
                      message = "Invalid UUID format")
-            String uuid) {
+            String uuid,
+            @Parameter(description = "ETag of a previously returned status")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch,
+            @Parameter(description = "Whether to return the response payload")
+            @RequestParam(defaultValue = "true")
+            boolean includeResponse) {
         
         UUID jobUuid = UUID.fromString(uuid);
-        logger.debug("Received status request for UUID: {}", jobUuid);
+        logger.debug("Received status request for UUID: {}, includeResponse={}", jobUuid, includeResponse);
+
+        JobStatus jobStatus = orchestrationService.getJobStatus(jobUuid, includeResponse);
+        String eTag = eTag(jobStatus, includeResponse ? FULL_STATUS : STATUS_WITHOUT_RESPONSE);
+        if (matchesETag(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        JobStatusResponse response = statusMapper.toDto(jobStatus, includeResponse);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(response);
+    }
+
+    /**
+     * Streams the response the target service returned for a job, as stored.
+     * Large responses are streamed from the response store and never held in memory. A request
+     * whose If-None-Match header still matches gets 304 Not Modified and the body is not opened.
+     *
+     * @param uuid the job execution UUID
+     * @param ifNoneMatch the ETags the client already has, if any
+     * @return the response body, or 204 No Content while the job has none
+     * @throws IOException if the stored response cannot be opened
+     */
+    @GetMapping("/{uuid}/response")
+    @Operation(summary = "Get job response",
+               description = "Streams the body the target service returned for the job")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Response body streamed"),
+        @ApiResponse(responseCode = "204", description = "The job has no response yet"),
+        @ApiResponse(responseCode = "304", description = "Job response has not changed since the given ETag"),
+        @ApiResponse(responseCode = "400", description = "Invalid UUID format"),
+        @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    public ResponseEntity<StreamingResponseBody> getJobResponse(
+            @Parameter(description = "Job execution UUID", required = true)
+            @PathVariable 
+            @NotBlank(message = "UUID is required")
+            @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$", 
+                     message = "Invalid UUID format")
+            String uuid,
+            @Parameter(description = "ETag of a previously returned response")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch) throws IOException {
+
+        UUID jobUuid = UUID.fromString(uuid);
+        logger.debug("Received response request for UUID: {}", jobUuid);
 
         JobStatus jobStatus = orchestrationService.getJobStatus(jobUuid);
-        JobStatusResponse response = statusMapper.toDto(jobStatus);
+        String eTag = eTag(jobStatus, RESPONSE_BODY);
+        if (matchesETag(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        StoredResponse stored = StoredResponse.of(jobStatus);
+        if (stored.isEmpty()) {
+            return ResponseEntity.noContent().eTag(eTag).build();
+        }
+
+        // Opened before the response is committed, so a missing body still fails with an error status
+        InputStream body = responseStore.open(stored);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM);
+        if (stored.getSize() != null) {
+            builder.contentLength(stored.getSize());
+        }
+        return builder.body(outputStream -> {
+            try (InputStream in = body) {
+                in.transferTo(outputStream);
+            }
+        });
+    }
+
+    /**
+     * Returns the status of many jobs at once, streamed as they are read.
+     * Statuses come back in request order as a JSON array, or as newline-delimited JSON when the
+     * client accepts {@code application/x-ndjson}. Unknown UUIDs are skipped.
+     *
+     * @param request the job execution UUIDs
+     * @param accept the media types the client accepts
+     * @return the streamed statuses
+     */
+    @PostMapping(value = "/statuses", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Get the status of many jobs",
+               description = "Streams the statuses of the given job executions, as a JSON array or as NDJSON. " +
+                           "Unknown UUIDs are skipped.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Job statuses streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid UUIDs or too many UUIDs")
+    })
+    public ResponseEntity<StreamingResponseBody> getJobStatuses(
+            @Valid @RequestBody JobStatusLookupRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+
+        List<UUID> uuids = request.getUuids();
+        logger.debug("Received bulk status request for {} UUIDs", uuids.size());
+
+        boolean ndjson = accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+        ObjectWriter writer = ndjson
+                ? objectMapper.writer().withRootValueSeparator("\n")
+                : objectMapper.writer();
+
+        // Chunks are read lazily: each one is written and flushed before the next is read
+        Stream<List<JobStatus>> chunks = orchestrationService.findJobStatuses(uuids);
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter sequence = ndjson ? writer.writeValues(outputStream) : writer.writeValuesAsArray(outputStream)) {
+                boolean written = false;
+                for (List<JobStatus> chunk : (Iterable<List<JobStatus>>) chunks::iterator) {
+                    for (JobStatus jobStatus : chunk) {
+                        sequence.write(statusMapper.toDto(jobStatus));
+                        written = true;
+                    }
+                    sequence.flush();
+                }
+                if (ndjson && written) {
+                    outputStream.write('\n');
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 
-        return ResponseEntity.ok(response);
+    /**
+     * Waits until a job finishes and returns its final status (long poll).
+     * The request holds no servlet thread while it waits; if the job is still running at the
+     * timeout, its current status is returned and the client polls again.
+     *
+     * @param uuid the job execution UUID
+     * @param timeout how long to wait in milliseconds
+     * @return JobStatusResponse with the final status, or the current one after the timeout
+     */
+    @GetMapping("/{uuid}/await")
+    @Operation(summary = "Wait for a job to finish",
+               description = "Long poll: returns once the job reaches SUCCESS, FAILED or CANCELLED, " +
+                           "or with its current status when the timeout elapses")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Final job status, or current status after the timeout"),
+        @ApiResponse(responseCode = "400", description = "Invalid UUID format or timeout"),
+        @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    public Mono<ResponseEntity<JobStatusResponse>> awaitJob(
+            @Parameter(description = "Job execution UUID", required = true)
+            @PathVariable 
+            @NotBlank(message = "UUID is required")
+            @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$", 
+                     message = "Invalid UUID format")
+            String uuid,
+            @Parameter(description = "Maximum time to wait in milliseconds")
+            @RequestParam(required = false)
+            @Min(value = 1, message = "Timeout must be positive")
+            Long timeout) {
+
+        UUID jobUuid = UUID.fromString(uuid);
+        logger.debug("Received await request for UUID: {} with timeout: {}", jobUuid, timeout);
+
+        return orchestrationService.awaitJob(jobUuid, timeout)
+                .map(jobStatus -> ResponseEntity.ok()
+                        .eTag(eTag(jobStatus, FULL_STATUS))
+                        .cacheControl(CacheControl.noCache())
+                        .body(statusMapper.toDto(jobStatus)));
+    }
+
+    /**
+     * Streams the status changes of a job as Server-Sent Events.
+     * The first event carries the current status; the stream ends after the final status.
+     * Each event is named after the status, and its id is the status version.
+     *
+     * @param uuid the job execution UUID
+     * @return the status events
+     */
+    @GetMapping(value = "/{uuid}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream job status events",
+               description = "Server-Sent Events stream of the job's status changes, ending with its final status")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened"),
+        @ApiResponse(responseCode = "400", description = "Invalid UUID format"),
+        @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    public Flux<ServerSentEvent<JobStatusResponse>> streamJobEvents(
+            @Parameter(description = "Job execution UUID", required = true)
+            @PathVariable 
+            @NotBlank(message = "UUID is required")
+            @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$", 
+                     message = "Invalid UUID format")
+            String uuid) {
+
+        UUID jobUuid = UUID.fromString(uuid);
+        logger.debug("Received event stream request for UUID: {}", jobUuid);
+
+        return orchestrationService.watchJob(jobUuid)
+                .map(jobStatus -> ServerSentEvent.builder(statusMapper.toDto(jobStatus))
+                        .id(jobStatus.getStatusVersion())
+                        .event(jobStatus.getStatus().name())
+                        .build());
     }
 
     /**
@@ -200,6 +460,33 @@ public class JobController {
         }
     }
 
+    /**
+     * Checks an If-None-Match header against the current ETag, using weak comparison.
+     */
+    /**
+     * Builds the ETag of one representation of a job's status: the full status, the status
+     * without its response, or the raw response body.
+     */
+    private static String eTag(JobStatus jobStatus, String representation) {
+        return "\"" + jobStatus.getStatusVersion() + representation + "\"";
+    }
+
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Extracts all headers from the request, excluding internal headers.
      */
@@ -234,28 +521,25 @@ public class JobController {
     }
 
     /**
-     * Extracts request body from the request.
-     * Returns null if no body is present.
+     * Extracts request body from the request, whatever its content type.
+     * Returns null if no body is present, the raw bytes if the body is small, and otherwise
+     * the path of the file it was spooled to, so large bodies are never held in memory.
+     * The body is never decoded, so binary payloads are forwarded byte for byte.
+     * A body that cannot be read or spooled fails the request, so no job is created without it.
      */
     private Object extractRequestBody(HttpServletRequest request) {
+        InputStream body;
         try {
-            String contentType = request.getContentType();
-            if (contentType == null || !contentType.contains("application/json")) {
-                // For non-JSON content types, return null or handle differently
-                return null;
-            }
-
-            String body = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
-            if (body == null || body.isBlank()) {
-                return null;
-            }
-
-            // Return as String for now - HttpForwardingService will handle it
-            return body;
-
+            body = request.getInputStream();
         } catch (IOException e) {
-            logger.warn("Failed to read request body: {}", e.getMessage());
-            return null;
+            throw new RequestBodyUnreadableException("Request body could not be read: " + e.getMessage(), e);
+        }
+        return requestBodySpool.read(body);
+    }
+
+    private void releaseSpooledBody(Object requestBody) {
+        if (requestBody instanceof Path file) {
+            requestBodySpool.delete(file.toString());
         }
     }
 }
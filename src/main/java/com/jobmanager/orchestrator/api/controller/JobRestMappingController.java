@@ -163,7 +163,7 @@ public class JobRestMappingController {
     }
 
     private JobRestMappingResponse toResponse(JobMapping mapping) {
-        return new JobRestMappingResponse(
+        JobRestMappingResponse response = new JobRestMappingResponse(
                 mapping.getId(),
                 mapping.getJobName(),
                 mapping.getServiceName(),
@@ -171,6 +171,11 @@ public class JobRestMappingController {
                 mapping.getPort(),
                 null // httpMethod not available in JobMapping, would need to be added if using this controller
         );
+        response.setMaxConcurrency(mapping.getMaxConcurrency());
+        response.setQueueCapacity(mapping.getQueueCapacity());
+        response.setReadTimeout(mapping.getReadTimeout());
+        response.setIdempotencyWindow(mapping.getIdempotencyWindow());
+        return response;
     }
 
     @ExceptionHandler(DataIntegrityViolationException.class)
@@ -1,9 +1,15 @@
 package com.jobmanager.orchestrator.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.jobmanager.orchestrator.api.dto.CursorPageResponse;
 import com.jobmanager.orchestrator.api.dto.DeleteJobStatusResponse;
 import com.jobmanager.orchestrator.api.dto.JobStatusDocumentResponse;
 import com.jobmanager.orchestrator.api.dto.SaveJobStatusRequest;
+import com.jobmanager.orchestrator.application.service.CursorPage;
 import com.jobmanager.orchestrator.application.service.MongoDbService;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
 import com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,20 +17,26 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * REST controller for MongoDB job status operations.
@@ -41,6 +53,9 @@ public class JobStatusController {
     @Autowired
     private MongoDbService mongoDbService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * Saves or updates a job status in MongoDB.
      *
@@ -131,24 +146,93 @@ public class JobStatusController {
     }
 
     /**
-     * Retrieves all job statuses from MongoDB.
+     * Lists job statuses one page at a time, ordered by start date.
+     * Pass the returned {@code nextCursor} as {@code cursor} to get the next page; the last page
+     * has none.
      *
-     * @return list of all job statuses
+     * @param status only jobs in this status
+     * @param from only jobs started at or after this time
+     * @param to only jobs started before this time
+     * @param cursor the cursor of the page to get, absent for the first page
+     * @param limit the maximum number of jobs on the page
+     * @return the page of job statuses
      */
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Get all job statuses", 
-               description = "Retrieves all job statuses from MongoDB")
+    @Operation(summary = "List job statuses",
+               description = "Lists job statuses from MongoDB one page at a time, ordered by start date, " +
+                           "optionally filtered by status and start date range")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Job statuses retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Job statuses retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid filter, cursor or limit")
     })
-    public ResponseEntity<List<JobStatusDocumentResponse>> getAllJobStatuses() {
-        logger.debug("Retrieving all job statuses");
+    public ResponseEntity<CursorPageResponse<JobStatusDocumentResponse>> getJobStatuses(
+            @Parameter(description = "Only jobs in this status")
+            @RequestParam(required = false) JobExecutionStatus status,
+            @Parameter(description = "Only jobs started at or after this time", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Only jobs started before this time", example = "2024-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of jobs on the page")
+            @RequestParam(defaultValue = "100")
+            @Min(value = 1, message = "Limit must be positive")
+            @Max(value = 1000, message = "Limit must be at most 1000") int limit) {
 
-        List<JobStatusDocumentResponse> jobStatuses = mongoDbService.getAllJobStatuses().stream()
+        logger.debug("Listing job statuses: status={}, from={}, to={}, limit={}", status, from, to, limit);
+
+        CursorPage<JobStatus> page = mongoDbService.getJobStatusPage(status, from, to, cursor, limit);
+        List<JobStatusDocumentResponse> items = page.getItems().stream()
                 .map(this::toJobStatusResponse)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(jobStatuses);
+        return ResponseEntity.ok(new CursorPageResponse<>(items, page.getNextCursor()));
+    }
+
+    /**
+     * Streams all matching job statuses as newline-delimited JSON, ordered by start date.
+     * Jobs are written as they are read from the database, so the listing can be of any size.
+     *
+     * @param status only jobs in this status
+     * @param from only jobs started at or after this time
+     * @param to only jobs started before this time
+     * @return the streamed job statuses
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream job statuses",
+               description = "Streams all matching job statuses from MongoDB as NDJSON, ordered by start date")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Job statuses streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid filter")
+    })
+    public ResponseEntity<StreamingResponseBody> streamJobStatuses(
+            @Parameter(description = "Only jobs in this status")
+            @RequestParam(required = false) JobExecutionStatus status,
+            @Parameter(description = "Only jobs started at or after this time", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Only jobs started before this time", example = "2024-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        logger.debug("Streaming job statuses: status={}, from={}, to={}", status, from, to);
+
+        ObjectWriter writer = objectMapper.writer().withRootValueSeparator("\n");
+        StreamingResponseBody body = outputStream -> {
+            try (Stream<JobStatus> jobStatuses = mongoDbService.streamJobStatuses(status, from, to);
+                 SequenceWriter sequence = writer.writeValues(outputStream)) {
+                boolean written = false;
+                for (JobStatus jobStatus : (Iterable<JobStatus>) jobStatuses::iterator) {
+                    sequence.write(toJobStatusResponse(jobStatus));
+                    written = true;
+                }
+                if (written) {
+                    outputStream.write('\n');
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
@@ -214,17 +298,18 @@ public class JobStatusController {
      * Converts JobStatus entity to JobStatusDocumentResponse DTO.
      */
     private JobStatusDocumentResponse toJobStatusResponse(JobStatus jobStatus) {
-        return new JobStatusDocumentResponse(
+        JobStatusDocumentResponse response = new JobStatusDocumentResponse(
                 jobStatus.getId(),
                 jobStatus.getUuid(),
                 jobStatus.getStatus(),
-                jobStatus.getResponse(),
                 jobStatus.getStartDate(),
                 jobStatus.getEndDate(),
                 jobStatus.getHttpCode(),
                 jobStatus.getCreatedAt(),
                 jobStatus.getUpdatedAt()
         );
+        response.setResponseSize(jobStatus.getResponseSize());
+        return response;
     }
 }
 
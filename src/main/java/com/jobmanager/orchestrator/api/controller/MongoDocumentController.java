@@ -1,8 +1,13 @@
 package com.jobmanager.orchestrator.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.jobmanager.orchestrator.api.dto.CursorPageResponse;
 import com.jobmanager.orchestrator.api.dto.DeleteDocumentResponse;
 import com.jobmanager.orchestrator.api.dto.DocumentResponse;
 import com.jobmanager.orchestrator.api.dto.SaveDocumentRequest;
+import com.jobmanager.orchestrator.application.service.CursorPage;
 import com.jobmanager.orchestrator.application.service.MongoDbService;
 import com.jobmanager.orchestrator.persistence.mongodb.document.MongoDocument;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,7 +16,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,11 +28,13 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * REST controller for MongoDB document operations.
@@ -41,6 +51,9 @@ public class MongoDocumentController {
     @Autowired
     private MongoDbService mongoDbService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * Saves or updates a document in MongoDB.
      *
@@ -131,7 +144,8 @@ public class MongoDocumentController {
      */
     @GetMapping(value = "/{documentKey}/value/{dataKey}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get specific value from document", 
-               description = "Retrieves a specific value from a document's data map by data key")
+               description = "Retrieves a specific value from a document's data map by data key. " +
+                           "The key may be a dot path to a nested value.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Value retrieved successfully"),
         @ApiResponse(responseCode = "404", description = "Document or value not found")
@@ -155,24 +169,113 @@ public class MongoDocumentController {
     }
 
     /**
-     * Retrieves all documents from MongoDB.
+     * Retrieves several values from a document's data in one call.
      *
-     * @return list of all documents
+     * @param documentKey the document key
+     * @param keys the data keys, as dot paths for nested values
+     * @return the values found, by data key
+     */
+    @GetMapping(value = "/{documentKey}/values", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get several values from document",
+               description = "Retrieves the given values from a document's data map. Keys may be dot paths " +
+                           "to nested values; keys without a value are left out.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Values retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid data keys"),
+        @ApiResponse(responseCode = "404", description = "Document not found")
+    })
+    public ResponseEntity<Map<String, Object>> getDocumentValues(
+            @Parameter(description = "Document key", required = true)
+            @PathVariable @NotBlank(message = "Document key is required") String documentKey,
+            @Parameter(description = "Data keys, comma separated", required = true, example = "name,address.city")
+            @RequestParam @NotEmpty(message = "At least one data key is required") List<String> keys) {
+
+        logger.debug("Retrieving values for document key: {} and data keys: {}", documentKey, keys);
+
+        Optional<Map<String, Object>> values = mongoDbService.getValuesByDocumentKey(documentKey, keys);
+
+        if (values.isPresent()) {
+            return ResponseEntity.ok(values.get());
+        } else {
+            logger.warn("Document not found with key: {}", documentKey);
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Lists documents one page at a time, ordered by document key.
+     * Pass the returned {@code nextCursor} as {@code cursor} to get the next page; the last page
+     * has none.
+     *
+     * @param cursor the cursor of the page to get, absent for the first page
+     * @param limit the maximum number of documents on the page
+     * @param includeData whether to return the document data, or only keys and timestamps
+     * @return the page of documents
      */
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Get all documents", 
-               description = "Retrieves all documents from MongoDB")
+    @Operation(summary = "List documents",
+               description = "Lists documents from MongoDB one page at a time, ordered by document key")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Documents retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Documents retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
     })
-    public ResponseEntity<List<DocumentResponse>> getAllDocuments() {
-        logger.debug("Retrieving all documents");
+    public ResponseEntity<CursorPageResponse<DocumentResponse>> getDocuments(
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of documents on the page")
+            @RequestParam(defaultValue = "100")
+            @Min(value = 1, message = "Limit must be positive")
+            @Max(value = 1000, message = "Limit must be at most 1000") int limit,
+            @Parameter(description = "Whether to return the document data, or only keys and timestamps")
+            @RequestParam(defaultValue = "true") boolean includeData) {
 
-        List<DocumentResponse> documents = mongoDbService.getAllDocuments().stream()
+        logger.debug("Listing documents: limit={}, includeData={}", limit, includeData);
+
+        CursorPage<MongoDocument> page = mongoDbService.getDocumentPage(cursor, limit, includeData);
+        List<DocumentResponse> items = page.getItems().stream()
                 .map(this::toDocumentResponse)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(documents);
+        return ResponseEntity.ok(new CursorPageResponse<>(items, page.getNextCursor()));
+    }
+
+    /**
+     * Streams all documents as newline-delimited JSON, ordered by document key.
+     * Documents are written as they are read from the database, so the listing can be of any size.
+     *
+     * @param includeData whether to return the document data, or only keys and timestamps
+     * @return the streamed documents
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream documents",
+               description = "Streams all documents from MongoDB as NDJSON, ordered by document key")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Documents streamed successfully")
+    })
+    public ResponseEntity<StreamingResponseBody> streamDocuments(
+            @Parameter(description = "Whether to return the document data, or only keys and timestamps")
+            @RequestParam(defaultValue = "true") boolean includeData) {
+
+        logger.debug("Streaming documents: includeData={}", includeData);
+
+        ObjectWriter writer = objectMapper.writer().withRootValueSeparator("\n");
+        StreamingResponseBody body = outputStream -> {
+            try (Stream<MongoDocument> documents = mongoDbService.streamDocuments(includeData);
+                 SequenceWriter sequence = writer.writeValues(outputStream)) {
+                boolean written = false;
+                for (MongoDocument document : (Iterable<MongoDocument>) documents::iterator) {
+                    sequence.write(toDocumentResponse(document));
+                    written = true;
+                }
+                if (written) {
+                    outputStream.write('\n');
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
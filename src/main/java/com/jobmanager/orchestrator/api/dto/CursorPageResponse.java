@@ -0,0 +1,47 @@
+package com.jobmanager.orchestrator.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a cursor-paginated listing.
+ *
+ * @param <T> the item type
+ */
+@Schema(description = "One page of results; pass nextCursor as the cursor parameter to get the next page")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "Items of this page")
+    @JsonProperty("items")
+    private List<T> items;
+
+    @Schema(description = "Cursor of the next page, absent on the last page", example = "MjAyNC0wMS0wMVQxMDowMDowMHw2NTdm")
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+
+    public CursorPageResponse() {
+    }
+
+    public CursorPageResponse(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -1,5 +1,6 @@
 package com.jobmanager.orchestrator.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -9,6 +10,7 @@ import java.util.Map;
  * DTO for MongoDB document response.
  */
 @Schema(description = "Response containing MongoDB document information")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class DocumentResponse {
 
     @Schema(description = "Document ID", example = "507f1f77bcf86cd799439011")
@@ -17,7 +19,7 @@ public class DocumentResponse {
     @Schema(description = "Document key", example = "user-profile-123")
     private String documentKey;
 
-    @Schema(description = "Document data", example = "{\"name\": \"John\", \"age\": 30}")
+    @Schema(description = "Document data, absent when listing keys only", example = "{\"name\": \"John\", \"age\": 30}")
     private Map<String, Object> data;
 
     @Schema(description = "Creation timestamp", example = "2024-01-01T10:00:00")
@@ -1,6 +1,7 @@
 package com.jobmanager.orchestrator.api.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -30,6 +31,22 @@ public class JobRestMappingRequest {
     @NotBlank(message = "httpMethod is required")
     private String httpMethod;
 
+    @Schema(description = "Maximum concurrent jobs against the service (defaults to job.bulkhead.default-max-concurrency)", example = "10")
+    @Min(value = 1, message = "maxConcurrency must be at least 1")
+    private Integer maxConcurrency;
+
+    @Schema(description = "Jobs that may wait for a free slot before new ones are rejected (defaults to job.bulkhead.default-queue-capacity)", example = "100")
+    @Min(value = 0, message = "queueCapacity must not be negative")
+    private Integer queueCapacity;
+
+    @Schema(description = "Read timeout for calls to the service in milliseconds (defaults to remote.client.read-timeout)", example = "30000")
+    @Min(value = 1, message = "readTimeout must be at least 1")
+    private Long readTimeout;
+
+    @Schema(description = "How long an idempotency key is honored in milliseconds (defaults to job.idempotency.window)", example = "86400000")
+    @Min(value = 1, message = "idempotencyWindow must be at least 1")
+    private Long idempotencyWindow;
+
     public JobRestMappingRequest() {
     }
 
@@ -80,4 +97,36 @@ public class JobRestMappingRequest {
     public void setHttpMethod(String httpMethod) {
         this.httpMethod = httpMethod;
     }
+
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public Integer getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(Integer queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Long getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Long readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public Long getIdempotencyWindow() {
+        return idempotencyWindow;
+    }
+
+    public void setIdempotencyWindow(Long idempotencyWindow) {
+        this.idempotencyWindow = idempotencyWindow;
+    }
 }
@@ -26,6 +26,18 @@ public class JobRestMappingResponse {
     @Schema(description = "HTTP method", example = "POST")
     private String httpMethod;
 
+    @Schema(description = "Maximum concurrent jobs against the service", example = "10")
+    private Integer maxConcurrency;
+
+    @Schema(description = "Jobs that may wait for a free slot", example = "100")
+    private Integer queueCapacity;
+
+    @Schema(description = "Read timeout for calls to the service in milliseconds", example = "30000")
+    private Long readTimeout;
+
+    @Schema(description = "How long an idempotency key is honored in milliseconds", example = "86400000")
+    private Long idempotencyWindow;
+
     public JobRestMappingResponse() {
     }
 
@@ -85,5 +97,36 @@ public class JobRestMappingResponse {
     public void setHttpMethod(String httpMethod) {
         this.httpMethod = httpMethod;
     }
-}
 
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public Integer getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(Integer queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Long getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Long readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public Long getIdempotencyWindow() {
+        return idempotencyWindow;
+    }
+
+    public void setIdempotencyWindow(Long idempotencyWindow) {
+        this.idempotencyWindow = idempotencyWindow;
+    }
+}
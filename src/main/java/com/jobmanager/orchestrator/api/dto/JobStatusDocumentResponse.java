@@ -8,6 +8,8 @@ import java.time.LocalDateTime;
 
 /**
  * DTO for MongoDB job status response.
+ * Carries no response body: bodies may be compressed or stored in files, so they are only
+ * served by {@code /job/{uuid}/response}.
  */
 @Schema(description = "Response containing MongoDB job status information")
 public class JobStatusDocumentResponse {
@@ -24,9 +26,10 @@ public class JobStatusDocumentResponse {
     @JsonProperty("status")
     private JobExecutionStatus status;
 
-    @Schema(description = "Response message", example = "Job completed successfully")
-    @JsonProperty("response")
-    private String response;
+    @Schema(description = "Size of the job's response body in bytes; the body itself is served by"
+            + " /job/{uuid}/response", example = "2048")
+    @JsonProperty("responseSize")
+    private Long responseSize;
 
     @Schema(description = "Start date", example = "2024-01-01T10:00:00")
     @JsonProperty("startDate")
@@ -51,13 +54,12 @@ public class JobStatusDocumentResponse {
     public JobStatusDocumentResponse() {
     }
 
-    public JobStatusDocumentResponse(String id, String uuid, JobExecutionStatus status, String response,
+    public JobStatusDocumentResponse(String id, String uuid, JobExecutionStatus status,
                                      LocalDateTime startDate, LocalDateTime endDate, Integer httpCode,
                                      LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.uuid = uuid;
         this.status = status;
-        this.response = response;
         this.startDate = startDate;
         this.endDate = endDate;
         this.httpCode = httpCode;
@@ -89,12 +91,12 @@ public class JobStatusDocumentResponse {
         this.status = status;
     }
 
-    public String getResponse() {
-        return response;
+    public Long getResponseSize() {
+        return responseSize;
     }
 
-    public void setResponse(String response) {
-        this.response = response;
+    public void setResponseSize(Long responseSize) {
+        this.responseSize = responseSize;
     }
 
     public LocalDateTime getStartDate() {
@@ -0,0 +1,34 @@
+package com.jobmanager.orchestrator.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for looking up the status of many jobs at once.
+ */
+@Schema(description = "Request to get the status of several job executions")
+public class JobStatusLookupRequest {
+
+    @NotEmpty(message = "At least one UUID is required")
+    @Schema(description = "Job execution UUIDs, in the order the statuses are returned",
+            example = "[\"550e8400-e29b-41d4-a716-446655440000\"]", required = true)
+    private List<UUID> uuids;
+
+    public JobStatusLookupRequest() {
+    }
+
+    public JobStatusLookupRequest(List<UUID> uuids) {
+        this.uuids = uuids;
+    }
+
+    public List<UUID> getUuids() {
+        return uuids;
+    }
+
+    public void setUuids(List<UUID> uuids) {
+        this.uuids = uuids;
+    }
+}
@@ -17,9 +17,14 @@ public class JobStatusResponse {
     @Schema(description = "Current status of the job execution", example = "SUCCESS")
     private JobExecutionStatus status;
     
-    @Schema(description = "Response body from the remote job execution", example = "Job completed successfully")
+    @Schema(description = "Response body from the remote job execution, if it is UTF-8 text of at most"
+            + " job.response-store.inline-limit bytes; larger or binary bodies are left out and"
+            + " served by /job/{uuid}/response", example = "Job completed successfully")
     private String response;
     
+    @Schema(description = "Size of the response body in bytes", example = "2048")
+    private Long responseSize;
+
     @Schema(description = "HTTP status code from the remote job execution", example = "200")
     private Integer httpStatus;
     
@@ -56,6 +61,14 @@ public class JobStatusResponse {
         this.response = response;
     }
 
+    public Long getResponseSize() {
+        return responseSize;
+    }
+
+    public void setResponseSize(Long responseSize) {
+        this.responseSize = responseSize;
+    }
+
     public Integer getHttpStatus() {
         return httpStatus;
     }
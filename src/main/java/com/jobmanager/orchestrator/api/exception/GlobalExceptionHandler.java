@@ -1,7 +1,11 @@
 package com.jobmanager.orchestrator.api.exception;
 
+import com.jobmanager.orchestrator.domain.exception.BulkheadFullException;
 import com.jobmanager.orchestrator.domain.exception.JobMappingNotFoundException;
 import com.jobmanager.orchestrator.domain.exception.JobNotFoundException;
+import com.jobmanager.orchestrator.domain.exception.RequestBodySpoolException;
+import com.jobmanager.orchestrator.domain.exception.RequestBodyTooLargeException;
+import com.jobmanager.orchestrator.domain.exception.RequestBodyUnreadableException;
 import com.jobmanager.orchestrator.domain.exception.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,6 +53,50 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFull(BulkheadFullException ex) {
+        logger.warn("Job rejected by bulkhead for service {}: {}", ex.getServiceName(), ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                "SERVICE_AT_CAPACITY",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+    }
+
+    @ExceptionHandler(RequestBodyTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleRequestBodyTooLarge(RequestBodyTooLargeException ex) {
+        logger.warn("Request body rejected: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                "REQUEST_BODY_TOO_LARGE",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(error);
+    }
+
+    @ExceptionHandler(RequestBodyUnreadableException.class)
+    public ResponseEntity<ErrorResponse> handleRequestBodyUnreadable(RequestBodyUnreadableException ex) {
+        logger.warn("Request body rejected: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                "REQUEST_BODY_UNREADABLE",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(RequestBodySpoolException.class)
+    public ResponseEntity<ErrorResponse> handleRequestBodySpool(RequestBodySpoolException ex) {
+        logger.error("Request body could not be spooled", ex);
+        ErrorResponse error = new ErrorResponse(
+                "REQUEST_BODY_SPOOL_UNAVAILABLE",
+                "Request body could not be stored",
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(ValidationException ex) {
         logger.warn("Validation error: {}", ex.getMessage());
@@ -1,17 +1,30 @@
 package com.jobmanager.orchestrator.api.mapper;
 
 import com.jobmanager.orchestrator.api.dto.JobStatusResponse;
+import com.jobmanager.orchestrator.application.service.StoredResponse;
 import com.jobmanager.orchestrator.domain.entity.JobStatus;
 import org.springframework.stereotype.Component;
 
 /**
  * Mapper for converting JobStatus entities to DTOs.
  * Prevents entity leakage to the API layer.
+ * Only a response stored inline as text, at most {@code job.response-store.inline-limit} bytes, is put
+ * into the DTO. Compressed and file-stored responses are never read here, so a status never holds a
+ * large body on the heap; clients fetch those from {@code /job/{uuid}/response} by their size.
  */
 @Component
 public class JobStatusMapper {
 
     public JobStatusResponse toDto(JobStatus entity) {
+        return toDto(entity, true);
+    }
+
+    /**
+     * Converts a job status, leaving out the response unless it is included.
+     * The response size is set either way, so a null response with a size means the body is
+     * only available from the response endpoint.
+     */
+    public JobStatusResponse toDto(JobStatus entity, boolean includeResponse) {
         if (entity == null) {
             return null;
         }
@@ -19,7 +32,10 @@ public class JobStatusMapper {
         JobStatusResponse dto = new JobStatusResponse();
         dto.setUuid(entity.getUuid());
         dto.setStatus(entity.getStatus());
-        dto.setResponse(entity.getResponse());
+        if (includeResponse) {
+            dto.setResponse(StoredResponse.of(entity).getText());
+        }
+        dto.setResponseSize(entity.getResponseSize());
         dto.setHttpStatus(entity.getHttpStatus());
         dto.setStartDate(entity.getStartDate());
         dto.setEndDate(entity.getEndDate());
@@ -0,0 +1,125 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory state of the jobs running on this node, the source of truth for them while they run.
+ *
+ * A job is tracked from the moment it is started until its execution ends. Its state moves
+ * from IN_PROGRESS to exactly one final state, SUCCESS, FAILED or CANCELLED, through an atomic
+ * compare-and-set, so a cancellation and a completion racing each other agree on a winner without
+ * reading the database. Status reads and cancellations of tracked jobs are served from here; the
+ * store is written afterwards, for durability only, through the {@link JobStatusWriter}.
+ */
+@Component
+public class ActiveJobTable {
+
+    /**
+     * Outcome of moving a job to its final state.
+     */
+    public enum Transition {
+        /** The job was running here and is now in the requested state */
+        APPLIED,
+        /** The job was running here but had already reached a final state */
+        REJECTED,
+        /** The job is not running on this node */
+        NOT_ACTIVE
+    }
+
+    // Thread-safe table of running jobs: UUID -> state
+    private final Map<UUID, ActiveJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Starts tracking a job claimed by this node.
+     *
+     * @param job the claimed job, in IN_PROGRESS
+     */
+    public void track(JobStatus job) {
+        jobs.put(job.getUuid(), new ActiveJob(job));
+    }
+
+    /**
+     * Stops tracking a job once its execution has ended.
+     *
+     * @param uuid the job execution UUID
+     */
+    public void remove(UUID uuid) {
+        jobs.remove(uuid);
+    }
+
+    /**
+     * Moves a running job to its final state, unless it already reached one.
+     *
+     * @param completion the final state
+     * @return whether the transition was applied
+     */
+    public Transition complete(JobCompletion completion) {
+        ActiveJob job = jobs.get(completion.getUuid());
+        if (job == null) {
+            return Transition.NOT_ACTIVE;
+        }
+        return job.outcome.compareAndSet(null, completion) ? Transition.APPLIED : Transition.REJECTED;
+    }
+
+    /**
+     * Returns the current status of a running job.
+     *
+     * @param uuid the job execution UUID
+     * @return a snapshot of the job, or empty if it is not running on this node
+     */
+    public Optional<JobStatus> find(UUID uuid) {
+        return Optional.ofNullable(jobs.get(uuid)).map(ActiveJob::snapshot);
+    }
+
+    /**
+     * Returns the number of tracked jobs.
+     *
+     * @return the active job count
+     */
+    public int size() {
+        return jobs.size();
+    }
+
+    private static final class ActiveJob {
+        private final UUID uuid;
+        private final String jobName;
+        private final String serviceName;
+        private final String idempotencyKey;
+        private final LocalDateTime startDate;
+        private final String requestBodyFile;
+        // Null while IN_PROGRESS, set exactly once to the final state
+        private final AtomicReference<JobCompletion> outcome = new AtomicReference<>();
+
+        private ActiveJob(JobStatus job) {
+            this.uuid = job.getUuid();
+            this.jobName = job.getJobName();
+            this.serviceName = job.getServiceName();
+            this.idempotencyKey = job.getIdempotencyKey();
+            this.startDate = job.getStartDate();
+            this.requestBodyFile = job.getRequestBodyFile();
+        }
+
+        private JobStatus snapshot() {
+            JobStatus job = new JobStatus(uuid, JobExecutionStatus.IN_PROGRESS);
+            job.setJobName(jobName);
+            job.setServiceName(serviceName);
+            job.setIdempotencyKey(idempotencyKey);
+            job.setStartDate(startDate);
+            job.setRequestBodyFile(requestBodyFile);
+            JobCompletion completion = outcome.get();
+            if (completion != null) {
+                completion.applyTo(job);
+            }
+            return job;
+        }
+    }
+}
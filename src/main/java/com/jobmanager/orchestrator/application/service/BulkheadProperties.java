@@ -0,0 +1,32 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for per-service bulkheads.
+ * The defaults apply to mappings that do not set their own limits.
+ */
+@Component
+@ConfigurationProperties(prefix = "job.bulkhead")
+public class BulkheadProperties {
+
+    private int defaultMaxConcurrency = 10;
+    private int defaultQueueCapacity = 100;
+
+    public int getDefaultMaxConcurrency() {
+        return defaultMaxConcurrency;
+    }
+
+    public void setDefaultMaxConcurrency(int defaultMaxConcurrency) {
+        this.defaultMaxConcurrency = defaultMaxConcurrency;
+    }
+
+    public int getDefaultQueueCapacity() {
+        return defaultQueueCapacity;
+    }
+
+    public void setDefaultQueueCapacity(int defaultQueueCapacity) {
+        this.defaultQueueCapacity = defaultQueueCapacity;
+    }
+}
@@ -0,0 +1,135 @@
+package com.jobmanager.orchestrator.application.service;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded map of expiring entries, shared by the in-memory caches.
+ *
+ * Entries are also kept in expiry order, so making room never scans the map: expired entries
+ * are dropped from the head of the order on every put, and beyond {@code maxSize} the entries
+ * closest to expiry are evicted one at a time until the map is back at its bound. Concurrent
+ * puts therefore evict about as many entries as they add.
+ *
+ * Times are in the caller's nanosecond clock.
+ */
+final class ExpiringEntries<K, V> {
+
+    private static final Comparator<Entry<?, ?>> EXPIRY_ORDER =
+            Comparator.<Entry<?, ?>>comparingLong(entry -> entry.expiresAt).thenComparingLong(entry -> entry.sequence);
+
+    private final int maxSize;
+    private final Map<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<Entry<K, V>> byExpiry = new ConcurrentSkipListSet<>(EXPIRY_ORDER);
+    private final AtomicLong sequence = new AtomicLong();
+
+    ExpiringEntries(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @return the value, or empty if there is none or it has expired
+     */
+    Optional<V> get(K key, long now) {
+        Entry<K, V> entry = entries.get(key);
+        return entry == null || now >= entry.expiresAt ? Optional.empty() : Optional.of(entry.value);
+    }
+
+    /**
+     * Puts a value, then evicts entries until the map is back at {@code maxSize}.
+     *
+     * @return the number of live entries evicted
+     */
+    int put(K key, V value, long now, long expiresAt) {
+        dropExpired(now);
+        Entry<K, V> entry = new Entry<>(key, value, expiresAt, sequence.incrementAndGet());
+        Entry<K, V> previous = entries.put(key, entry);
+        byExpiry.add(entry);
+        if (previous != null) {
+            byExpiry.remove(previous);
+        }
+        return evictOverflow();
+    }
+
+    /**
+     * Replaces the value of a key that is present; an absent key stays absent.
+     *
+     * @param change computes the new value from the current one; may be called more than once
+     * @param expiresAt the expiry of the new value
+     */
+    void update(K key, UnaryOperator<V> change, ToLongFunction<V> expiresAt) {
+        for (Entry<K, V> current = entries.get(key); current != null; current = entries.get(key)) {
+            V value = change.apply(current.value);
+            Entry<K, V> next = new Entry<>(key, value, expiresAt.applyAsLong(value), sequence.incrementAndGet());
+            if (entries.replace(key, current, next)) {
+                byExpiry.add(next);
+                byExpiry.remove(current);
+                return;
+            }
+        }
+    }
+
+    void remove(K key) {
+        Entry<K, V> entry = entries.remove(key);
+        if (entry != null) {
+            byExpiry.remove(entry);
+        }
+    }
+
+    void clear() {
+        entries.keySet().forEach(this::remove);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void dropExpired(long now) {
+        for (Entry<K, V> head : byExpiry) {
+            if (now < head.expiresAt) {
+                break;
+            }
+            if (byExpiry.remove(head)) {
+                entries.remove(head.key, head);
+            }
+        }
+    }
+
+    private int evictOverflow() {
+        int evicted = 0;
+        while (entries.size() > maxSize) {
+            Entry<K, V> head = byExpiry.pollFirst();
+            if (head == null) {
+                break;
+            }
+            // An entry replaced meanwhile is no longer in the map and frees nothing
+            if (entries.remove(head.key, head)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final long expiresAt;
+        private final long sequence;
+
+        private Entry(K key, V value, long expiresAt, long sequence) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.sequence = sequence;
+        }
+    }
+}
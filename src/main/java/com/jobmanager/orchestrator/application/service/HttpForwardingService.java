@@ -4,16 +4,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
 
 /**
@@ -31,6 +38,12 @@ public class HttpForwardingService {
     @Autowired
     private RemoteClientProperties properties;
 
+    @Autowired
+    private RequestBodySpoolProperties spoolProperties;
+
+    @Autowired
+    private ResponseStore responseStore;
+
     private WebClient webClient;
 
     @PostConstruct
@@ -41,7 +54,8 @@ public class HttpForwardingService {
     }
 
     /**
-     * Forwards an HTTP request to the target endpoint.
+     * Forwards an HTTP request to the target endpoint and waits for the response.
+     * Prefer {@link #forwardRequestReactive} on hot paths; this variant blocks the calling thread.
      *
      * @param method the HTTP method (GET, POST, PUT, DELETE, PATCH, etc.)
      * @param endpointUrl the full target endpoint URL
@@ -56,117 +70,154 @@ public class HttpForwardingService {
             Map<String, String> headers,
             Map<String, String> queryParams,
             Object requestBody) {
-        
-        logger.info("Forwarding {} request to: {}", method, endpointUrl);
+        return forwardRequestReactive(method, endpointUrl, headers, queryParams, requestBody).block();
+    }
+
+    /**
+     * Forwards an HTTP request to the target endpoint without blocking.
+     * The returned Mono never errors: remote error statuses and network failures are
+     * mapped to an HttpForwardingResponse. Cancelling the subscription aborts the call.
+     *
+     * @param method the HTTP method (GET, POST, PUT, DELETE, PATCH, etc.)
+     * @param endpointUrl the full target endpoint URL
+     * @param headers the request headers to forward
+     * @param queryParams the query parameters to include
+     * @param requestBody the request body (can be null)
+     * @return Mono emitting the response and HTTP status
+     */
+    public Mono<HttpForwardingResponse> forwardRequestReactive(
+            HttpMethod method,
+            String endpointUrl,
+            Map<String, String> headers,
+            Map<String, String> queryParams,
+            Object requestBody) {
 
+        URI endpoint;
         try {
-            WebClient.RequestBodyUriSpec requestSpec = webClient.method(method);
-            WebClient.RequestBodySpec uriSpec;
-
-            // Build URI with query parameters (properly URL-encoded)
-            URI uri;
-            if (queryParams != null && !queryParams.isEmpty()) {
-                UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(endpointUrl);
-                queryParams.forEach(uriBuilder::queryParam);
-                uri = uriBuilder.build().toUri();
-            } else {
-                uri = URI.create(endpointUrl);
-            }
-            uriSpec = requestSpec.uri(uri);
-
-            // Add headers (excluding Idempotency-Key as it's internal)
-            // Handle Content-Type separately as it needs special handling
-            String contentType = null;
-            if (headers != null) {
-                for (Map.Entry<String, String> header : headers.entrySet()) {
-                    String key = header.getKey();
-                    if (!"Idempotency-Key".equalsIgnoreCase(key)) {
-                        if ("Content-Type".equalsIgnoreCase(key)) {
-                            contentType = header.getValue();
-                        } else {
-                            uriSpec.header(key, header.getValue());
-                        }
+            endpoint = URI.create(endpointUrl);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            logger.error("Failed to forward request to {}: {}", endpointUrl, e.getMessage(), e);
+            return Mono.just(new HttpForwardingResponse("Network error: " + e.getMessage(), 0));
+        }
+        return forward(method, endpoint, Duration.ofMillis(properties.getReadTimeout()),
+                headers, queryParams, requestBody);
+    }
+
+    /**
+     * Forwards an HTTP request along a precompiled route without blocking.
+     * Uses the route's parsed endpoint as is, and its read timeout when it sets one.
+     *
+     * @param route the job's route
+     * @param method the HTTP method of the job's request
+     * @param headers the request headers to forward
+     * @param queryParams the query parameters to include
+     * @param requestBody the request body (can be null); a byte array is sent as is, and a
+     *                    {@link Path} is streamed from that file
+     * @return Mono emitting the response and HTTP status
+     */
+    public Mono<HttpForwardingResponse> forwardRequestReactive(
+            Route route,
+            HttpMethod method,
+            Map<String, String> headers,
+            Map<String, String> queryParams,
+            Object requestBody) {
+
+        Duration readTimeout = route.getReadTimeout() != null
+                ? route.getReadTimeout() : Duration.ofMillis(properties.getReadTimeout());
+        return forward(method, route.getEndpoint(), readTimeout, headers, queryParams, requestBody);
+    }
+
+    private Mono<HttpForwardingResponse> forward(
+            HttpMethod method,
+            URI endpoint,
+            Duration readTimeout,
+            Map<String, String> headers,
+            Map<String, String> queryParams,
+            Object requestBody) {
+
+        return Mono.defer(() -> {
+                    logger.info("Forwarding {} request to: {}", method, endpoint);
+                    // The body is streamed into the response store as it arrives, never buffered whole
+                    return buildRequest(method, endpoint, headers, queryParams, requestBody)
+                            .exchangeToMono(response -> responseStore.capture(response.bodyToFlux(DataBuffer.class))
+                                    .map(stored -> new HttpForwardingResponse(stored, response.statusCode().value())))
+                            .timeout(readTimeout);
+                })
+                .doOnNext(response -> {
+                    if (response.isSuccess()) {
+                        logger.info("Request forwarded successfully. Response size: {}", response.getResponse().getSize());
+                    } else {
+                        logger.error("Remote service returned error status: {}", response.getHttpStatus());
+                    }
+                })
+                .onErrorResume(e -> {
+                    logger.error("Failed to forward request to {}: {}", endpoint, e.getMessage(), e);
+                    return Mono.just(new HttpForwardingResponse("Network error: " + e.getMessage(), 0));
+                });
+    }
+
+    /**
+     * Builds the outgoing request: URI with query parameters, forwarded headers and body.
+     */
+    private WebClient.RequestHeadersSpec<?> buildRequest(
+            HttpMethod method,
+            URI endpoint,
+            Map<String, String> headers,
+            Map<String, String> queryParams,
+            Object requestBody) {
+
+        // Add query parameters (properly URL-encoded); without any, the endpoint is used as is
+        URI uri = endpoint;
+        if (queryParams != null && !queryParams.isEmpty()) {
+            UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUri(endpoint);
+            queryParams.forEach(uriBuilder::queryParam);
+            uri = uriBuilder.build().toUri();
+        }
+        WebClient.RequestBodySpec uriSpec = webClient.method(method).uri(uri);
+
+        // Add headers (excluding Idempotency-Key as it's internal)
+        // Handle Content-Type separately as it needs special handling
+        String contentType = null;
+        if (headers != null) {
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                String key = header.getKey();
+                if (!"Idempotency-Key".equalsIgnoreCase(key)) {
+                    if ("Content-Type".equalsIgnoreCase(key)) {
+                        contentType = header.getValue();
+                    } else {
+                        uriSpec.header(key, header.getValue());
                     }
                 }
             }
+        }
 
-            // Execute request and capture status code
-            String responseBody = null;
-            int httpStatus = 200;
-
-            if (requestBody != null && (method == HttpMethod.POST || method == HttpMethod.PUT || 
-                    method == HttpMethod.PATCH)) {
-                // Set content type - use from headers if provided, otherwise default to JSON
-                if (contentType != null) {
-                    uriSpec.contentType(MediaType.parseMediaType(contentType));
-                } else {
-                    uriSpec.contentType(MediaType.APPLICATION_JSON);
-                }
-                
-                // Use toEntity to capture status code
-                ResponseEntity<String> responseEntity = uriSpec
-                        .bodyValue(requestBody)
-                        .retrieve()
-                        .onStatus(status -> status.isError(), response -> {
-                            logger.warn("Remote service returned error status: {}", response.statusCode());
-                            return response.bodyToMono(String.class)
-                                    .defaultIfEmpty("")
-                                    .flatMap(body -> Mono.error(new WebClientResponseException(
-                                            response.statusCode().value(),
-                                            "Remote service error",
-                                            response.headers().asHttpHeaders(),
-                                            body.getBytes(),
-                                            null
-                                    )));
-                        })
-                        .toEntity(String.class)
-                        .timeout(java.time.Duration.ofMillis(properties.getReadTimeout()))
-                        .block();
-                
-                if (responseEntity != null) {
-                    responseBody = responseEntity.getBody();
-                    httpStatus = responseEntity.getStatusCode().value();
-                }
+        if (requestBody != null && (method == HttpMethod.POST || method == HttpMethod.PUT ||
+                method == HttpMethod.PATCH)) {
+            // Set content type - use from headers if provided, otherwise default to JSON
+            if (contentType != null) {
+                uriSpec.contentType(MediaType.parseMediaType(contentType));
             } else {
-                // For GET, DELETE, etc. without body
-                ResponseEntity<String> responseEntity = uriSpec
-                        .retrieve()
-                        .onStatus(status -> status.isError(), response -> {
-                            logger.warn("Remote service returned error status: {}", response.statusCode());
-                            return response.bodyToMono(String.class)
-                                    .defaultIfEmpty("")
-                                    .flatMap(body -> Mono.error(new WebClientResponseException(
-                                            response.statusCode().value(),
-                                            "Remote service error",
-                                            response.headers().asHttpHeaders(),
-                                            body.getBytes(),
-                                            null
-                                    )));
-                        })
-                        .toEntity(String.class)
-                        .timeout(java.time.Duration.ofMillis(properties.getReadTimeout()))
-                        .block();
-                
-                if (responseEntity != null) {
-                    responseBody = responseEntity.getBody();
-                    httpStatus = responseEntity.getStatusCode().value();
-                }
+                uriSpec.contentType(MediaType.APPLICATION_JSON);
             }
+            if (requestBody instanceof Path file) {
+                // Spooled bodies are streamed from their file, one buffer at a time
+                uriSpec.contentLength(fileSize(file));
+                return uriSpec.body(BodyInserters.fromDataBuffers(DataBufferUtils.read(
+                        file, DefaultDataBufferFactory.sharedInstance, spoolProperties.getBufferSize())));
+            }
+            // Byte arrays are wrapped, not copied or decoded, so any content type passes through unchanged
+            return uriSpec.bodyValue(requestBody);
+        }
 
-            logger.info("Request forwarded successfully. Response length: {}", 
-                    responseBody != null ? responseBody.length() : 0);
-
-            return new HttpForwardingResponse(responseBody, httpStatus);
-
-        } catch (WebClientResponseException e) {
-            logger.error("Remote service returned error: {} - {}", e.getStatusCode(), e.getMessage());
-            return new HttpForwardingResponse(
-                    e.getResponseBodyAsString() != null ? e.getResponseBodyAsString() : e.getMessage(), 
-                    e.getStatusCode().value());
+        // For GET, DELETE, etc. without body
+        return uriSpec;
+    }
 
-        } catch (Exception e) {
-            logger.error("Failed to forward request to {}: {}", endpointUrl, e.getMessage(), e);
-            return new HttpForwardingResponse("Network error: " + e.getMessage(), 0);
+    private static long fileSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Spooled request body is not readable: " + file, e);
         }
     }
 
@@ -174,16 +225,23 @@ public class HttpForwardingService {
      * Response wrapper for HTTP forwarding operations.
      */
     public static class HttpForwardingResponse {
-        private final String responseBody;
+        private final StoredResponse response;
         private final int httpStatus;
 
         public HttpForwardingResponse(String responseBody, int httpStatus) {
-            this.responseBody = responseBody;
+            this(StoredResponse.inline(responseBody), httpStatus);
+        }
+
+        public HttpForwardingResponse(StoredResponse response, int httpStatus) {
+            this.response = response;
             this.httpStatus = httpStatus;
         }
 
-        public String getResponseBody() {
-            return responseBody;
+        /**
+         * Returns the response as stored; read its body through the {@link ResponseStore}.
+         */
+        public StoredResponse getResponse() {
+            return response;
         }
 
         public int getHttpStatus() {
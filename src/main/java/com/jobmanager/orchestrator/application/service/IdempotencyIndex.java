@@ -0,0 +1,211 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Answers "was this idempotency key used for this job before?" without a database read for
+ * most requests. Keys are scoped to the job name, like the unique index that backs them.
+ *
+ * Keys created on this node within {@code job.idempotency.recent-key-ttl} are remembered
+ * exactly, which answers client retries from memory. Every key this node has created is also
+ * added to a bloom filter: a key the filter has never seen is new as far as this node knows,
+ * so the store lookup is skipped and the job goes straight to the insert. Only keys the filter
+ * may have seen are looked up in the store.
+ *
+ * The filter cannot know keys created on other nodes or before a restart, so it is never the
+ * last word: the unique index on the idempotency key makes the insert itself atomic, and a
+ * duplicate that slips past the filter is caught there. A request about to be turned away
+ * before the insert is looked up with {@link #findStored} first, so a retry still gets its job.
+ *
+ * A key is only honored within its idempotency window, set per job mapping or by
+ * {@code job.idempotency.window}. Remembered keys never outlive their window, and a stored key
+ * whose window has ended counts as new even before {@link IdempotencyKeyCompactor} clears it.
+ *
+ * Publishes {@code job.idempotency.checks}, tagged with the outcome: {@code filtered} (skipped
+ * the store), {@code recent} (answered from memory), {@code found} and {@code not_found}.
+ */
+@Component
+public class IdempotencyIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyIndex.class);
+
+    private final JobStatusStore jobStatusStore;
+    private final IdempotencyProperties properties;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, RecentKey> recentKeys = new ConcurrentHashMap<>();
+    // Current and previous generation; a full current generation replaces the previous one
+    private volatile IdempotencyBloomFilter currentFilter;
+    private volatile IdempotencyBloomFilter previousFilter;
+
+    private Counter filtered;
+    private Counter recent;
+    private Counter found;
+    private Counter notFound;
+
+    @Autowired
+    public IdempotencyIndex(JobStatusStore jobStatusStore, IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this(jobStatusStore, properties, System::nanoTime);
+        this.filtered = checks(meterRegistry, "filtered");
+        this.recent = checks(meterRegistry, "recent");
+        this.found = checks(meterRegistry, "found");
+        this.notFound = checks(meterRegistry, "not_found");
+    }
+
+    IdempotencyIndex(JobStatusStore jobStatusStore, IdempotencyProperties properties, LongSupplier nanoClock) {
+        this.jobStatusStore = jobStatusStore;
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.currentFilter = newFilter();
+    }
+
+    /**
+     * Finds the job an idempotency key was already used for.
+     *
+     * @param jobName the job name
+     * @param idempotencyKey the key
+     * @return the existing job's UUID, or empty if the key looks new
+     */
+    public Optional<UUID> findExisting(String jobName, String idempotencyKey) {
+        String key = key(jobName, idempotencyKey);
+        RecentKey recentKey = recentKeys.get(key);
+        if (recentKey != null && nanoClock.getAsLong() < recentKey.expiresAt) {
+            increment(recent);
+            return Optional.of(recentKey.uuid);
+        }
+
+        IdempotencyBloomFilter previous = previousFilter;
+        if (!currentFilter.mightContain(key) && (previous == null || !previous.mightContain(key))) {
+            increment(filtered);
+            return Optional.empty();
+        }
+
+        return findStored(jobName, idempotencyKey);
+    }
+
+    /**
+     * Finds the job an idempotency key was already used for in the store, whatever the filter
+     * says. Used before turning a request away, since a key created on another node is only
+     * known to the store.
+     *
+     * @param jobName the job name
+     * @param idempotencyKey the key
+     * @return the existing job's UUID, or empty if no job holds the key within its window
+     */
+    public Optional<UUID> findStored(String jobName, String idempotencyKey) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<JobStatus> existing = jobStatusStore.findByJobNameAndIdempotencyKey(jobName, idempotencyKey)
+                .filter(job -> !job.isIdempotencyExpired(now));
+        increment(existing.isPresent() ? found : notFound);
+        existing.ifPresent(job -> remember(key(jobName, idempotencyKey), job.getUuid(), job.getIdempotencyExpiresAt()));
+        return existing.map(JobStatus::getUuid);
+    }
+
+    /**
+     * Computes when a key used now for the route's job stops being honored.
+     *
+     * @param route the job's route
+     * @param now the time the key is used
+     * @return the end of the key's idempotency window
+     */
+    public LocalDateTime expiryFor(Route route, LocalDateTime now) {
+        Duration window = route.getIdempotencyWindow() != null
+                ? route.getIdempotencyWindow() : Duration.ofMillis(properties.getWindow());
+        return now.plus(window);
+    }
+
+    /**
+     * Records the job an idempotency key belongs to.
+     *
+     * @param jobName the job name
+     * @param idempotencyKey the key
+     * @param uuid the job's UUID
+     * @param expiresAt the end of the key's idempotency window; null if unknown, in which case
+     *                  the key is not answered from memory
+     */
+    public void record(String jobName, String idempotencyKey, UUID uuid, LocalDateTime expiresAt) {
+        String key = key(jobName, idempotencyKey);
+        IdempotencyBloomFilter filter = currentFilter;
+        filter.put(key);
+        if (filter.isFull()) {
+            rotate(filter);
+        }
+        remember(key, uuid, expiresAt);
+    }
+
+    private static String key(String jobName, String idempotencyKey) {
+        // Length-prefixed, so no two pairs map to the same key
+        return jobName.length() + ":" + jobName + idempotencyKey;
+    }
+
+    private void remember(String key, UUID uuid, LocalDateTime expiresAt) {
+        if (expiresAt == null) {
+            return;
+        }
+        // Never answer from memory past the end of the key's window
+        long ttl = Math.min(TimeUnit.MILLISECONDS.toNanos(properties.getRecentKeyTtl()),
+                Duration.between(LocalDateTime.now(), expiresAt).toNanos());
+        if (ttl <= 0) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        if (recentKeys.size() >= properties.getRecentKeyMaxSize()) {
+            recentKeys.values().removeIf(recentKey -> now >= recentKey.expiresAt);
+            if (recentKeys.size() >= properties.getRecentKeyMaxSize()) {
+                // Still full of live keys: start over rather than scan for the oldest on every insert
+                recentKeys.clear();
+            }
+        }
+        recentKeys.put(key, new RecentKey(uuid, now + ttl));
+    }
+
+    private synchronized void rotate(IdempotencyBloomFilter full) {
+        if (currentFilter == full) {
+            previousFilter = full;
+            currentFilter = newFilter();
+            logger.info("Rotated idempotency bloom filter after {} keys", properties.getExpectedKeys());
+        }
+    }
+
+    private IdempotencyBloomFilter newFilter() {
+        return new IdempotencyBloomFilter(properties.getExpectedKeys(), properties.getFalsePositiveRate());
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("job.idempotency.checks")
+                .description("Idempotency key checks by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static final class RecentKey {
+        private final UUID uuid;
+        private final long expiresAt;
+
+        private RecentKey(UUID uuid, long expiresAt) {
+            this.uuid = uuid;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.jobmanager.orchestrator.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Clears idempotency keys whose window has ended, so the key index only holds live keys and
+ * lookups stay cheap as jobs accumulate. Jobs keep their status and response; only the key
+ * is released, after which the same key creates a new job.
+ *
+ * A background thread clears expired keys every {@code job.idempotency.compaction-interval},
+ * in batches of {@code job.idempotency.compaction-batch-size}. Each batch is one short
+ * conditional update, so compaction never holds long locks and several nodes may compact
+ * at the same time. Publishes {@code job.idempotency.keys.expired}.
+ */
+@Component
+public class IdempotencyKeyCompactor implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyKeyCompactor.class);
+
+    private final JobStatusStore jobStatusStore;
+    private final IdempotencyProperties properties;
+    private final Counter expiredKeys;
+
+    private final PeriodicTask compactorTask;
+
+    public IdempotencyKeyCompactor(JobStatusStore jobStatusStore,
+                                   IdempotencyProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.jobStatusStore = jobStatusStore;
+        this.properties = properties;
+        this.expiredKeys = Counter.builder("job.idempotency.keys.expired")
+                .description("Idempotency keys cleared after their window ended")
+                .register(meterRegistry);
+        this.compactorTask = new PeriodicTask("idempotency-key-compactor", properties::getCompactionInterval,
+                this::compactStep, logger, "Idempotency key compaction failed");
+    }
+
+    @Override
+    public void start() {
+        compactorTask.start();
+        logger.info("Started idempotency key compaction: interval={}ms, batchSize={}",
+                properties.getCompactionInterval(), properties.getCompactionBatchSize());
+    }
+
+    @Override
+    public void stop() {
+        compactorTask.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return compactorTask.isRunning();
+    }
+
+    /**
+     * Clears all keys that have expired by now, one batch at a time.
+     *
+     * @return the number of keys cleared
+     */
+    int compact() {
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = properties.getCompactionBatchSize();
+        int total = 0;
+        int cleared;
+        do {
+            cleared = jobStatusStore.clearExpiredIdempotencyKeys(now, batchSize);
+            total += cleared;
+            expiredKeys.increment(cleared);
+        } while (cleared == batchSize && !Thread.currentThread().isInterrupted());
+        if (total > 0) {
+            logger.info("Cleared {} expired idempotency keys", total);
+        }
+        return total;
+    }
+
+    private boolean compactStep() {
+        compact();
+        return false;
+    }
+}
@@ -0,0 +1,81 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for idempotency key checks.
+ * Durations are in milliseconds.
+ */
+@Component
+@ConfigurationProperties(prefix = "job.idempotency")
+public class IdempotencyProperties {
+
+    // Keys each bloom filter generation is sized for; a full generation is rotated out
+    private int expectedKeys = 1_000_000;
+    private double falsePositiveRate = 0.01;
+    // How long recently created keys are remembered exactly, to answer client retries
+    private long recentKeyTtl = 600000;
+    private int recentKeyMaxSize = 100000;
+    // How long a key is honored unless the job mapping sets its own idempotency window
+    private long window = 86400000;
+    // Expired keys are cleared in batches of this size, one short transaction each
+    private long compactionInterval = 60000;
+    private int compactionBatchSize = 1000;
+
+    public int getExpectedKeys() {
+        return expectedKeys;
+    }
+
+    public void setExpectedKeys(int expectedKeys) {
+        this.expectedKeys = expectedKeys;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public long getRecentKeyTtl() {
+        return recentKeyTtl;
+    }
+
+    public void setRecentKeyTtl(long recentKeyTtl) {
+        this.recentKeyTtl = recentKeyTtl;
+    }
+
+    public int getRecentKeyMaxSize() {
+        return recentKeyMaxSize;
+    }
+
+    public void setRecentKeyMaxSize(int recentKeyMaxSize) {
+        this.recentKeyMaxSize = recentKeyMaxSize;
+    }
+
+    public long getWindow() {
+        return window;
+    }
+
+    public void setWindow(long window) {
+        this.window = window;
+    }
+
+    public long getCompactionInterval() {
+        return compactionInterval;
+    }
+
+    public void setCompactionInterval(long compactionInterval) {
+        this.compactionInterval = compactionInterval;
+    }
+
+    public int getCompactionBatchSize() {
+        return compactionBatchSize;
+    }
+
+    public void setCompactionBatchSize(int compactionBatchSize) {
+        this.compactionBatchSize = compactionBatchSize;
+    }
+}
@@ -0,0 +1,43 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for clients waiting on jobs through long polls and event streams.
+ * Durations are in milliseconds.
+ */
+@Component
+@ConfigurationProperties(prefix = "job.await")
+public class JobAwaitProperties {
+
+    // Used when a long poll sets no timeout; longer timeouts are capped at the maximum
+    private long defaultTimeout = 30000;
+    private long maxTimeout = 120000;
+    // Watched jobs are re-read this often, to see transitions made by other nodes
+    private long recheckInterval = 1000;
+
+    public long getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    public void setDefaultTimeout(long defaultTimeout) {
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    public long getMaxTimeout() {
+        return maxTimeout;
+    }
+
+    public void setMaxTimeout(long maxTimeout) {
+        this.maxTimeout = maxTimeout;
+    }
+
+    public long getRecheckInterval() {
+        return recheckInterval;
+    }
+
+    public void setRecheckInterval(long recheckInterval) {
+        this.recheckInterval = recheckInterval;
+    }
+}
@@ -0,0 +1,68 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The final state of a job execution, written by the {@link JobStatusWriter}.
+ * It is only applied to jobs that have not been cancelled meanwhile.
+ */
+public final class JobCompletion {
+
+    private final UUID uuid;
+    private final JobExecutionStatus status;
+    private final StoredResponse response;
+    private final Integer httpStatus;
+    private final LocalDateTime endDate;
+
+    public JobCompletion(UUID uuid, JobExecutionStatus status, String response, Integer httpStatus, LocalDateTime endDate) {
+        this(uuid, status, StoredResponse.inline(response), httpStatus, endDate);
+    }
+
+    public JobCompletion(UUID uuid, JobExecutionStatus status, StoredResponse response, Integer httpStatus,
+                         LocalDateTime endDate) {
+        this.uuid = uuid;
+        this.status = status;
+        this.response = response;
+        this.httpStatus = httpStatus;
+        this.endDate = endDate;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public JobExecutionStatus getStatus() {
+        return status;
+    }
+
+    public StoredResponse getResponse() {
+        return response;
+    }
+
+    public Integer getHttpStatus() {
+        return httpStatus;
+    }
+
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * Applies the completion to a job read from the store, unless the job was cancelled.
+     *
+     * @param job the job
+     */
+    public void applyTo(JobStatus job) {
+        if (job.getStatus() == JobExecutionStatus.CANCELLED) {
+            return;
+        }
+        job.setStatus(status);
+        response.applyTo(job);
+        job.setHttpStatus(httpStatus);
+        job.setEndDate(endDate);
+    }
+}
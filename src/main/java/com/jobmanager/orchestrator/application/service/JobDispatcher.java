@@ -0,0 +1,136 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+
+/**
+ * Hands job executions off to the job executor and tracks them until they finish.
+ * Dispatching never runs the job on the caller's thread, so request threads are
+ * released as soon as the job has been queued.
+ *
+ * Executions are reactive pipelines: blocking steps run on the job executor through
+ * {@link #getScheduler()}, while remote calls wait on the Netty event loop without
+ * holding a thread.
+ */
+@Component
+public class JobDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobDispatcher.class);
+
+    private final Scheduler jobScheduler;
+
+    // Thread-safe registry of active job executions: UUID -> Future
+    private final Map<UUID, Future<?>> executionRegistry = new ConcurrentHashMap<>();
+
+    private final List<Runnable> completionListeners = new CopyOnWriteArrayList<>();
+
+    public JobDispatcher(@Qualifier("jobExecutor") AsyncTaskExecutor jobExecutor) {
+        this.jobScheduler = Schedulers.fromExecutor(jobExecutor);
+    }
+
+    /**
+     * Subscribes to a job execution on the job executor.
+     * The execution is registered as soon as it is subscribed, so it can be cancelled at any point;
+     * cancelling disposes the pipeline, which also aborts an in-flight remote call.
+     *
+     * @param uuid the job execution UUID
+     * @param execution the pipeline to run for the job
+     * @throws TaskRejectedException if the job executor cannot accept more work
+     */
+    public void dispatch(UUID uuid, Mono<Void> execution) {
+        CompletableFuture<Void> future = execution.subscribeOn(jobScheduler).toFuture();
+
+        // Scheduling happens during subscribe, so a rejection has already completed the future
+        if (future.isCompletedExceptionally() && !future.isCancelled()) {
+            Throwable cause = future.handle((result, throwable) -> throwable).join();
+            logger.warn("Job executor rejected job UUID {}: {}", uuid, cause.getMessage());
+            throw new TaskRejectedException("Job executor rejected job " + uuid, cause);
+        }
+
+        executionRegistry.put(uuid, future);
+        future.whenComplete((result, throwable) -> {
+            executionRegistry.remove(uuid, future);
+            logger.debug("Removed job UUID {} from execution registry", uuid);
+            completionListeners.forEach(Runnable::run);
+        });
+        logger.debug("Dispatched job UUID {} to job executor", uuid);
+    }
+
+    /**
+     * Returns the scheduler backed by the job executor, for blocking steps of a job pipeline.
+     *
+     * @return the job scheduler
+     */
+    public Scheduler getScheduler() {
+        return jobScheduler;
+    }
+
+    /**
+     * Cancels a dispatched execution, disposing its pipeline if it is already running.
+     *
+     * @param uuid the job execution UUID
+     * @return true if an active execution was found and cancelled
+     */
+    public boolean cancel(UUID uuid) {
+        Future<?> future = executionRegistry.remove(uuid);
+        if (future == null) {
+            return false;
+        }
+        boolean cancelled = future.cancel(true); // Disposes the pipeline if running
+        logger.info("Cancelled future for job UUID: {}, cancelled: {}", uuid, cancelled);
+        return cancelled;
+    }
+
+    /**
+     * Checks whether an execution is currently queued or running for the job.
+     *
+     * @param uuid the job execution UUID
+     * @return true if the job is active on this node
+     */
+    public boolean isActive(UUID uuid) {
+        return executionRegistry.containsKey(uuid);
+    }
+
+    /**
+     * Returns the number of queued or running executions.
+     *
+     * @return the active execution count
+     */
+    public int getActiveCount() {
+        return executionRegistry.size();
+    }
+
+    /**
+     * Returns a snapshot of the jobs with a queued or running execution on this node.
+     *
+     * @return the active job UUIDs
+     */
+    public Set<UUID> getActiveUuids() {
+        return Set.copyOf(executionRegistry.keySet());
+    }
+
+    /**
+     * Registers a callback run whenever an execution finishes, freeing capacity.
+     *
+     * @param listener the callback
+     */
+    public void addCompletionListener(Runnable listener) {
+        completionListeners.add(listener);
+    }
+}
@@ -0,0 +1,129 @@
+package com.jobmanager.orchestrator.application.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of resolved routes, keyed by job name.
+ *
+ * Hits are a single lock-free map read. Entries expire after {@code job.mapping-cache.ttl};
+ * once {@code job.mapping-cache.max-size} is reached, expired entries and then the oldest
+ * ones are evicted. Unknown job names are not cached, so a newly created mapping is usable
+ * right away. Mapping writes invalidate the affected job names; a load that overlaps an
+ * invalidation is not cached, so a stale mapping cannot outlive the write that replaced it.
+ *
+ * Publishes {@code job.mapping.cache.hits}, {@code job.mapping.cache.misses},
+ * {@code job.mapping.cache.evictions} and {@code job.mapping.cache.size}.
+ */
+@Component
+public class JobMappingCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobMappingCache.class);
+
+    private final JobMappingCacheProperties properties;
+    private final LongSupplier nanoClock;
+
+    private final ExpiringEntries<String, Route> entries;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public JobMappingCache(JobMappingCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, System::nanoTime);
+        FunctionCounter.builder("job.mapping.cache.hits", hits, AtomicLong::get)
+                .description("Mapping resolutions served from the cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("job.mapping.cache.misses", misses, AtomicLong::get)
+                .description("Mapping resolutions that went to the database")
+                .register(meterRegistry);
+        FunctionCounter.builder("job.mapping.cache.evictions", evictions, AtomicLong::get)
+                .description("Mappings evicted because the cache was full")
+                .register(meterRegistry);
+        Gauge.builder("job.mapping.cache.size", this, JobMappingCache::size)
+                .description("Mappings currently cached")
+                .register(meterRegistry);
+    }
+
+    JobMappingCache(JobMappingCacheProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.entries = new ExpiringEntries<>(properties.getMaxSize());
+    }
+
+    /**
+     * Returns the cached route for a job, loading and caching it on a miss.
+     *
+     * @param jobName the job name
+     * @param loader looks the mapping up in the database and compiles it
+     * @return the route, or empty if the job has no mapping
+     */
+    public Optional<Route> get(String jobName, Function<String, Optional<Route>> loader) {
+        long now = nanoClock.getAsLong();
+        Optional<Route> cached = entries.get(jobName, now);
+        if (cached.isPresent()) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        misses.incrementAndGet();
+        long generation = invalidations.get();
+        Optional<Route> loaded = loader.apply(jobName);
+        if (loaded.isEmpty()) {
+            entries.remove(jobName);
+        } else if (invalidations.get() == generation) {
+            evictions.addAndGet(entries.put(jobName, loaded.get(), now, now + ttlNanos()));
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the cached mapping of a job, so the next resolution reads the database.
+     *
+     * @param jobName the job name; ignored when null
+     */
+    public void invalidate(String jobName) {
+        invalidations.incrementAndGet();
+        if (jobName != null) {
+            entries.remove(jobName);
+            logger.debug("Invalidated cached mapping for job name: {}", jobName);
+        }
+    }
+
+    /**
+     * Drops all cached mappings.
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        entries.clear();
+        logger.debug("Invalidated all cached mappings");
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private long ttlNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(properties.getTtl());
+    }
+}
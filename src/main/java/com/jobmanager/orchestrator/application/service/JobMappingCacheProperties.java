@@ -0,0 +1,33 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the job mapping cache.
+ * Durations are in milliseconds.
+ */
+@Component
+@ConfigurationProperties(prefix = "job.mapping-cache")
+public class JobMappingCacheProperties {
+
+    // How long a resolved mapping is served without going back to the database
+    private long ttl = 60000;
+    private int maxSize = 10000;
+
+    public long getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(long ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+}
@@ -23,9 +23,11 @@ public class JobMappingMongoService {
     private static final Logger logger = LoggerFactory.getLogger(JobMappingMongoService.class);
 
     private final JobMappingRepository repository;
+    private final JobMappingCache mappingCache;
 
-    public JobMappingMongoService(JobMappingRepository repository) {
+    public JobMappingMongoService(JobMappingRepository repository, JobMappingCache mappingCache) {
         this.repository = repository;
+        this.mappingCache = mappingCache;
     }
 
     /**
@@ -43,7 +45,9 @@ public class JobMappingMongoService {
         }
 
         JobMapping document = toDocument(new JobMapping(), request);
-        return repository.save(document);
+        JobMapping saved = repository.save(document);
+        mappingCache.invalidate(saved.getJobName());
+        return saved;
     }
 
     /**
@@ -91,8 +95,12 @@ public class JobMappingMongoService {
                             "Mapping already exists for jobName=" + request.getJobName());
                 });
 
+        String previousJobName = existing.getJobName();
         JobMapping toSave = toDocument(existing, request);
-        return repository.save(toSave);
+        JobMapping saved = repository.save(toSave);
+        mappingCache.invalidate(previousJobName);
+        mappingCache.invalidate(saved.getJobName());
+        return saved;
     }
 
     /**
@@ -101,11 +109,13 @@ public class JobMappingMongoService {
      * @return true if deleted, false if not found
      */
     public boolean deleteById(String id) {
-        if (!repository.existsById(id)) {
+        Optional<JobMapping> mapping = repository.findById(id);
+        if (mapping.isEmpty()) {
             logger.warn("Mongo job mapping not found for deletion, id={}", id);
             return false;
         }
         repository.deleteById(id);
+        mappingCache.invalidate(mapping.get().getJobName());
         logger.info("Deleted Mongo job mapping with id={}", id);
         return true;
     }
@@ -122,6 +132,7 @@ public class JobMappingMongoService {
             return false;
         }
         repository.delete(mapping.get());
+        mappingCache.invalidate(jobName);
         logger.info("Deleted Mongo job mapping with jobName={}", jobName);
         return true;
     }
@@ -131,6 +142,10 @@ public class JobMappingMongoService {
         document.setServiceName(request.getServiceName());
         document.setUrl(request.getUrl());
         document.setPort(request.getPort());
+        document.setMaxConcurrency(request.getMaxConcurrency());
+        document.setQueueCapacity(request.getQueueCapacity());
+        document.setReadTimeout(request.getReadTimeout());
+        document.setIdempotencyWindow(request.getIdempotencyWindow());
         return document;
     }
 }
@@ -0,0 +1,266 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.application.service.ReplicatedMappingTable.Source;
+import com.jobmanager.orchestrator.domain.entity.JobRestMapping;
+import com.jobmanager.orchestrator.persistence.mongodb.document.JobMapping;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the {@link ReplicatedMappingTable} in sync with the {@code job_rest_mapping} and
+ * {@code job_mappings} collections, so a mapping edited on one node is routed by all of them.
+ *
+ * After one initial load, changes are applied document by document: from MongoDB change
+ * streams when the deployment supports them (replica sets), resuming after the last seen
+ * event on errors, or otherwise by polling. A poll only reads ids and update times, then
+ * fetches the documents that are new or changed. Every applied change also invalidates the
+ * job name in the local {@link JobMappingCache}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "job.mapping-replication", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JobMappingReplicator implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobMappingReplicator.class);
+
+    // Returned by standalone servers, which have no oplog to stream from
+    private static final int CHANGE_STREAMS_UNSUPPORTED = 40573;
+
+    private final MongoTemplate mongoTemplate;
+    private final ReplicatedMappingTable table;
+    private final JobMappingCache mappingCache;
+    private final MappingReplicationProperties properties;
+
+    private final Map<Source, BsonDocument> resumeTokens = new EnumMap<>(Source.class);
+    private final Map<Source, Map<String, Object>> polledVersions = new EnumMap<>(Source.class);
+
+    private final PeriodicTask replicatorTask;
+    private boolean useChangeStreams;
+
+    public JobMappingReplicator(MongoTemplate mongoTemplate,
+                                ReplicatedMappingTable table,
+                                JobMappingCache mappingCache,
+                                MappingReplicationProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.table = table;
+        this.mappingCache = mappingCache;
+        this.properties = properties;
+        this.replicatorTask = new PeriodicTask("job-mapping-replicator", properties::getPollInterval,
+                this::replicateStep, logger, "Job mapping replication failed");
+    }
+
+    @Override
+    public void start() {
+        useChangeStreams = !"polling".equals(properties.getMode());
+        replicatorTask.start();
+        logger.info("Started job mapping replication: mode={}", properties.getMode());
+    }
+
+    @Override
+    public void stop() {
+        replicatorTask.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return replicatorTask.isRunning();
+    }
+
+    /**
+     * Tails the change streams until stopped, or polls once.
+     *
+     * @return true when replication should go on without waiting for the poll interval
+     */
+    private boolean replicateStep() {
+        try {
+            if (useChangeStreams) {
+                tailChangeStreams();
+                return true;
+            }
+            poll();
+            return false;
+        } catch (MongoCommandException e) {
+            if (e.getErrorCode() == CHANGE_STREAMS_UNSUPPORTED && "auto".equals(properties.getMode())) {
+                logger.info("MongoDB does not support change streams, replicating job mappings by polling");
+                useChangeStreams = false;
+                return true;
+            }
+            resumeTokens.clear();
+            throw e;
+        }
+    }
+
+    private void tailChangeStreams() {
+        // Open the streams before loading, so no change made during the load is missed
+        boolean resuming = resumeTokens.size() == Source.values().length && table.isReady();
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> restMappings = watch(Source.REST_MAPPINGS);
+             MongoChangeStreamCursor<ChangeStreamDocument<Document>> apiMappings = watch(Source.API_MAPPINGS)) {
+            if (!resuming) {
+                loadAll();
+            }
+            while (replicatorTask.isRunning()) {
+                drain(restMappings, Source.REST_MAPPINGS);
+                drain(apiMappings, Source.API_MAPPINGS);
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> watch(Source source) {
+        var stream = mongoTemplate.getCollection(collectionName(source)).watch()
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(properties.getPollInterval(), TimeUnit.MILLISECONDS);
+        BsonDocument resumeToken = resumeTokens.get(source);
+        return resumeToken != null ? stream.resumeAfter(resumeToken).cursor() : stream.cursor();
+    }
+
+    private void drain(MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor, Source source) {
+        ChangeStreamDocument<Document> change;
+        while (replicatorTask.isRunning() && (change = cursor.tryNext()) != null) {
+            apply(source, change);
+        }
+        // Advances even when the collection is quiet, so a restart never resumes from too far back
+        BsonDocument resumeToken = cursor.getResumeToken();
+        if (resumeToken != null) {
+            resumeTokens.put(source, resumeToken);
+        }
+    }
+
+    private void apply(Source source, ChangeStreamDocument<Document> change) {
+        switch (change.getOperationType()) {
+            case INSERT, UPDATE, REPLACE -> {
+                String id = idOf(change.getDocumentKey());
+                if (change.getFullDocument() == null) {
+                    // Deleted again before the update could be looked up
+                    removed(source, id);
+                } else {
+                    put(source, id, read(source, change.getFullDocument()));
+                }
+            }
+            case DELETE -> removed(source, idOf(change.getDocumentKey()));
+            case DROP, DROP_DATABASE, RENAME, INVALIDATE -> table.ids(source).forEach(id -> removed(source, id));
+            default -> logger.debug("Ignoring {} event on {}", change.getOperationType(), collectionName(source));
+        }
+    }
+
+    private void loadAll() {
+        table.batch(() -> {
+            for (Source source : Source.values()) {
+                Set<String> stale = new HashSet<>(table.ids(source));
+                for (Document document : mongoTemplate.getCollection(collectionName(source)).find()) {
+                    String id = idOf(document);
+                    stale.remove(id);
+                    put(source, id, read(source, document));
+                }
+                stale.forEach(id -> removed(source, id));
+            }
+        });
+        table.markReady();
+        logger.info("Loaded {} job mappings into the routing table", table.size());
+    }
+
+    /**
+     * Compares stored ids and update times with what was seen last, and only fetches the
+     * documents that were added or changed since.
+     */
+    private void poll() {
+        table.batch(() -> {
+            for (Source source : Source.values()) {
+                pollChanges(source);
+            }
+        });
+        if (!table.isReady()) {
+            table.markReady();
+            logger.info("Loaded {} job mappings into the routing table", table.size());
+        }
+    }
+
+    private void pollChanges(Source source) {
+        Map<String, Object> seen = polledVersions.computeIfAbsent(source, s -> new HashMap<>());
+        Query versionsOnly = new Query();
+        versionsOnly.fields().include("_id").include("updatedAt");
+        Map<String, Object> stored = new HashMap<>();
+        for (Document document : mongoTemplate.find(versionsOnly, Document.class, collectionName(source))) {
+            stored.put(idOf(document), document.get("updatedAt"));
+        }
+
+        List<String> changed = stored.entrySet().stream()
+                .filter(entry -> !seen.containsKey(entry.getKey())
+                        || !Objects.equals(seen.get(entry.getKey()), entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!changed.isEmpty()) {
+            Query byIds = Query.query(Criteria.where("_id").in(changed.stream().map(this::toStoredId).toList()));
+            for (Document document : mongoTemplate.find(byIds, Document.class, collectionName(source))) {
+                put(source, idOf(document), read(source, document));
+            }
+        }
+        for (String id : Set.copyOf(seen.keySet())) {
+            if (!stored.containsKey(id)) {
+                removed(source, id);
+            }
+        }
+        seen.clear();
+        seen.putAll(stored);
+    }
+
+    private void put(Source source, String id, JobRestMapping mapping) {
+        if (mapping.getJobName() == null) {
+            removed(source, id);
+            return;
+        }
+        table.put(source, id, mapping).forEach(mappingCache::invalidate);
+    }
+
+    private void removed(Source source, String id) {
+        table.remove(source, id).ifPresent(mappingCache::invalidate);
+    }
+
+    private JobRestMapping read(Source source, Document document) {
+        return source == Source.REST_MAPPINGS
+                ? mongoTemplate.getConverter().read(JobRestMapping.class, document)
+                : ReplicatedMappingTable.toMapping(mongoTemplate.getConverter().read(JobMapping.class, document));
+    }
+
+    private String collectionName(Source source) {
+        return mongoTemplate.getCollectionName(source == Source.REST_MAPPINGS ? JobRestMapping.class : JobMapping.class);
+    }
+
+    private Object toStoredId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    private static String idOf(BsonDocument document) {
+        BsonValue id = document.get("_id");
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        return id.isString() ? id.asString().getValue() : id.toString();
+    }
+
+    private static String idOf(Document document) {
+        Object id = document.get("_id");
+        return id instanceof ObjectId objectId ? objectId.toHexString() : String.valueOf(id);
+    }
+}
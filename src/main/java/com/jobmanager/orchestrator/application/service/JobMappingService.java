@@ -1,20 +1,19 @@
 package com.jobmanager.orchestrator.application.service;
 
-import com.jobmanager.orchestrator.domain.entity.JobRestMapping;
 import com.jobmanager.orchestrator.domain.exception.JobMappingNotFoundException;
 import com.jobmanager.orchestrator.persistence.repository.JobRestMappingRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 /**
  * Service responsible for job mapping lookup and validation.
  * Encapsulates mapping resolution logic.
  */
 @Service
-@Transactional(readOnly = true)
 public class JobMappingService {
 
     private static final Logger logger = LoggerFactory.getLogger(JobMappingService.class);
@@ -22,21 +21,42 @@ public class JobMappingService {
     @Autowired
     private JobRestMappingRepository mappingRepository;
 
+    @Autowired
+    private JobMappingCache mappingCache;
+
+    @Autowired
+    private ReplicatedMappingTable mappingTable;
+
     /**
-     * Resolves a job mapping by job name.
+     * Resolves the route for a job name.
+     * Served from the node's {@link ReplicatedMappingTable}. Job names the table does not know,
+     * e.g. a mapping created on another node that has not replicated yet, go through the
+     * {@link JobMappingCache} to the database. No transaction is opened unless the database is read.
      *
      * @param jobName the job name to resolve
-     * @return the JobRestMapping entity
-     * @throws JobMappingNotFoundException if no mapping exists for the job name
+     * @return the compiled route
+     * @throws JobMappingNotFoundException if no usable mapping exists for the job name
      */
-    public JobRestMapping resolveMapping(String jobName) {
-        logger.debug("Resolving mapping for job name: {}", jobName);
-        
-        return mappingRepository.findByJobName(jobName)
+    public Route resolveRoute(String jobName) {
+        logger.debug("Resolving route for job name: {}", jobName);
+
+        Optional<Route> replicated = mappingTable.find(jobName);
+        if (replicated.isPresent()) {
+            return replicated.get();
+        }
+        return mappingCache.get(jobName, this::loadRoute)
                 .orElseThrow(() -> {
                     logger.warn("Job mapping not found for job name: {}", jobName);
                     return new JobMappingNotFoundException("No mapping found for job name: " + jobName);
                 });
     }
-}
 
+    private Optional<Route> loadRoute(String jobName) {
+        try {
+            return mappingRepository.findByJobName(jobName).map(Route::compile);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Job mapping for job name {} is not usable: {}", jobName, e.getMessage());
+            throw new JobMappingNotFoundException("No usable mapping found for job name: " + jobName);
+        }
+    }
+}
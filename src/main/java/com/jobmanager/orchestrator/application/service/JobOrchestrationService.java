@@ -1,28 +1,51 @@
 package com.jobmanager.orchestrator.application.service;
 
-import com.jobmanager.orchestrator.domain.entity.JobRestMapping;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobmanager.orchestrator.domain.entity.JobStatus;
 import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import com.jobmanager.orchestrator.domain.exception.BulkheadFullException;
+import com.jobmanager.orchestrator.domain.exception.JobMappingNotFoundException;
 import com.jobmanager.orchestrator.domain.exception.JobNotFoundException;
-import com.jobmanager.orchestrator.persistence.repository.JobStatusRepository;
+import com.jobmanager.orchestrator.domain.exception.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpMethod;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Core orchestration service responsible for job execution lifecycle management.
  * Handles idempotency, async execution, cancellation, and state persistence.
+ *
+ * Accepted jobs go to the durable {@link JobQueue}; the {@link JobQueuePoller} claims them
+ * and starts them here through {@link #startClaimedJob}. Their final status is stored by the
+ * {@link JobStatusWriter}, batched with other jobs.
+ *
+ * While a job runs on this node, the {@link ActiveJobTable} holds its state: completion and
+ * cancellation race through a compare-and-set there, and status reads are served from memory.
+ * Every transition is also recorded in the {@link JobStatusCache}, which answers status polls
+ * of recent jobs without reading the store, and reported to the {@link JobStatusNotifier}, which
+ * wakes up clients waiting on the job.
  */
 @Service
 public class JobOrchestrationService {
@@ -36,24 +59,66 @@ public class JobOrchestrationService {
     private HttpForwardingService httpForwardingService;
     
     @Autowired
-    private JobStatusRepository jobStatusRepository;
+    private JobStatusStore jobStatusStore;
 
-    // Thread-safe registry of active job executions: UUID -> Future
-    private final Map<UUID, Future<?>> executionRegistry = new ConcurrentHashMap<>();
+    @Autowired
+    private JobDispatcher jobDispatcher;
+
+    @Autowired
+    private ServiceBulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    private JobQueue jobQueue;
+
+    @Autowired
+    private IdempotencyIndex idempotencyIndex;
+
+    @Autowired
+    private JobStatusWriter jobStatusWriter;
+
+    @Autowired
+    private ActiveJobTable activeJobs;
+
+    @Autowired
+    private JobStatusCache statusCache;
+
+    @Autowired
+    private JobStatusNotifier statusNotifier;
+
+    @Autowired
+    private JobAwaitProperties awaitProperties;
+
+    @Autowired
+    private JobStatusLookupProperties lookupProperties;
+
+    @Autowired
+    private RequestBodySpool requestBodySpool;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
     /**
-     * Creates and triggers a job execution asynchronously with idempotency support.
+     * Creates a job execution with idempotency support and queues it for asynchronous execution.
+     * Accepting the job costs a single insert: the request to forward is stored on the job row,
+     * which is the queue entry, so the job survives a restart before it runs.
+     *
+     * A repeated job name and idempotency key is an ordinary outcome, not an error: the
+     * reservation carries the existing job's UUID, so client retries cost no exception and
+     * no rollback.
      *
      * @param jobName the job name to execute
      * @param idempotencyKey the idempotency key (required)
      * @param httpMethod the HTTP method to forward
      * @param headers the request headers to forward
      * @param queryParams the query parameters to forward
-     * @param requestBody the request body to forward
-     * @return the UUID of the created or existing job execution
+     * @param requestBody the request body to forward: raw bytes, a String, or the {@link Path}
+     *                    of a body spooled by the {@link RequestBodySpool}
+     * @return the reservation, holding the UUID of the created or existing job execution
+     * @throws JobMappingNotFoundException if no mapping exists and no job holds the key
+     * @throws BulkheadFullException if the target service already has a full queue and no job
+     *                               holds the key
      */
-    @Transactional
-    public UUID createAndTriggerJob(
+    public JobReservation createAndTriggerJob(
             String jobName,
             String idempotencyKey,
             HttpMethod httpMethod,
@@ -63,145 +128,411 @@ public class JobOrchestrationService {
         
         logger.info("Creating job execution for job name: {} with idempotency key: {}", jobName, idempotencyKey);
 
-        // Check idempotency: same jobName + idempotencyKey should return existing UUID
-        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
-            jobStatusRepository.findByIdempotencyKey(idempotencyKey)
-                    .ifPresent(existingJob -> {
-                        logger.info("Idempotent request detected. Returning existing job UUID: {} for key: {}", 
-                                existingJob.getUuid(), idempotencyKey);
-                        throw new IdempotentRequestException(existingJob.getUuid());
-                    });
+        // Check idempotency: a key that was already used returns the existing UUID
+        boolean idempotent = idempotencyKey != null && !idempotencyKey.isBlank();
+        if (idempotent) {
+            Optional<UUID> existingUuid = idempotencyIndex.findExisting(jobName, idempotencyKey);
+            if (existingUuid.isPresent()) {
+                logger.info("Idempotent request detected. Returning existing job UUID: {} for key: {}",
+                        existingUuid.get(), idempotencyKey);
+                return JobReservation.existing(existingUuid.get());
+            }
         }
 
-        // Resolve mapping
-        JobRestMapping mapping = mappingService.resolveMapping(jobName);
-        logger.debug("Resolved mapping: {} -> {}:{}", jobName, mapping.getServiceName(), mapping.getFullEndpointUrl());
+        Route route;
+        try {
+            // Resolve mapping
+            route = mappingService.resolveRoute(jobName);
+            logger.debug("Resolved route: {} -> {}:{}", jobName, route.getServiceName(), route.getEndpoint());
+
+            // Turn the job away while its service has neither a free slot nor queue room
+            bulkheadRegistry.forRoute(route).checkAdmission();
+        } catch (JobMappingNotFoundException | BulkheadFullException e) {
+            // The filter does not know keys created on other nodes: a retry of a job accepted
+            // there must get its UUID, not a rejection of the new attempt
+            Optional<UUID> stored = idempotent ? idempotencyIndex.findStored(jobName, idempotencyKey) : Optional.empty();
+            if (stored.isPresent()) {
+                logger.info("Idempotent request detected. Returning existing job UUID: {} for key: {}",
+                        stored.get(), idempotencyKey);
+                return JobReservation.existing(stored.get());
+            }
+            throw e;
+        }
 
-        // Create job status entity
+        // Create job status entity carrying the request to forward
         UUID executionUuid = UUID.randomUUID();
         JobStatus jobStatus = new JobStatus(executionUuid, JobExecutionStatus.STARTED);
         jobStatus.setIdempotencyKey(idempotencyKey);
-        jobStatus = jobStatusRepository.save(jobStatus);
-        logger.info("Created job status with UUID: {}", executionUuid);
+        if (idempotent) {
+            jobStatus.setIdempotencyExpiresAt(idempotencyIndex.expiryFor(route, jobStatus.getStartDate()));
+        }
+        jobStatus.setJobName(jobName);
+        jobStatus.setServiceName(route.getBulkheadKey());
+        jobStatus.setRequestMethod(httpMethod.name());
+        jobStatus.setRequestHeaders(writeMap(headers));
+        jobStatus.setRequestQueryParams(writeMap(queryParams));
+        if (requestBody instanceof Path file) {
+            jobStatus.setRequestBodyFile(file.toString());
+        } else if (requestBody instanceof byte[] bytes) {
+            jobStatus.setRequestBodyBytes(bytes);
+        } else {
+            jobStatus.setRequestBody(requestBody != null ? requestBody.toString() : null);
+        }
 
-        // Trigger asynchronous execution and register Future
-        CompletableFuture<Void> future = executeJobAsync(jobStatus, mapping, httpMethod, headers, queryParams, requestBody);
-        executionRegistry.put(executionUuid, future);
+        // Queue the job; the request thread returns immediately.
+        // The unique (job name, idempotency key) index makes this insert the authoritative duplicate check.
+        JobReservation reservation = jobQueue.enqueue(jobStatus);
+        if (idempotent) {
+            idempotencyIndex.record(jobName, idempotencyKey, reservation.getUuid(),
+                    reservation.isCreated() ? jobStatus.getIdempotencyExpiresAt() : null);
+        }
+        if (reservation.isCreated()) {
+            statusCache.put(jobStatus);
+            logger.info("Queued job with UUID: {}", executionUuid);
+        } else {
+            logger.info("Concurrent idempotent request detected. Returning existing job UUID: {} for key: {}",
+                    reservation.getUuid(), idempotencyKey);
+        }
+
+        return reservation;
+    }
 
-        // Clean up registry when future completes
-        future.whenComplete((result, throwable) -> {
-            executionRegistry.remove(executionUuid);
-            logger.debug("Removed job UUID {} from execution registry", executionUuid);
-        });
+    /**
+     * Starts a job claimed from the queue.
+     * The job gets a slot in its service's bulkhead, or waits in the bulkhead queue without
+     * holding a thread, and its execution is handed to the dispatcher.
+     *
+     * @param job the claimed job
+     * @return false if the job could not be started now and should go back to the queue
+     */
+    public boolean startClaimedJob(JobStatus job) {
+        UUID uuid = job.getUuid();
 
-        return executionUuid;
+        Route route;
+        HttpMethod httpMethod;
+        Map<String, String> headers;
+        Map<String, String> queryParams;
+        try {
+            route = mappingService.resolveRoute(job.getJobName());
+            httpMethod = HttpMethod.valueOf(job.getRequestMethod());
+            headers = readMap(job.getRequestHeaders());
+            queryParams = readMap(job.getRequestQueryParams());
+        } catch (RuntimeException e) {
+            // A row that cannot be read must not escape and strand the rest of the claimed batch
+            return failClaimedJob(job, e);
+        }
+
+        ServiceBulkhead.Permit permit;
+        try {
+            permit = bulkheadRegistry.forRoute(route).reserve();
+        } catch (BulkheadFullException e) {
+            logger.debug("Job UUID {} returned to the queue: {}", uuid, e.getMessage());
+            return false;
+        } catch (RuntimeException e) {
+            return failClaimedJob(job, e);
+        }
+
+        // A queued job starts once another job of the same service releases its slot
+        activeJobs.track(job);
+        statusCache.put(job);
+        statusNotifier.statusChanged(uuid);
+        try {
+            jobDispatcher.dispatch(uuid,
+                    permit.guard(executeJob(uuid, route, httpMethod, headers, queryParams, requestBodyOf(job)))
+                            .doFinally(signal -> activeJobs.remove(uuid)));
+        } catch (TaskRejectedException e) {
+            logger.warn("Job UUID {} could not be dispatched: {}", uuid, e.getMessage());
+            activeJobs.remove(uuid);
+            permit.release();
+            return false;
+        } catch (RuntimeException e) {
+            activeJobs.remove(uuid);
+            permit.release();
+            return failClaimedJob(job, e);
+        }
+        return true;
     }
 
     /**
-     * Executes the job asynchronously and updates status.
-     * Note: Entity must be reloaded in async context to avoid detached entity issues.
+     * Marks a claimed job that cannot be started as FAILED and deletes its spooled body.
+     *
+     * @return true, since the job is finished and must not go back to the queue
      */
-    @Async("jobExecutor")
-    @Transactional
-    public CompletableFuture<Void> executeJobAsync(
-            JobStatus jobStatus,
-            JobRestMapping mapping,
+    private boolean failClaimedJob(JobStatus job, RuntimeException e) {
+        logger.warn("Job UUID {} cannot be started: {}", job.getUuid(), e.toString());
+        markFailed(job.getUuid(), "Job could not be started: " + e.getMessage());
+        releaseRequestBody(job.getRequestBodyFile());
+        return true;
+    }
+
+    /**
+     * Builds the execution pipeline for a job.
+     * The job was moved to IN_PROGRESS when it was claimed, so the pipeline goes straight to the
+     * non-blocking remote call, which waits on the Netty event loop without a thread, and hands
+     * the result to the {@link JobStatusWriter}, which stores it with other jobs' results in one
+     * bulk write. Runs without an enclosing transaction so no connection is held during the
+     * remote call. The pipeline subscribes on the job scheduler itself, since a bulkhead may
+     * start it from whichever thread released the previous slot.
+     *
+     * A job cancelled on this node loses nothing to a race: the {@link ActiveJobTable} lets only
+     * one final state win, and the result of a cancelled job is dropped without a write. A job
+     * cancelled through another node is stopped at the next lease heartbeat, and its final write
+     * never overwrites the cancellation.
+     *
+     * A spooled request body is deleted once the job has finished; a job interrupted by shutdown
+     * keeps it for the node that runs the job again.
+     */
+    Mono<Void> executeJob(
+            UUID uuid,
+            Route route,
             HttpMethod httpMethod,
             Map<String, String> headers,
             Map<String, String> queryParams,
             Object requestBody) {
-        
-        UUID uuid = jobStatus.getUuid();
-        logger.info("Starting asynchronous execution for job UUID: {}", uuid);
 
-        try {
-            // Reload entity in async context to ensure it's managed
-            JobStatus managedStatus = jobStatusRepository.findByUuid(uuid)
-                    .orElseThrow(() -> new IllegalStateException("Job status not found for UUID: " + uuid));
-
-            // Check if already cancelled
-            if (managedStatus.getStatus() == JobExecutionStatus.CANCELLED) {
-                logger.info("Job UUID {} was cancelled before execution started", uuid);
-                return CompletableFuture.completedFuture(null);
-            }
+        return Mono.defer(() -> {
+                    // Forward HTTP request along the precompiled route
+                    logger.info("Forwarding {} request to endpoint: {} for job: {}",
+                            httpMethod, route.getEndpoint(), route.getJobName());
+                    return httpForwardingService.forwardRequestReactive(
+                            route, httpMethod, headers, queryParams, requestBody);
+                })
+                .subscribeOn(jobDispatcher.getScheduler())
+                .flatMap(response -> completeJob(uuid, response))
+                .onErrorResume(e -> {
+                    logger.error("Exception during job execution for UUID: {}", uuid, e);
+                    return markFailed(uuid, "Execution error: " + e.getMessage());
+                })
+                .doOnSuccess(done -> {
+                    if (requestBody instanceof Path file) {
+                        releaseRequestBody(file.toString());
+                    }
+                });
+    }
 
-            // Update status to IN_PROGRESS
-            managedStatus.setStatus(JobExecutionStatus.IN_PROGRESS);
-            managedStatus = jobStatusRepository.save(managedStatus);
-            logger.debug("Updated job status to IN_PROGRESS for UUID: {}", uuid);
-
-            // Forward HTTP request
-            String endpointUrl = mapping.getFullEndpointUrl();
-            logger.info("Forwarding {} request to endpoint: {} for job: {}", 
-                    httpMethod, endpointUrl, mapping.getJobName());
-            
-            HttpForwardingService.HttpForwardingResponse response = httpForwardingService.forwardRequest(
-                    httpMethod, endpointUrl, headers, queryParams, requestBody);
-
-            // Check if cancelled during execution
-            managedStatus = jobStatusRepository.findByUuid(uuid)
-                    .orElseThrow(() -> new IllegalStateException("Job status not found for UUID: " + uuid));
-            
-            if (managedStatus.getStatus() == JobExecutionStatus.CANCELLED) {
-                logger.info("Job UUID {} was cancelled during execution", uuid);
-                return CompletableFuture.completedFuture(null);
-            }
+    /**
+     * Returns the request body to forward: the path of a spooled body, the stored bytes, or the
+     * text body of a job queued before bodies were stored as bytes.
+     */
+    private static Object requestBodyOf(JobStatus job) {
+        if (job.getRequestBodyFile() != null) {
+            return Path.of(job.getRequestBodyFile());
+        }
+        return job.getRequestBodyBytes() != null ? job.getRequestBodyBytes() : job.getRequestBody();
+    }
 
-            // Update status based on response
-            managedStatus.setResponse(response.getResponseBody());
-            managedStatus.setHttpStatus(response.getHttpStatus());
-            managedStatus.setEndDate(LocalDateTime.now());
+    private void releaseRequestBody(String requestBodyFile) {
+        if (requestBodyFile != null) {
+            requestBodySpool.delete(requestBodyFile);
+        }
+    }
 
-            if (response.isSuccess()) {
-                managedStatus.setStatus(JobExecutionStatus.SUCCESS);
-                logger.info("Job execution completed successfully for UUID: {} with HTTP status: {}", 
-                        uuid, response.getHttpStatus());
-            } else {
-                managedStatus.setStatus(JobExecutionStatus.FAILED);
-                logger.warn("Job execution failed for UUID: {} with HTTP status: {}", 
-                        uuid, response.getHttpStatus());
-            }
+    /**
+     * Records the remote response as the final job status unless the job was cancelled meanwhile.
+     */
+    private Mono<Void> completeJob(UUID uuid, HttpForwardingService.HttpForwardingResponse response) {
+        JobExecutionStatus status = response.isSuccess() ? JobExecutionStatus.SUCCESS : JobExecutionStatus.FAILED;
+        if (response.isSuccess()) {
+            logger.info("Job execution completed successfully for UUID: {} with HTTP status: {}",
+                    uuid, response.getHttpStatus());
+        } else {
+            logger.warn("Job execution failed for UUID: {} with HTTP status: {}",
+                    uuid, response.getHttpStatus());
+        }
+        return finish(new JobCompletion(
+                uuid, status, response.getResponse(), response.getHttpStatus(), LocalDateTime.now()));
+    }
 
-            jobStatusRepository.save(managedStatus);
-
-        } catch (Exception e) {
-            logger.error("Exception during job execution for UUID: {}", uuid, e);
-            
-            // Reload entity to update in case of error
-            jobStatusRepository.findByUuid(uuid).ifPresent(status -> {
-                // Only update if not already cancelled
-                if (status.getStatus() != JobExecutionStatus.CANCELLED) {
-                    status.setStatus(JobExecutionStatus.FAILED);
-                    status.setResponse("Execution error: " + e.getMessage());
-                    status.setHttpStatus(0);
-                    status.setEndDate(LocalDateTime.now());
-                    jobStatusRepository.save(status);
-                }
-            });
+    /**
+     * Marks a job as FAILED unless it has already been cancelled.
+     */
+    private Mono<Void> markFailed(UUID uuid, String reason) {
+        return finish(new JobCompletion(uuid, JobExecutionStatus.FAILED, reason, 0, LocalDateTime.now()));
+    }
+
+    /**
+     * Moves the job to its final state in memory and hands it to the writer, unless the job
+     * already reached a final state here, which means it was cancelled.
+     */
+    private Mono<Void> finish(JobCompletion completion) {
+        if (activeJobs.complete(completion) == ActiveJobTable.Transition.REJECTED) {
+            logger.info("Job UUID {} was cancelled during execution. Discarding its result.", completion.getUuid());
+            return Mono.empty();
         }
+        statusCache.update(completion);
+        statusNotifier.statusChanged(completion.getUuid());
+        return jobStatusWriter.complete(completion);
+    }
+
+    private String writeMap(Map<String, String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize request data: " + e.getMessage(), e);
+        }
+    }
 
-        return CompletableFuture.completedFuture(null);
+    private Map<String, String> readMap(String json) {
+        if (json == null || json.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<Map<String, String>>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Stored request data is not readable: " + e.getMessage(), e);
+        }
     }
 
     /**
      * Retrieves job status by UUID.
+     * Jobs running on this node and recently seen jobs are answered from memory, without a
+     * transaction; only other jobs are read from the store. The cache holds no response bodies,
+     * so a cached final job has its response read from the store.
      *
      * @param uuid the job execution UUID
      * @return the JobStatus entity
      * @throws JobNotFoundException if job not found
      */
-    @Transactional(readOnly = true)
     public JobStatus getJobStatus(UUID uuid) {
         logger.debug("Retrieving job status for UUID: {}", uuid);
-        return jobStatusRepository.findByUuid(uuid)
+        Optional<JobStatus> active = activeJobs.find(uuid);
+        if (active.isPresent()) {
+            return active.get();
+        }
+        Optional<JobStatus> cached = statusCache.get(uuid);
+        if (cached.isPresent()) {
+            return withResponse(cached.get());
+        }
+        JobStatus jobStatus = findJob(uuid);
+        statusCache.put(jobStatus);
+        return jobStatus;
+    }
+
+    /**
+     * Retrieves the status of a job, optionally without its response. Without the response, a job
+     * that is neither running on this node nor cached is read without its response fields, so
+     * polling a job with a large response does not load it.
+     *
+     * @param uuid the job execution UUID
+     * @param includeResponse whether the response is needed
+     * @return the job status; its response fields may be empty when it is not needed
+     * @throws JobNotFoundException if job not found
+     */
+    public JobStatus getJobStatus(UUID uuid, boolean includeResponse) {
+        if (includeResponse) {
+            return getJobStatus(uuid);
+        }
+        logger.debug("Retrieving job status without response for UUID: {}", uuid);
+        Optional<JobStatus> known = activeJobs.find(uuid).or(() -> statusCache.get(uuid));
+        if (known.isPresent()) {
+            return known.get();
+        }
+        Optional<JobCompletion> pending = jobStatusWriter.pending(uuid);
+        JobStatus jobStatus = jobStatusStore.findStatusWithoutResponse(uuid)
                 .orElseThrow(() -> {
                     logger.warn("Job not found for UUID: {}", uuid);
                     return new JobNotFoundException("Job not found for UUID: " + uuid);
                 });
+        pending.ifPresent(completion -> completion.applyTo(jobStatus));
+        // Only finished jobs have a response, so a running job read without one is complete
+        if (!JobStatusNotifier.isFinal(jobStatus)) {
+            statusCache.put(jobStatus);
+        }
+        return jobStatus;
+    }
+
+    /**
+     * Looks up the status of many jobs, {@code job.status-lookup.chunk-size} at a time, so memory
+     * stays bounded however many jobs are requested. Jobs running on this node and cached jobs are
+     * answered from memory; the rest of each chunk is read with a single store query. Unknown
+     * UUIDs are skipped.
+     *
+     * @param uuids the job execution UUIDs, in the order the statuses are wanted
+     * @return the statuses found, one list per chunk in request order; each chunk is read
+     *         only when the stream reaches it
+     * @throws ValidationException if more than {@code job.status-lookup.max-uuids} jobs are requested
+     */
+    public Stream<List<JobStatus>> findJobStatuses(List<UUID> uuids) {
+        if (uuids.size() > lookupProperties.getMaxUuids()) {
+            throw new ValidationException("At most " + lookupProperties.getMaxUuids() + " UUIDs can be looked up at once");
+        }
+        int chunkSize = lookupProperties.getChunkSize();
+        return IntStream.iterate(0, from -> from < uuids.size(), from -> from + chunkSize)
+                .mapToObj(from -> findChunk(uuids.subList(from, Math.min(from + chunkSize, uuids.size()))));
+    }
+
+    private List<JobStatus> findChunk(List<UUID> chunk) {
+        Map<UUID, JobStatus> found = new HashMap<>();
+        Map<UUID, JobCompletion> pending = new HashMap<>();
+        Set<UUID> missing = new LinkedHashSet<>();
+        for (UUID uuid : chunk) {
+            if (found.containsKey(uuid) || missing.contains(uuid)) {
+                continue;
+            }
+            Optional<JobStatus> known = activeJobs.find(uuid).or(() -> statusCache.get(uuid));
+            // A cached final job has no response body, so it is read with the rest of the chunk
+            if (known.isPresent() && !lacksResponse(known.get())) {
+                found.put(uuid, known.get());
+            } else {
+                jobStatusWriter.pending(uuid).ifPresent(completion -> pending.put(uuid, completion));
+                missing.add(uuid);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (JobStatus jobStatus : jobStatusStore.findStatusesByUuids(missing)) {
+                JobCompletion completion = pending.get(jobStatus.getUuid());
+                if (completion != null) {
+                    completion.applyTo(jobStatus);
+                }
+                statusCache.put(jobStatus);
+                found.put(jobStatus.getUuid(), jobStatus);
+            }
+        }
+        return chunk.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Waits until a job reaches a final state, without holding a thread while it waits.
+     *
+     * @param uuid the job execution UUID
+     * @param timeout how long to wait in milliseconds; null for {@code job.await.default-timeout},
+     *                capped at {@code job.await.max-timeout}
+     * @return the final status, or the latest status if the job is still running at the timeout
+     * @throws JobNotFoundException if job not found
+     */
+    public Mono<JobStatus> awaitJob(UUID uuid, Long timeout) {
+        JobStatus current = getJobStatus(uuid);
+        if (JobStatusNotifier.isFinal(current)) {
+            return Mono.just(current);
+        }
+        long millis = Math.min(timeout != null ? timeout : awaitProperties.getDefaultTimeout(),
+                awaitProperties.getMaxTimeout());
+        return statusNotifier.watch(uuid, this::getJobStatus)
+                .take(Duration.ofMillis(millis))
+                .last(current);
+    }
+
+    /**
+     * Streams the status changes of a job, starting with its current status and ending with its
+     * final status, or after {@code job.await.max-timeout}, whichever comes first.
+     *
+     * @param uuid the job execution UUID
+     * @return the status changes
+     * @throws JobNotFoundException if job not found
+     */
+    public Flux<JobStatus> watchJob(UUID uuid) {
+        getJobStatus(uuid);
+        return statusNotifier.watch(uuid, this::getJobStatus)
+                .take(Duration.ofMillis(awaitProperties.getMaxTimeout()));
     }
 
     /**
      * Cancels an in-flight job execution.
+     * A job running on this node is cancelled in memory and the cancellation is stored by the
+     * {@link JobStatusWriter}; any other job is cancelled in the store.
      *
      * @param uuid the job execution UUID
      * @throws JobNotFoundException if job not found
@@ -210,11 +541,21 @@ public class JobOrchestrationService {
     public void cancelJob(UUID uuid) {
         logger.info("Cancelling job execution for UUID: {}", uuid);
 
-        JobStatus jobStatus = jobStatusRepository.findByUuid(uuid)
-                .orElseThrow(() -> {
-                    logger.warn("Job not found for UUID: {}", uuid);
-                    return new JobNotFoundException("Job not found for UUID: " + uuid);
-                });
+        JobCompletion cancellation = new JobCompletion(
+                uuid, JobExecutionStatus.CANCELLED, "Job execution was cancelled", null, LocalDateTime.now());
+        // Read before the pipeline is disposed, which stops tracking the job and skips its own release
+        String requestBodyFile = activeJobs.find(uuid).map(JobStatus::getRequestBodyFile).orElse(null);
+        if (activeJobs.complete(cancellation) == ActiveJobTable.Transition.APPLIED) {
+            jobDispatcher.cancel(uuid);
+            releaseRequestBody(requestBodyFile);
+            statusCache.update(cancellation);
+            statusNotifier.statusChanged(uuid);
+            jobStatusWriter.complete(cancellation);
+            logger.info("Job UUID {} cancelled successfully", uuid);
+            return;
+        }
+
+        JobStatus jobStatus = findJob(uuid);
 
         // Check if already completed
         if (jobStatus.getStatus() == JobExecutionStatus.SUCCESS || 
@@ -225,38 +566,91 @@ public class JobOrchestrationService {
         }
 
         // Cancel the executing thread
-        Future<?> future = executionRegistry.get(uuid);
-        if (future != null) {
-            boolean cancelled = future.cancel(true); // Interrupt if running
-            logger.info("Cancelled future for job UUID: {}, cancelled: {}", uuid, cancelled);
-        }
+        jobDispatcher.cancel(uuid);
 
-        // Update status to CANCELLED
-        jobStatus.setStatus(JobExecutionStatus.CANCELLED);
-        jobStatus.setEndDate(LocalDateTime.now());
-        jobStatus.setResponse("Job execution was cancelled");
-        jobStatusRepository.save(jobStatus);
-
-        // Remove from registry
-        executionRegistry.remove(uuid);
+        // Another node may finish or claim the job meanwhile, so only an active job is cancelled
+        Optional<JobExecutionStatus> cancelledIn = jobStatusStore.cancel(cancellation);
+        if (cancelledIn.isEmpty()) {
+            logger.info("Job UUID {} finished before it could be cancelled", uuid);
+            return;
+        }
+        cancellation.applyTo(jobStatus);
+        statusCache.put(jobStatus);
+        statusNotifier.statusChanged(uuid);
+        // A claimed job's body may still be streamed by the node holding it, which deletes it
+        // once its heartbeat finds the lease gone; a queued job has no such node
+        if (cancelledIn.get() == JobExecutionStatus.STARTED) {
+            releaseRequestBody(jobStatus.getRequestBodyFile());
+        }
 
         logger.info("Job UUID {} cancelled successfully", uuid);
     }
 
     /**
-     * Exception thrown when an idempotent request is detected.
-     * Contains the existing job UUID.
+     * Stops the local execution of a job whose lease this node has lost. Its spooled request
+     * body is deleted only if the job was cancelled or finished elsewhere: a job taken over by
+     * another node after a missed heartbeat still needs it.
+     *
+     * @param uuid the job execution UUID
      */
-    public static class IdempotentRequestException extends RuntimeException {
-        private final UUID existingUuid;
+    public void stopLostJob(UUID uuid) {
+        // Read before the pipeline is disposed, which stops tracking the job
+        String requestBodyFile = activeJobs.find(uuid).map(JobStatus::getRequestBodyFile).orElse(null);
+        jobDispatcher.cancel(uuid);
+        if (requestBodyFile == null) {
+            return;
+        }
+        boolean finished = jobStatusStore.findStatusWithoutResponse(uuid)
+                .map(JobStatusNotifier::isFinal)
+                .orElse(true);
+        if (finished) {
+            releaseRequestBody(requestBodyFile);
+        }
+    }
 
-        public IdempotentRequestException(UUID existingUuid) {
-            super("Idempotent request detected. Existing job UUID: " + existingUuid);
-            this.existingUuid = existingUuid;
+    /**
+     * Adds the response body to a cached job, which only keeps a response file reference.
+     * A final status not stored yet still has its response in the {@link JobStatusWriter}.
+     */
+    private JobStatus withResponse(JobStatus job) {
+        if (!lacksResponse(job)) {
+            return job;
         }
+        // Looked up before the store: a completion no longer buffered has been stored already
+        Optional<JobCompletion> pending = jobStatusWriter.pending(job.getUuid());
+        Optional<StoredResponse> response = pending.isPresent()
+                ? pending.map(JobCompletion::getResponse)
+                : jobStatusStore.findResponse(job.getUuid());
+        response.ifPresent(stored -> stored.applyTo(job));
+        return job;
+    }
 
-        public UUID getExistingUuid() {
-            return existingUuid;
+    /**
+     * Whether a job has finished but its response body is not at hand: only a job read from
+     * the cache, whose response is not stored in a file, lacks it.
+     */
+    private static boolean lacksResponse(JobStatus job) {
+        return JobStatusNotifier.isFinal(job) && job.getResponseRef() == null
+                && job.getResponse() == null && job.getResponseData() == null;
+    }
+
+    /**
+     * Reads a job from memory while it runs on this node, and otherwise from the store,
+     * including a final status that finished on this node but is not stored yet.
+     */
+    private JobStatus findJob(UUID uuid) {
+        Optional<JobStatus> active = activeJobs.find(uuid);
+        if (active.isPresent()) {
+            return active.get();
         }
+        // Looked up before the store: a completion no longer buffered has been stored already
+        Optional<JobCompletion> pending = jobStatusWriter.pending(uuid);
+        JobStatus jobStatus = jobStatusStore.findByUuid(uuid)
+                .orElseThrow(() -> {
+                    logger.warn("Job not found for UUID: {}", uuid);
+                    return new JobNotFoundException("Job not found for UUID: " + uuid);
+                });
+        pending.ifPresent(completion -> completion.applyTo(jobStatus));
+        return jobStatus;
     }
 }
@@ -0,0 +1,83 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Durable queue of accepted jobs, backed by the job status store.
+ * A queued job is STARTED; claiming it moves it to IN_PROGRESS under a time-limited lease
+ * held by one node. Leases that are not renewed expire and the job is queued again,
+ * so jobs survive restarts and crashes (at-least-once execution) as long as the store itself
+ * is persistent; an in-memory database loses the queue with the process.
+ */
+public interface JobQueue {
+
+    /**
+     * Response stored on claimed jobs that were running before the queue existed.
+     */
+    String UNLEASED_CLAIM_FAILURE = "Job was running before the job queue existed and cannot be resumed";
+
+    /**
+     * Persists a newly accepted job. It can be claimed as soon as this returns.
+     * A job with an idempotency key is only inserted if no job with the same job name and key
+     * exists; the store's unique index decides atomically, and the existing job is returned
+     * otherwise.
+     *
+     * @param job the job in STARTED status, carrying the request to forward
+     * @return the queued job, or the existing job with the same job name and idempotency key
+     */
+    JobReservation enqueue(JobStatus job);
+
+    /**
+     * Claims the oldest queued jobs for an owner. Jobs without a job name cannot be routed and
+     * are never claimed.
+     *
+     * @param owner the claiming node
+     * @param limit the maximum number of jobs to claim
+     * @param excludedServices services whose jobs should be left in the queue
+     * @param leaseDuration how long the claim lasts without renewal
+     * @return the claimed jobs, in queue order
+     */
+    List<JobStatus> claim(String owner, int limit, Collection<String> excludedServices, Duration leaseDuration);
+
+    /**
+     * Extends the leases of jobs the owner is still executing.
+     * Jobs the owner no longer holds, because they were cancelled or their lease expired and
+     * another node took them over, are returned so the owner can stop executing them.
+     *
+     * @param owner the owning node
+     * @param uuids the jobs to renew
+     * @param leaseDuration the new lease length, from now
+     * @return the jobs whose lease the owner has lost
+     */
+    Set<UUID> renewLeases(String owner, Collection<UUID> uuids, Duration leaseDuration);
+
+    /**
+     * Puts a claimed job back in the queue, e.g. when it could not be started.
+     *
+     * @param owner the owning node
+     * @param uuid the job to release
+     */
+    void release(String owner, UUID uuid);
+
+    /**
+     * Queues again all claimed jobs whose lease has expired.
+     * Claimed jobs without any lease were running before the queue existed and have no stored
+     * request to forward; they are marked FAILED instead of being queued again.
+     *
+     * @return the number of recovered jobs
+     */
+    int recoverExpiredLeases();
+
+    /**
+     * Registers a callback run after every enqueue, so pollers can pick new jobs up immediately.
+     *
+     * @param listener the callback
+     */
+    void addEnqueueListener(Runnable listener);
+}
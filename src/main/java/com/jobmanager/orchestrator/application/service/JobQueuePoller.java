@@ -0,0 +1,163 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Feeds the job dispatcher from the durable job queue.
+ *
+ * A single poller thread claims jobs in batches, as many as the node has room for,
+ * and hands them to {@link JobOrchestrationService#startClaimedJob}. It keeps claiming
+ * without pause while full batches come back, and otherwise sleeps until a job is
+ * enqueued, an execution finishes or the poll interval elapses. The same thread renews
+ * the leases of running jobs and requeues jobs whose lease expired, including jobs
+ * orphaned by a crash, which are recovered on startup before polling begins.
+ *
+ * When several nodes share the queue, a job whose lease this node has lost, because it was
+ * cancelled through another node or taken over after a missed heartbeat, is cancelled
+ * locally at the next heartbeat. This node also deletes the spooled body of a job cancelled
+ * elsewhere, since it is the one that may still have been reading it.
+ */
+@Component
+public class JobQueuePoller implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobQueuePoller.class);
+
+    private final JobQueue jobQueue;
+    private final JobOrchestrationService orchestrationService;
+    private final JobDispatcher jobDispatcher;
+    private final ServiceBulkheadRegistry bulkheadRegistry;
+    private final JobQueueProperties properties;
+    private final String nodeId;
+
+    private final PeriodicTask pollerTask;
+    private long nextHeartbeatAt;
+    private long nextRecoveryAt;
+
+    public JobQueuePoller(JobQueue jobQueue,
+                          JobOrchestrationService orchestrationService,
+                          JobDispatcher jobDispatcher,
+                          ServiceBulkheadRegistry bulkheadRegistry,
+                          JobQueueProperties properties) {
+        this.jobQueue = jobQueue;
+        this.orchestrationService = orchestrationService;
+        this.jobDispatcher = jobDispatcher;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.properties = properties;
+        this.nodeId = properties.getNodeId() == null || properties.getNodeId().isBlank()
+                ? defaultNodeId() : properties.getNodeId();
+        this.pollerTask = new PeriodicTask("job-queue-poller", properties::getPollInterval, this::pollStep,
+                logger, "Job queue poll failed");
+    }
+
+    @Override
+    public void start() {
+        int recovered = jobQueue.recoverExpiredLeases();
+        if (recovered > 0) {
+            logger.info("Requeued {} orphaned jobs with expired leases", recovered);
+        }
+
+        jobQueue.addEnqueueListener(this::wakeUp);
+        jobDispatcher.addCompletionListener(this::wakeUp);
+
+        pollerTask.start();
+        logger.info("Started job queue poller as {}: batchSize={}, maxInFlight={}, leaseDuration={}ms",
+                nodeId, properties.getBatchSize(), properties.getMaxInFlight(), properties.getLeaseDuration());
+    }
+
+    @Override
+    public void stop() {
+        pollerTask.stop();
+        logger.info("Stopped job queue poller {}", nodeId);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return pollerTask.isRunning();
+    }
+
+    /**
+     * Wakes the poller up so it claims new work without waiting for the poll interval.
+     */
+    public void wakeUp() {
+        pollerTask.wakeUp();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private boolean pollStep() {
+        maintainLeases();
+        return pollOnce();
+    }
+
+    /**
+     * Claims and starts one batch of jobs.
+     *
+     * @return true if a full batch was started and more work is likely waiting
+     */
+    boolean pollOnce() {
+        int capacity = properties.getMaxInFlight() - jobDispatcher.getActiveCount();
+        if (capacity <= 0) {
+            return false;
+        }
+        int limit = Math.min(properties.getBatchSize(), capacity);
+
+        List<JobStatus> claimed = jobQueue.claim(nodeId, limit, bulkheadRegistry.getSaturatedServices(),
+                Duration.ofMillis(properties.getLeaseDuration()));
+
+        int started = 0;
+        for (JobStatus job : claimed) {
+            if (orchestrationService.startClaimedJob(job)) {
+                started++;
+            } else {
+                jobQueue.release(nodeId, job.getUuid());
+            }
+        }
+        if (!claimed.isEmpty()) {
+            logger.debug("Started {} of {} claimed jobs", started, claimed.size());
+        }
+        return started == limit;
+    }
+
+    private void maintainLeases() {
+        long now = System.currentTimeMillis();
+        if (now >= nextHeartbeatAt) {
+            Set<UUID> lost = jobQueue.renewLeases(nodeId, jobDispatcher.getActiveUuids(),
+                    Duration.ofMillis(properties.getLeaseDuration()));
+            for (UUID uuid : lost) {
+                logger.info("Lost lease on job UUID {}, stopping its local execution", uuid);
+                orchestrationService.stopLostJob(uuid);
+            }
+            nextHeartbeatAt = now + properties.getHeartbeatInterval();
+        }
+        if (now >= nextRecoveryAt) {
+            int recovered = jobQueue.recoverExpiredLeases();
+            if (recovered > 0) {
+                logger.warn("Requeued {} jobs whose lease expired", recovered);
+            }
+            nextRecoveryAt = now + properties.getLeaseDuration();
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
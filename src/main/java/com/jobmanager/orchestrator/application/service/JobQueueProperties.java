@@ -0,0 +1,79 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the durable job queue and its poller.
+ * Durations are in milliseconds.
+ */
+@Component
+@ConfigurationProperties(prefix = "job.queue")
+public class JobQueueProperties {
+
+    // Store holding job statuses and the queue: jpa (single node) or mongo (shared by several nodes)
+    private String store = "jpa";
+    // Lease owner name of this node; a random name is generated when blank
+    private String nodeId = "";
+    private int batchSize = 50;
+    private int maxInFlight = 200;
+    private long pollInterval = 500;
+    private long leaseDuration = 30000;
+    private long heartbeatInterval = 10000;
+
+    public String getStore() {
+        return store;
+    }
+
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public long getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(long pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public long getLeaseDuration() {
+        return leaseDuration;
+    }
+
+    public void setLeaseDuration(long leaseDuration) {
+        this.leaseDuration = leaseDuration;
+    }
+
+    public long getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(long heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+}
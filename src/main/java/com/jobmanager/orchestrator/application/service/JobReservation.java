@@ -0,0 +1,45 @@
+package com.jobmanager.orchestrator.application.service;
+
+import java.util.UUID;
+
+/**
+ * Outcome of accepting a job: either a new job was queued, or the job name and idempotency
+ * key were already used and the existing job is returned instead.
+ */
+public final class JobReservation {
+
+    private final UUID uuid;
+    private final boolean created;
+
+    private JobReservation(UUID uuid, boolean created) {
+        this.uuid = uuid;
+        this.created = created;
+    }
+
+    public static JobReservation created(UUID uuid) {
+        return new JobReservation(uuid, true);
+    }
+
+    public static JobReservation existing(UUID uuid) {
+        return new JobReservation(uuid, false);
+    }
+
+    /**
+     * @return the UUID of the queued job, new or existing
+     */
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    /**
+     * @return true if this request queued the job, false if it was a repeat
+     */
+    public boolean isCreated() {
+        return created;
+    }
+
+    @Override
+    public String toString() {
+        return (created ? "created " : "existing ") + uuid;
+    }
+}
@@ -29,9 +29,11 @@ public class JobRestMappingCrudService {
     private static final Logger logger = LoggerFactory.getLogger(JobRestMappingCrudService.class);
 
     private final JobRestMappingRepository repository;
+    private final JobMappingCache mappingCache;
 
-    public JobRestMappingCrudService(JobRestMappingRepository repository) {
+    public JobRestMappingCrudService(JobRestMappingRepository repository, JobMappingCache mappingCache) {
         this.repository = repository;
+        this.mappingCache = mappingCache;
     }
 
     /**
@@ -52,7 +54,9 @@ public class JobRestMappingCrudService {
         }
 
         JobRestMapping entity = toEntity(new JobRestMapping(), request);
-        return repository.save(entity);
+        JobRestMapping saved = repository.save(entity);
+        mappingCache.invalidate(saved.getJobName());
+        return saved;
     }
 
     /**
@@ -102,8 +106,12 @@ public class JobRestMappingCrudService {
                                     request.getJobName(), request.getUrl(), request.getHttpMethod()));
                 });
 
+        String previousJobName = existing.getJobName();
         JobRestMapping toSave = toEntity(existing, request);
-        return repository.save(toSave);
+        JobRestMapping saved = repository.save(toSave);
+        mappingCache.invalidate(previousJobName);
+        mappingCache.invalidate(saved.getJobName());
+        return saved;
     }
 
     /**
@@ -112,11 +120,13 @@ public class JobRestMappingCrudService {
      * @return true if deleted, false if not found
      */
     public boolean deleteById(String id) {
-        if (!repository.existsById(id)) {
+        Optional<JobRestMapping> mapping = repository.findById(id);
+        if (mapping.isEmpty()) {
             logger.warn("Job mapping not found for deletion, id={}", id);
             return false;
         }
         repository.deleteById(id);
+        mappingCache.invalidate(mapping.get().getJobName());
         logger.info("Deleted job mapping with id={}", id);
         return true;
     }
@@ -133,6 +143,7 @@ public class JobRestMappingCrudService {
             return false;
         }
         repository.delete(mapping.get());
+        mappingCache.invalidate(jobName);
         logger.info("Deleted job mapping with jobName={}", jobName);
         return true;
     }
@@ -143,6 +154,10 @@ public class JobRestMappingCrudService {
         entity.setUrl(request.getUrl());
         entity.setPort(request.getPort());
         entity.setHttpMethod(request.getHttpMethod());
+        entity.setMaxConcurrency(request.getMaxConcurrency());
+        entity.setQueueCapacity(request.getQueueCapacity());
+        entity.setReadTimeout(request.getReadTimeout());
+        entity.setIdempotencyWindow(request.getIdempotencyWindow());
         return entity;
     }
 }
@@ -0,0 +1,139 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Read cache of recent job statuses, keyed by job UUID, so status polls do not read the database.
+ *
+ * The cache is updated on every state transition this node makes: when a job is queued, started,
+ * completed or cancelled, and whenever a status is read from the store. A final status never
+ * changes, so it is served for {@code job.status-cache.ttl}. A queued or running status may be
+ * changed by another node, so it is only served for {@code job.status-cache.active-ttl}. Once
+ * {@code job.status-cache.max-size} is reached, expired entries and then the oldest are evicted.
+ *
+ * Entries are copies; callers get their own copy and may change it freely. Response bodies are
+ * not cached, whether inline text or compressed: a cached job keeps only its response file
+ * reference and size, and callers that need the body read it from the store.
+ *
+ * Publishes {@code job.status.cache.hits}, {@code job.status.cache.misses} and
+ * {@code job.status.cache.size}.
+ */
+@Component
+public class JobStatusCache {
+
+    private final JobStatusCacheProperties properties;
+    private final LongSupplier nanoClock;
+
+    private final ExpiringEntries<UUID, JobStatus> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @Autowired
+    public JobStatusCache(JobStatusCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, System::nanoTime);
+        FunctionCounter.builder("job.status.cache.hits", hits, AtomicLong::get)
+                .description("Job status reads served from the cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("job.status.cache.misses", misses, AtomicLong::get)
+                .description("Job status reads that went to the store")
+                .register(meterRegistry);
+        Gauge.builder("job.status.cache.size", this, JobStatusCache::size)
+                .description("Job statuses currently cached")
+                .register(meterRegistry);
+    }
+
+    JobStatusCache(JobStatusCacheProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.entries = new ExpiringEntries<>(properties.getMaxSize());
+    }
+
+    /**
+     * Returns the cached status of a job.
+     *
+     * @param uuid the job execution UUID
+     * @return a copy of the cached status, or empty if it is not cached or has expired
+     */
+    public Optional<JobStatus> get(UUID uuid) {
+        Optional<JobStatus> cached = entries.get(uuid, nanoClock.getAsLong());
+        if (cached.isEmpty()) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return cached.map(JobStatusCache::copy);
+    }
+
+    /**
+     * Caches the current status of a job.
+     *
+     * @param job the job
+     */
+    public void put(JobStatus job) {
+        long now = nanoClock.getAsLong();
+        JobStatus cached = copy(job);
+        entries.put(job.getUuid(), cached, now, now + ttlNanos(cached.getStatus()));
+    }
+
+    /**
+     * Applies a final status to a cached job. A job that is not cached stays uncached, since
+     * its other fields are not known here.
+     *
+     * @param completion the final status
+     */
+    public void update(JobCompletion completion) {
+        long now = nanoClock.getAsLong();
+        entries.update(completion.getUuid(), job -> {
+            JobStatus cached = copy(job);
+            completion.applyTo(cached);
+            return cached;
+        }, cached -> now + ttlNanos(cached.getStatus()));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private long ttlNanos(JobExecutionStatus status) {
+        boolean active = status == JobExecutionStatus.STARTED || status == JobExecutionStatus.IN_PROGRESS;
+        return TimeUnit.MILLISECONDS.toNanos(active ? properties.getActiveTtl() : properties.getTtl());
+    }
+
+    /**
+     * Copies the fields a status read returns, without the response body; the forwarded request
+     * is not kept either.
+     */
+    private static JobStatus copy(JobStatus job) {
+        JobStatus copy = new JobStatus(job.getUuid(), job.getStatus());
+        copy.setResponseRef(job.getResponseRef());
+        copy.setResponseSize(job.getResponseSize());
+        copy.setHttpStatus(job.getHttpStatus());
+        copy.setStartDate(job.getStartDate());
+        copy.setEndDate(job.getEndDate());
+        copy.setJobName(job.getJobName());
+        copy.setServiceName(job.getServiceName());
+        copy.setIdempotencyKey(job.getIdempotencyKey());
+        copy.setIdempotencyExpiresAt(job.getIdempotencyExpiresAt());
+        return copy;
+    }
+}
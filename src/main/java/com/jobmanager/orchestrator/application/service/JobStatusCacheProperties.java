@@ -0,0 +1,43 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the job status read cache.
+ * Durations are in milliseconds.
+ */
+@Component
+@ConfigurationProperties(prefix = "job.status-cache")
+public class JobStatusCacheProperties {
+
+    // Final statuses never change, so they are served for as long as they are polled
+    private long ttl = 600000;
+    // Queued and running statuses may change on another node; they are re-read after this long
+    private long activeTtl = 1000;
+    private int maxSize = 100000;
+
+    public long getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(long ttl) {
+        this.ttl = ttl;
+    }
+
+    public long getActiveTtl() {
+        return activeTtl;
+    }
+
+    public void setActiveTtl(long activeTtl) {
+        this.activeTtl = activeTtl;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+}
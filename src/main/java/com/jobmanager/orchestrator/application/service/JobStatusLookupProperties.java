@@ -0,0 +1,32 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for bulk job status lookups.
+ */
+@Component
+@ConfigurationProperties(prefix = "job.status-lookup")
+public class JobStatusLookupProperties {
+
+    // Jobs read and written out together; each chunk costs at most one store query
+    private int chunkSize = 500;
+    private int maxUuids = 10000;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getMaxUuids() {
+        return maxUuids;
+    }
+
+    public void setMaxUuids(int maxUuids) {
+        this.maxUuids = maxUuids;
+    }
+}
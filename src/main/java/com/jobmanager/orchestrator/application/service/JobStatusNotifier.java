@@ -0,0 +1,112 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * In-process notifications of job status changes, for clients waiting on a job.
+ *
+ * Every watched job has one shared watch, however many clients wait on it. The watch re-reads
+ * the job whenever this node reports a transition through {@link #statusChanged}, and every
+ * {@code job.await.recheck-interval} to see transitions made by other nodes; reads are served
+ * by the status cache, so they rarely reach the store. A waiting client holds no thread, only
+ * a subscription, and the watch ends once the job reaches a final state or nobody waits on it.
+ */
+@Component
+public class JobStatusNotifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobStatusNotifier.class);
+
+    private final JobAwaitProperties properties;
+    private final Scheduler readScheduler;
+
+    private final Map<UUID, Watch> watches = new ConcurrentHashMap<>();
+
+    public JobStatusNotifier(JobAwaitProperties properties) {
+        this(properties, Schedulers.boundedElastic());
+    }
+
+    JobStatusNotifier(JobAwaitProperties properties, Scheduler readScheduler) {
+        this.properties = properties;
+        this.readScheduler = readScheduler;
+    }
+
+    /**
+     * Watches a job until it reaches a final state.
+     * Emits the current status on subscription and then every status change, ending with
+     * the final status.
+     *
+     * @param uuid the job execution UUID
+     * @param loader reads the current status of the job
+     * @return the status changes of the job
+     */
+    public Flux<JobStatus> watch(UUID uuid, Function<UUID, JobStatus> loader) {
+        return Flux.defer(() -> watches.computeIfAbsent(uuid, id -> new Watch(id, loader)).statuses);
+    }
+
+    /**
+     * Reports that this node changed the status of a job, waking up its watchers.
+     *
+     * @param uuid the job execution UUID
+     */
+    public void statusChanged(UUID uuid) {
+        Watch watch = watches.get(uuid);
+        if (watch != null) {
+            watch.changes.tryEmitNext(uuid);
+        }
+    }
+
+    /**
+     * Returns the number of jobs currently watched.
+     *
+     * @return the watched job count
+     */
+    public int getWatchedCount() {
+        return watches.size();
+    }
+
+    static boolean isFinal(JobStatus job) {
+        JobExecutionStatus status = job.getStatus();
+        return status == JobExecutionStatus.SUCCESS
+                || status == JobExecutionStatus.FAILED
+                || status == JobExecutionStatus.CANCELLED;
+    }
+
+    private final class Watch {
+        private final Sinks.Many<UUID> changes = Sinks.many().multicast().directBestEffort();
+        private final Flux<JobStatus> statuses;
+
+        private Watch(UUID uuid, Function<UUID, JobStatus> loader) {
+            Duration recheck = Duration.ofMillis(properties.getRecheckInterval());
+            // Listens for changes before the first read, so none is missed in between
+            this.statuses = Flux.merge(
+                            changes.asFlux(),
+                            Flux.interval(recheck, recheck).map(tick -> uuid),
+                            Flux.just(uuid))
+                    .onBackpressureLatest()
+                    .publishOn(readScheduler, 1)
+                    .map(tick -> loader.apply(uuid))
+                    .distinctUntilChanged(JobStatus::getStatusVersion)
+                    .takeUntil(JobStatusNotifier::isFinal)
+                    .doFinally(signal -> {
+                        watches.remove(uuid, this);
+                        logger.debug("Stopped watching job UUID {}: {}", uuid, signal);
+                    })
+                    .replay(1)
+                    .refCount();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reads and writes job status records in the store selected by {@code job.queue.store}.
+ * The job queue lives in the same store, so every node sees the same jobs.
+ */
+public interface JobStatusStore {
+
+    /**
+     * Finds a job by its execution UUID.
+     *
+     * @param uuid the job execution UUID
+     * @return the job, if it exists
+     */
+    Optional<JobStatus> findByUuid(UUID uuid);
+
+    /**
+     * Finds the status of several jobs with a single query. Only the fields a status read
+     * returns are loaded; the forwarded request is not.
+     *
+     * @param uuids the job execution UUIDs
+     * @return the jobs found, in no particular order
+     */
+    List<JobStatus> findStatusesByUuids(Collection<UUID> uuids);
+
+    /**
+     * Finds the status of a job without its response. Only the status fields and the response
+     * size are loaded; the response body and the forwarded request are not.
+     *
+     * @param uuid the job execution UUID
+     * @return the job, if it exists
+     */
+    Optional<JobStatus> findStatusWithoutResponse(UUID uuid);
+
+    /**
+     * Finds the response of a job. Only the response fields are loaded.
+     *
+     * @param uuid the job execution UUID
+     * @return the response, if the job exists
+     */
+    Optional<StoredResponse> findResponse(UUID uuid);
+
+    /**
+     * Finds a job by its job name and idempotency key.
+     *
+     * @param jobName the job name
+     * @param idempotencyKey the idempotency key
+     * @return the job, if it exists
+     */
+    Optional<JobStatus> findByJobNameAndIdempotencyKey(String jobName, String idempotencyKey);
+
+    /**
+     * Inserts or updates a job.
+     *
+     * @param jobStatus the job to save
+     * @return the saved job
+     */
+    JobStatus save(JobStatus jobStatus);
+
+    /**
+     * Stores the final status of several jobs in one bulk write. Jobs that were cancelled
+     * meanwhile are left unchanged.
+     *
+     * @param completions the final statuses, at most one per job
+     * @return the number of jobs updated
+     */
+    int completeAll(Collection<JobCompletion> completions);
+
+    /**
+     * Cancels a job that is still queued or running with a conditional update, so a final
+     * status or a claim written by another node meanwhile is never overwritten.
+     *
+     * @param cancellation the cancellation
+     * @return the status the job was cancelled in: STARTED if no node had claimed it, IN_PROGRESS
+     *         if a node holds it; empty if it had already finished or been cancelled
+     */
+    Optional<JobExecutionStatus> cancel(JobCompletion cancellation);
+
+    /**
+     * Clears one batch of idempotency keys whose window has ended, so the key index only holds
+     * live keys. The jobs themselves are kept.
+     *
+     * @param now the current time
+     * @param batchSize the maximum number of keys to clear
+     * @return the number of keys cleared
+     */
+    int clearExpiredIdempotencyKeys(LocalDateTime now, int batchSize);
+
+    /**
+     * Finds which of the given response file references are still held by a job.
+     *
+     * @param refs the response references
+     * @return the references some job still holds
+     */
+    Set<String> findReferencedResponses(Collection<String> refs);
+}
@@ -0,0 +1,151 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for the final status of job executions.
+ *
+ * Completions are buffered per job UUID, so a later completion of the same job replaces an
+ * earlier one that has not been written yet, and a single writer thread stores them with one
+ * bulk write per {@code job.status-writer.batch-size} jobs. A batch is written as soon as it
+ * is full, or after {@code job.status-writer.flush-interval}. Each write is conditional, so a
+ * job cancelled in the meantime stays cancelled, and no read is needed before it.
+ *
+ * With {@code job.status-writer.durability=sync} (the default) the {@link Mono} returned by
+ * {@link #complete} finishes only once the status is stored, so a job counts as done only when
+ * its result is durable. With {@code async} it finishes immediately; a result still buffered
+ * when the node crashes is lost and the job runs again once its lease expires. A failed write
+ * is retried with the next batch. Buffered completions are visible through {@link #pending},
+ * so status reads on this node see them before they are written.
+ */
+@Component
+public class JobStatusWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobStatusWriter.class);
+
+    private final JobStatusStore jobStatusStore;
+    private final JobStatusWriterProperties properties;
+
+    private final Map<UUID, Pending> pending = new ConcurrentHashMap<>();
+    private final PeriodicTask writerTask;
+
+    public JobStatusWriter(JobStatusStore jobStatusStore, JobStatusWriterProperties properties) {
+        this.jobStatusStore = jobStatusStore;
+        this.properties = properties;
+        this.writerTask = new PeriodicTask("job-status-writer", properties::getFlushInterval, this::writeStep,
+                logger, "Storing job completions failed, retrying with the next batch");
+    }
+
+    /**
+     * Buffers the final status of a job. The write is queued immediately, whether or not the
+     * returned {@link Mono} is subscribed.
+     *
+     * @param completion the final status
+     * @return completes once the status is stored (sync durability) or right away (async)
+     */
+    public Mono<Void> complete(JobCompletion completion) {
+        Pending next = new Pending(completion);
+        Pending replaced = pending.put(completion.getUuid(), next);
+        if (replaced != null) {
+            // Whoever waited for the replaced completion now waits for this one
+            next.stored.whenComplete((result, error) -> replaced.stored.complete(null));
+        }
+        if (pending.size() >= properties.getBatchSize()) {
+            writerTask.wakeUp();
+        }
+        return "async".equals(properties.getDurability())
+                ? Mono.empty()
+                : Mono.fromFuture(next.stored, true);
+    }
+
+    /**
+     * Returns the completion of a job that has been buffered but not stored yet.
+     *
+     * @param uuid the job execution UUID
+     * @return the buffered completion, if any
+     */
+    public Optional<JobCompletion> pending(UUID uuid) {
+        return Optional.ofNullable(pending.get(uuid)).map(entry -> entry.completion);
+    }
+
+    /**
+     * Stores all buffered completions, in batches.
+     *
+     * @return the number of completions stored
+     */
+    int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<Pending> buffered = new ArrayList<>(pending.values());
+        int batchSize = properties.getBatchSize();
+        for (int from = 0; from < buffered.size(); from += batchSize) {
+            List<Pending> batch = buffered.subList(from, Math.min(from + batchSize, buffered.size()));
+            int updated = jobStatusStore.completeAll(batch.stream().map(entry -> entry.completion).toList());
+            logger.debug("Stored {} job completions ({} applied)", batch.size(), updated);
+            for (Pending entry : batch) {
+                // A completion that replaced this one meanwhile stays buffered for the next batch
+                pending.remove(entry.completion.getUuid(), entry);
+                entry.stored.complete(null);
+            }
+        }
+        return buffered.size();
+    }
+
+    @Override
+    public void start() {
+        writerTask.start();
+        logger.info("Started job status writer: batchSize={}, flushInterval={}ms, durability={}",
+                properties.getBatchSize(), properties.getFlushInterval(), properties.getDurability());
+    }
+
+    @Override
+    public void stop() {
+        writerTask.stop();
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.error("Could not store {} buffered job completions on shutdown", pending.size(), e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writerTask.isRunning();
+    }
+
+    /**
+     * Starts before and stops after the components that complete jobs, so nothing buffered
+     * is left behind on shutdown.
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 1;
+    }
+
+    private boolean writeStep() {
+        flush();
+        return false;
+    }
+
+    private static final class Pending {
+        private final JobCompletion completion;
+        private final CompletableFuture<Void> stored = new CompletableFuture<>();
+
+        private Pending(JobCompletion completion) {
+            this.completion = completion;
+        }
+    }
+}
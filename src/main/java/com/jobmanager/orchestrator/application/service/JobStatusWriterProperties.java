@@ -0,0 +1,43 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the write-behind job status writer.
+ * Durations are in milliseconds.
+ */
+@Component
+@ConfigurationProperties(prefix = "job.status-writer")
+public class JobStatusWriterProperties {
+
+    // A batch is flushed once it holds this many jobs, or after the flush interval
+    private int batchSize = 100;
+    private long flushInterval = 50;
+    // sync: a job finishes once its final status is stored; async: as soon as it is buffered
+    private String durability = "sync";
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public String getDurability() {
+        return durability;
+    }
+
+    public void setDurability(String durability) {
+        this.durability = durability;
+    }
+}
@@ -0,0 +1,166 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import com.jobmanager.orchestrator.persistence.repository.JobStatusRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link JobQueue} on the JPA {@code job_status} table.
+ * Claiming selects a batch of queued ids and leases them with a conditional update,
+ * so concurrent pollers can never claim the same row twice.
+ * A job with an idempotency key is inserted only if no row holds the key yet; otherwise the
+ * holder is read back and returned.
+ */
+@Component
+@ConditionalOnProperty(prefix = "job.queue", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class JpaJobQueue implements JobQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(JpaJobQueue.class);
+
+    // Inserts a queued job unless its (job name, idempotency key) is taken, so a duplicate key
+    // is reported as zero rows instead of a unique index violation
+    private static final String INSERT_UNLESS_KEY_TAKEN_SQL = "INSERT INTO job_status (id, uuid, status, start_date,"
+            + " idempotency_key, idempotency_expires_at, job_name, service_name, request_method, request_headers,"
+            + " request_query_params, request_body, request_body_bytes, request_body_file)"
+            + " SELECT NEXT VALUE FOR job_status_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?"
+            + " WHERE NOT EXISTS (SELECT 1 FROM job_status WHERE job_name = ? AND idempotency_key = ?)";
+
+    private final JobStatusRepository jobStatusRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final List<Runnable> enqueueListeners = new CopyOnWriteArrayList<>();
+
+    public JpaJobQueue(JobStatusRepository jobStatusRepository, JdbcTemplate jdbcTemplate) {
+        this.jobStatusRepository = jobStatusRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public JobReservation enqueue(JobStatus job) {
+        if (job.getIdempotencyKey() == null) {
+            jobStatusRepository.save(job);
+        } else if (!insertUnlessKeyTaken(job)) {
+            // The key is taken: by a job within its window, or by one whose window ended
+            // but compaction has not cleared it yet
+            Optional<JobStatus> existing = jobStatusRepository.findByJobNameAndIdempotencyKey(
+                    job.getJobName(), job.getIdempotencyKey());
+            LocalDateTime now = LocalDateTime.now();
+            if (existing.isPresent() && !existing.get().isIdempotencyExpired(now)) {
+                return JobReservation.existing(existing.get().getUuid());
+            }
+            // Release the expired key (another request may already have) and insert again
+            existing.ifPresent(expired -> jobStatusRepository.clearExpiredIdempotencyKeys(List.of(expired.getId()), now));
+            return enqueue(job);
+        }
+        enqueueListeners.forEach(Runnable::run);
+        return JobReservation.created(job.getUuid());
+    }
+
+    /**
+     * Inserts a job with an idempotency key unless a row already holds the key.
+     *
+     * @return whether the job was inserted
+     */
+    private boolean insertUnlessKeyTaken(JobStatus job) {
+        try {
+            return jdbcTemplate.update(INSERT_UNLESS_KEY_TAKEN_SQL,
+                    job.getUuid(), job.getStatus().name(), job.getStartDate(),
+                    job.getIdempotencyKey(), job.getIdempotencyExpiresAt(), job.getJobName(), job.getServiceName(),
+                    job.getRequestMethod(), job.getRequestHeaders(), job.getRequestQueryParams(),
+                    job.getRequestBody(), job.getRequestBodyBytes(), job.getRequestBodyFile(),
+                    job.getJobName(), job.getIdempotencyKey()) > 0;
+        } catch (DuplicateKeyException e) {
+            // Another request inserted the same key between the existence check and the insert
+            return false;
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<JobStatus> claim(String owner, int limit, Collection<String> excludedServices, Duration leaseDuration) {
+        PageRequest batch = PageRequest.of(0, limit);
+        List<Long> ids = excludedServices.isEmpty()
+                ? jobStatusRepository.findIdsByStatus(JobExecutionStatus.STARTED, batch)
+                : jobStatusRepository.findIdsByStatusExcludingServices(JobExecutionStatus.STARTED, excludedServices, batch);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime leaseExpiresAt = LocalDateTime.now().plus(leaseDuration);
+        int claimed = jobStatusRepository.claimByIds(
+                ids, JobExecutionStatus.STARTED, JobExecutionStatus.IN_PROGRESS, owner, leaseExpiresAt);
+        if (claimed == 0) {
+            return List.of();
+        }
+
+        List<JobStatus> jobs = jobStatusRepository.findByIdInAndLeaseOwnerAndStatus(
+                ids, owner, JobExecutionStatus.IN_PROGRESS);
+        jobs.sort(Comparator.comparing(JobStatus::getId));
+        logger.debug("Claimed {} of {} queued jobs for {}", jobs.size(), ids.size(), owner);
+        return jobs;
+    }
+
+    @Override
+    @Transactional
+    public Set<UUID> renewLeases(String owner, Collection<UUID> uuids, Duration leaseDuration) {
+        if (uuids.isEmpty()) {
+            return Set.of();
+        }
+        int renewed = jobStatusRepository.renewLeases(
+                uuids, owner, JobExecutionStatus.IN_PROGRESS, LocalDateTime.now().plus(leaseDuration));
+        logger.debug("Renewed {} of {} leases for {}", renewed, uuids.size(), owner);
+        if (renewed == uuids.size()) {
+            return Set.of();
+        }
+
+        Set<UUID> lost = new HashSet<>(uuids);
+        lost.removeAll(jobStatusRepository.findUuidsByLeaseOwnerAndStatus(
+                uuids, owner, JobExecutionStatus.IN_PROGRESS));
+        return lost;
+    }
+
+    @Override
+    @Transactional
+    public void release(String owner, UUID uuid) {
+        int released = jobStatusRepository.releaseLease(
+                uuid, owner, JobExecutionStatus.IN_PROGRESS, JobExecutionStatus.STARTED);
+        if (released > 0) {
+            logger.debug("Released job UUID {} back to the queue", uuid);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int recoverExpiredLeases() {
+        LocalDateTime now = LocalDateTime.now();
+        int failed = jobStatusRepository.failUnleasedClaims(
+                JobExecutionStatus.IN_PROGRESS, JobExecutionStatus.FAILED, UNLEASED_CLAIM_FAILURE, now);
+        if (failed > 0) {
+            logger.warn("Failed {} running jobs that predate the job queue", failed);
+        }
+        return jobStatusRepository.requeueExpiredLeases(now, JobExecutionStatus.IN_PROGRESS, JobExecutionStatus.STARTED);
+    }
+
+    @Override
+    public void addEnqueueListener(Runnable listener) {
+        enqueueListeners.add(listener);
+    }
+}
@@ -0,0 +1,165 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import com.jobmanager.orchestrator.persistence.repository.JobStatusRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * {@link JobStatusStore} on the JPA {@code job_status} table.
+ */
+@Component
+@ConditionalOnProperty(prefix = "job.queue", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class JpaJobStatusStore implements JobStatusStore {
+
+    // One statement per job, sent to the database as a single JDBC batch
+    private static final String COMPLETE_SQL = "UPDATE job_status SET status = ?, response = ?, response_data = ?,"
+            + " response_ref = ?, response_size = ?, http_status = ?, end_date = ?"
+            + " WHERE uuid = ? AND status <> '" + JobExecutionStatus.CANCELLED.name() + "'";
+
+    // Status columns only, for bulk status reads; the IN list is filled in per call
+    private static final String FIND_STATUSES_SQL = "SELECT uuid, status, response, response_data, response_ref, response_size,"
+            + " http_status, start_date, end_date,"
+            + " job_name, service_name FROM job_status WHERE uuid IN (%s)";
+
+    private static final String FIND_RESPONSE_SQL =
+            "SELECT response, response_data, response_ref, response_size FROM job_status WHERE uuid = ?";
+
+    // Statuses a job can still be cancelled in
+    private static final List<JobExecutionStatus> ACTIVE_STATUSES =
+            List.of(JobExecutionStatus.STARTED, JobExecutionStatus.IN_PROGRESS);
+
+    private static final RowMapper<JobStatus> STATUS_ROW_MAPPER = (resultSet, rowNum) -> {
+        JobStatus job = new JobStatus(resultSet.getObject("uuid", UUID.class),
+                JobExecutionStatus.valueOf(resultSet.getString("status")));
+        job.setResponse(resultSet.getString("response"));
+        job.setResponseData(resultSet.getBytes("response_data"));
+        job.setResponseRef(resultSet.getString("response_ref"));
+        job.setResponseSize(resultSet.getObject("response_size", Long.class));
+        job.setHttpStatus(resultSet.getObject("http_status", Integer.class));
+        job.setStartDate(resultSet.getObject("start_date", LocalDateTime.class));
+        job.setEndDate(resultSet.getObject("end_date", LocalDateTime.class));
+        job.setJobName(resultSet.getString("job_name"));
+        job.setServiceName(resultSet.getString("service_name"));
+        return job;
+    };
+
+    private static final RowMapper<StoredResponse> RESPONSE_ROW_MAPPER = (resultSet, rowNum) -> StoredResponse.of(
+            resultSet.getString("response"), resultSet.getBytes("response_data"),
+            resultSet.getString("response_ref"), resultSet.getObject("response_size", Long.class));
+
+    private final JobStatusRepository jobStatusRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public JpaJobStatusStore(JobStatusRepository jobStatusRepository, JdbcTemplate jdbcTemplate) {
+        this.jobStatusRepository = jobStatusRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<JobStatus> findByUuid(UUID uuid) {
+        return jobStatusRepository.findByUuid(uuid);
+    }
+
+    @Override
+    public List<JobStatus> findStatusesByUuids(Collection<UUID> uuids) {
+        if (uuids.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(uuids.size(), "?"));
+        return jdbcTemplate.query(String.format(FIND_STATUSES_SQL, placeholders), STATUS_ROW_MAPPER, uuids.toArray());
+    }
+
+    @Override
+    public Optional<JobStatus> findStatusWithoutResponse(UUID uuid) {
+        return jobStatusRepository.findStatusViewByUuid(uuid).map(view -> {
+            JobStatus job = new JobStatus(view.getUuid(), view.getStatus());
+            job.setResponseSize(view.getResponseSize());
+            job.setHttpStatus(view.getHttpStatus());
+            job.setStartDate(view.getStartDate());
+            job.setEndDate(view.getEndDate());
+            job.setJobName(view.getJobName());
+            job.setServiceName(view.getServiceName());
+            return job;
+        });
+    }
+
+    @Override
+    public Optional<StoredResponse> findResponse(UUID uuid) {
+        return jdbcTemplate.query(FIND_RESPONSE_SQL, RESPONSE_ROW_MAPPER, uuid).stream().findFirst();
+    }
+
+    @Override
+    public Optional<JobStatus> findByJobNameAndIdempotencyKey(String jobName, String idempotencyKey) {
+        return jobStatusRepository.findByJobNameAndIdempotencyKey(jobName, idempotencyKey);
+    }
+
+    @Override
+    public JobStatus save(JobStatus jobStatus) {
+        return jobStatusRepository.save(jobStatus);
+    }
+
+    @Override
+    @Transactional
+    public int completeAll(Collection<JobCompletion> completions) {
+        if (completions.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(COMPLETE_SQL, completions, completions.size(), (statement, completion) -> {
+            statement.setString(1, completion.getStatus().name());
+            StoredResponse response = completion.getResponse();
+            statement.setString(2, response.getText());
+            statement.setBytes(3, response.getData());
+            statement.setString(4, response.getRef());
+            statement.setObject(5, response.getSize(), Types.BIGINT);
+            statement.setObject(6, completion.getHttpStatus(), Types.INTEGER);
+            statement.setTimestamp(7, completion.getEndDate() != null ? Timestamp.valueOf(completion.getEndDate()) : null);
+            statement.setObject(8, completion.getUuid());
+        });
+        // Drivers may report SUCCESS_NO_INFO (-2) instead of a row count
+        return (int) Arrays.stream(counts).flatMapToInt(Arrays::stream).filter(count -> count != 0).count();
+    }
+
+    @Override
+    @Transactional
+    public Optional<JobExecutionStatus> cancel(JobCompletion cancellation) {
+        // Queued first: a job claimed between the two updates is still caught by the second
+        for (JobExecutionStatus status : ACTIVE_STATUSES) {
+            if (jobStatusRepository.cancelIfActive(cancellation.getUuid(), List.of(status), JobExecutionStatus.CANCELLED,
+                    cancellation.getResponse().getText(), cancellation.getEndDate()) > 0) {
+                return Optional.of(status);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    @Transactional
+    public int clearExpiredIdempotencyKeys(LocalDateTime now, int batchSize) {
+        List<Long> ids = jobStatusRepository.findIdsWithExpiredIdempotencyKey(now, PageRequest.of(0, batchSize));
+        return ids.isEmpty() ? 0 : jobStatusRepository.clearExpiredIdempotencyKeys(ids, now);
+    }
+
+    @Override
+    public Set<String> findReferencedResponses(Collection<String> refs) {
+        return refs.isEmpty() ? Set.of() : new HashSet<>(jobStatusRepository.findResponseRefsIn(refs));
+    }
+}
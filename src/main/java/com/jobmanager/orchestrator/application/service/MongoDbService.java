@@ -2,29 +2,57 @@ package com.jobmanager.orchestrator.application.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import com.jobmanager.orchestrator.domain.exception.ValidationException;
 import com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus;
+import com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus.Fields;
+import com.jobmanager.orchestrator.persistence.mongodb.document.MongoDocument;
 import com.jobmanager.orchestrator.persistence.mongodb.repository.JobStatusRepository;
+import com.jobmanager.orchestrator.persistence.mongodb.repository.MongoDocumentRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
- * Service for MongoDB job status operations.
- * Provides methods to store and retrieve job status information from MongoDB.
+ * Service for MongoDB job status and document operations.
+ * Provides methods to store and retrieve job status information and generic JSON documents
+ * from MongoDB.
  */
 @Service
 public class MongoDbService {
 
     private static final Logger logger = LoggerFactory.getLogger(MongoDbService.class);
 
+    private static final String ID = "_id";
+    // Documents fetched per round trip when streaming a listing
+    private static final int STREAM_BATCH_SIZE = 500;
+
     @Autowired
     private JobStatusRepository jobStatusRepository;
 
+    @Autowired
+    private MongoDocumentRepository mongoDocumentRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -51,17 +79,131 @@ public class MongoDbService {
     }
 
     /**
-     * Retrieves all job statuses from the database.
+     * Retrieves one page of job statuses, ordered by start date.
+     * Pages are read by keyset: the cursor holds the start date and ID of the last job of the
+     * previous page, so every page is one indexed range query, however deep it is. Only the
+     * status fields are read; the forwarded request of queued jobs is not.
+     *
+     * @param status only jobs in this status, or null for all
+     * @param from only jobs started at or after this time, or null
+     * @param to only jobs started before this time, or null
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of jobs on the page
+     * @return the page, with the cursor of the next page if there is one
+     * @throws ValidationException if the cursor is malformed
+     */
+    public CursorPage<JobStatus> getJobStatusPage(JobExecutionStatus status, LocalDateTime from, LocalDateTime to,
+                                                  String cursor, int limit) {
+        logger.debug("Retrieving job statuses: status={}, from={}, to={}, limit={}", status, from, to, limit);
+        Query query = jobStatusQuery(status, from, to, cursor).limit(limit + 1);
+        List<JobStatus> found = mongoTemplate.find(query, JobStatus.class);
+        if (found.size() <= limit) {
+            return new CursorPage<>(found, null);
+        }
+        List<JobStatus> page = found.subList(0, limit);
+        JobStatus last = page.get(limit - 1);
+        return new CursorPage<>(page, encodeCursor(last.getStartDate(), last.getId()));
+    }
+
+    /**
+     * Streams all matching job statuses, ordered by start date, straight from a database cursor
+     * that fetches {@code STREAM_BATCH_SIZE} documents at a time, so memory use does not depend
+     * on how many jobs match. The stream must be closed.
      *
-     * @return list of all job statuses
+     * @param status only jobs in this status, or null for all
+     * @param from only jobs started at or after this time, or null
+     * @param to only jobs started before this time, or null
+     * @return the job statuses
+     */
+    public Stream<JobStatus> streamJobStatuses(JobExecutionStatus status, LocalDateTime from, LocalDateTime to) {
+        logger.debug("Streaming job statuses: status={}, from={}, to={}", status, from, to);
+        Query query = jobStatusQuery(status, from, to, null).cursorBatchSize(STREAM_BATCH_SIZE);
+        return mongoTemplate.stream(query, JobStatus.class);
+    }
+
+    /**
+     * Builds a job status listing query. Filters and order match the {@code status_startDate_id_idx}
+     * and {@code startDate_id_idx} indexes, so neither filtering nor sorting scans the collection.
      */
-    public List<JobStatus> getAllJobStatuses() {
-        logger.debug("Retrieving all job statuses");
-        return jobStatusRepository.findAll();
+    private Query jobStatusQuery(JobExecutionStatus status, LocalDateTime from, LocalDateTime to, String cursor) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (status != null) {
+            criteria.add(Criteria.where(Fields.STATUS).is(status));
+        }
+        if (from != null) {
+            criteria.add(Criteria.where(Fields.START_DATE).gte(from));
+        }
+        if (to != null) {
+            criteria.add(Criteria.where(Fields.START_DATE).lt(to));
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            criteria.add(afterCursor(cursor));
+        }
+        Query query = new Query(criteria.isEmpty() ? new Criteria() : new Criteria().andOperator(criteria))
+                .with(Sort.by(Sort.Order.asc(Fields.START_DATE), Sort.Order.asc(ID)));
+        query.fields().include(Fields.UUID, Fields.STATUS, Fields.RESPONSE_SIZE, Fields.START_DATE,
+                Fields.END_DATE, Fields.HTTP_CODE, Fields.CREATED_AT, Fields.UPDATED_AT);
+        return query;
+    }
+
+    /**
+     * Matches jobs after the cursor position in (start date, ID) order.
+     * Jobs without a start date sort first.
+     */
+    private Criteria afterCursor(String cursor) {
+        String decoded = decodeCursor(cursor);
+        int separator = decoded.indexOf('|');
+        if (separator < 0) {
+            throw new ValidationException("Invalid cursor: " + cursor);
+        }
+        Object id = toId(decoded.substring(separator + 1));
+        String startDate = decoded.substring(0, separator);
+        if (startDate.isEmpty()) {
+            return new Criteria().orOperator(
+                    Criteria.where(Fields.START_DATE).ne(null),
+                    Criteria.where(Fields.START_DATE).is(null).and(ID).gt(id));
+        }
+        LocalDateTime after;
+        try {
+            after = LocalDateTime.parse(startDate);
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor: " + cursor);
+        }
+        return new Criteria().orOperator(
+                Criteria.where(Fields.START_DATE).gt(after),
+                Criteria.where(Fields.START_DATE).is(after).and(ID).gt(id));
+    }
+
+    static String encodeCursor(LocalDateTime startDate, String id) {
+        return encodeCursor((startDate != null ? startDate.toString() : "") + "|" + id);
+    }
+
+    /**
+     * Cursors are the listing position in URL-safe Base64, so clients treat them as opaque.
+     */
+    static String encodeCursor(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Document IDs are stored as ObjectIds when they are valid ObjectId strings.
+     */
+    private static Object toId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
     }
 
     /**
      * Retrieves a job status as JSON string.
+     * The response body fields are left out, as in the other job status reads; the body is
+     * served by {@code /job/{uuid}/response}.
      *
      * @param uuid the UUID
      * @return Optional containing the JSON string representation if job status found
@@ -70,6 +212,9 @@ public class MongoDbService {
         logger.debug("Retrieving job status as JSON string by UUID: {}", uuid);
         return getByUuid(uuid)
                 .map(jobStatus -> {
+                    jobStatus.setResponse(null);
+                    jobStatus.setResponseData(null);
+                    jobStatus.setResponseRef(null);
                     try {
                         return objectMapper.writeValueAsString(jobStatus);
                     } catch (Exception e) {
@@ -155,6 +300,194 @@ public class MongoDbService {
         return false;
     }
 
+    /**
+     * Saves or updates a document by its document key.
+     *
+     * @param documentKey the document key
+     * @param data the document data
+     * @return the saved document
+     */
+    public MongoDocument saveDocument(String documentKey, Map<String, Object> data) {
+        logger.info("Saving document with key: {}", documentKey);
+
+        MongoDocument document = mongoDocumentRepository.findByDocumentKey(documentKey)
+                .orElse(new MongoDocument());
+
+        document.setDocumentKey(documentKey);
+        document.setData(data);
+
+        MongoDocument saved = mongoDocumentRepository.save(document);
+        logger.info("Document saved with ID: {}", saved.getId());
+        return saved;
+    }
+
+    /**
+     * Retrieves a document by its document key.
+     *
+     * @param documentKey the document key
+     * @return Optional containing the document if found
+     */
+    public Optional<MongoDocument> getByDocumentKey(String documentKey) {
+        logger.debug("Retrieving document by key: {}", documentKey);
+        return mongoDocumentRepository.findByDocumentKey(documentKey);
+    }
+
+    /**
+     * Retrieves the data of a document by its document key.
+     *
+     * @param documentKey the document key
+     * @return Optional containing the document data if found
+     */
+    public Optional<Map<String, Object>> getDataByDocumentKey(String documentKey) {
+        logger.debug("Retrieving data by document key: {}", documentKey);
+        return getByDocumentKey(documentKey).map(MongoDocument::getData);
+    }
+
+    /**
+     * Retrieves a single value from the data of a document. Only that value is read from the
+     * database, not the whole data map.
+     *
+     * @param documentKey the document key
+     * @param dataKey the key within the data map; a dot path such as {@code address.city}
+     *                reads a nested value
+     * @return Optional containing the value if the document and key exist
+     * @throws ValidationException if the data key is malformed
+     */
+    public Optional<Object> getValueByDocumentKeyAndDataKey(String documentKey, String dataKey) {
+        logger.debug("Retrieving value by document key: {} and data key: {}", documentKey, dataKey);
+        return getValuesByDocumentKey(documentKey, List.of(dataKey))
+                .map(values -> values.get(dataKey));
+    }
+
+    /**
+     * Retrieves several values from the data of a document in one query. Only those values
+     * are read from the database, not the whole data map.
+     *
+     * @param documentKey the document key
+     * @param dataKeys the keys within the data map; dot paths read nested values
+     * @return Optional containing the values found, by data key, if the document exists
+     * @throws ValidationException if a data key is malformed
+     */
+    public Optional<Map<String, Object>> getValuesByDocumentKey(String documentKey, Collection<String> dataKeys) {
+        logger.debug("Retrieving values by document key: {} and data keys: {}", documentKey, dataKeys);
+        dataKeys.forEach(MongoDbService::validateDataKey);
+
+        Query query = new Query(Criteria.where(MongoDocument.Fields.DOCUMENT_KEY).is(documentKey));
+        // MongoDB rejects projections of both a path and a path inside it; the outer one covers both
+        dataKeys.stream()
+                .filter(dataKey -> dataKeys.stream().noneMatch(other -> dataKey.startsWith(other + ".")))
+                .distinct()
+                .forEach(dataKey -> query.fields().include(MongoDocument.Fields.DATA + "." + dataKey));
+        query.fields().include(MongoDocument.Fields.DOCUMENT_KEY);
+
+        MongoDocument document = mongoTemplate.findOne(query, MongoDocument.class);
+        if (document == null) {
+            return Optional.empty();
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String dataKey : dataKeys) {
+            Object value = valueAt(document.getData(), dataKey);
+            if (value != null) {
+                values.put(dataKey, value);
+            }
+        }
+        return Optional.of(values);
+    }
+
+    private static void validateDataKey(String dataKey) {
+        if (dataKey == null || dataKey.isBlank() || dataKey.startsWith("$")
+                || dataKey.startsWith(".") || dataKey.endsWith(".") || dataKey.contains("..")) {
+            throw new ValidationException("Invalid data key: " + dataKey);
+        }
+    }
+
+    /**
+     * Follows a dot path through nested maps.
+     */
+    private static Object valueAt(Map<String, Object> data, String dataKey) {
+        Object value = data;
+        for (String segment : dataKey.split("\\.")) {
+            if (!(value instanceof Map<?, ?> map)) {
+                return null;
+            }
+            value = map.get(segment);
+        }
+        return value;
+    }
+
+    /**
+     * Retrieves one page of documents, ordered by document key.
+     * Pages are read by keyset on the unique document key index: the cursor holds the key of the
+     * last document of the previous page, so every page is one indexed range query.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of documents on the page
+     * @param includeData whether to read the document data, or only keys and timestamps
+     * @return the page, with the cursor of the next page if there is one
+     * @throws ValidationException if the cursor is malformed
+     */
+    public CursorPage<MongoDocument> getDocumentPage(String cursor, int limit, boolean includeData) {
+        logger.debug("Retrieving documents: limit={}, includeData={}", limit, includeData);
+        Query query = documentQuery(includeData).limit(limit + 1);
+        if (cursor != null && !cursor.isBlank()) {
+            query.addCriteria(Criteria.where(MongoDocument.Fields.DOCUMENT_KEY).gt(decodeCursor(cursor)));
+        }
+        List<MongoDocument> found = mongoTemplate.find(query, MongoDocument.class);
+        if (found.size() <= limit) {
+            return new CursorPage<>(found, null);
+        }
+        List<MongoDocument> page = found.subList(0, limit);
+        return new CursorPage<>(page, encodeCursor(page.get(limit - 1).getDocumentKey()));
+    }
+
+    /**
+     * Streams all documents, ordered by document key, straight from a database cursor that
+     * fetches {@code STREAM_BATCH_SIZE} documents at a time. The stream must be closed.
+     *
+     * @param includeData whether to read the document data, or only keys and timestamps
+     * @return the documents
+     */
+    public Stream<MongoDocument> streamDocuments(boolean includeData) {
+        logger.debug("Streaming documents: includeData={}", includeData);
+        return mongoTemplate.stream(documentQuery(includeData).cursorBatchSize(STREAM_BATCH_SIZE), MongoDocument.class);
+    }
+
+    private Query documentQuery(boolean includeData) {
+        Query query = new Query().with(Sort.by(MongoDocument.Fields.DOCUMENT_KEY));
+        if (!includeData) {
+            query.fields().exclude(MongoDocument.Fields.DATA);
+        }
+        return query;
+    }
+
+    /**
+     * Checks if a document exists with the given document key.
+     *
+     * @param documentKey the document key to check
+     * @return true if document exists, false otherwise
+     */
+    public boolean documentExists(String documentKey) {
+        logger.debug("Checking if document exists with key: {}", documentKey);
+        return mongoDocumentRepository.existsByDocumentKey(documentKey);
+    }
+
+    /**
+     * Deletes a document by its document key.
+     *
+     * @param documentKey the document key
+     * @return true if document was deleted, false if not found
+     */
+    public boolean deleteDocument(String documentKey) {
+        logger.info("Deleting document with key: {}", documentKey);
+        if (mongoDocumentRepository.existsByDocumentKey(documentKey)) {
+            mongoDocumentRepository.deleteByDocumentKey(documentKey);
+            logger.info("Document deleted with key: {}", documentKey);
+            return true;
+        }
+        logger.warn("Document not found for deletion with key: {}", documentKey);
+        return false;
+    }
+
     /**
      * Converts a JobStatus object to JSON string.
      *
@@ -0,0 +1,189 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus.Fields;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * {@link JobQueue} on the MongoDB {@code job_statuses} collection, for running several nodes.
+ * Each claim is an atomic {@code findAndModify} that flips one queued job to IN_PROGRESS under
+ * the caller's lease, so nodes compete for jobs without coordination and never share one.
+ */
+@Component
+@ConditionalOnProperty(prefix = "job.queue", name = "store", havingValue = "mongo")
+public class MongoJobQueue implements JobQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoJobQueue.class);
+
+    private static final Class<com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus> DOCUMENT =
+            com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus.class;
+
+    private final MongoTemplate mongoTemplate;
+    private final List<Runnable> enqueueListeners = new CopyOnWriteArrayList<>();
+
+    public MongoJobQueue(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public JobReservation enqueue(JobStatus job) {
+        if (job.getIdempotencyKey() == null) {
+            mongoTemplate.insert(MongoJobStatusMapper.toDocument(job));
+        } else {
+            // Inserts only if the key is unused, otherwise returns the job that holds it.
+            // The server retries an upsert that collides on the unique key index itself.
+            Query byKey = Query.query(Criteria.where(Fields.JOB_NAME).is(job.getJobName())
+                    .and(Fields.IDEMPOTENCY_KEY).is(job.getIdempotencyKey()));
+            var stored = mongoTemplate.findAndModify(byKey, MongoJobStatusMapper.toInsertOnly(job),
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), DOCUMENT);
+            if (stored != null && !job.getUuid().toString().equals(stored.getUuid())) {
+                if (!releaseExpiredKey(stored)) {
+                    return JobReservation.existing(UUID.fromString(stored.getUuid()));
+                }
+                // The key's window had ended before compaction got to it: take the key over
+                return enqueue(job);
+            }
+        }
+        enqueueListeners.forEach(Runnable::run);
+        return JobReservation.created(job.getUuid());
+    }
+
+    @Override
+    public List<JobStatus> claim(String owner, int limit, Collection<String> excludedServices, Duration leaseDuration) {
+        Criteria queued = Criteria.where(Fields.STATUS).is(JobExecutionStatus.STARTED)
+                .and(Fields.JOB_NAME).ne(null);
+        if (!excludedServices.isEmpty()) {
+            queued = queued.and(Fields.SERVICE_NAME).nin(excludedServices);
+        }
+        Query oldestQueued = Query.query(queued).with(Sort.by(Sort.Direction.ASC, Fields.START_DATE));
+        Update lease = new Update()
+                .set(Fields.STATUS, JobExecutionStatus.IN_PROGRESS)
+                .set(Fields.LEASE_OWNER, owner)
+                .set(Fields.LEASE_EXPIRES_AT, LocalDateTime.now().plus(leaseDuration))
+                .set(Fields.UPDATED_AT, LocalDateTime.now());
+        FindAndModifyOptions returnNew = FindAndModifyOptions.options().returnNew(true);
+
+        List<JobStatus> claimed = new ArrayList<>(limit);
+        while (claimed.size() < limit) {
+            com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus document =
+                    mongoTemplate.findAndModify(oldestQueued, lease, returnNew, DOCUMENT);
+            if (document == null) {
+                break; // Queue drained
+            }
+            claimed.add(MongoJobStatusMapper.toEntity(document));
+        }
+        if (!claimed.isEmpty()) {
+            logger.debug("Claimed {} queued jobs for {}", claimed.size(), owner);
+        }
+        return claimed;
+    }
+
+    @Override
+    public Set<UUID> renewLeases(String owner, Collection<UUID> uuids, Duration leaseDuration) {
+        if (uuids.isEmpty()) {
+            return Set.of();
+        }
+        Criteria held = Criteria.where(Fields.UUID).in(toStrings(uuids))
+                .and(Fields.LEASE_OWNER).is(owner)
+                .and(Fields.STATUS).is(JobExecutionStatus.IN_PROGRESS);
+        mongoTemplate.updateMulti(Query.query(held),
+                Update.update(Fields.LEASE_EXPIRES_AT, LocalDateTime.now().plus(leaseDuration)), DOCUMENT);
+
+        Query stillHeld = Query.query(held);
+        stillHeld.fields().include(Fields.UUID);
+        Set<String> heldUuids = mongoTemplate.find(stillHeld, DOCUMENT).stream()
+                .map(com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus::getUuid)
+                .collect(Collectors.toSet());
+        Set<UUID> lost = new HashSet<>();
+        for (UUID uuid : uuids) {
+            if (!heldUuids.contains(uuid.toString())) {
+                lost.add(uuid);
+            }
+        }
+        return lost;
+    }
+
+    @Override
+    public void release(String owner, UUID uuid) {
+        Query held = Query.query(Criteria.where(Fields.UUID).is(uuid.toString())
+                .and(Fields.LEASE_OWNER).is(owner)
+                .and(Fields.STATUS).is(JobExecutionStatus.IN_PROGRESS));
+        mongoTemplate.updateFirst(held, requeue(), DOCUMENT);
+    }
+
+    @Override
+    public int recoverExpiredLeases() {
+        LocalDateTime now = LocalDateTime.now();
+        Query unleased = Query.query(Criteria.where(Fields.STATUS).is(JobExecutionStatus.IN_PROGRESS)
+                .and(Fields.LEASE_EXPIRES_AT).is(null));
+        Update fail = new Update()
+                .set(Fields.STATUS, JobExecutionStatus.FAILED)
+                .set(Fields.RESPONSE, UNLEASED_CLAIM_FAILURE)
+                .set(Fields.END_DATE, now)
+                .set(Fields.UPDATED_AT, now);
+        long failed = mongoTemplate.updateMulti(unleased, fail, DOCUMENT).getModifiedCount();
+        if (failed > 0) {
+            logger.warn("Failed {} running jobs that predate the job queue", failed);
+        }
+
+        Query expired = Query.query(Criteria.where(Fields.STATUS).is(JobExecutionStatus.IN_PROGRESS)
+                .and(Fields.LEASE_EXPIRES_AT).lt(now));
+        return (int) mongoTemplate.updateMulti(expired, requeue(), DOCUMENT).getModifiedCount();
+    }
+
+    @Override
+    public void addEnqueueListener(Runnable listener) {
+        enqueueListeners.add(listener);
+    }
+
+    /**
+     * Clears the idempotency key of a job whose window has ended.
+     * Another request may release the same key concurrently, which is fine.
+     *
+     * @return true if the key has expired and is now free
+     */
+    private boolean releaseExpiredKey(com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus stored) {
+        LocalDateTime now = LocalDateTime.now();
+        if (stored.getIdempotencyExpiresAt() == null || now.isBefore(stored.getIdempotencyExpiresAt())) {
+            return false;
+        }
+        Query expired = Query.query(Criteria.where(Fields.UUID).is(stored.getUuid())
+                .and(Fields.IDEMPOTENCY_EXPIRES_AT).lte(now));
+        Update clear = new Update().unset(Fields.IDEMPOTENCY_KEY).unset(Fields.IDEMPOTENCY_EXPIRES_AT);
+        mongoTemplate.updateFirst(expired, clear, DOCUMENT);
+        return true;
+    }
+
+    private static Update requeue() {
+        return new Update()
+                .set(Fields.STATUS, JobExecutionStatus.STARTED)
+                .unset(Fields.LEASE_OWNER)
+                .unset(Fields.LEASE_EXPIRES_AT)
+                .set(Fields.UPDATED_AT, LocalDateTime.now());
+    }
+
+    private static List<String> toStrings(Collection<UUID> uuids) {
+        return uuids.stream().map(UUID::toString).toList();
+    }
+}
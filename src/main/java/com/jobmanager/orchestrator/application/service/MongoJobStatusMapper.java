@@ -0,0 +1,116 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus.Fields;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Converts between the job status entity and its MongoDB document in {@code job_statuses}.
+ */
+final class MongoJobStatusMapper {
+
+    private MongoJobStatusMapper() {
+    }
+
+    static com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus toDocument(JobStatus job) {
+        com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus document =
+                new com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus(
+                        job.getUuid().toString(), job.getStatus(), job.getResponse(),
+                        job.getStartDate(), job.getEndDate(), job.getHttpStatus());
+        document.setResponseData(job.getResponseData());
+        document.setResponseRef(job.getResponseRef());
+        document.setResponseSize(job.getResponseSize());
+        document.setIdempotencyKey(job.getIdempotencyKey());
+        document.setIdempotencyExpiresAt(job.getIdempotencyExpiresAt());
+        document.setJobName(job.getJobName());
+        document.setServiceName(job.getServiceName());
+        document.setRequestMethod(job.getRequestMethod());
+        document.setRequestHeaders(job.getRequestHeaders());
+        document.setRequestQueryParams(job.getRequestQueryParams());
+        document.setRequestBody(job.getRequestBody());
+        document.setRequestBodyBytes(job.getRequestBodyBytes());
+        document.setRequestBodyFile(job.getRequestBodyFile());
+        document.setLeaseOwner(job.getLeaseOwner());
+        document.setLeaseExpiresAt(job.getLeaseExpiresAt());
+        return document;
+    }
+
+    static JobStatus toEntity(com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus document) {
+        JobStatus job = new JobStatus(UUID.fromString(document.getUuid()), document.getStatus());
+        job.setResponse(document.getResponse());
+        job.setResponseData(document.getResponseData());
+        job.setResponseRef(document.getResponseRef());
+        job.setResponseSize(document.getResponseSize());
+        job.setHttpStatus(document.getHttpCode());
+        job.setStartDate(document.getStartDate());
+        job.setEndDate(document.getEndDate());
+        job.setIdempotencyKey(document.getIdempotencyKey());
+        job.setIdempotencyExpiresAt(document.getIdempotencyExpiresAt());
+        job.setJobName(document.getJobName());
+        job.setServiceName(document.getServiceName());
+        job.setRequestMethod(document.getRequestMethod());
+        job.setRequestHeaders(document.getRequestHeaders());
+        job.setRequestQueryParams(document.getRequestQueryParams());
+        job.setRequestBody(document.getRequestBody());
+        job.setRequestBodyBytes(document.getRequestBodyBytes());
+        job.setRequestBodyFile(document.getRequestBodyFile());
+        job.setLeaseOwner(document.getLeaseOwner());
+        job.setLeaseExpiresAt(document.getLeaseExpiresAt());
+        return job;
+    }
+
+    /**
+     * Builds an upsert that writes the whole job only if the document does not exist yet,
+     * and leaves an existing document untouched.
+     */
+    static Update toInsertOnly(JobStatus job) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Update()
+                .setOnInsert(Fields.UUID, job.getUuid().toString())
+                .setOnInsert(Fields.STATUS, job.getStatus())
+                .setOnInsert(Fields.IDEMPOTENCY_EXPIRES_AT, job.getIdempotencyExpiresAt())
+                .setOnInsert(Fields.START_DATE, job.getStartDate())
+                .setOnInsert(Fields.SERVICE_NAME, job.getServiceName())
+                .setOnInsert(Fields.REQUEST_METHOD, job.getRequestMethod())
+                .setOnInsert(Fields.REQUEST_HEADERS, job.getRequestHeaders())
+                .setOnInsert(Fields.REQUEST_QUERY_PARAMS, job.getRequestQueryParams())
+                .setOnInsert(Fields.REQUEST_BODY, job.getRequestBody())
+                .setOnInsert(Fields.REQUEST_BODY_BYTES, job.getRequestBodyBytes())
+                .setOnInsert(Fields.REQUEST_BODY_FILE, job.getRequestBodyFile())
+                .setOnInsert(Fields.CREATED_AT, now)
+                .setOnInsert(Fields.UPDATED_AT, now);
+    }
+
+    /**
+     * Builds an upsert that writes every field of the job, keeping the document id and creation time.
+     */
+    static Update toUpsert(JobStatus job) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Update()
+                .set(Fields.STATUS, job.getStatus())
+                .set(Fields.RESPONSE, job.getResponse())
+                .set(Fields.RESPONSE_DATA, job.getResponseData())
+                .set(Fields.RESPONSE_REF, job.getResponseRef())
+                .set(Fields.RESPONSE_SIZE, job.getResponseSize())
+                .set(Fields.HTTP_CODE, job.getHttpStatus())
+                .set(Fields.START_DATE, job.getStartDate())
+                .set(Fields.END_DATE, job.getEndDate())
+                .set(Fields.IDEMPOTENCY_KEY, job.getIdempotencyKey())
+                .set(Fields.IDEMPOTENCY_EXPIRES_AT, job.getIdempotencyExpiresAt())
+                .set(Fields.JOB_NAME, job.getJobName())
+                .set(Fields.SERVICE_NAME, job.getServiceName())
+                .set(Fields.REQUEST_METHOD, job.getRequestMethod())
+                .set(Fields.REQUEST_HEADERS, job.getRequestHeaders())
+                .set(Fields.REQUEST_QUERY_PARAMS, job.getRequestQueryParams())
+                .set(Fields.REQUEST_BODY, job.getRequestBody())
+                .set(Fields.REQUEST_BODY_BYTES, job.getRequestBodyBytes())
+                .set(Fields.REQUEST_BODY_FILE, job.getRequestBodyFile())
+                .set(Fields.LEASE_OWNER, job.getLeaseOwner())
+                .set(Fields.LEASE_EXPIRES_AT, job.getLeaseExpiresAt())
+                .set(Fields.UPDATED_AT, now)
+                .setOnInsert(Fields.CREATED_AT, now);
+    }
+}
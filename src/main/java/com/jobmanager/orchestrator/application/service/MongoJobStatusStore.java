@@ -0,0 +1,160 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus.Fields;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * {@link JobStatusStore} on the MongoDB {@code job_statuses} collection, shared by all nodes.
+ */
+@Component
+@ConditionalOnProperty(prefix = "job.queue", name = "store", havingValue = "mongo")
+public class MongoJobStatusStore implements JobStatusStore {
+
+    private static final Class<com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus> DOCUMENT =
+            com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus.class;
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoJobStatusStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<JobStatus> findByUuid(UUID uuid) {
+        return findOne(Criteria.where(Fields.UUID).is(uuid.toString()));
+    }
+
+    @Override
+    public List<JobStatus> findStatusesByUuids(Collection<UUID> uuids) {
+        if (uuids.isEmpty()) {
+            return List.of();
+        }
+        Query byUuids = Query.query(Criteria.where(Fields.UUID).in(uuids.stream().map(UUID::toString).toList()));
+        byUuids.fields().include(Fields.UUID, Fields.STATUS, Fields.RESPONSE, Fields.RESPONSE_DATA,
+                Fields.RESPONSE_REF, Fields.RESPONSE_SIZE, Fields.HTTP_CODE,
+                Fields.START_DATE, Fields.END_DATE, Fields.JOB_NAME, Fields.SERVICE_NAME);
+        return mongoTemplate.find(byUuids, DOCUMENT).stream()
+                .map(MongoJobStatusMapper::toEntity)
+                .toList();
+    }
+
+    @Override
+    public Optional<JobStatus> findStatusWithoutResponse(UUID uuid) {
+        Query byUuid = Query.query(Criteria.where(Fields.UUID).is(uuid.toString()));
+        byUuid.fields().include(Fields.UUID, Fields.STATUS, Fields.RESPONSE_SIZE, Fields.HTTP_CODE,
+                Fields.START_DATE, Fields.END_DATE, Fields.JOB_NAME, Fields.SERVICE_NAME);
+        return Optional.ofNullable(mongoTemplate.findOne(byUuid, DOCUMENT))
+                .map(MongoJobStatusMapper::toEntity);
+    }
+
+    @Override
+    public Optional<StoredResponse> findResponse(UUID uuid) {
+        Query byUuid = Query.query(Criteria.where(Fields.UUID).is(uuid.toString()));
+        byUuid.fields().include(Fields.RESPONSE, Fields.RESPONSE_DATA, Fields.RESPONSE_REF, Fields.RESPONSE_SIZE);
+        return Optional.ofNullable(mongoTemplate.findOne(byUuid, DOCUMENT))
+                .map(document -> StoredResponse.of(document.getResponse(), document.getResponseData(),
+                        document.getResponseRef(), document.getResponseSize()));
+    }
+
+    @Override
+    public Optional<JobStatus> findByJobNameAndIdempotencyKey(String jobName, String idempotencyKey) {
+        return findOne(Criteria.where(Fields.JOB_NAME).is(jobName).and(Fields.IDEMPOTENCY_KEY).is(idempotencyKey));
+    }
+
+    @Override
+    public JobStatus save(JobStatus jobStatus) {
+        Query byUuid = Query.query(Criteria.where(Fields.UUID).is(jobStatus.getUuid().toString()));
+        mongoTemplate.upsert(byUuid, MongoJobStatusMapper.toUpsert(jobStatus), DOCUMENT);
+        return jobStatus;
+    }
+
+    @Override
+    public int completeAll(Collection<JobCompletion> completions) {
+        if (completions.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DOCUMENT);
+        for (JobCompletion completion : completions) {
+            Query notCancelled = Query.query(Criteria.where(Fields.UUID).is(completion.getUuid().toString())
+                    .and(Fields.STATUS).ne(JobExecutionStatus.CANCELLED));
+            bulk.updateOne(notCancelled, new Update()
+                    .set(Fields.STATUS, completion.getStatus())
+                    .set(Fields.RESPONSE, completion.getResponse().getText())
+                    .set(Fields.RESPONSE_DATA, completion.getResponse().getData())
+                    .set(Fields.RESPONSE_REF, completion.getResponse().getRef())
+                    .set(Fields.RESPONSE_SIZE, completion.getResponse().getSize())
+                    .set(Fields.HTTP_CODE, completion.getHttpStatus())
+                    .set(Fields.END_DATE, completion.getEndDate())
+                    .set(Fields.UPDATED_AT, now));
+        }
+        return bulk.execute().getModifiedCount();
+    }
+
+    @Override
+    public Optional<JobExecutionStatus> cancel(JobCompletion cancellation) {
+        Query active = Query.query(Criteria.where(Fields.UUID).is(cancellation.getUuid().toString())
+                .and(Fields.STATUS).in(JobExecutionStatus.STARTED, JobExecutionStatus.IN_PROGRESS));
+        Update cancel = new Update()
+                .set(Fields.STATUS, JobExecutionStatus.CANCELLED)
+                .set(Fields.RESPONSE, cancellation.getResponse().getText())
+                .unset(Fields.RESPONSE_DATA)
+                .unset(Fields.RESPONSE_REF)
+                .unset(Fields.RESPONSE_SIZE)
+                .unset(Fields.HTTP_CODE)
+                .set(Fields.END_DATE, cancellation.getEndDate())
+                .unset(Fields.LEASE_OWNER)
+                .unset(Fields.LEASE_EXPIRES_AT)
+                .set(Fields.UPDATED_AT, LocalDateTime.now());
+        // Returns the job as it was before the update, so the caller learns whether a node held it
+        return Optional.ofNullable(mongoTemplate.findAndModify(active, cancel, DOCUMENT))
+                .map(com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus::getStatus);
+    }
+
+    @Override
+    public int clearExpiredIdempotencyKeys(LocalDateTime now, int batchSize) {
+        Query expired = Query.query(Criteria.where(Fields.IDEMPOTENCY_EXPIRES_AT).lte(now)).limit(batchSize);
+        expired.fields().include("_id");
+        List<Object> ids = mongoTemplate.find(expired, Document.class, mongoTemplate.getCollectionName(DOCUMENT))
+                .stream()
+                .map(document -> document.get("_id"))
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Query stillExpired = Query.query(Criteria.where("_id").in(ids).and(Fields.IDEMPOTENCY_EXPIRES_AT).lte(now));
+        Update clear = new Update().unset(Fields.IDEMPOTENCY_KEY).unset(Fields.IDEMPOTENCY_EXPIRES_AT);
+        return (int) mongoTemplate.updateMulti(stillExpired, clear, DOCUMENT).getModifiedCount();
+    }
+
+    @Override
+    public Set<String> findReferencedResponses(Collection<String> refs) {
+        if (refs.isEmpty()) {
+            return Set.of();
+        }
+        Query referenced = Query.query(Criteria.where(Fields.RESPONSE_REF).in(refs));
+        return new HashSet<>(mongoTemplate.findDistinct(referenced, Fields.RESPONSE_REF, DOCUMENT, String.class));
+    }
+
+    private Optional<JobStatus> findOne(Criteria criteria) {
+        return Optional.ofNullable(mongoTemplate.findOne(Query.query(criteria), DOCUMENT))
+                .map(MongoJobStatusMapper::toEntity);
+    }
+}
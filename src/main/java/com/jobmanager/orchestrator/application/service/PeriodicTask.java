@@ -0,0 +1,118 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Background thread that runs one step of work, then waits for the interval or a
+ * {@link #wakeUp}, until it is stopped. Shared by the lifecycle components that work in the
+ * background, so they all start, fail and stop the same way.
+ *
+ * A step returns true when more work is waiting, and then runs again without waiting. A step
+ * that fails is logged and retried after the interval. Stopping waits at most
+ * {@link #STOP_TIMEOUT} for the current step to finish, then interrupts it.
+ */
+final class PeriodicTask {
+
+    // Long enough for a step to finish its current batch, short enough not to hold up shutdown
+    static final Duration STOP_TIMEOUT = Duration.ofSeconds(5);
+
+    private final String name;
+    private final LongSupplier intervalMillis;
+    private final BooleanSupplier step;
+    private final Logger logger;
+    private final String failureMessage;
+
+    private final Object signal = new Object();
+    private boolean wakeUpRequested; // Guarded by signal
+
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * @param name the thread name
+     * @param intervalMillis the wait after a step that left no work waiting, read before every wait
+     * @param step one step of work; returns true when more work is waiting
+     * @param logger the owning component's logger
+     * @param failureMessage logged with the exception of a failed step
+     */
+    PeriodicTask(String name, LongSupplier intervalMillis, BooleanSupplier step, Logger logger, String failureMessage) {
+        this.name = name;
+        this.intervalMillis = intervalMillis;
+        this.step = step;
+        this.logger = logger;
+        this.failureMessage = failureMessage;
+    }
+
+    void start() {
+        running = true;
+        thread = Thread.ofPlatform().name(name).daemon().start(this::loop);
+    }
+
+    /**
+     * Stops the thread, waiting at most {@link #STOP_TIMEOUT} for the current step.
+     */
+    void stop() {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        wakeUp();
+        try {
+            thread.join(STOP_TIMEOUT.toMillis());
+            if (thread.isAlive()) {
+                logger.warn("{} did not stop within {}ms, interrupting it", name, STOP_TIMEOUT.toMillis());
+                thread.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Ends the current wait, so the next step runs without waiting for the interval.
+     */
+    void wakeUp() {
+        synchronized (signal) {
+            wakeUpRequested = true;
+            signal.notifyAll();
+        }
+    }
+
+    private void loop() {
+        while (running) {
+            boolean moreWork = false;
+            try {
+                moreWork = step.getAsBoolean();
+            } catch (RuntimeException e) {
+                if (running) {
+                    logger.error(failureMessage, e);
+                }
+            }
+            if (!moreWork) {
+                awaitWakeUp();
+            }
+        }
+    }
+
+    private void awaitWakeUp() {
+        synchronized (signal) {
+            try {
+                if (!wakeUpRequested && running) {
+                    signal.wait(intervalMillis.getAsLong());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            wakeUpRequested = false;
+        }
+    }
+}
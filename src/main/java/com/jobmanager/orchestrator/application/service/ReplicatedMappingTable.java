@@ -0,0 +1,198 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobRestMapping;
+import com.jobmanager.orchestrator.persistence.mongodb.document.JobMapping;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Node-local copy of every job mapping, kept in sync by the {@link JobMappingReplicator}.
+ *
+ * Mappings are compiled into {@link Route}s as they arrive and published as an immutable
+ * {@link RoutingTable} snapshot, swapped in atomically after each change (or batch of changes).
+ * Lookups read the current snapshot without locking and never touch the database.
+ * Mappings from {@code job_rest_mapping} take precedence over mappings created through the
+ * {@code /job-mappings} API ({@code job_mappings}) for the same job name.
+ */
+@Component
+public class ReplicatedMappingTable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicatedMappingTable.class);
+
+    /**
+     * Collections the table is built from.
+     */
+    public enum Source {
+        REST_MAPPINGS,
+        API_MAPPINGS
+    }
+
+    // Writer-side state, guarded by this
+    private final Map<Source, Partition> partitions = new EnumMap<>(Source.class);
+    private int batchDepth;
+
+    private volatile RoutingTable snapshot = RoutingTable.empty();
+    private volatile boolean ready;
+
+    public ReplicatedMappingTable() {
+        for (Source source : Source.values()) {
+            partitions.put(source, new Partition());
+        }
+    }
+
+    /**
+     * Looks a job's route up in the current snapshot.
+     *
+     * @param jobName the job name
+     * @return the route, or empty if the table has none (or is not loaded yet)
+     */
+    public Optional<Route> find(String jobName) {
+        return snapshot.find(jobName);
+    }
+
+    public RoutingTable snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Inserts or replaces one document's mapping.
+     * A mapping that cannot be compiled into a route is dropped from the table.
+     *
+     * @param source the collection the document belongs to
+     * @param id the document id
+     * @param mapping the mapping as currently stored
+     * @return the job names whose route changed
+     */
+    public synchronized Set<String> put(Source source, String id, JobRestMapping mapping) {
+        Route route;
+        try {
+            route = Route.compile(mapping);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Ignoring job mapping {}: {}", id, e.getMessage());
+            Set<String> changed = new HashSet<>();
+            remove(source, id).ifPresent(changed::add);
+            return changed;
+        }
+        Set<String> changed = partitions.get(source).put(id, route);
+        publish();
+        return changed;
+    }
+
+    /**
+     * Removes one document's mapping.
+     *
+     * @param source the collection the document belonged to
+     * @param id the deleted document id
+     * @return the job name whose route was removed, if the document was known
+     */
+    public synchronized Optional<String> remove(Source source, String id) {
+        Optional<String> removed = partitions.get(source).remove(id);
+        if (removed.isPresent()) {
+            publish();
+        }
+        return removed;
+    }
+
+    /**
+     * Applies several changes and publishes a single snapshot at the end.
+     *
+     * @param changes the changes, made through {@link #put} and {@link #remove}
+     */
+    public synchronized void batch(Runnable changes) {
+        batchDepth++;
+        try {
+            changes.run();
+        } finally {
+            batchDepth--;
+            publish();
+        }
+    }
+
+    /**
+     * Returns the ids of all documents of a collection held in the table.
+     */
+    public synchronized Set<String> ids(Source source) {
+        return Set.copyOf(partitions.get(source).jobNameById.keySet());
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    /**
+     * Returns whether the initial load finished, so a miss means the job really has no mapping.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    /**
+     * Converts a {@code /job-mappings} document to the mapping type used for routing.
+     *
+     * @param document the stored document
+     * @return the equivalent mapping
+     */
+    public static JobRestMapping toMapping(JobMapping document) {
+        JobRestMapping mapping = new JobRestMapping(document.getJobName(), document.getServiceName(),
+                document.getUrl(), document.getPort(), null);
+        mapping.setId(document.getId());
+        mapping.setMaxConcurrency(document.getMaxConcurrency());
+        mapping.setQueueCapacity(document.getQueueCapacity());
+        mapping.setReadTimeout(document.getReadTimeout());
+        mapping.setIdempotencyWindow(document.getIdempotencyWindow());
+        return mapping;
+    }
+
+    private void publish() {
+        if (batchDepth > 0) {
+            return;
+        }
+        Map<String, Route> routes = new HashMap<>(partitions.get(Source.API_MAPPINGS).byJobName);
+        routes.putAll(partitions.get(Source.REST_MAPPINGS).byJobName);
+        snapshot = RoutingTable.of(routes);
+    }
+
+    private static final class Partition {
+        private final Map<String, Route> byJobName = new HashMap<>();
+        private final Map<String, String> jobNameById = new HashMap<>();
+
+        private Set<String> put(String id, Route route) {
+            String jobName = route.getJobName();
+            String previousJobName = jobNameById.put(id, jobName);
+            byJobName.put(jobName, route);
+            if (previousJobName != null && !previousJobName.equals(jobName)) {
+                removeIfOwnedBy(previousJobName, id);
+                return Set.of(previousJobName, jobName);
+            }
+            return Set.of(jobName);
+        }
+
+        private Optional<String> remove(String id) {
+            String jobName = jobNameById.remove(id);
+            if (jobName != null) {
+                removeIfOwnedBy(jobName, id);
+            }
+            return Optional.ofNullable(jobName);
+        }
+
+        // Another document may have taken the job name over since; leave its route alone
+        private void removeIfOwnedBy(String jobName, String id) {
+            Route route = byJobName.get(jobName);
+            if (route != null && id.equals(route.getMappingId())) {
+                byJobName.remove(jobName);
+            }
+        }
+    }
+}
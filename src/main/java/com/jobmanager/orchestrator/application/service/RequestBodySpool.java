@@ -0,0 +1,128 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.exception.RequestBodySpoolException;
+import com.jobmanager.orchestrator.domain.exception.RequestBodyTooLargeException;
+import com.jobmanager.orchestrator.domain.exception.RequestBodyUnreadableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads job request bodies without holding large ones in memory.
+ *
+ * Bodies are kept as raw bytes of any content type and never decoded, so binary payloads such as
+ * protobuf or multipart pass through unchanged. A body of up to {@code job.request-body.inline-limit}
+ * bytes is returned as a byte array and stored with the job. A larger body is copied in
+ * {@code job.request-body.buffer-size} chunks to a file in {@code job.request-body.spool-dir}, and
+ * only the file's path is stored with the job; the forwarder streams the file to the target service.
+ * A request never holds more than one chunk of a spooled body. The file is deleted once the job
+ * reaches a final state. The job may be claimed by another node, which must be able to open the
+ * same path, so with a shared queue every node mounts the same spool directory.
+ */
+@Component
+public class RequestBodySpool {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestBodySpool.class);
+
+    private final RequestBodySpoolProperties properties;
+
+    public RequestBodySpool(RequestBodySpoolProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Reads a request body.
+     *
+     * @param body the request body
+     * @return null for an empty body, the body's bytes if it is small enough to store with the
+     *         job, or else the {@link Path} of the file it was spooled to
+     * @throws RequestBodyTooLargeException if the body exceeds {@code job.request-body.max-size}
+     * @throws RequestBodyUnreadableException if the body cannot be read from the client
+     * @throws RequestBodySpoolException if the body cannot be written to the spool directory
+     */
+    public Object read(InputStream body) {
+        byte[] head;
+        try {
+            head = body.readNBytes(properties.getInlineLimit() + 1);
+        } catch (IOException e) {
+            throw unreadable(e);
+        }
+        if (head.length <= properties.getInlineLimit()) {
+            return head.length == 0 ? null : head;
+        }
+        return spool(head, body);
+    }
+
+    /**
+     * Deletes a spooled body, if it still exists.
+     *
+     * @param file the path of the spooled body
+     */
+    public void delete(String file) {
+        try {
+            if (Files.deleteIfExists(Path.of(file))) {
+                logger.debug("Deleted spooled request body {}", file);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not delete spooled request body {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Path spool(byte[] head, InputStream rest) {
+        Path directory = spoolDirectory();
+        Path file;
+        try {
+            Files.createDirectories(directory);
+            file = Files.createTempFile(directory, "body-", ".bin");
+        } catch (IOException e) {
+            throw new RequestBodySpoolException("Could not create a spool file in " + directory, e);
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            out.write(head);
+            long size = head.length;
+            byte[] buffer = new byte[properties.getBufferSize()];
+            int read;
+            while ((read = readChunk(rest, buffer)) != -1) {
+                size += read;
+                if (size > properties.getMaxSize()) {
+                    throw new RequestBodyTooLargeException(
+                            "Request body exceeds the maximum size of " + properties.getMaxSize() + " bytes");
+                }
+                out.write(buffer, 0, read);
+            }
+            logger.debug("Spooled {} byte request body to {}", size, file);
+            return file;
+        } catch (IOException e) {
+            delete(file.toString());
+            throw new RequestBodySpoolException("Could not write spool file " + file, e);
+        } catch (RuntimeException e) {
+            delete(file.toString());
+            throw e;
+        }
+    }
+
+    private static int readChunk(InputStream body, byte[] buffer) {
+        try {
+            return body.read(buffer);
+        } catch (IOException e) {
+            throw unreadable(e);
+        }
+    }
+
+    private static RequestBodyUnreadableException unreadable(IOException e) {
+        return new RequestBodyUnreadableException("Request body could not be read: " + e.getMessage(), e);
+    }
+
+    private Path spoolDirectory() {
+        String spoolDir = properties.getSpoolDir();
+        return spoolDir == null || spoolDir.isBlank()
+                ? Path.of(System.getProperty("java.io.tmpdir"), "job-request-bodies")
+                : Path.of(spoolDir);
+    }
+}
@@ -0,0 +1,55 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for spooling job request bodies.
+ * Sizes are in bytes.
+ */
+@Component
+@ConfigurationProperties(prefix = "job.request-body")
+public class RequestBodySpoolProperties {
+
+    // Bodies up to this size are stored with the job; larger ones are spooled to a file
+    private int inlineLimit = 256 * 1024;
+    // Larger bodies are rejected with 413
+    private long maxSize = 1024L * 1024 * 1024;
+    // Must be shared by all nodes that run jobs, so required with job.queue.store=mongo;
+    // defaults to a directory under java.io.tmpdir
+    private String spoolDir = "";
+    // Chunk size when copying a body to or from its file
+    private int bufferSize = 64 * 1024;
+
+    public int getInlineLimit() {
+        return inlineLimit;
+    }
+
+    public void setInlineLimit(int inlineLimit) {
+        this.inlineLimit = inlineLimit;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public String getSpoolDir() {
+        return spoolDir;
+    }
+
+    public void setSpoolDir(String spoolDir) {
+        this.spoolDir = spoolDir;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+}
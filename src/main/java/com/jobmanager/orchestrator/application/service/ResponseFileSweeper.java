@@ -0,0 +1,106 @@
+package com.jobmanager.orchestrator.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Deletes response files no job refers to any more, such as the responses of deleted jobs or
+ * of jobs cancelled while their response was being stored. Files are shared by identical
+ * responses, so a file is only deleted once no job holds its reference.
+ *
+ * A background thread sweeps the response directory every {@code job.response-store.sweep-interval}
+ * and checks the files in batches of {@code job.response-store.sweep-batch-size} against the job
+ * store. Files modified within {@code job.response-store.sweep-grace-period} are kept, since their
+ * job may not have been written yet; storing the same body again refreshes a file's modification
+ * time. Several nodes may sweep the shared directory at the same time.
+ * Publishes {@code job.response-store.files.deleted}.
+ */
+@Component
+public class ResponseFileSweeper implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseFileSweeper.class);
+
+    private final ResponseStore responseStore;
+    private final JobStatusStore jobStatusStore;
+    private final ResponseStoreProperties properties;
+    private final Counter deletedFiles;
+
+    private final PeriodicTask sweeperTask;
+
+    public ResponseFileSweeper(ResponseStore responseStore,
+                               JobStatusStore jobStatusStore,
+                               ResponseStoreProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.responseStore = responseStore;
+        this.jobStatusStore = jobStatusStore;
+        this.properties = properties;
+        this.deletedFiles = Counter.builder("job.response-store.files.deleted")
+                .description("Response files deleted after no job referred to them")
+                .register(meterRegistry);
+        this.sweeperTask = new PeriodicTask("response-file-sweeper", properties::getSweepInterval,
+                this::sweepStep, logger, "Response file sweep failed");
+    }
+
+    @Override
+    public void start() {
+        sweeperTask.start();
+        logger.info("Started response file sweeping: interval={}ms, gracePeriod={}ms",
+                properties.getSweepInterval(), properties.getSweepGracePeriod());
+    }
+
+    @Override
+    public void stop() {
+        sweeperTask.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return sweeperTask.isRunning();
+    }
+
+    /**
+     * Deletes the files past their grace period that no job refers to, one batch at a time.
+     *
+     * @return the number of files deleted
+     */
+    int sweep() {
+        Instant cutoff = Instant.now().minusMillis(properties.getSweepGracePeriod());
+        try {
+            List<String> refs = responseStore.findFilesModifiedBefore(cutoff);
+            int batchSize = properties.getSweepBatchSize();
+            int total = 0;
+            for (int from = 0; from < refs.size() && !Thread.currentThread().isInterrupted(); from += batchSize) {
+                List<String> batch = refs.subList(from, Math.min(from + batchSize, refs.size()));
+                Set<String> referenced = jobStatusStore.findReferencedResponses(batch);
+                for (String ref : batch) {
+                    // A file stored again since the cutoff is skipped here
+                    if (!referenced.contains(ref) && responseStore.deleteFileModifiedBefore(ref, cutoff)) {
+                        total++;
+                        deletedFiles.increment();
+                    }
+                }
+            }
+            if (total > 0) {
+                logger.info("Deleted {} unreferenced response files", total);
+            }
+            return total;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not sweep response files", e);
+        }
+    }
+
+    private boolean sweepStep() {
+        sweep();
+        return false;
+    }
+}
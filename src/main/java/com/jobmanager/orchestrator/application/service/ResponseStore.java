@@ -0,0 +1,372 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Stores downstream responses in size tiers, without holding large ones in memory.
+ *
+ * A response is captured buffer by buffer as it arrives. Up to {@code job.response-store.inline-limit}
+ * bytes it is stored as text with the job if it is valid UTF-8; a small body that is not, and any body
+ * up to {@code job.response-store.spill-threshold} bytes, is Deflate-compressed and stored with the job;
+ * a larger one is compressed into a file as it arrives and only a reference is stored with the job.
+ * Every tier therefore gives back the exact bytes received. Files are content-addressed by the SHA-256
+ * of the body, so identical responses are stored once. Only responses below the spill threshold are
+ * ever held whole; a file is written as its buffers arrive. The stored reference is read back by
+ * whichever node serves the status request, so nodes sharing a queue must see the same directory.
+ *
+ * Files no job refers to any more are deleted by {@link ResponseFileSweeper}. Storing a body that
+ * already has a file refreshes the file's modification time, so the sweeper's grace period protects
+ * it until the job referring to it is written.
+ *
+ * The compression level is chosen by size: responses up to
+ * {@code job.response-store.fast-compression-threshold} bytes get the default level, which compresses
+ * repetitive JSON several times over; larger ones get the fastest level, so capturing them keeps up
+ * with the network. Bodies are only decompressed when they are read.
+ */
+@Component
+public class ResponseStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseStore.class);
+
+    private static final String SHA_256 = "sha256:";
+    private static final Pattern REF = Pattern.compile("sha256:[0-9a-f]{64}");
+    private static final Pattern FILE_NAME = Pattern.compile("([0-9a-f]{64})(\\.deflate)?");
+    private static final String TEMP_PREFIX = "response-";
+    // Buffers read ahead of the capture thread
+    private static final int PREFETCH = 8;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ResponseStoreProperties properties;
+
+    public ResponseStore(ResponseStoreProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Stores a response body as it arrives. Buffers are released once written, and a partly
+     * written file is deleted if the body fails or the subscription is cancelled.
+     *
+     * @param body the response body
+     * @return the stored response; nothing is stored for an empty body
+     */
+    public Mono<StoredResponse> capture(Flux<DataBuffer> body) {
+        return Mono.defer(() -> {
+                    Capture capture = new Capture();
+                    // File writes block, so the body is stored off the network threads
+                    return body.publishOn(Schedulers.boundedElastic(), PREFETCH)
+                            .reduce(capture, Capture::write)
+                            .flatMap(captured -> Mono.fromCallable(captured::finish))
+                            .doOnError(error -> capture.discard())
+                            .doOnCancel(capture::discard);
+                })
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * Reads a stored response body as UTF-8 text. Use {@link #open} for the exact bytes.
+     *
+     * @param response the stored response
+     * @return the body, or null if there is none
+     * @throws UncheckedIOException if the body cannot be read
+     */
+    public String read(StoredResponse response) {
+        if (response.getData() == null && response.getRef() == null) {
+            return response.getText();
+        }
+        try (InputStream in = open(response)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Stored response is not readable: " + response.getRef(), e);
+        }
+    }
+
+    /**
+     * Opens a stored response body for reading.
+     *
+     * @param response the stored response
+     * @return the body's bytes; empty if there is none
+     * @throws IOException if the body cannot be opened
+     */
+    public InputStream open(StoredResponse response) throws IOException {
+        if (response.getData() != null) {
+            return new InflaterInputStream(new ByteArrayInputStream(response.getData()));
+        }
+        if (response.getRef() != null) {
+            Path compressed = compressedFile(response.getRef());
+            // Files stored before they were compressed keep their plain name
+            return Files.exists(compressed)
+                    ? new InflaterInputStream(new BufferedInputStream(Files.newInputStream(compressed), BUFFER_SIZE))
+                    : Files.newInputStream(file(response.getRef()));
+        }
+        String text = response.getText();
+        return new ByteArrayInputStream(text != null ? text.getBytes(StandardCharsets.UTF_8) : new byte[0]);
+    }
+
+    /**
+     * Lists the stored files last modified before the cutoff, and deletes partly written files
+     * left behind before it by a node that stopped mid-capture.
+     *
+     * @param cutoff files modified at or after this time are skipped
+     * @return the references of the files found
+     * @throws IOException if the directory cannot be read
+     */
+    List<String> findFilesModifiedBefore(Instant cutoff) throws IOException {
+        Path directory = directory();
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<String> refs = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                if (!Files.isRegularFile(path) || !isModifiedBefore(path, cutoff)) {
+                    continue;
+                }
+                String name = path.getFileName().toString();
+                Matcher matcher = FILE_NAME.matcher(name);
+                if (matcher.matches()) {
+                    refs.add(SHA_256 + matcher.group(1));
+                } else if (name.startsWith(TEMP_PREFIX) && name.endsWith(".tmp")) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+        return refs;
+    }
+
+    /**
+     * Deletes a stored file unless it was modified at or after the cutoff, which happens when
+     * the same body was stored again meanwhile.
+     *
+     * @param ref the file's reference
+     * @param cutoff the time the file was found unreferenced
+     * @return true if a file was deleted
+     * @throws IOException if the file cannot be deleted
+     */
+    boolean deleteFileModifiedBefore(String ref, Instant cutoff) throws IOException {
+        boolean deleted = false;
+        for (Path path : List.of(compressedFile(ref), file(ref))) {
+            if (Files.exists(path) && isModifiedBefore(path, cutoff)) {
+                deleted |= Files.deleteIfExists(path);
+            }
+        }
+        return deleted;
+    }
+
+    private static boolean isModifiedBefore(Path path, Instant cutoff) throws IOException {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Marks an existing file as just stored, so the sweeper leaves it alone.
+     *
+     * @return false if neither form of the file exists any more
+     */
+    private boolean touch(String ref) throws IOException {
+        FileTime now = FileTime.from(Instant.now());
+        for (Path path : List.of(compressedFile(ref), file(ref))) {
+            try {
+                Files.setLastModifiedTime(path, now);
+                return true;
+            } catch (NoSuchFileException e) {
+                // Try the other form
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Decodes a body that is valid UTF-8.
+     *
+     * @return the text, or null if the body is not valid UTF-8
+     */
+    private static String decodeText(byte[] body) {
+        try {
+            return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(body)).toString();
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+    }
+
+    private Path file(String ref) {
+        if (!REF.matcher(ref).matches()) {
+            throw new IllegalArgumentException("Invalid response reference: " + ref);
+        }
+        String hash = ref.substring(SHA_256.length());
+        return directory().resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path compressedFile(String ref) {
+        Path file = file(ref);
+        return file.resolveSibling(file.getFileName() + ".deflate");
+    }
+
+    private Path directory() {
+        String dir = properties.getDir();
+        return dir == null || dir.isBlank()
+                ? Path.of(System.getProperty("java.io.tmpdir"), "job-responses")
+                : Path.of(dir);
+    }
+
+    private int compressionLevel(long size) {
+        return size <= properties.getFastCompressionThreshold() ? Deflater.DEFAULT_COMPRESSION : Deflater.BEST_SPEED;
+    }
+
+    private byte[] deflate(byte[] body) throws IOException {
+        Deflater deflater = new Deflater(compressionLevel(body.length));
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(compressed, deflater)) {
+            out.write(body);
+        } finally {
+            deflater.end();
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * One response being captured. Calls may come from the capture thread and, on cancel,
+     * from the cancelling thread, so they are synchronized.
+     */
+    private final class Capture {
+
+        private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+        private long size;
+        private Path tempFile;
+        private Deflater deflater;
+        private OutputStream out;
+        private MessageDigest digest;
+        private boolean discarded;
+
+        synchronized Capture write(DataBuffer buffer) {
+            try {
+                if (discarded) {
+                    return this;
+                }
+                byte[] chunk = new byte[buffer.readableByteCount()];
+                buffer.read(chunk);
+                size += chunk.length;
+                if (tempFile == null && size > properties.getSpillThreshold()) {
+                    spill();
+                }
+                if (tempFile == null) {
+                    memory.write(chunk);
+                } else {
+                    digest.update(chunk);
+                    out.write(chunk);
+                }
+                return this;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not store response", e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        synchronized StoredResponse finish() throws IOException {
+            if (tempFile == null) {
+                if (size == 0) {
+                    return StoredResponse.inline(null);
+                }
+                byte[] body = memory.toByteArray();
+                // Text that is not valid UTF-8 would not survive a round trip through a String
+                String text = size <= properties.getInlineLimit() ? decodeText(body) : null;
+                return text != null
+                        ? StoredResponse.inline(text, size)
+                        : StoredResponse.compressed(deflate(body), size);
+            }
+            closeFile();
+            String ref = SHA_256 + HexFormat.of().formatHex(digest.digest());
+            Path target = compressedFile(ref);
+            Files.createDirectories(target.getParent());
+            if (touch(ref)) {
+                // Same content stored before
+                Files.delete(tempFile);
+            } else {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            tempFile = null;
+            logger.debug("Stored {} byte response as {}", size, ref);
+            return StoredResponse.file(ref, size);
+        }
+
+        synchronized void discard() {
+            discarded = true;
+            memory = null;
+            if (tempFile == null) {
+                return;
+            }
+            try {
+                closeFile();
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e) {
+                logger.warn("Could not delete partly stored response {}: {}", tempFile, e.getMessage());
+            }
+            tempFile = null;
+        }
+
+        private void spill() throws IOException {
+            Path directory = directory();
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, TEMP_PREFIX, ".tmp");
+            deflater = new Deflater(compressionLevel(size));
+            out = new DeflaterOutputStream(Files.newOutputStream(tempFile), deflater, BUFFER_SIZE);
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            byte[] head = memory.toByteArray();
+            digest.update(head);
+            out.write(head);
+            memory = null;
+        }
+
+        private void closeFile() throws IOException {
+            try {
+                if (out != null) {
+                    out.close();
+                }
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for storing downstream responses.
+ * Sizes are in bytes.
+ */
+@Component
+@ConfigurationProperties(prefix = "job.response-store")
+public class ResponseStoreProperties {
+
+    // Responses up to this size are stored as text with the job
+    private int inlineLimit = 16 * 1024;
+    // Larger ones are compressed and stored with the job up to this size, and written to a file above it
+    private int spillThreshold = 1024 * 1024;
+    // Larger responses are compressed with the fastest level instead of the default one
+    private int fastCompressionThreshold = 256 * 1024;
+    // Must be shared by all nodes that serve status reads, so required with job.queue.store=mongo;
+    // defaults to a directory under java.io.tmpdir
+    private String dir = "";
+    // How often files no job refers to are looked for, in milliseconds
+    private long sweepInterval = 60 * 60 * 1000L;
+    // Files modified more recently than this many milliseconds ago are kept even if unreferenced
+    private long sweepGracePeriod = 60 * 60 * 1000L;
+    // Files checked against the job store per query
+    private int sweepBatchSize = 1000;
+
+    public int getInlineLimit() {
+        return inlineLimit;
+    }
+
+    public void setInlineLimit(int inlineLimit) {
+        this.inlineLimit = inlineLimit;
+    }
+
+    public int getSpillThreshold() {
+        return spillThreshold;
+    }
+
+    public void setSpillThreshold(int spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    public int getFastCompressionThreshold() {
+        return fastCompressionThreshold;
+    }
+
+    public void setFastCompressionThreshold(int fastCompressionThreshold) {
+        this.fastCompressionThreshold = fastCompressionThreshold;
+    }
+
+    public String getDir() {
+        return dir;
+    }
+
+    public void setDir(String dir) {
+        this.dir = dir;
+    }
+
+    public long getSweepInterval() {
+        return sweepInterval;
+    }
+
+    public void setSweepInterval(long sweepInterval) {
+        this.sweepInterval = sweepInterval;
+    }
+
+    public long getSweepGracePeriod() {
+        return sweepGracePeriod;
+    }
+
+    public void setSweepGracePeriod(long sweepGracePeriod) {
+        this.sweepGracePeriod = sweepGracePeriod;
+    }
+
+    public int getSweepBatchSize() {
+        return sweepBatchSize;
+    }
+
+    public void setSweepBatchSize(int sweepBatchSize) {
+        this.sweepBatchSize = sweepBatchSize;
+    }
+}
@@ -0,0 +1,113 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobRestMapping;
+import org.springframework.http.HttpMethod;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * A job mapping compiled for dispatch: the endpoint is parsed into a {@link URI} and the
+ * client settings are resolved once, when the mapping changes, instead of on every job.
+ * Instances are immutable and shared by all jobs of the route.
+ */
+public final class Route {
+
+    private final String jobName;
+    private final String serviceName;
+    private final String bulkheadKey;
+    private final URI endpoint;
+    private final HttpMethod httpMethod;
+    private final Integer maxConcurrency;
+    private final Integer queueCapacity;
+    private final Duration readTimeout;
+    private final Duration idempotencyWindow;
+    private final String mappingId;
+
+    private Route(JobRestMapping mapping, URI endpoint) {
+        this.jobName = mapping.getJobName();
+        this.serviceName = mapping.getServiceName();
+        this.bulkheadKey = ServiceBulkheadRegistry.bulkheadKey(mapping);
+        this.endpoint = endpoint;
+        this.httpMethod = mapping.getHttpMethod() != null && !mapping.getHttpMethod().isBlank()
+                ? HttpMethod.valueOf(mapping.getHttpMethod().trim().toUpperCase()) : null;
+        this.maxConcurrency = mapping.getMaxConcurrency();
+        this.queueCapacity = mapping.getQueueCapacity();
+        this.readTimeout = mapping.getReadTimeout() != null ? Duration.ofMillis(mapping.getReadTimeout()) : null;
+        this.idempotencyWindow = mapping.getIdempotencyWindow() != null
+                ? Duration.ofMillis(mapping.getIdempotencyWindow()) : null;
+        this.mappingId = mapping.getId();
+    }
+
+    /**
+     * Compiles a mapping into a route.
+     *
+     * @param mapping the job mapping
+     * @return the route
+     * @throws IllegalArgumentException if the mapping has no valid endpoint
+     */
+    public static Route compile(JobRestMapping mapping) {
+        String endpointUrl = mapping.getFullEndpointUrl();
+        if (endpointUrl == null) {
+            throw new IllegalArgumentException("Mapping for job " + mapping.getJobName() + " has no url and port");
+        }
+        return new Route(mapping, URI.create(endpointUrl));
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    /**
+     * Returns the name of the bulkhead the route's jobs run in.
+     */
+    public String getBulkheadKey() {
+        return bulkheadKey;
+    }
+
+    public URI getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Returns the method configured on the mapping, or null when jobs keep their request's method.
+     */
+    public HttpMethod getHttpMethod() {
+        return httpMethod;
+    }
+
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public Integer getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Returns the read timeout configured on the mapping, or null to use the client default.
+     */
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Returns how long the job's idempotency keys are honored, or null to use the default window.
+     */
+    public Duration getIdempotencyWindow() {
+        return idempotencyWindow;
+    }
+
+    public String getMappingId() {
+        return mappingId;
+    }
+
+    @Override
+    public String toString() {
+        return jobName + " -> " + endpoint;
+    }
+}
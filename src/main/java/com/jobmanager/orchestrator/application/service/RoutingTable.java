@@ -0,0 +1,42 @@
+package com.jobmanager.orchestrator.application.service;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of all routes, keyed by job name.
+ * A new snapshot replaces the previous one as a whole whenever a mapping changes,
+ * so readers always see a consistent table without locking.
+ */
+public final class RoutingTable {
+
+    private static final RoutingTable EMPTY = new RoutingTable(Map.of());
+
+    private final Map<String, Route> routes;
+
+    private RoutingTable(Map<String, Route> routes) {
+        this.routes = routes;
+    }
+
+    public static RoutingTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a snapshot of the given routes.
+     *
+     * @param routes routes by job name; copied
+     * @return the snapshot
+     */
+    public static RoutingTable of(Map<String, Route> routes) {
+        return new RoutingTable(Map.copyOf(routes));
+    }
+
+    public Optional<Route> find(String jobName) {
+        return Optional.ofNullable(routes.get(jobName));
+    }
+
+    public int size() {
+        return routes.size();
+    }
+}
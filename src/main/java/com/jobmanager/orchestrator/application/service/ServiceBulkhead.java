@@ -0,0 +1,200 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.exception.BulkheadFullException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency limit and waiting queue for the jobs of a single downstream service.
+ * Admission never blocks: a job either gets a slot, joins the queue, or is rejected
+ * straight away when the queue is full. Queued jobs hold no thread while they wait.
+ */
+public class ServiceBulkhead {
+
+    private final String serviceName;
+    private final Deque<Permit> waiting = new ArrayDeque<>();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    // Guarded by this
+    private int maxConcurrency;
+    private int queueCapacity;
+    private int activeCount;
+
+    public ServiceBulkhead(String serviceName, int maxConcurrency, int queueCapacity) {
+        this.serviceName = serviceName;
+        updateLimits(maxConcurrency, queueCapacity);
+    }
+
+    /**
+     * Reserves a place for a job: a running slot if one is free, otherwise a place in the queue.
+     *
+     * @return the permit, to be released when the job finishes or is abandoned
+     * @throws BulkheadFullException if all slots are busy and the queue is full
+     */
+    public Permit reserve() {
+        synchronized (this) {
+            Permit permit = new Permit();
+            if (activeCount < maxConcurrency) {
+                activeCount++;
+                permit.state = PermitState.ACTIVE;
+                permit.granted.tryEmitEmpty();
+                return permit;
+            }
+            if (waiting.size() < queueCapacity) {
+                waiting.addLast(permit);
+                return permit;
+            }
+            throw reject();
+        }
+    }
+
+    /**
+     * Fails fast when the service has neither a free slot nor queue room, without reserving anything.
+     * Used to turn away new jobs for a saturated service before they are accepted.
+     *
+     * @throws BulkheadFullException if the service is saturated
+     */
+    public void checkAdmission() {
+        synchronized (this) {
+            if (isSaturated()) {
+                throw reject();
+            }
+        }
+    }
+
+    /**
+     * Checks whether all slots are busy and the queue is full.
+     *
+     * @return true if a new job would be rejected
+     */
+    public synchronized boolean isSaturated() {
+        return activeCount >= maxConcurrency && waiting.size() >= queueCapacity;
+    }
+
+    // Caller holds the lock
+    private BulkheadFullException reject() {
+        rejectedCount.incrementAndGet();
+        return new BulkheadFullException(serviceName,
+                "Service " + serviceName + " is at capacity: " + maxConcurrency + " running, "
+                        + queueCapacity + " queued");
+    }
+
+    /**
+     * Applies new limits, e.g. after the mapping was edited.
+     * Raising the concurrency limit starts queued jobs right away; lowering it lets running jobs finish.
+     */
+    public void updateLimits(int maxConcurrency, int queueCapacity) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("queueCapacity must not be negative");
+        }
+        Deque<Permit> promoted = new ArrayDeque<>();
+        synchronized (this) {
+            this.maxConcurrency = maxConcurrency;
+            this.queueCapacity = queueCapacity;
+            while (activeCount < maxConcurrency && !waiting.isEmpty()) {
+                Permit next = waiting.pollFirst();
+                next.state = PermitState.ACTIVE;
+                activeCount++;
+                promoted.add(next);
+            }
+        }
+        promoted.forEach(permit -> permit.granted.tryEmitEmpty());
+    }
+
+    private void release(Permit permit) {
+        Permit next = null;
+        synchronized (this) {
+            if (permit.state == PermitState.QUEUED) {
+                waiting.remove(permit);
+            } else if (permit.state == PermitState.ACTIVE) {
+                // Hand the slot straight to the next waiting job, if any
+                if (activeCount <= maxConcurrency && !waiting.isEmpty()) {
+                    next = waiting.pollFirst();
+                    next.state = PermitState.ACTIVE;
+                } else {
+                    activeCount--;
+                }
+            }
+            permit.state = PermitState.RELEASED;
+        }
+        if (next != null) {
+            next.granted.tryEmitEmpty();
+        }
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public synchronized int getActiveCount() {
+        return activeCount;
+    }
+
+    public synchronized int getQueueDepth() {
+        return waiting.size();
+    }
+
+    public synchronized int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public synchronized int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private enum PermitState {
+        QUEUED, ACTIVE, RELEASED
+    }
+
+    /**
+     * A job's place in the bulkhead, either running or queued.
+     */
+    public final class Permit {
+
+        private final Sinks.Empty<Void> granted = Sinks.empty();
+
+        // Guarded by the enclosing bulkhead
+        private PermitState state = PermitState.QUEUED;
+
+        private Permit() {
+        }
+
+        /**
+         * Wraps a job pipeline so it starts once this permit holds a slot and gives the
+         * slot back when it terminates or is cancelled. Cancelling while still queued
+         * simply leaves the queue.
+         *
+         * @param execution the job pipeline
+         * @return the guarded pipeline
+         */
+        public Mono<Void> guard(Mono<Void> execution) {
+            return granted.asMono()
+                    .then(execution)
+                    .doFinally(signal -> release());
+        }
+
+        /**
+         * Gives up this permit; safe to call more than once.
+         */
+        public void release() {
+            ServiceBulkhead.this.release(this);
+        }
+
+        public boolean isQueued() {
+            synchronized (ServiceBulkhead.this) {
+                return state == PermitState.QUEUED;
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobRestMapping;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps one {@link ServiceBulkhead} per downstream service, so a slow service can only
+ * exhaust its own slots and queue. Limits come from the job mapping, falling back to
+ * the {@code job.bulkhead.*} defaults.
+ *
+ * Each bulkhead publishes {@code job.bulkhead.active}, {@code job.bulkhead.queue.depth}
+ * and {@code job.bulkhead.rejections}, tagged with the service name.
+ */
+@Component
+public class ServiceBulkheadRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceBulkheadRegistry.class);
+
+    private final BulkheadProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ServiceBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public ServiceBulkheadRegistry(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Returns the bulkhead for the route's service, creating it on first use.
+     * Limits are refreshed from the route on every call, so edits take effect on the next job.
+     *
+     * @param route the resolved route
+     * @return the service's bulkhead
+     */
+    public ServiceBulkhead forRoute(Route route) {
+        String serviceName = route.getBulkheadKey();
+        int maxConcurrency = route.getMaxConcurrency() != null
+                ? route.getMaxConcurrency() : properties.getDefaultMaxConcurrency();
+        int queueCapacity = route.getQueueCapacity() != null
+                ? route.getQueueCapacity() : properties.getDefaultQueueCapacity();
+
+        ServiceBulkhead bulkhead = bulkheads.computeIfAbsent(serviceName,
+                name -> register(new ServiceBulkhead(name, maxConcurrency, queueCapacity)));
+        if (bulkhead.getMaxConcurrency() != maxConcurrency || bulkhead.getQueueCapacity() != queueCapacity) {
+            logger.info("Updating bulkhead limits for service {}: maxConcurrency={}, queueCapacity={}",
+                    serviceName, maxConcurrency, queueCapacity);
+            bulkhead.updateLimits(maxConcurrency, queueCapacity);
+        }
+        return bulkhead;
+    }
+
+    public Collection<ServiceBulkhead> getBulkheads() {
+        return bulkheads.values();
+    }
+
+    /**
+     * Returns the services that cannot take another job right now.
+     *
+     * @return bulkhead keys of saturated services
+     */
+    public Set<String> getSaturatedServices() {
+        return bulkheads.values().stream()
+                .filter(ServiceBulkhead::isSaturated)
+                .map(ServiceBulkhead::getServiceName)
+                .collect(Collectors.toSet());
+    }
+
+    private ServiceBulkhead register(ServiceBulkhead bulkhead) {
+        String serviceName = bulkhead.getServiceName();
+        Gauge.builder("job.bulkhead.active", bulkhead, ServiceBulkhead::getActiveCount)
+                .description("Jobs currently running against the service")
+                .tag("service", serviceName)
+                .register(meterRegistry);
+        Gauge.builder("job.bulkhead.queue.depth", bulkhead, ServiceBulkhead::getQueueDepth)
+                .description("Jobs waiting for a slot on the service")
+                .tag("service", serviceName)
+                .register(meterRegistry);
+        FunctionCounter.builder("job.bulkhead.rejections", bulkhead, ServiceBulkhead::getRejectedCount)
+                .description("Jobs rejected because the service's queue was full")
+                .tag("service", serviceName)
+                .register(meterRegistry);
+        logger.info("Created bulkhead for service {}: maxConcurrency={}, queueCapacity={}",
+                serviceName, bulkhead.getMaxConcurrency(), bulkhead.getQueueCapacity());
+        return bulkhead;
+    }
+
+    /**
+     * Returns the name of the bulkhead a mapping's jobs run in.
+     * Mappings without a service name are isolated per job instead of sharing one bulkhead.
+     *
+     * @param mapping the job mapping
+     * @return the bulkhead key
+     */
+    public static String bulkheadKey(JobRestMapping mapping) {
+        String serviceName = mapping.getServiceName();
+        return serviceName != null && !serviceName.isBlank() ? serviceName : "job:" + mapping.getJobName();
+    }
+}
@@ -0,0 +1,37 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fails startup when jobs are queued in MongoDB but the directories for spooled request bodies
+ * or stored responses are not set. Several nodes then share one queue, so a body spooled on one
+ * node may be forwarded by another, and a response stored by one node may be served by another;
+ * the defaults under {@code java.io.tmpdir} are local to each node.
+ */
+@Component
+@ConditionalOnProperty(prefix = "job.queue", name = "store", havingValue = "mongo")
+public class SharedDirectoryCheck {
+
+    public SharedDirectoryCheck(RequestBodySpoolProperties spoolProperties,
+                                ResponseStoreProperties responseStoreProperties) {
+        List<String> unset = new ArrayList<>();
+        if (isBlank(spoolProperties.getSpoolDir())) {
+            unset.add("job.request-body.spool-dir");
+        }
+        if (isBlank(responseStoreProperties.getDir())) {
+            unset.add("job.response-store.dir");
+        }
+        if (!unset.isEmpty()) {
+            throw new IllegalStateException("With job.queue.store=mongo, " + String.join(" and ", unset)
+                    + " must be set to a directory shared by all nodes");
+        }
+    }
+
+    private static boolean isBlank(String dir) {
+        return dir == null || dir.isBlank();
+    }
+}
@@ -0,0 +1,86 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+
+/**
+ * Reference to a downstream response as stored with a job, in one of three tiers:
+ * inline text, Deflate-compressed bytes, or a file in the content-addressed {@link ResponseStore}.
+ * Only the fields of its own tier are set; use {@link ResponseStore#read} to get the body.
+ */
+public final class StoredResponse {
+
+    private static final StoredResponse NONE = new StoredResponse(null, null, null, null);
+
+    private final String text;
+    private final byte[] data;
+    private final String ref;
+    // Size of the body in bytes; null for responses stored before sizes were recorded
+    private final Long size;
+
+    private StoredResponse(String text, byte[] data, String ref, Long size) {
+        this.text = text;
+        this.data = data;
+        this.ref = ref;
+        this.size = size;
+    }
+
+    public static StoredResponse inline(String text) {
+        return text == null ? NONE : new StoredResponse(text, null, null, null);
+    }
+
+    static StoredResponse inline(String text, long size) {
+        return new StoredResponse(text, null, null, size);
+    }
+
+    static StoredResponse compressed(byte[] data, long size) {
+        return new StoredResponse(null, data, null, size);
+    }
+
+    static StoredResponse file(String ref, long size) {
+        return new StoredResponse(null, null, ref, size);
+    }
+
+    /**
+     * Returns the response stored with a job.
+     */
+    public static StoredResponse of(JobStatus job) {
+        return of(job.getResponse(), job.getResponseData(), job.getResponseRef(), job.getResponseSize());
+    }
+
+    /**
+     * Returns a response as read from the store's response fields.
+     */
+    static StoredResponse of(String text, byte[] data, String ref, Long size) {
+        return new StoredResponse(text, data, ref, size);
+    }
+
+    /**
+     * Sets the job's response fields, clearing those of the other tiers.
+     */
+    public void applyTo(JobStatus job) {
+        job.setResponse(text);
+        job.setResponseData(data);
+        job.setResponseRef(ref);
+        job.setResponseSize(size);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public String getRef() {
+        return ref;
+    }
+
+    public Long getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return text == null && data == null && ref == null;
+    }
+}
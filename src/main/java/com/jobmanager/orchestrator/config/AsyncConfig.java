@@ -5,13 +5,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
-
 /**
  * Configuration for asynchronous job execution.
+ * The job executor runs either on a bounded platform thread pool or, with
+ * {@code async.executor.mode=virtual}, on one virtual thread per task. It only runs the blocking
+ * steps of job pipelines, so neither mode limits how many remote calls are in flight; the
+ * per-service bulkheads and {@code job.queue.max-in-flight} do.
  */
 @Configuration
 @EnableAsync
@@ -19,6 +22,11 @@ public class AsyncConfig {
 
     private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
 
+    private static final int AWAIT_TERMINATION_SECONDS = 60;
+
+    @Value("${async.executor.mode:platform}")
+    private String mode;
+
     @Value("${async.executor.core-pool-size:5}")
     private int corePoolSize;
 
@@ -31,21 +39,36 @@ public class AsyncConfig {
     @Value("${async.executor.thread-name-prefix:job-executor-}")
     private String threadNamePrefix;
 
+    @Value("${async.executor.virtual.max-concurrency:1000}")
+    private int virtualMaxConcurrency;
+
+    /**
+     * Executor that runs job executions handed off by the JobDispatcher.
+     *
+     * @return the job executor
+     */
     @Bean(name = "jobExecutor")
-    public Executor jobExecutor() {
+    public AsyncTaskExecutor jobExecutor() {
+        if ("virtual".equalsIgnoreCase(mode)) {
+            logger.info("Configured virtual thread executor: maxConcurrency={}", virtualMaxConcurrency);
+            return new VirtualThreadJobExecutor(threadNamePrefix, virtualMaxConcurrency, AWAIT_TERMINATION_SECONDS);
+        }
+        if (!"platform".equalsIgnoreCase(mode)) {
+            throw new IllegalStateException("Unsupported async.executor.mode: " + mode + " (expected virtual or platform)");
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(corePoolSize);
         executor.setMaxPoolSize(maxPoolSize);
         executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix(threadNamePrefix);
         executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(60);
+        executor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
         executor.initialize();
 
-        logger.info("Configured async executor: corePoolSize={}, maxPoolSize={}, queueCapacity={}", 
+        logger.info("Configured async executor: corePoolSize={}, maxPoolSize={}, queueCapacity={}",
                 corePoolSize, maxPoolSize, queueCapacity);
 
         return executor;
     }
 }
-
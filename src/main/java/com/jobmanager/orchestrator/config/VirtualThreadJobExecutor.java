@@ -0,0 +1,118 @@
+package com.jobmanager.orchestrator.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job executor that runs every task on its own virtual thread.
+ * Concurrency is capped by a semaphore acquired inside the virtual thread, so submitting
+ * never blocks or rejects the caller: excess tasks simply park until a permit frees up.
+ * Tasks submitted through {@link #submit} are interrupted by {@code Future.cancel(true)},
+ * whether they are waiting for a permit or already running.
+ *
+ * Job pipelines only run their short subscribe and store steps here; the remote call waits on
+ * the WebClient event loop without a task. The semaphore therefore bounds those steps, not the
+ * number of remote calls in flight, which the per-service bulkheads and
+ * {@code job.queue.max-in-flight} limit in either mode. Choosing this mode changes the thread
+ * type only.
+ */
+public class VirtualThreadJobExecutor implements AsyncTaskExecutor, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadJobExecutor.class);
+
+    private final ThreadFactory threadFactory;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long awaitTerminationMillis;
+    private final Set<Thread> liveThreads = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean shutdown;
+
+    public VirtualThreadJobExecutor(String threadNamePrefix, int maxConcurrency, long awaitTerminationSeconds) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.awaitTerminationMillis = TimeUnit.SECONDS.toMillis(awaitTerminationSeconds);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new TaskRejectedException("Virtual thread job executor has been shut down");
+        }
+        Thread thread = threadFactory.newThread(() -> runWithPermit(task));
+        liveThreads.add(thread);
+        thread.start();
+    }
+
+    private void runWithPermit(Runnable task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            // Cancelled while waiting for a permit: the task never starts
+            liveThreads.remove(Thread.currentThread());
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            task.run();
+        } finally {
+            permits.release();
+            liveThreads.remove(Thread.currentThread());
+        }
+    }
+
+    /**
+     * Returns the number of tasks currently holding a permit.
+     *
+     * @return the running task count
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of tasks parked while waiting for a permit.
+     *
+     * @return the waiting task count
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Stops accepting tasks and waits for live tasks to finish, mirroring the platform
+     * executor's wait-for-tasks-on-shutdown behaviour.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        shutdown = true;
+        long deadline = System.currentTimeMillis() + awaitTerminationMillis;
+        for (Thread thread : liveThreads) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                break;
+            }
+            thread.join(remaining);
+        }
+        if (!liveThreads.isEmpty()) {
+            logger.warn("Virtual thread job executor shut down with {} tasks still running", liveThreads.size());
+        }
+    }
+}
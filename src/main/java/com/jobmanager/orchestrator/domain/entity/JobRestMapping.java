@@ -24,6 +24,17 @@ public class JobRestMapping extends BaseMongoDocument {
 
     private String httpMethod;
 
+    // Bulkhead limits for the service; null falls back to the job.bulkhead defaults
+    private Integer maxConcurrency;
+
+    private Integer queueCapacity;
+
+    // Read timeout for calls to the service in milliseconds; null falls back to remote.client.read-timeout
+    private Long readTimeout;
+
+    // How long an idempotency key of this job is honored, in milliseconds; null falls back to job.idempotency.window
+    private Long idempotencyWindow;
+
     public JobRestMapping() {
         super();
     }
@@ -82,6 +93,42 @@ public class JobRestMapping extends BaseMongoDocument {
         touch();
     }
 
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        touch();
+    }
+
+    public Integer getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(Integer queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        touch();
+    }
+
+    public Long getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Long readTimeout) {
+        this.readTimeout = readTimeout;
+        touch();
+    }
+
+    public Long getIdempotencyWindow() {
+        return idempotencyWindow;
+    }
+
+    public void setIdempotencyWindow(Long idempotencyWindow) {
+        this.idempotencyWindow = idempotencyWindow;
+        touch();
+    }
+
     /**
      * Constructs the full endpoint URL for this mapping.
      *
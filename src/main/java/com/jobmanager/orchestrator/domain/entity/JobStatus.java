@@ -8,19 +8,28 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 import jakarta.persistence.Index;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
  * Entity representing a single job execution instance.
  * Tracks the lifecycle and outcome of job executions.
+ *
+ * The table doubles as the durable job queue: a STARTED row is waiting to be claimed and
+ * carries the request to forward; a claimed row is IN_PROGRESS and leased to one node.
  */
 @Entity
 @Table(name = "job_status", indexes = {
     @Index(name = "idx_uuid", columnList = "uuid"),
-    @Index(name = "idx_idempotency_key", columnList = "idempotency_key")
+    @Index(name = "idx_job_name_idempotency_key", columnList = "job_name, idempotency_key", unique = true),
+    @Index(name = "idx_idempotency_expires_at", columnList = "idempotency_expires_at"),
+    @Index(name = "idx_status_id", columnList = "status, id"),
+    @Index(name = "idx_status_lease_expires_at", columnList = "status, lease_expires_at"),
+    @Index(name = "idx_response_ref", columnList = "response_ref")
 })
 public class JobStatus {
 
@@ -35,9 +44,23 @@ public class JobStatus {
     @Column(name = "status", nullable = false)
     private JobExecutionStatus status;
 
+    // Small responses as text; larger ones compressed in response_data or referenced by response_ref
     @Column(name = "response", columnDefinition = "TEXT")
     private String response;
 
+    // Deflate-compressed response
+    @Lob
+    @Column(name = "response_data")
+    private byte[] responseData;
+
+    // Content address of a response kept in the response store
+    @Column(name = "response_ref", length = 100)
+    private String responseRef;
+
+    // Size of the response in bytes
+    @Column(name = "response_size")
+    private Long responseSize;
+
     @Column(name = "http_status")
     private Integer httpStatus;
 
@@ -50,6 +73,44 @@ public class JobStatus {
     @Column(name = "idempotency_key", length = 255)
     private String idempotencyKey;
 
+    // End of the idempotency window; compaction clears the key and this column afterwards
+    @Column(name = "idempotency_expires_at")
+    private LocalDateTime idempotencyExpiresAt;
+
+    @Column(name = "job_name", length = 255)
+    private String jobName;
+
+    // Bulkhead key of the target service, used to skip saturated services when claiming
+    @Column(name = "service_name", length = 255)
+    private String serviceName;
+
+    @Column(name = "request_method", length = 10)
+    private String requestMethod;
+
+    @Column(name = "request_headers", columnDefinition = "TEXT")
+    private String requestHeaders;
+
+    @Column(name = "request_query_params", columnDefinition = "TEXT")
+    private String requestQueryParams;
+
+    @Column(name = "request_body", columnDefinition = "TEXT")
+    private String requestBody;
+
+    // Raw request body; request_body only holds bodies of jobs queued before bodies were kept as bytes
+    @Lob
+    @Column(name = "request_body_bytes")
+    private byte[] requestBodyBytes;
+
+    // Path of the spooled request body, for bodies too large to store inline
+    @Column(name = "request_body_file", length = 1024)
+    private String requestBodyFile;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
     public JobStatus() {
     }
 
@@ -91,6 +152,30 @@ public class JobStatus {
         this.response = response;
     }
 
+    public byte[] getResponseData() {
+        return responseData;
+    }
+
+    public void setResponseData(byte[] responseData) {
+        this.responseData = responseData;
+    }
+
+    public String getResponseRef() {
+        return responseRef;
+    }
+
+    public void setResponseRef(String responseRef) {
+        this.responseRef = responseRef;
+    }
+
+    public Long getResponseSize() {
+        return responseSize;
+    }
+
+    public void setResponseSize(Long responseSize) {
+        this.responseSize = responseSize;
+    }
+
     public Integer getHttpStatus() {
         return httpStatus;
     }
@@ -122,5 +207,109 @@ public class JobStatus {
     public void setIdempotencyKey(String idempotencyKey) {
         this.idempotencyKey = idempotencyKey;
     }
-}
 
+    public LocalDateTime getIdempotencyExpiresAt() {
+        return idempotencyExpiresAt;
+    }
+
+    public void setIdempotencyExpiresAt(LocalDateTime idempotencyExpiresAt) {
+        this.idempotencyExpiresAt = idempotencyExpiresAt;
+    }
+
+    /**
+     * Checks whether the job's idempotency key is no longer honored at the given time.
+     */
+    public boolean isIdempotencyExpired(LocalDateTime now) {
+        return idempotencyExpiresAt != null && !now.isBefore(idempotencyExpiresAt);
+    }
+
+    /**
+     * Returns a version of the status a client sees, which changes whenever the status,
+     * response, HTTP status or end date change. The same status reads the same on every node.
+     * The response counts by its size, and a job's response only changes along with its end date,
+     * so the version never reads the response and is the same whether or not it was loaded.
+     */
+    public String getStatusVersion() {
+        return status + "-" + Integer.toHexString(Objects.hash(responseSize, httpStatus, endDate));
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public void setJobName(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    public String getRequestMethod() {
+        return requestMethod;
+    }
+
+    public void setRequestMethod(String requestMethod) {
+        this.requestMethod = requestMethod;
+    }
+
+    public String getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    public void setRequestHeaders(String requestHeaders) {
+        this.requestHeaders = requestHeaders;
+    }
+
+    public String getRequestQueryParams() {
+        return requestQueryParams;
+    }
+
+    public void setRequestQueryParams(String requestQueryParams) {
+        this.requestQueryParams = requestQueryParams;
+    }
+
+    public String getRequestBody() {
+        return requestBody;
+    }
+
+    public void setRequestBody(String requestBody) {
+        this.requestBody = requestBody;
+    }
+
+    public byte[] getRequestBodyBytes() {
+        return requestBodyBytes;
+    }
+
+    public void setRequestBodyBytes(byte[] requestBodyBytes) {
+        this.requestBodyBytes = requestBodyBytes;
+    }
+
+    public String getRequestBodyFile() {
+        return requestBodyFile;
+    }
+
+    public void setRequestBodyFile(String requestBodyFile) {
+        this.requestBodyFile = requestBodyFile;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobmanager.orchestrator.domain.exception;
+
+/**
+ * Exception thrown when a downstream service's bulkhead has no free slot and its queue is full.
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private final String serviceName;
+
+    public BulkheadFullException(String serviceName, String message) {
+        super(message);
+        this.serviceName = serviceName;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+}
@@ -0,0 +1,11 @@
+package com.jobmanager.orchestrator.domain.exception;
+
+/**
+ * Exception thrown when a job's request body cannot be written to the spool directory.
+ */
+public class RequestBodySpoolException extends RuntimeException {
+
+    public RequestBodySpoolException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
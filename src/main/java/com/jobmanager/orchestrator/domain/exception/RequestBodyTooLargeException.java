@@ -0,0 +1,11 @@
+package com.jobmanager.orchestrator.domain.exception;
+
+/**
+ * Exception thrown when a job's request body exceeds the configured maximum size.
+ */
+public class RequestBodyTooLargeException extends RuntimeException {
+
+    public RequestBodyTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.jobmanager.orchestrator.domain.exception;
+
+/**
+ * Exception thrown when a job's request body cannot be read from the client, e.g. because the
+ * upload was cut short.
+ */
+public class RequestBodyUnreadableException extends RuntimeException {
+
+    public RequestBodyUnreadableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -31,6 +31,18 @@ public class JobMapping extends BaseMongoDocument {
     @JsonProperty("port")
     private Integer port;
 
+    @JsonProperty("maxConcurrency")
+    private Integer maxConcurrency;
+
+    @JsonProperty("queueCapacity")
+    private Integer queueCapacity;
+
+    @JsonProperty("readTimeout")
+    private Long readTimeout;
+
+    @JsonProperty("idempotencyWindow")
+    private Long idempotencyWindow;
+
     public JobMapping() {
         super();
     }
@@ -79,6 +91,42 @@ public class JobMapping extends BaseMongoDocument {
         touch();
     }
 
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        touch();
+    }
+
+    public Integer getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(Integer queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        touch();
+    }
+
+    public Long getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Long readTimeout) {
+        this.readTimeout = readTimeout;
+        touch();
+    }
+
+    public Long getIdempotencyWindow() {
+        return idempotencyWindow;
+    }
+
+    public void setIdempotencyWindow(Long idempotencyWindow) {
+        this.idempotencyWindow = idempotencyWindow;
+        touch();
+    }
+
     /**
      * Constructs the full endpoint URL for this mapping.
      *
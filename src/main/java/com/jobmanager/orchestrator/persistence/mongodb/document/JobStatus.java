@@ -3,6 +3,8 @@ package com.jobmanager.orchestrator.persistence.mongodb.document;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -15,8 +17,26 @@ import java.time.LocalDateTime;
  * Structure:
  * - Key: uuid (unique identifier)
  * - Fields: status, response, startDate, endDate, httpCode
+ * - Larger responses are kept compressed in responseData or referenced by responseRef instead of response
+ * - Queue fields: the request to forward and the lease of the node executing the job,
+ *   used when the job queue runs on MongoDB ({@code job.queue.store=mongo})
  */
 @Document(collection = "job_statuses")
+@CompoundIndexes({
+    // Claiming queued jobs and keyset-paginated listings, with or without a status filter
+    @CompoundIndex(name = "status_startDate_id_idx", def = "{'status': 1, 'startDate': 1, '_id': 1}"),
+    @CompoundIndex(name = "startDate_id_idx", def = "{'startDate': 1, '_id': 1}"),
+    @CompoundIndex(name = "status_leaseExpiresAt_idx", def = "{'status': 1, 'leaseExpiresAt': 1}"),
+    // One job per job name and idempotency key; jobs without a key are not indexed
+    @CompoundIndex(name = "jobName_idempotencyKey_idx", def = "{'jobName': 1, 'idempotencyKey': 1}",
+            unique = true, partialFilter = "{'idempotencyKey': {'$type': 'string'}}"),
+    // Only jobs with a live idempotency key, for compaction
+    @CompoundIndex(name = "idempotencyExpiresAt_idx", def = "{'idempotencyExpiresAt': 1}",
+            partialFilter = "{'idempotencyExpiresAt': {'$type': 'date'}}"),
+    // Only jobs whose response is in a file, for sweeping unreferenced files
+    @CompoundIndex(name = "responseRef_idx", def = "{'responseRef': 1}",
+            partialFilter = "{'responseRef': {'$type': 'string'}}")
+})
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class JobStatus extends BaseMongoDocument {
 
@@ -30,6 +50,15 @@ public class JobStatus extends BaseMongoDocument {
     @JsonProperty("response")
     private String response;
 
+    @JsonProperty("responseData")
+    private byte[] responseData;
+
+    @JsonProperty("responseRef")
+    private String responseRef;
+
+    @JsonProperty("responseSize")
+    private Long responseSize;
+
     @JsonProperty("startDate")
     private LocalDateTime startDate;
 
@@ -39,6 +68,42 @@ public class JobStatus extends BaseMongoDocument {
     @JsonProperty("httpCode")
     private Integer httpCode;
 
+    @JsonProperty("idempotencyKey")
+    private String idempotencyKey;
+
+    @JsonProperty("idempotencyExpiresAt")
+    private LocalDateTime idempotencyExpiresAt;
+
+    @JsonProperty("jobName")
+    private String jobName;
+
+    @JsonProperty("serviceName")
+    private String serviceName;
+
+    @JsonProperty("requestMethod")
+    private String requestMethod;
+
+    @JsonProperty("requestHeaders")
+    private String requestHeaders;
+
+    @JsonProperty("requestQueryParams")
+    private String requestQueryParams;
+
+    @JsonProperty("requestBody")
+    private String requestBody;
+
+    @JsonProperty("requestBodyBytes")
+    private byte[] requestBodyBytes;
+
+    @JsonProperty("requestBodyFile")
+    private String requestBodyFile;
+
+    @JsonProperty("leaseOwner")
+    private String leaseOwner;
+
+    @JsonProperty("leaseExpiresAt")
+    private LocalDateTime leaseExpiresAt;
+
     public JobStatus() {
         super();
     }
@@ -81,6 +146,33 @@ public class JobStatus extends BaseMongoDocument {
         touch();
     }
 
+    public byte[] getResponseData() {
+        return responseData;
+    }
+
+    public void setResponseData(byte[] responseData) {
+        this.responseData = responseData;
+        touch();
+    }
+
+    public String getResponseRef() {
+        return responseRef;
+    }
+
+    public void setResponseRef(String responseRef) {
+        this.responseRef = responseRef;
+        touch();
+    }
+
+    public Long getResponseSize() {
+        return responseSize;
+    }
+
+    public void setResponseSize(Long responseSize) {
+        this.responseSize = responseSize;
+        touch();
+    }
+
     public LocalDateTime getStartDate() {
         return startDate;
     }
@@ -107,5 +199,144 @@ public class JobStatus extends BaseMongoDocument {
         this.httpCode = httpCode;
         touch();
     }
-}
 
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+        touch();
+    }
+
+    public LocalDateTime getIdempotencyExpiresAt() {
+        return idempotencyExpiresAt;
+    }
+
+    public void setIdempotencyExpiresAt(LocalDateTime idempotencyExpiresAt) {
+        this.idempotencyExpiresAt = idempotencyExpiresAt;
+        touch();
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public void setJobName(String jobName) {
+        this.jobName = jobName;
+        touch();
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+        touch();
+    }
+
+    public String getRequestMethod() {
+        return requestMethod;
+    }
+
+    public void setRequestMethod(String requestMethod) {
+        this.requestMethod = requestMethod;
+        touch();
+    }
+
+    public String getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    public void setRequestHeaders(String requestHeaders) {
+        this.requestHeaders = requestHeaders;
+        touch();
+    }
+
+    public String getRequestQueryParams() {
+        return requestQueryParams;
+    }
+
+    public void setRequestQueryParams(String requestQueryParams) {
+        this.requestQueryParams = requestQueryParams;
+        touch();
+    }
+
+    public String getRequestBody() {
+        return requestBody;
+    }
+
+    public void setRequestBody(String requestBody) {
+        this.requestBody = requestBody;
+        touch();
+    }
+
+    public byte[] getRequestBodyBytes() {
+        return requestBodyBytes;
+    }
+
+    public void setRequestBodyBytes(byte[] requestBodyBytes) {
+        this.requestBodyBytes = requestBodyBytes;
+        touch();
+    }
+
+    public String getRequestBodyFile() {
+        return requestBodyFile;
+    }
+
+    public void setRequestBodyFile(String requestBodyFile) {
+        this.requestBodyFile = requestBodyFile;
+        touch();
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+        touch();
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+        touch();
+    }
+
+    /**
+     * Stored field names, for queries and partial updates.
+     */
+    public static final class Fields {
+        public static final String UUID = "uuid";
+        public static final String STATUS = "status";
+        public static final String RESPONSE = "response";
+        public static final String RESPONSE_DATA = "responseData";
+        public static final String RESPONSE_REF = "responseRef";
+        public static final String RESPONSE_SIZE = "responseSize";
+        public static final String START_DATE = "startDate";
+        public static final String END_DATE = "endDate";
+        public static final String HTTP_CODE = "httpCode";
+        public static final String IDEMPOTENCY_KEY = "idempotencyKey";
+        public static final String IDEMPOTENCY_EXPIRES_AT = "idempotencyExpiresAt";
+        public static final String JOB_NAME = "jobName";
+        public static final String SERVICE_NAME = "serviceName";
+        public static final String REQUEST_METHOD = "requestMethod";
+        public static final String REQUEST_HEADERS = "requestHeaders";
+        public static final String REQUEST_QUERY_PARAMS = "requestQueryParams";
+        public static final String REQUEST_BODY = "requestBody";
+        public static final String REQUEST_BODY_BYTES = "requestBodyBytes";
+        public static final String REQUEST_BODY_FILE = "requestBodyFile";
+        public static final String LEASE_OWNER = "leaseOwner";
+        public static final String LEASE_EXPIRES_AT = "leaseExpiresAt";
+        public static final String CREATED_AT = "createdAt";
+        public static final String UPDATED_AT = "updatedAt";
+
+        private Fields() {
+        }
+    }
+}
@@ -53,4 +53,17 @@ public class MongoDocument extends BaseMongoDocument {
         this.data = data;
         touch();
     }
+
+    /**
+     * Stored field names, for queries and projections.
+     */
+    public static final class Fields {
+        public static final String DOCUMENT_KEY = "documentKey";
+        public static final String DATA = "data";
+        public static final String CREATED_AT = "createdAt";
+        public static final String UPDATED_AT = "updatedAt";
+
+        private Fields() {
+        }
+    }
 }
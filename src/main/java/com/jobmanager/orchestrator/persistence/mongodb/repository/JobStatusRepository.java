@@ -9,8 +9,9 @@ import java.util.Optional;
 /**
  * MongoDB repository for JobStatus entities.
  * Provides CRUD operations and custom query methods.
+ * Named apart from the JPA repository of the same simple name, so both can be registered.
  */
-@Repository
+@Repository("mongoJobStatusRepository")
 public interface JobStatusRepository extends MongoRepository<JobStatus, String> {
 
     /**
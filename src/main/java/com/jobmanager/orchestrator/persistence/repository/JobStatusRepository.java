@@ -1,8 +1,18 @@
 package com.jobmanager.orchestrator.persistence.repository;
 
 import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,13 +31,197 @@ public interface JobStatusRepository extends CrudRepository<JobStatus, Long> {
      */
     Optional<JobStatus> findByUuid(UUID uuid);
 
+    /**
+     * Finds the status of a job without its response or forwarded request.
+     * Only the projected columns are selected.
+     *
+     * @param uuid the UUID to search for
+     * @return Optional containing the job's status if found
+     */
+    Optional<StatusView> findStatusViewByUuid(UUID uuid);
+
     /**
      * Finds a job status by job name and idempotency key.
      * Used for idempotent job creation.
      *
+     * @param jobName the job name
      * @param idempotencyKey the idempotency key
      * @return Optional containing the job status if found
      */
-    Optional<JobStatus> findByIdempotencyKey(String idempotencyKey);
-}
+    Optional<JobStatus> findByJobNameAndIdempotencyKey(String jobName, String idempotencyKey);
+
+    /**
+     * Finds the ids of jobs whose idempotency window has ended.
+     *
+     * @param now the current time
+     * @param pageable the batch size
+     * @return job ids holding an expired idempotency key
+     */
+    @Query("select j.id from JobStatus j where j.idempotencyExpiresAt <= :now")
+    List<Long> findIdsWithExpiredIdempotencyKey(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Clears the idempotency key of the given jobs if their window has ended, freeing the key.
+     *
+     * @return the number of keys cleared
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update JobStatus j set j.idempotencyKey = null, j.idempotencyExpiresAt = null"
+            + " where j.id in :ids and j.idempotencyExpiresAt <= :now")
+    int clearExpiredIdempotencyKeys(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Finds which of the given response file references are still held by a job.
+     *
+     * @param refs the response references
+     * @return the references found, each once
+     */
+    @Query("select distinct j.responseRef from JobStatus j where j.responseRef in :refs")
+    List<String> findResponseRefsIn(@Param("refs") Collection<String> refs);
+
+    /**
+     * Finds the ids of the oldest jobs in the given status.
+     * Used to pick the next batch of queued jobs to claim; rows without a job name cannot be
+     * routed and are never returned.
+     *
+     * @param status the status to match
+     * @param pageable the batch size
+     * @return job ids in queue order
+     */
+    @Query("select j.id from JobStatus j where j.status = :status and j.jobName is not null order by j.id")
+    List<Long> findIdsByStatus(@Param("status") JobExecutionStatus status, Pageable pageable);
+
+    /**
+     * Finds the ids of the oldest jobs in the given status, skipping the given services.
+     *
+     * @param status the status to match
+     * @param excludedServices service names whose jobs must not be returned
+     * @param pageable the batch size
+     * @return job ids in queue order
+     */
+    @Query("select j.id from JobStatus j where j.status = :status"
+            + " and j.jobName is not null"
+            + " and (j.serviceName is null or j.serviceName not in :excludedServices) order by j.id")
+    List<Long> findIdsByStatusExcludingServices(@Param("status") JobExecutionStatus status,
+                                                @Param("excludedServices") Collection<String> excludedServices,
+                                                Pageable pageable);
+
+    /**
+     * Leases queued jobs to an owner. Only rows still in the expected status are updated,
+     * so a job is never claimed twice.
+     *
+     * @return the number of jobs claimed
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update JobStatus j set j.status = :claimedStatus, j.leaseOwner = :owner, j.leaseExpiresAt = :leaseExpiresAt"
+            + " where j.id in :ids and j.status = :queuedStatus")
+    int claimByIds(@Param("ids") Collection<Long> ids,
+                   @Param("queuedStatus") JobExecutionStatus queuedStatus,
+                   @Param("claimedStatus") JobExecutionStatus claimedStatus,
+                   @Param("owner") String owner,
+                   @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    /**
+     * Finds the jobs among the given ids that are leased to the owner.
+     */
+    List<JobStatus> findByIdInAndLeaseOwnerAndStatus(Collection<Long> ids, String leaseOwner, JobExecutionStatus status);
 
+    /**
+     * Selects which of the given jobs are still leased by the owner.
+     */
+    @Query("SELECT js.uuid FROM JobStatus js WHERE js.uuid IN :uuids AND js.leaseOwner = :owner AND js.status = :status")
+    List<UUID> findUuidsByLeaseOwnerAndStatus(@Param("uuids") Collection<UUID> uuids,
+                                              @Param("owner") String owner,
+                                              @Param("status") JobExecutionStatus status);
+
+    /**
+     * Extends the lease of jobs still held by the owner.
+     *
+     * @return the number of leases extended
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update JobStatus j set j.leaseExpiresAt = :leaseExpiresAt"
+            + " where j.uuid in :uuids and j.leaseOwner = :owner and j.status = :status")
+    int renewLeases(@Param("uuids") Collection<UUID> uuids,
+                    @Param("owner") String owner,
+                    @Param("status") JobExecutionStatus status,
+                    @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    /**
+     * Returns a claimed job to the queue.
+     *
+     * @return 1 if the job was still held by the owner, 0 otherwise
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update JobStatus j set j.status = :queuedStatus, j.leaseOwner = null, j.leaseExpiresAt = null"
+            + " where j.uuid = :uuid and j.leaseOwner = :owner and j.status = :claimedStatus")
+    int releaseLease(@Param("uuid") UUID uuid,
+                     @Param("owner") String owner,
+                     @Param("claimedStatus") JobExecutionStatus claimedStatus,
+                     @Param("queuedStatus") JobExecutionStatus queuedStatus);
+
+    /**
+     * Returns claimed jobs whose lease has expired to the queue, e.g. after the owning node crashed.
+     *
+     * @return the number of jobs requeued
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update JobStatus j set j.status = :queuedStatus, j.leaseOwner = null, j.leaseExpiresAt = null"
+            + " where j.status = :claimedStatus and j.leaseExpiresAt < :now")
+    int requeueExpiredLeases(@Param("now") LocalDateTime now,
+                             @Param("claimedStatus") JobExecutionStatus claimedStatus,
+                             @Param("queuedStatus") JobExecutionStatus queuedStatus);
+
+    /**
+     * Fails claimed jobs that have no lease. Such rows were running before the job queue existed
+     * and carry no request to forward, so running them again could only fail.
+     *
+     * @return the number of jobs failed
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update JobStatus j set j.status = :failedStatus, j.response = :response, j.endDate = :endDate"
+            + " where j.status = :claimedStatus and j.leaseExpiresAt is null")
+    int failUnleasedClaims(@Param("claimedStatus") JobExecutionStatus claimedStatus,
+                           @Param("failedStatus") JobExecutionStatus failedStatus,
+                           @Param("response") String response,
+                           @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * Cancels a job that is still queued or running, releasing its lease. A job that finished or
+     * was cancelled meanwhile, on any node, is left unchanged.
+     *
+     * @return 1 if the job was cancelled, 0 otherwise
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update JobStatus j set j.status = :cancelledStatus, j.response = :response, j.responseData = null,"
+            + " j.responseRef = null, j.responseSize = null, j.httpStatus = null, j.endDate = :endDate,"
+            + " j.leaseOwner = null, j.leaseExpiresAt = null"
+            + " where j.uuid = :uuid and j.status in :activeStatuses")
+    int cancelIfActive(@Param("uuid") UUID uuid,
+                       @Param("activeStatuses") Collection<JobExecutionStatus> activeStatuses,
+                       @Param("cancelledStatus") JobExecutionStatus cancelledStatus,
+                       @Param("response") String response,
+                       @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * Status columns of a job, without the response and the forwarded request.
+     */
+    interface StatusView {
+        UUID getUuid();
+
+        JobExecutionStatus getStatus();
+
+        Long getResponseSize();
+
+        Integer getHttpStatus();
+
+        LocalDateTime getStartDate();
+
+        LocalDateTime getEndDate();
+
+        String getJobName();
+
+        String getServiceName();
+    }
+}
@@ -2,30 +2,50 @@ package com.jobmanager.orchestrator.api.controller;
 
 import com.jobmanager.orchestrator.api.dto.CancelJobResponse;
 import com.jobmanager.orchestrator.api.dto.JobExecutionResponse;
+import com.jobmanager.orchestrator.api.dto.JobStatusLookupRequest;
 import com.jobmanager.orchestrator.api.dto.JobStatusResponse;
 import com.jobmanager.orchestrator.api.mapper.JobStatusMapper;
 import com.jobmanager.orchestrator.application.service.JobOrchestrationService;
+import com.jobmanager.orchestrator.application.service.JobReservation;
+import com.jobmanager.orchestrator.application.service.RequestBodySpool;
+import com.jobmanager.orchestrator.application.service.RequestBodySpoolProperties;
+import com.jobmanager.orchestrator.application.service.ResponseStore;
+import com.jobmanager.orchestrator.application.service.ResponseStoreProperties;
 import com.jobmanager.orchestrator.domain.entity.JobStatus;
 import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
 import com.jobmanager.orchestrator.domain.exception.JobMappingNotFoundException;
 import com.jobmanager.orchestrator.domain.exception.JobNotFoundException;
+import com.jobmanager.orchestrator.domain.exception.RequestBodySpoolException;
+import com.jobmanager.orchestrator.domain.exception.RequestBodyUnreadableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -47,6 +67,15 @@ class JobControllerTest {
     @Mock
     private HttpServletRequest httpServletRequest;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private RequestBodySpool requestBodySpool = new RequestBodySpool(new RequestBodySpoolProperties());
+
+    @Spy
+    private ResponseStore responseStore = new ResponseStore(new ResponseStoreProperties());
+
     @InjectMocks
     private JobController jobController;
 
@@ -65,17 +94,15 @@ class JobControllerTest {
     void createJob_Success() throws Exception {
         // Given
         when(httpServletRequest.getMethod()).thenReturn("POST");
-        when(httpServletRequest.getHeader("Idempotency-Key")).thenReturn(testIdempotencyKey);
         when(httpServletRequest.getHeaderNames()).thenReturn(createEnumeration("Content-Type", "Accept"));
         when(httpServletRequest.getHeader("Content-Type")).thenReturn("application/json");
         when(httpServletRequest.getHeader("Accept")).thenReturn("application/json");
         when(httpServletRequest.getParameterNames()).thenReturn(createEnumeration());
-        when(httpServletRequest.getContentType()).thenReturn("application/json");
         when(httpServletRequest.getInputStream()).thenReturn(new MockServletInputStream("{\"key\":\"value\"}"));
         
         when(orchestrationService.createAndTriggerJob(
                 eq(testJobName), eq(testIdempotencyKey), any(), any(), any(), any()))
-                .thenReturn(testUuid);
+                .thenReturn(JobReservation.created(testUuid));
 
         // When
         ResponseEntity<JobExecutionResponse> response = jobController.createJob(
@@ -93,18 +120,14 @@ class JobControllerTest {
     void createJob_IdempotentRequest() throws Exception {
         // Given
         when(httpServletRequest.getMethod()).thenReturn("POST");
-        when(httpServletRequest.getHeader("Idempotency-Key")).thenReturn(testIdempotencyKey);
         when(httpServletRequest.getHeaderNames()).thenReturn(createEnumeration());
         when(httpServletRequest.getParameterNames()).thenReturn(createEnumeration());
-        when(httpServletRequest.getContentType()).thenReturn(null);
+        when(httpServletRequest.getInputStream()).thenReturn(new MockServletInputStream(""));
         
         UUID existingUuid = UUID.randomUUID();
-        JobOrchestrationService.IdempotentRequestException idempotentException = 
-                new JobOrchestrationService.IdempotentRequestException(existingUuid);
-        
         when(orchestrationService.createAndTriggerJob(
                 eq(testJobName), eq(testIdempotencyKey), any(), any(), any(), any()))
-                .thenThrow(idempotentException);
+                .thenReturn(JobReservation.existing(existingUuid));
 
         // When
         ResponseEntity<JobExecutionResponse> response = jobController.createJob(
@@ -120,10 +143,9 @@ class JobControllerTest {
     void createJob_MappingNotFound() throws Exception {
         // Given
         when(httpServletRequest.getMethod()).thenReturn("POST");
-        when(httpServletRequest.getHeader("Idempotency-Key")).thenReturn(testIdempotencyKey);
         when(httpServletRequest.getHeaderNames()).thenReturn(createEnumeration());
         when(httpServletRequest.getParameterNames()).thenReturn(createEnumeration());
-        when(httpServletRequest.getContentType()).thenReturn(null);
+        when(httpServletRequest.getInputStream()).thenReturn(new MockServletInputStream(""));
         
         when(orchestrationService.createAndTriggerJob(
                 eq(testJobName), eq(testIdempotencyKey), any(), any(), any(), any()))
@@ -134,6 +156,57 @@ class JobControllerTest {
                 () -> jobController.createJob(testJobName, testIdempotencyKey, httpServletRequest));
     }
 
+    @Test
+    void createJob_UnreadableBody_CreatesNoJob() throws Exception {
+        // Given
+        when(httpServletRequest.getMethod()).thenReturn("POST");
+        when(httpServletRequest.getHeaderNames()).thenReturn(createEnumeration());
+        when(httpServletRequest.getInputStream()).thenThrow(new IOException("Connection reset"));
+
+        // When/Then
+        assertThrows(RequestBodyUnreadableException.class,
+                () -> jobController.createJob(testJobName, testIdempotencyKey, httpServletRequest));
+        verifyNoInteractions(orchestrationService);
+    }
+
+    @Test
+    void createJob_SpoolFailure_CreatesNoJob() throws Exception {
+        // Given
+        when(httpServletRequest.getMethod()).thenReturn("POST");
+        when(httpServletRequest.getHeaderNames()).thenReturn(createEnumeration());
+        when(httpServletRequest.getInputStream()).thenReturn(new MockServletInputStream("{}"));
+        doThrow(new RequestBodySpoolException("Could not write spool file", new IOException("disk full")))
+                .when(requestBodySpool).read(any());
+
+        // When/Then
+        assertThrows(RequestBodySpoolException.class,
+                () -> jobController.createJob(testJobName, testIdempotencyKey, httpServletRequest));
+        verifyNoInteractions(orchestrationService);
+    }
+
+    @Test
+    void createJob_RepeatedRequestDropsSpooledBody() throws Exception {
+        // Given
+        Path spooled = Path.of("/spool/body-1.bin");
+        when(httpServletRequest.getMethod()).thenReturn("POST");
+        when(httpServletRequest.getHeaderNames()).thenReturn(createEnumeration());
+        when(httpServletRequest.getParameterNames()).thenReturn(createEnumeration());
+        when(httpServletRequest.getInputStream()).thenReturn(new MockServletInputStream("{}"));
+        doReturn(spooled).when(requestBodySpool).read(any());
+        doNothing().when(requestBodySpool).delete(spooled.toString());
+        when(orchestrationService.createAndTriggerJob(
+                eq(testJobName), eq(testIdempotencyKey), any(), any(), any(), eq(spooled)))
+                .thenReturn(JobReservation.existing(testUuid));
+
+        // When
+        ResponseEntity<JobExecutionResponse> response = jobController.createJob(
+                testJobName, testIdempotencyKey, httpServletRequest);
+
+        // Then
+        assertEquals(testUuid, response.getBody().getUuid());
+        verify(requestBodySpool).delete(spooled.toString());
+    }
+
     @Test
     void getJobStatus_Success() {
         // Given
@@ -150,31 +223,237 @@ class JobControllerTest {
         statusResponse.setResponse("Success response");
         statusResponse.setHttpStatus(200);
 
-        when(orchestrationService.getJobStatus(testUuid)).thenReturn(jobStatus);
-        when(statusMapper.toDto(jobStatus)).thenReturn(statusResponse);
+        when(orchestrationService.getJobStatus(testUuid, true)).thenReturn(jobStatus);
+        when(statusMapper.toDto(jobStatus, true)).thenReturn(statusResponse);
 
         // When
-        ResponseEntity<JobStatusResponse> response = jobController.getJobStatus(uuidString);
+        ResponseEntity<JobStatusResponse> response = jobController.getJobStatus(uuidString, null, true);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(testUuid, response.getBody().getUuid());
         assertEquals(JobExecutionStatus.SUCCESS, response.getBody().getStatus());
-        verify(orchestrationService).getJobStatus(testUuid);
-        verify(statusMapper).toDto(jobStatus);
+        assertEquals("\"" + jobStatus.getStatusVersion() + "\"", response.getHeaders().getETag());
+        verify(orchestrationService).getJobStatus(testUuid, true);
+        verify(statusMapper).toDto(jobStatus, true);
+    }
+
+    @Test
+    void getJobStatus_UnchangedSinceETag_ReturnsNotModified() {
+        // Given
+        JobStatus jobStatus = new JobStatus(testUuid, JobExecutionStatus.IN_PROGRESS);
+        when(orchestrationService.getJobStatus(testUuid, true)).thenReturn(jobStatus);
+        String eTag = "\"" + jobStatus.getStatusVersion() + "\"";
+
+        // When
+        ResponseEntity<JobStatusResponse> response = jobController.getJobStatus(testUuid.toString(), "W/" + eTag, true);
+
+        // Then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(eTag, response.getHeaders().getETag());
+        verifyNoInteractions(statusMapper);
+    }
+
+    @Test
+    void getJobStatus_ChangedSinceETag_ReturnsNewStatus() {
+        // Given
+        JobStatus jobStatus = new JobStatus(testUuid, JobExecutionStatus.IN_PROGRESS);
+        String runningETag = "\"" + jobStatus.getStatusVersion() + "\"";
+        jobStatus.setStatus(JobExecutionStatus.SUCCESS);
+        jobStatus.setResponse("done");
+        jobStatus.setEndDate(LocalDateTime.now());
+        when(orchestrationService.getJobStatus(testUuid, true)).thenReturn(jobStatus);
+        when(statusMapper.toDto(jobStatus, true)).thenReturn(new JobStatusResponse());
+
+        // When
+        ResponseEntity<JobStatusResponse> response = jobController.getJobStatus(testUuid.toString(), runningETag, true);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotEquals(runningETag, response.getHeaders().getETag());
+    }
+
+    @Test
+    void awaitJob_ReturnsStatusOnceAvailable() {
+        // Given
+        JobStatus jobStatus = new JobStatus(testUuid, JobExecutionStatus.SUCCESS);
+        JobStatusResponse statusResponse = new JobStatusResponse();
+        statusResponse.setStatus(JobExecutionStatus.SUCCESS);
+        when(orchestrationService.awaitJob(testUuid, 1000L)).thenReturn(Mono.just(jobStatus));
+        when(statusMapper.toDto(jobStatus)).thenReturn(statusResponse);
+
+        // When
+        ResponseEntity<JobStatusResponse> response = jobController.awaitJob(testUuid.toString(), 1000L).block();
+
+        // Then
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(JobExecutionStatus.SUCCESS, response.getBody().getStatus());
+        assertEquals("\"" + jobStatus.getStatusVersion() + "\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void streamJobEvents_EmitsOneEventPerStatusChange() {
+        // Given
+        JobStatus running = new JobStatus(testUuid, JobExecutionStatus.IN_PROGRESS);
+        JobStatus finished = new JobStatus(testUuid, JobExecutionStatus.SUCCESS);
+        when(orchestrationService.watchJob(testUuid)).thenReturn(Flux.just(running, finished));
+        when(statusMapper.toDto(any(JobStatus.class))).thenReturn(new JobStatusResponse());
+
+        // When
+        List<ServerSentEvent<JobStatusResponse>> events =
+                jobController.streamJobEvents(testUuid.toString()).collectList().block();
+
+        // Then
+        assertNotNull(events);
+        assertEquals(List.of("IN_PROGRESS", "SUCCESS"), events.stream().map(ServerSentEvent::event).toList());
+        assertEquals(finished.getStatusVersion(), events.get(1).id());
+    }
+
+    @Test
+    void getJobStatuses_StreamsNdjson() throws IOException {
+        // Given
+        JobStatus first = new JobStatus(testUuid, JobExecutionStatus.SUCCESS);
+        JobStatus second = new JobStatus(UUID.randomUUID(), JobExecutionStatus.IN_PROGRESS);
+        when(orchestrationService.findJobStatuses(List.of(first.getUuid(), second.getUuid())))
+                .thenReturn(Stream.of(List.of(first), List.of(second)));
+        when(statusMapper.toDto(any(JobStatus.class))).thenAnswer(invocation -> statusResponse(invocation.getArgument(0)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = jobController.getJobStatuses(
+                new JobStatusLookupRequest(List.of(first.getUuid(), second.getUuid())), "application/x-ndjson");
+        response.getBody().writeTo(output);
+
+        // Then
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"status\":\"SUCCESS\""));
+        assertTrue(lines[1].contains("\"status\":\"IN_PROGRESS\""));
+    }
+
+    @Test
+    void getJobStatuses_StreamsJsonArrayByDefault() throws IOException {
+        // Given
+        JobStatus first = new JobStatus(testUuid, JobExecutionStatus.SUCCESS);
+        when(orchestrationService.findJobStatuses(List.of(testUuid))).thenReturn(Stream.of(List.of(first), List.of()));
+        when(statusMapper.toDto(first)).thenReturn(statusResponse(first));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = jobController.getJobStatuses(
+                new JobStatusLookupRequest(List.of(testUuid)), null);
+        response.getBody().writeTo(output);
+
+        // Then
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        JobStatusResponse[] statuses = objectMapper.readValue(output.toByteArray(), JobStatusResponse[].class);
+        assertEquals(1, statuses.length);
+        assertEquals(testUuid, statuses[0].getUuid());
     }
 
     @Test
     void getJobStatus_NotFound() {
         // Given
         String uuidString = testUuid.toString();
-        when(orchestrationService.getJobStatus(testUuid))
+        when(orchestrationService.getJobStatus(testUuid, true))
                 .thenThrow(new JobNotFoundException("Job not found"));
 
         // When/Then
         assertThrows(JobNotFoundException.class, 
-                () -> jobController.getJobStatus(uuidString));
+                () -> jobController.getJobStatus(uuidString, null, true));
+    }
+
+    @Test
+    void getJobStatus_WithoutResponse_LeavesResponseOut() {
+        // Given
+        JobStatus jobStatus = new JobStatus(testUuid, JobExecutionStatus.SUCCESS);
+        jobStatus.setResponseSize(5_000_000L);
+        jobStatus.setEndDate(LocalDateTime.now());
+        JobStatusResponse statusResponse = new JobStatusResponse();
+        statusResponse.setResponseSize(5_000_000L);
+        when(orchestrationService.getJobStatus(testUuid, false)).thenReturn(jobStatus);
+        when(statusMapper.toDto(jobStatus, false)).thenReturn(statusResponse);
+
+        // When
+        ResponseEntity<JobStatusResponse> response = jobController.getJobStatus(testUuid.toString(), null, false);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getBody().getResponse());
+        assertEquals(5_000_000L, response.getBody().getResponseSize());
+        assertEquals("\"" + jobStatus.getStatusVersion() + "-nr\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void getJobStatus_FullStatusETag_DoesNotValidateStatusWithoutResponse() {
+        // Given
+        JobStatus jobStatus = new JobStatus(testUuid, JobExecutionStatus.SUCCESS);
+        jobStatus.setEndDate(LocalDateTime.now());
+        when(orchestrationService.getJobStatus(testUuid, false)).thenReturn(jobStatus);
+        when(statusMapper.toDto(jobStatus, false)).thenReturn(new JobStatusResponse());
+        String fullStatusETag = "\"" + jobStatus.getStatusVersion() + "\"";
+
+        // When
+        ResponseEntity<JobStatusResponse> response = jobController.getJobStatus(testUuid.toString(), fullStatusETag, false);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotEquals(fullStatusETag, response.getHeaders().getETag());
+    }
+
+    @Test
+    void getJobResponse_StreamsStoredBody() throws IOException {
+        // Given
+        JobStatus jobStatus = new JobStatus(testUuid, JobExecutionStatus.SUCCESS);
+        jobStatus.setResponse("{\"ok\":true}");
+        jobStatus.setResponseSize(11L);
+        when(orchestrationService.getJobStatus(testUuid)).thenReturn(jobStatus);
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = jobController.getJobResponse(testUuid.toString(), null);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(11L, response.getHeaders().getContentLength());
+        assertEquals("{\"ok\":true}", output.toString(StandardCharsets.UTF_8));
+        assertEquals("\"" + jobStatus.getStatusVersion() + "-body\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void getJobResponse_UnchangedSinceETag_ReturnsNotModifiedWithoutOpeningBody() throws IOException {
+        // Given
+        JobStatus jobStatus = new JobStatus(testUuid, JobExecutionStatus.SUCCESS);
+        jobStatus.setResponse("{\"ok\":true}");
+        when(orchestrationService.getJobStatus(testUuid)).thenReturn(jobStatus);
+        String eTag = "\"" + jobStatus.getStatusVersion() + "-body\"";
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = jobController.getJobResponse(testUuid.toString(), eTag);
+
+        // Then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(eTag, response.getHeaders().getETag());
+        verify(responseStore, never()).open(any());
+    }
+
+    @Test
+    void getJobResponse_RunningJob_ReturnsNoContent() throws IOException {
+        // Given
+        when(orchestrationService.getJobStatus(testUuid)).thenReturn(new JobStatus(testUuid, JobExecutionStatus.IN_PROGRESS));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = jobController.getJobResponse(testUuid.toString(), null);
+
+        // Then
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        assertNull(response.getBody());
     }
 
     @Test
@@ -251,4 +530,11 @@ class JobControllerTest {
             // Not needed for testing
         }
     }
+
+    private static JobStatusResponse statusResponse(JobStatus jobStatus) {
+        JobStatusResponse response = new JobStatusResponse();
+        response.setUuid(jobStatus.getUuid());
+        response.setStatus(jobStatus.getStatus());
+        return response;
+    }
 }
@@ -2,6 +2,9 @@ package com.jobmanager.orchestrator.api.exception;
 
 import com.jobmanager.orchestrator.domain.exception.JobMappingNotFoundException;
 import com.jobmanager.orchestrator.domain.exception.JobNotFoundException;
+import com.jobmanager.orchestrator.domain.exception.RequestBodySpoolException;
+import com.jobmanager.orchestrator.domain.exception.RequestBodyTooLargeException;
+import com.jobmanager.orchestrator.domain.exception.RequestBodyUnreadableException;
 import com.jobmanager.orchestrator.domain.exception.ValidationException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -15,6 +18,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 
+import java.io.EOFException;
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -63,6 +68,55 @@ class GlobalExceptionHandlerTest {
         assertEquals("Job not found", response.getBody().getMessage());
     }
 
+    @Test
+    void handleRequestBodyTooLarge() {
+        // Given
+        RequestBodyTooLargeException exception = new RequestBodyTooLargeException("Body too large");
+
+        // When
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+                exceptionHandler.handleRequestBodyTooLarge(exception);
+
+        // Then
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("REQUEST_BODY_TOO_LARGE", response.getBody().getErrorCode());
+        assertEquals("Body too large", response.getBody().getMessage());
+    }
+
+    @Test
+    void handleRequestBodyUnreadable() {
+        // Given
+        RequestBodyUnreadableException exception =
+                new RequestBodyUnreadableException("Request body could not be read: EOF", new EOFException());
+
+        // When
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+                exceptionHandler.handleRequestBodyUnreadable(exception);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("REQUEST_BODY_UNREADABLE", response.getBody().getErrorCode());
+    }
+
+    @Test
+    void handleRequestBodySpool() {
+        // Given
+        RequestBodySpoolException exception =
+                new RequestBodySpoolException("Could not write spool file /spool/body-1.bin", new IOException("disk full"));
+
+        // When
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+                exceptionHandler.handleRequestBodySpool(exception);
+
+        // Then: the spool path is not leaked to the client
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("REQUEST_BODY_SPOOL_UNAVAILABLE", response.getBody().getErrorCode());
+        assertEquals("Request body could not be stored", response.getBody().getMessage());
+    }
+
     @Test
     void handleValidationException() {
         // Given
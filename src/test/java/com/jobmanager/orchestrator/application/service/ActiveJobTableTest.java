@@ -0,0 +1,109 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ActiveJobTable.
+ */
+class ActiveJobTableTest {
+
+    private final ActiveJobTable table = new ActiveJobTable();
+
+    @Test
+    void complete_FirstFinalStateWins() {
+        // Given
+        UUID uuid = track();
+
+        // When
+        ActiveJobTable.Transition cancelled = table.complete(completion(uuid, JobExecutionStatus.CANCELLED));
+        ActiveJobTable.Transition succeeded = table.complete(completion(uuid, JobExecutionStatus.SUCCESS));
+
+        // Then
+        assertEquals(ActiveJobTable.Transition.APPLIED, cancelled);
+        assertEquals(ActiveJobTable.Transition.REJECTED, succeeded);
+        assertEquals(JobExecutionStatus.CANCELLED, table.find(uuid).orElseThrow().getStatus());
+    }
+
+    @Test
+    void complete_UntrackedJob_IsNotActive() {
+        // When
+        ActiveJobTable.Transition transition = table.complete(completion(UUID.randomUUID(), JobExecutionStatus.SUCCESS));
+
+        // Then
+        assertEquals(ActiveJobTable.Transition.NOT_ACTIVE, transition);
+    }
+
+    @Test
+    void find_ReturnsSnapshotUntilRemoved() {
+        // Given
+        UUID uuid = track();
+        JobStatus running = table.find(uuid).orElseThrow();
+        table.complete(completion(uuid, JobExecutionStatus.SUCCESS));
+
+        // When
+        JobStatus finished = table.find(uuid).orElseThrow();
+        table.remove(uuid);
+
+        // Then
+        assertEquals(JobExecutionStatus.IN_PROGRESS, running.getStatus());
+        assertEquals(JobExecutionStatus.SUCCESS, finished.getStatus());
+        assertEquals("report-service", finished.getJobName());
+        assertEquals(200, finished.getHttpStatus());
+        assertTrue(table.find(uuid).isEmpty());
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    void complete_ConcurrentTransitions_ExactlyOneApplies() throws Exception {
+        // Given
+        UUID uuid = track();
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<ActiveJobTable.Transition>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            JobExecutionStatus status = i % 2 == 0 ? JobExecutionStatus.SUCCESS : JobExecutionStatus.CANCELLED;
+            results.add(executor.submit(() -> {
+                start.await();
+                return table.complete(completion(uuid, status));
+            }));
+        }
+        start.countDown();
+        int applied = 0;
+        for (Future<ActiveJobTable.Transition> result : results) {
+            if (result.get() == ActiveJobTable.Transition.APPLIED) {
+                applied++;
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(1, applied);
+    }
+
+    private UUID track() {
+        JobStatus job = new JobStatus(UUID.randomUUID(), JobExecutionStatus.IN_PROGRESS);
+        job.setJobName("report-service");
+        table.track(job);
+        return job.getUuid();
+    }
+
+    private static JobCompletion completion(UUID uuid, JobExecutionStatus status) {
+        return new JobCompletion(uuid, status, "body", 200, LocalDateTime.now());
+    }
+}
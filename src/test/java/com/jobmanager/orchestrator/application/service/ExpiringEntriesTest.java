@@ -0,0 +1,123 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ExpiringEntries.
+ */
+class ExpiringEntriesTest {
+
+    @Test
+    void put_DropsExpiredEntriesWithoutCountingThemAsEvictions() {
+        // Given
+        ExpiringEntries<String, String> entries = new ExpiringEntries<>(10);
+        entries.put("first", "1", 0, 10);
+        entries.put("second", "2", 0, 20);
+
+        // When
+        int evicted = entries.put("third", "3", 15, 100);
+
+        // Then
+        assertEquals(0, evicted);
+        assertEquals(2, entries.size());
+        assertTrue(entries.get("first", 15).isEmpty());
+        assertEquals("2", entries.get("second", 15).orElseThrow());
+    }
+
+    @Test
+    void put_Full_EvictsTheEntryClosestToExpiry() {
+        // Given
+        ExpiringEntries<String, String> entries = new ExpiringEntries<>(2);
+        entries.put("late", "1", 0, 300);
+        entries.put("early", "2", 0, 100);
+
+        // When
+        int evicted = entries.put("new", "3", 0, 200);
+
+        // Then
+        assertEquals(1, evicted);
+        assertTrue(entries.get("early", 0).isEmpty());
+        assertTrue(entries.get("late", 0).isPresent());
+        assertTrue(entries.get("new", 0).isPresent());
+    }
+
+    @Test
+    void update_MovesTheEntryInExpiryOrder() {
+        // Given
+        ExpiringEntries<String, String> entries = new ExpiringEntries<>(2);
+        entries.put("first", "1", 0, 100);
+        entries.put("second", "2", 0, 200);
+
+        // When: first now outlives second, and an absent key stays absent
+        entries.update("first", value -> value + "!", value -> 300);
+        entries.update("absent", value -> value, value -> 300);
+        entries.put("third", "3", 0, 400);
+
+        // Then
+        assertEquals(2, entries.size());
+        assertEquals("1!", entries.get("first", 0).orElseThrow());
+        assertTrue(entries.get("second", 0).isEmpty());
+        assertTrue(entries.get("absent", 0).isEmpty());
+    }
+
+    @Test
+    void remove_ForgetsTheEntryInExpiryOrder() {
+        // Given
+        ExpiringEntries<String, String> entries = new ExpiringEntries<>(2);
+        entries.put("first", "1", 0, 100);
+        entries.put("second", "2", 0, 200);
+
+        // When
+        entries.remove("first");
+        int evicted = entries.put("third", "3", 0, 300);
+
+        // Then
+        assertEquals(0, evicted);
+        assertEquals(2, entries.size());
+    }
+
+    @Test
+    void put_Concurrently_EvictsOnlyWhatIsNeeded() throws Exception {
+        // Given
+        int maxSize = 100;
+        int threads = 8;
+        int putsPerThread = 1_000;
+        ExpiringEntries<Integer, Integer> entries = new ExpiringEntries<>(maxSize);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<Integer>> evictions = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t * putsPerThread;
+            evictions.add(executor.submit(() -> {
+                start.await();
+                int evicted = 0;
+                for (int i = 0; i < putsPerThread; i++) {
+                    evicted += entries.put(offset + i, i, 0, offset + i + 1_000_000L);
+                }
+                return evicted;
+            }));
+        }
+        start.countDown();
+        int evicted = 0;
+        for (Future<Integer> future : evictions) {
+            evicted += future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then: every eviction made room for one put
+        assertTrue(entries.size() <= maxSize, "size " + entries.size());
+        assertEquals(threads * putsPerThread - entries.size(), evicted);
+    }
+}
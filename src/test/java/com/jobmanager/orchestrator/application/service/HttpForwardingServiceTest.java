@@ -1,38 +1,103 @@
 package com.jobmanager.orchestrator.application.service;
 
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for HttpForwardingService.
- * Note: Full integration testing of WebClient is complex and better suited for integration tests.
- * These tests focus on service logic and error handling.
+ * Requests are forwarded to a local HTTP server that records what it receives.
  */
 @ExtendWith(MockitoExtension.class)
 class HttpForwardingServiceTest {
 
-    @Mock
-    private WebClient.Builder webClientBuilder;
+    private static HttpServer server;
+    private static final AtomicReference<byte[]> receivedBody = new AtomicReference<>();
+    private static final AtomicReference<String> receivedContentType = new AtomicReference<>();
+    private static final AtomicReference<String> receivedContentLength = new AtomicReference<>();
 
-    @Mock
-    private RemoteClientProperties properties;
+    @Spy
+    private WebClient.Builder webClientBuilder = WebClient.builder();
 
+    @Spy
+    private RemoteClientProperties properties = new RemoteClientProperties();
+
+    @Spy
+    private RequestBodySpoolProperties spoolProperties = new RequestBodySpoolProperties();
+
+    private final ResponseStoreProperties responseStoreProperties = new ResponseStoreProperties();
+
+    @Spy
+    private ResponseStore responseStore = new ResponseStore(responseStoreProperties);
+
+    @InjectMocks
     private HttpForwardingService httpForwardingService;
+
+    @TempDir
+    Path tempDir;
+
     private String testEndpointUrl;
     private Map<String, String> testHeaders;
     private Map<String, String> testQueryParams;
 
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/echo", exchange -> {
+            receivedBody.set(exchange.getRequestBody().readAllBytes());
+            receivedContentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+            receivedContentLength.set(exchange.getRequestHeaders().getFirst("Content-Length"));
+            byte[] response = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        // Replies with ?size= bytes of repetitive JSON and the ?status= status code
+        server.createContext("/respond", exchange -> {
+            Map<String, String> params = new HashMap<>();
+            for (String param : exchange.getRequestURI().getQuery().split("&")) {
+                String[] pair = param.split("=");
+                params.put(pair[0], pair[1]);
+            }
+            byte[] response = jsonOfSize(Integer.parseInt(params.get("size")));
+            exchange.sendResponseHeaders(Integer.parseInt(params.get("status")), response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
     @BeforeEach
     void setUp() {
         testEndpointUrl = "http://localhost:8080/api/test";
@@ -42,12 +107,74 @@ class HttpForwardingServiceTest {
         testQueryParams = new HashMap<>();
         testQueryParams.put("param1", "value1");
         testQueryParams.put("param2", "value2");
-        
-        when(properties.getReadTimeout()).thenReturn(30000);
-        when(webClientBuilder.codecs(any())).thenReturn(webClientBuilder);
-        when(webClientBuilder.build()).thenReturn(WebClient.builder().build());
-        
-        httpForwardingService = new HttpForwardingService(webClientBuilder, properties);
+
+        responseStoreProperties.setDir(tempDir.resolve("responses").toString());
+        httpForwardingService.init();
+    }
+
+    @Test
+    void forwardRequest_StoresResponseInTierBySize() {
+        // When
+        StoredResponse small = respond(1_000, 200).getResponse();
+        StoredResponse medium = respond(100_000, 200).getResponse();
+        StoredResponse large = respond(3_000_000, 200).getResponse();
+
+        // Then
+        assertEquals(new String(jsonOfSize(1_000), StandardCharsets.UTF_8), small.getText());
+        assertNotNull(medium.getData());
+        assertTrue(medium.getData().length < 100_000);
+        assertEquals(100_000L, medium.getSize());
+        assertNotNull(large.getRef());
+        assertNull(large.getText());
+        assertEquals(3_000_000L, large.getSize());
+        assertEquals(new String(jsonOfSize(3_000_000), StandardCharsets.UTF_8), responseStore.read(large));
+    }
+
+    @Test
+    void forwardRequest_KeepsErrorResponseBody() {
+        // When
+        HttpForwardingService.HttpForwardingResponse response = respond(500, 503);
+
+        // Then
+        assertFalse(response.isSuccess());
+        assertEquals(503, response.getHttpStatus());
+        assertEquals(new String(jsonOfSize(500), StandardCharsets.UTF_8), responseStore.read(response.getResponse()));
+    }
+
+    @Test
+    void forwardRequest_SendsBinaryBodyUnchanged() {
+        // Given
+        byte[] body = new byte[256];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) i;
+        }
+
+        // When
+        HttpForwardingService.HttpForwardingResponse response = httpForwardingService.forwardRequest(
+                HttpMethod.POST, echoUrl(), Map.of("Content-Type", "application/x-protobuf"), null, body);
+
+        // Then
+        assertEquals(200, response.getHttpStatus());
+        assertArrayEquals(body, receivedBody.get());
+        assertEquals("application/x-protobuf", receivedContentType.get());
+    }
+
+    @Test
+    void forwardRequest_StreamsSpooledBodyFromFile() throws IOException {
+        // Given
+        byte[] body = new byte[300_000];
+        new Random(7).nextBytes(body);
+        Path file = Files.write(tempDir.resolve("body.bin"), body);
+
+        // When
+        HttpForwardingService.HttpForwardingResponse response = httpForwardingService.forwardRequest(
+                HttpMethod.PUT, echoUrl(), Map.of("Content-Type", "text/csv"), null, file);
+
+        // Then
+        assertEquals(200, response.getHttpStatus());
+        assertArrayEquals(body, receivedBody.get());
+        assertEquals(String.valueOf(body.length), receivedContentLength.get());
+        assertEquals("text/csv", receivedContentType.get());
     }
 
     @Test
@@ -128,10 +255,62 @@ class HttpForwardingServiceTest {
         // When/Then
         assertTrue(successResponse.isSuccess());
         assertFalse(errorResponse.isSuccess());
-        assertEquals("Success", successResponse.getResponseBody());
+        assertEquals("Success", successResponse.getResponse().getText());
         assertEquals(200, successResponse.getHttpStatus());
-        assertEquals("Error", errorResponse.getResponseBody());
+        assertEquals("Error", errorResponse.getResponse().getText());
         assertEquals(500, errorResponse.getHttpStatus());
     }
-}
 
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_ForwardingThroughputPerPayloadSize() throws IOException {
+        Map<String, String> headers = Map.of("Content-Type", "application/octet-stream");
+        for (int size : new int[] {1024, 64 * 1024, 1024 * 1024, 16 * 1024 * 1024}) {
+            byte[] payload = new byte[size];
+            new Random(size).nextBytes(payload);
+            Path file = Files.write(tempDir.resolve("payload-" + size + ".bin"), payload);
+            int requests = Math.max(10, (int) Math.min(200, (64L * 1024 * 1024) / size));
+
+            // Decoding to a String and re-encoding it is what forwarding did before bodies were kept as bytes
+            double text = runForwarding(requests, size, () -> new String(payload, StandardCharsets.UTF_8), headers);
+            double bytes = runForwarding(requests, size, () -> payload, headers);
+            double spooled = runForwarding(requests, size, () -> file, headers);
+
+            System.out.printf("%8d bytes: string %.1f MB/s, byte[] %.1f MB/s, spooled file %.1f MB/s%n",
+                    size, text, bytes, spooled);
+        }
+    }
+
+    private double runForwarding(int requests, int size, Supplier<Object> body,
+                                 Map<String, String> headers) {
+        // Warm up the connection pool and codecs before measuring
+        httpForwardingService.forwardRequest(HttpMethod.POST, echoUrl(), headers, null, body.get());
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            HttpForwardingService.HttpForwardingResponse response =
+                    httpForwardingService.forwardRequest(HttpMethod.POST, echoUrl(), headers, null, body.get());
+            assertEquals(200, response.getHttpStatus());
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return requests * (double) size / (1024 * 1024) / seconds;
+    }
+
+    private HttpForwardingService.HttpForwardingResponse respond(int size, int status) {
+        String url = "http://localhost:" + server.getAddress().getPort() + "/respond";
+        return httpForwardingService.forwardRequest(
+                HttpMethod.GET, url, null, Map.of("size", String.valueOf(size), "status", String.valueOf(status)), null);
+    }
+
+    private static byte[] jsonOfSize(int size) {
+        StringBuilder json = new StringBuilder(size + 32).append('[');
+        for (int i = 0; json.length() < size - 1; i++) {
+            json.append("{\"id\":").append(i % 100).append(",\"state\":\"done\"},");
+        }
+        json.setLength(size - 1);
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String echoUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/echo";
+    }
+}
@@ -0,0 +1,215 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobRestMapping;
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for IdempotencyIndex and its bloom filter.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyIndexTest {
+
+    private static final String JOB = "report-job";
+    private static final LocalDateTime LATER = LocalDateTime.now().plusDays(1);
+
+    @Mock
+    private JobStatusStore jobStatusStore;
+
+    private final AtomicLong clock = new AtomicLong();
+    private IdempotencyProperties properties;
+    private IdempotencyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        properties.setExpectedKeys(1000);
+        properties.setRecentKeyTtl(1000);
+        index = new IdempotencyIndex(jobStatusStore, properties, clock::get);
+    }
+
+    @Test
+    void findExisting_NewKey_SkipsStore() {
+        // When
+        Optional<UUID> existing = index.findExisting(JOB, "fresh-key");
+
+        // Then
+        assertTrue(existing.isEmpty());
+        verifyNoInteractions(jobStatusStore);
+    }
+
+    @Test
+    void findExisting_RecentKey_AnsweredFromMemory() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        index.record(JOB, "retried-key", uuid, LATER);
+
+        // When
+        Optional<UUID> existing = index.findExisting(JOB, "retried-key");
+
+        // Then
+        assertEquals(Optional.of(uuid), existing);
+        verifyNoInteractions(jobStatusStore);
+    }
+
+    @Test
+    void findExisting_ExpiredRecentKey_FallsBackToStore() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        index.record(JOB, "old-key", uuid, LATER);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        when(jobStatusStore.findByJobNameAndIdempotencyKey(JOB, "old-key"))
+                .thenReturn(Optional.of(new JobStatus(uuid, JobExecutionStatus.SUCCESS)));
+
+        // When
+        Optional<UUID> existing = index.findExisting(JOB, "old-key");
+
+        // Then
+        assertEquals(Optional.of(uuid), existing);
+        verify(jobStatusStore).findByJobNameAndIdempotencyKey(JOB, "old-key");
+    }
+
+    @Test
+    void findExisting_KeyIsScopedToJobName() {
+        // Given
+        index.record(JOB, "shared-key", UUID.randomUUID(), LATER);
+
+        // When
+        Optional<UUID> existing = index.findExisting("other-job", "shared-key");
+
+        // Then
+        assertTrue(existing.isEmpty());
+        verifyNoInteractions(jobStatusStore);
+    }
+
+    @Test
+    void findExisting_StoredKeyPastItsWindow_CountsAsNew() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        index.record(JOB, "expired-key", uuid, null);
+        JobStatus job = new JobStatus(uuid, JobExecutionStatus.SUCCESS);
+        job.setIdempotencyExpiresAt(LocalDateTime.now().minusSeconds(1));
+        when(jobStatusStore.findByJobNameAndIdempotencyKey(JOB, "expired-key")).thenReturn(Optional.of(job));
+
+        // When
+        Optional<UUID> existing = index.findExisting(JOB, "expired-key");
+
+        // Then
+        assertTrue(existing.isEmpty());
+    }
+
+    @Test
+    void findStored_KeyFromAnotherNode_IsFoundDespiteTheFilter() {
+        // Given: this node never recorded the key
+        UUID uuid = UUID.randomUUID();
+        JobStatus job = new JobStatus(uuid, JobExecutionStatus.IN_PROGRESS);
+        job.setIdempotencyExpiresAt(LATER);
+        when(jobStatusStore.findByJobNameAndIdempotencyKey(JOB, "remote-key")).thenReturn(Optional.of(job));
+
+        // When
+        Optional<UUID> existing = index.findStored(JOB, "remote-key");
+
+        // Then
+        assertEquals(Optional.of(uuid), existing);
+    }
+
+    @Test
+    void record_ShortWindow_IsNotAnsweredFromMemoryAfterItEnds() {
+        // Given
+        index.record(JOB, "short-key", UUID.randomUUID(), LocalDateTime.now().minusSeconds(1));
+        when(jobStatusStore.findByJobNameAndIdempotencyKey(JOB, "short-key")).thenReturn(Optional.empty());
+
+        // When
+        Optional<UUID> existing = index.findExisting(JOB, "short-key");
+
+        // Then
+        assertTrue(existing.isEmpty());
+        verify(jobStatusStore).findByJobNameAndIdempotencyKey(JOB, "short-key");
+    }
+
+    @Test
+    void expiryFor_UsesMappingWindowOrDefault() {
+        // Given
+        JobRestMapping mapping = new JobRestMapping(JOB, "report-service", "http://localhost", 8080, "POST");
+        Route defaultRoute = Route.compile(mapping);
+        mapping.setIdempotencyWindow(60000L);
+        Route shortRoute = Route.compile(mapping);
+        LocalDateTime now = LocalDateTime.now();
+
+        // When/Then
+        assertEquals(now.plusSeconds(60), index.expiryFor(shortRoute, now));
+        assertEquals(now.plusNanos(TimeUnit.MILLISECONDS.toNanos(properties.getWindow())),
+                index.expiryFor(defaultRoute, now));
+    }
+
+    @Test
+    void record_RotatesFullFilterButKeepsPreviousGeneration() {
+        // Given
+        properties.setExpectedKeys(10);
+        properties.setRecentKeyTtl(0);
+        index = new IdempotencyIndex(jobStatusStore, properties, clock::get);
+        for (int i = 0; i < 10; i++) {
+            index.record(JOB, "key-" + i, UUID.randomUUID(), LATER);
+        }
+        when(jobStatusStore.findByJobNameAndIdempotencyKey(JOB, "key-0")).thenReturn(Optional.empty());
+
+        // When
+        index.findExisting(JOB, "key-0");
+
+        // Then: the key is still known to the previous generation, so the store is asked
+        verify(jobStatusStore).findByJobNameAndIdempotencyKey(JOB, "key-0");
+    }
+
+    @Test
+    void bloomFilter_HasNoFalseNegativesAndFewFalsePositives() {
+        // Given
+        IdempotencyBloomFilter filter = new IdempotencyBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("added-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("added-" + i));
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(filter.isFull());
+        assertTrue(falsePositives < 300, "False positives: " + falsePositives);
+    }
+
+    @Test
+    void metrics_CountChecksByOutcome() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        IdempotencyIndex metered = new IdempotencyIndex(jobStatusStore, properties, meterRegistry);
+        metered.record(JOB, "retried-key", UUID.randomUUID(), LATER);
+
+        // When
+        metered.findExisting(JOB, "fresh-key");
+        metered.findExisting(JOB, "retried-key");
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("job.idempotency.checks").tag("outcome", "filtered").counter().count());
+        assertEquals(1.0, meterRegistry.get("job.idempotency.checks").tag("outcome", "recent").counter().count());
+    }
+}
@@ -0,0 +1,64 @@
+package com.jobmanager.orchestrator.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for IdempotencyKeyCompactor.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyCompactorTest {
+
+    @Mock
+    private JobStatusStore jobStatusStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyKeyCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setCompactionBatchSize(100);
+        meterRegistry = new SimpleMeterRegistry();
+        compactor = new IdempotencyKeyCompactor(jobStatusStore, properties, meterRegistry);
+    }
+
+    @Test
+    void compact_ClearsBatchesUntilAShortOne() {
+        // Given
+        when(jobStatusStore.clearExpiredIdempotencyKeys(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100, 100, 40);
+
+        // When
+        int cleared = compactor.compact();
+
+        // Then
+        assertEquals(240, cleared);
+        verify(jobStatusStore, times(3)).clearExpiredIdempotencyKeys(any(LocalDateTime.class), eq(100));
+        assertEquals(240.0, meterRegistry.get("job.idempotency.keys.expired").counter().count());
+    }
+
+    @Test
+    void compact_NothingExpired_RunsOneBatch() {
+        // Given
+        when(jobStatusStore.clearExpiredIdempotencyKeys(any(LocalDateTime.class), eq(100))).thenReturn(0);
+
+        // When
+        int cleared = compactor.compact();
+
+        // Then
+        assertEquals(0, cleared);
+        verify(jobStatusStore, times(1)).clearExpiredIdempotencyKeys(any(LocalDateTime.class), eq(100));
+    }
+}
@@ -0,0 +1,162 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JobDispatcher.
+ * Verifies that a job waiting on its downstream call holds no executor thread.
+ * {@code JobCreateLatencyIntegrationTest} covers job creation through the REST API against a slow target.
+ */
+class JobDispatcherTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private JobDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(5);
+        executor.setMaxPoolSize(10);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("test-job-executor-");
+        executor.initialize();
+        dispatcher = new JobDispatcher(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void dispatch_SubscribesOnExecutorThread() throws Exception {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        CountDownLatch finished = new CountDownLatch(1);
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+        // When
+        dispatcher.dispatch(uuid, Mono.fromRunnable(() -> {
+            threadNames.add(Thread.currentThread().getName());
+            finished.countDown();
+        }));
+
+        // Then
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertTrue(threadNames.iterator().next().startsWith("test-job-executor-"));
+    }
+
+    @Test
+    void dispatch_RemovesFromRegistryWhenDone() throws Exception {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        dispatcher.dispatch(uuid, Mono.fromRunnable(() -> awaitQuietly(release)));
+
+        // Then
+        assertTrue(dispatcher.isActive(uuid));
+        release.countDown();
+        waitUntilInactive(uuid);
+        assertFalse(dispatcher.isActive(uuid));
+    }
+
+    @Test
+    void cancel_DisposesRunningPipeline() throws Exception {
+        // Given - a pipeline waiting on a slow remote call
+        UUID uuid = UUID.randomUUID();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        dispatcher.dispatch(uuid, Mono.delay(Duration.ofSeconds(30))
+                .doOnSubscribe(s -> subscribed.countDown())
+                .doOnCancel(cancelled::countDown)
+                .then());
+        assertTrue(subscribed.await(5, TimeUnit.SECONDS));
+
+        // When
+        boolean result = dispatcher.cancel(uuid);
+
+        // Then
+        assertTrue(result);
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+        assertFalse(dispatcher.isActive(uuid));
+    }
+
+    @Test
+    void cancel_UnknownJob_ReturnsFalse() {
+        assertFalse(dispatcher.cancel(UUID.randomUUID()));
+    }
+
+    @Test
+    void dispatch_Rejected_PropagatesAndDoesNotRegister() {
+        // Given
+        ThreadPoolTaskExecutor tiny = new ThreadPoolTaskExecutor();
+        tiny.setCorePoolSize(1);
+        tiny.setMaxPoolSize(1);
+        tiny.setQueueCapacity(0);
+        tiny.initialize();
+        JobDispatcher tinyDispatcher = new JobDispatcher(tiny);
+        CountDownLatch release = new CountDownLatch(1);
+        tinyDispatcher.dispatch(UUID.randomUUID(), Mono.fromRunnable(() -> awaitQuietly(release)));
+        UUID rejected = UUID.randomUUID();
+
+        // When/Then
+        try {
+            assertThrows(TaskRejectedException.class, () -> tinyDispatcher.dispatch(rejected, Mono.empty()));
+            assertFalse(tinyDispatcher.isActive(rejected));
+        } finally {
+            release.countDown();
+            tiny.shutdown();
+        }
+    }
+
+    @Test
+    void slowJobs_DoNotHoldExecutorThreads() throws Exception {
+        // Given - far more concurrent slow jobs than executor threads
+        int jobs = 2_000;
+        CountDownLatch finished = new CountDownLatch(jobs);
+        long start = System.nanoTime();
+
+        // When
+        for (int i = 0; i < jobs; i++) {
+            dispatcher.dispatch(UUID.randomUUID(), Mono.delay(Duration.ofMillis(500))
+                    .doOnTerminate(finished::countDown)
+                    .then());
+        }
+
+        // Then - 10 threads holding one job each would need 100s; waiting without threads needs ~0.5s
+        assertTrue(finished.await(10, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10);
+        assertTrue(executor.getPoolSize() <= 10);
+    }
+
+    private void waitUntilInactive(UUID uuid) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (dispatcher.isActive(uuid) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
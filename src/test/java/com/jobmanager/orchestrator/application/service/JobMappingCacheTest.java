@@ -0,0 +1,127 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobRestMapping;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JobMappingCache.
+ */
+class JobMappingCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private JobMappingCacheProperties properties;
+    private JobMappingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JobMappingCacheProperties();
+        properties.setTtl(1000);
+        properties.setMaxSize(2);
+        cache = new JobMappingCache(properties, clock::get);
+    }
+
+    @Test
+    void get_ReloadsAfterTtl() {
+        // Given
+        cache.get("report", this::load);
+
+        // When
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        cache.get("report", this::load);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        cache.get("report", this::load);
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void get_DoesNotCacheUnknownJobs() {
+        // When
+        cache.get("unknown", name -> Optional.empty());
+        Optional<Route> created = cache.get("unknown", this::load);
+
+        // Then
+        assertTrue(created.isPresent());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void get_EvictsOldestEntryWhenFull() {
+        // Given
+        cache.get("first", this::load);
+        clock.incrementAndGet();
+        cache.get("second", this::load);
+        clock.incrementAndGet();
+
+        // When
+        cache.get("third", this::load);
+        cache.get("second", this::load);
+        cache.get("first", this::load);
+
+        // Then
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHitCount()); // second stayed, first was evicted and reloaded
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void invalidate_ForcesReload() {
+        // Given
+        cache.get("report", this::load);
+
+        // When
+        cache.invalidate("report");
+        cache.get("report", this::load);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidate_DuringLoad_DoesNotCacheStaleMapping() {
+        // When
+        cache.get("report", name -> {
+            cache.invalidate(name); // A mapping write lands while the old version is being read
+            return load(name);
+        });
+        cache.get("report", this::load);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void metrics_PublishHitsAndMisses() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JobMappingCache meteredCache = new JobMappingCache(properties, meterRegistry);
+
+        // When
+        meteredCache.get("report", this::load);
+        meteredCache.get("report", this::load);
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("job.mapping.cache.hits").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("job.mapping.cache.misses").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("job.mapping.cache.size").gauge().value());
+    }
+
+    private Optional<Route> load(String jobName) {
+        loads.incrementAndGet();
+        return Optional.of(Route.compile(new JobRestMapping(jobName, "report-service", "http://localhost", 8081, "POST")));
+    }
+}
@@ -0,0 +1,117 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobRestMapping;
+import com.jobmanager.orchestrator.persistence.mongodb.document.JobMapping;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for JobMappingReplicator in polling mode, which works on any MongoDB deployment.
+ * Runs against the MongoDB at {@code MONGODB_URI} (default {@code mongodb://localhost:27017})
+ * and is skipped when none is reachable.
+ */
+class JobMappingReplicatorTest {
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private ReplicatedMappingTable table;
+    private JobMappingReplicator replicator;
+
+    @BeforeAll
+    static void connect() {
+        String uri = System.getenv().getOrDefault("MONGODB_URI", "mongodb://localhost:27017");
+        mongoClient = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(uri))
+                .applyToClusterSettings(cluster -> cluster.serverSelectionTimeout(1, TimeUnit.SECONDS))
+                .build());
+        boolean reachable;
+        try {
+            mongoClient.getDatabase("admin").runCommand(new Document("ping", 1));
+            reachable = true;
+        } catch (RuntimeException e) {
+            reachable = false;
+        }
+        assumeTrue(reachable, "MongoDB is not reachable at " + uri);
+        mongoTemplate = new MongoTemplate(mongoClient, "job_orchestrator_replication_test");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (mongoClient != null) {
+            mongoClient.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(JobRestMapping.class);
+        mongoTemplate.dropCollection(JobMapping.class);
+        MappingReplicationProperties properties = new MappingReplicationProperties();
+        properties.setMode("polling");
+        properties.setPollInterval(50);
+        table = new ReplicatedMappingTable();
+        replicator = new JobMappingReplicator(mongoTemplate, table,
+                new JobMappingCache(new JobMappingCacheProperties(), new SimpleMeterRegistry()), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicator.stop();
+    }
+
+    @Test
+    void replicatesInsertsUpdatesAndDeletesMadeByOtherNodes() {
+        // Given
+        JobRestMapping report = mongoTemplate.insert(
+                new JobRestMapping("report", "report-service", "http://localhost", 8081, "POST"));
+        replicator.start();
+        await(table::isReady);
+        assertEquals("report-service", table.find("report").orElseThrow().getServiceName());
+
+        // When: another node edits the mappings
+        report.setServiceName("report-service-v2");
+        mongoTemplate.save(report);
+        mongoTemplate.insert(new JobMapping("notify", "notification-service", "http://localhost", 8082));
+
+        // Then
+        await(() -> table.find("report").map(m -> m.getServiceName().equals("report-service-v2")).orElse(false));
+        await(() -> table.find("notify").isPresent());
+
+        // When
+        mongoTemplate.remove(report);
+
+        // Then
+        await(() -> table.find("report").isEmpty());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within 5s");
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
@@ -24,6 +25,12 @@ class JobMappingServiceTest {
     @Mock
     private JobRestMappingRepository mappingRepository;
 
+    @Spy
+    private JobMappingCache mappingCache = new JobMappingCache(new JobMappingCacheProperties(), System::nanoTime);
+
+    @Spy
+    private ReplicatedMappingTable mappingTable = new ReplicatedMappingTable();
+
     @InjectMocks
     private JobMappingService mappingService;
 
@@ -33,7 +40,7 @@ class JobMappingServiceTest {
     @BeforeEach
     void setUp() {
         testJobName = "test-job";
-        testMapping = new JobRestMapping(testJobName, "test-service", "http://localhost", 8080);
+        testMapping = new JobRestMapping(testJobName, "test-service", "http://localhost", 8080, "POST");
     }
 
     @Test
@@ -42,7 +49,7 @@ class JobMappingServiceTest {
         when(mappingRepository.findByJobName(testJobName)).thenReturn(Optional.of(testMapping));
 
         // When
-        JobRestMapping result = mappingService.resolveMapping(testJobName);
+        Route result = mappingService.resolveRoute(testJobName);
 
         // Then
         assertNotNull(result);
@@ -50,6 +57,35 @@ class JobMappingServiceTest {
         verify(mappingRepository).findByJobName(testJobName);
     }
 
+    @Test
+    void resolveMapping_ServesRepeatedLookupsFromCache() {
+        // Given
+        when(mappingRepository.findByJobName(testJobName)).thenReturn(Optional.of(testMapping));
+
+        // When
+        Route first = mappingService.resolveRoute(testJobName);
+        Route result = mappingService.resolveRoute(testJobName);
+
+        // Then
+        assertSame(first, result);
+        verify(mappingRepository, times(1)).findByJobName(testJobName);
+        assertEquals(1, mappingCache.getHitCount());
+    }
+
+    @Test
+    void resolveMapping_PrefersReplicatedTable() {
+        // Given
+        testMapping.setId("id-1");
+        mappingTable.put(ReplicatedMappingTable.Source.REST_MAPPINGS, "id-1", testMapping);
+
+        // When
+        Route result = mappingService.resolveRoute(testJobName);
+
+        // Then
+        assertSame(mappingTable.find(testJobName).orElseThrow(), result);
+        verifyNoInteractions(mappingRepository);
+    }
+
     @Test
     void resolveMapping_NotFound() {
         // Given
@@ -57,7 +93,7 @@ class JobMappingServiceTest {
 
         // When/Then
         assertThrows(JobMappingNotFoundException.class, 
-                () -> mappingService.resolveMapping(testJobName));
+                () -> mappingService.resolveRoute(testJobName));
     }
 }
 
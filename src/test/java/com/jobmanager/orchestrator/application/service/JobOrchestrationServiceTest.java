@@ -1,27 +1,41 @@
 package com.jobmanager.orchestrator.application.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobmanager.orchestrator.domain.entity.JobRestMapping;
 import com.jobmanager.orchestrator.domain.entity.JobStatus;
 import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import com.jobmanager.orchestrator.domain.exception.BulkheadFullException;
 import com.jobmanager.orchestrator.domain.exception.JobMappingNotFoundException;
 import com.jobmanager.orchestrator.domain.exception.JobNotFoundException;
-import com.jobmanager.orchestrator.persistence.repository.JobStatusRepository;
+import com.jobmanager.orchestrator.domain.exception.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpMethod;
-import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -41,12 +55,49 @@ class JobOrchestrationServiceTest {
     private HttpForwardingService httpForwardingService;
 
     @Mock
-    private JobStatusRepository jobStatusRepository;
+    private JobStatusStore jobStatusStore;
+
+    @Mock
+    private JobDispatcher jobDispatcher;
+
+    @Mock
+    private ServiceBulkheadRegistry bulkheadRegistry;
+
+    @Mock
+    private JobQueue jobQueue;
+
+    @Mock
+    private IdempotencyIndex idempotencyIndex;
+
+    @Mock
+    private JobStatusWriter jobStatusWriter;
+
+    @Spy
+    private ActiveJobTable activeJobs = new ActiveJobTable();
+
+    @Spy
+    private JobStatusCache statusCache = new JobStatusCache(new JobStatusCacheProperties(), System::nanoTime);
+
+    @Spy
+    private JobAwaitProperties awaitProperties = new JobAwaitProperties();
+
+    @Spy
+    private JobStatusLookupProperties lookupProperties = new JobStatusLookupProperties();
+
+    @Spy
+    private JobStatusNotifier statusNotifier = new JobStatusNotifier(awaitProperties, Schedulers.immediate());
+
+    @Mock
+    private RequestBodySpool requestBodySpool;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
 
     @InjectMocks
     private JobOrchestrationService orchestrationService;
 
     private JobRestMapping testMapping;
+    private Route testRoute;
     private String testJobName;
     private String testIdempotencyKey;
     private UUID testUuid;
@@ -56,55 +107,536 @@ class JobOrchestrationServiceTest {
         testJobName = "test-job";
         testIdempotencyKey = "test-idempotency-key-123";
         testUuid = UUID.randomUUID();
-        testMapping = new JobRestMapping(testJobName, "test-service", "http://localhost", 8080);
+        testMapping = new JobRestMapping(testJobName, "test-service", "http://localhost", 8080, "POST");
+        testRoute = Route.compile(testMapping);
     }
 
     @Test
     void createAndTriggerJob_Success() {
         // Given
-        when(mappingService.resolveMapping(testJobName)).thenReturn(testMapping);
-        when(jobStatusRepository.findByIdempotencyKey(testIdempotencyKey)).thenReturn(Optional.empty());
-        when(jobStatusRepository.save(any(JobStatus.class))).thenAnswer(invocation -> {
-            JobStatus status = invocation.getArgument(0);
-            status.setId(1L);
-            return status;
-        });
+        when(mappingService.resolveRoute(testJobName)).thenReturn(testRoute);
+        when(bulkheadRegistry.forRoute(testRoute)).thenReturn(new ServiceBulkhead("test-service", 1, 0));
+        when(idempotencyIndex.findExisting(testJobName, testIdempotencyKey)).thenReturn(Optional.empty());
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(1);
+        when(idempotencyIndex.expiryFor(eq(testRoute), any(LocalDateTime.class))).thenReturn(expiresAt);
+        when(jobQueue.enqueue(any(JobStatus.class)))
+                .thenAnswer(invocation -> JobReservation.created(invocation.<JobStatus>getArgument(0).getUuid()));
 
         // When
-        UUID uuid = orchestrationService.createAndTriggerJob(
+        JobReservation reservation = orchestrationService.createAndTriggerJob(
                 testJobName, testIdempotencyKey, HttpMethod.POST, 
-                new HashMap<>(), new HashMap<>(), "{}");
+                Map.of("X-Trace", "abc"), new HashMap<>(), "{}");
 
         // Then
-        assertNotNull(uuid);
-        verify(mappingService).resolveMapping(testJobName);
-        verify(jobStatusRepository).findByIdempotencyKey(testIdempotencyKey);
-        verify(jobStatusRepository).save(any(JobStatus.class));
+        assertTrue(reservation.isCreated());
+        UUID uuid = reservation.getUuid();
+        verify(mappingService).resolveRoute(testJobName);
+        verify(idempotencyIndex).findExisting(testJobName, testIdempotencyKey);
+        verify(idempotencyIndex).record(testJobName, testIdempotencyKey, uuid, expiresAt);
+        ArgumentCaptor<JobStatus> jobCaptor = ArgumentCaptor.forClass(JobStatus.class);
+        verify(jobQueue).enqueue(jobCaptor.capture());
+        JobStatus queued = jobCaptor.getValue();
+        assertEquals(uuid, queued.getUuid());
+        assertEquals(JobExecutionStatus.STARTED, queued.getStatus());
+        assertEquals(expiresAt, queued.getIdempotencyExpiresAt());
+        assertEquals(testJobName, queued.getJobName());
+        assertEquals("test-service", queued.getServiceName());
+        assertEquals("POST", queued.getRequestMethod());
+        assertEquals("{\"X-Trace\":\"abc\"}", queued.getRequestHeaders());
+        assertNull(queued.getRequestQueryParams());
+        assertEquals("{}", queued.getRequestBody());
+        verifyNoInteractions(jobDispatcher, httpForwardingService);
     }
 
     @Test
-    void createAndTriggerJob_IdempotentRequest() {
+    void startClaimedJob_DispatchesExecution() {
+        // Given
+        JobStatus claimed = claimedJob();
+        when(mappingService.resolveRoute(testJobName)).thenReturn(testRoute);
+        when(bulkheadRegistry.forRoute(testRoute)).thenReturn(new ServiceBulkhead("test-service", 1, 0));
+        when(jobDispatcher.getScheduler()).thenReturn(Schedulers.immediate());
+
+        // When
+        boolean started = orchestrationService.startClaimedJob(claimed);
+
+        // Then
+        assertTrue(started);
+        verify(jobDispatcher).dispatch(eq(testUuid), any(Mono.class));
+    }
+
+    @Test
+    void startClaimedJob_ServiceFull_ReturnsJobToQueue() {
+        // Given
+        JobStatus claimed = claimedJob();
+        ServiceBulkhead bulkhead = new ServiceBulkhead("test-service", 1, 0);
+        bulkhead.reserve();
+        when(mappingService.resolveRoute(testJobName)).thenReturn(testRoute);
+        when(bulkheadRegistry.forRoute(testRoute)).thenReturn(bulkhead);
+
+        // When
+        boolean started = orchestrationService.startClaimedJob(claimed);
+
+        // Then
+        assertFalse(started);
+        verifyNoInteractions(jobDispatcher);
+    }
+
+    @Test
+    void startClaimedJob_MappingRemoved_MarksFailed() {
+        // Given
+        JobStatus claimed = claimedJob();
+        when(mappingService.resolveRoute(testJobName))
+                .thenThrow(new JobMappingNotFoundException("Mapping not found"));
+        when(jobStatusWriter.complete(any(JobCompletion.class))).thenReturn(Mono.empty());
+
+        // When
+        boolean started = orchestrationService.startClaimedJob(claimed);
+
+        // Then
+        assertTrue(started);
+        ArgumentCaptor<JobCompletion> completion = ArgumentCaptor.forClass(JobCompletion.class);
+        verify(jobStatusWriter).complete(completion.capture());
+        assertEquals(testUuid, completion.getValue().getUuid());
+        assertEquals(JobExecutionStatus.FAILED, completion.getValue().getStatus());
+        verifyNoInteractions(jobDispatcher);
+        verify(jobStatusStore, never()).save(any(JobStatus.class));
+    }
+
+    @Test
+    void startClaimedJob_UnreadableRow_MarksFailedAndDeletesBody() {
+        // Given: a row without job name or method, as left by an old version
+        JobStatus claimed = new JobStatus(testUuid, JobExecutionStatus.IN_PROGRESS);
+        claimed.setRequestBodyFile("/spool/body.bin");
+        when(mappingService.resolveRoute(null)).thenThrow(new NullPointerException());
+        when(jobStatusWriter.complete(any(JobCompletion.class))).thenReturn(Mono.empty());
+
+        // When
+        boolean started = orchestrationService.startClaimedJob(claimed);
+
+        // Then: the job is finished, so the poller moves on to the rest of its batch
+        assertTrue(started);
+        ArgumentCaptor<JobCompletion> completion = ArgumentCaptor.forClass(JobCompletion.class);
+        verify(jobStatusWriter).complete(completion.capture());
+        assertEquals(JobExecutionStatus.FAILED, completion.getValue().getStatus());
+        verify(requestBodySpool).delete("/spool/body.bin");
+        verifyNoInteractions(jobDispatcher);
+    }
+
+    @Test
+    void executeJob_HandsResultToStatusWriterWithoutReads() {
+        // Given
+        when(jobDispatcher.getScheduler()).thenReturn(Schedulers.immediate());
+        when(httpForwardingService.forwardRequestReactive(eq(testRoute), eq(HttpMethod.POST), any(), any(), any()))
+                .thenReturn(Mono.just(new HttpForwardingService.HttpForwardingResponse("{\"ok\":true}", 200)));
+        when(jobStatusWriter.complete(any(JobCompletion.class))).thenReturn(Mono.empty());
+
+        // When
+        orchestrationService.executeJob(testUuid, testRoute, HttpMethod.POST, Map.of(), Map.of(), "{}").block();
+
+        // Then
+        ArgumentCaptor<JobCompletion> completion = ArgumentCaptor.forClass(JobCompletion.class);
+        verify(jobStatusWriter).complete(completion.capture());
+        assertEquals(JobExecutionStatus.SUCCESS, completion.getValue().getStatus());
+        assertEquals(200, completion.getValue().getHttpStatus());
+        assertEquals("{\"ok\":true}", completion.getValue().getResponse().getText());
+        verifyNoInteractions(jobStatusStore);
+    }
+
+    @Test
+    void createAndTriggerJob_SpooledBodyStoresFileReference() {
+        // Given
+        when(mappingService.resolveRoute(testJobName)).thenReturn(testRoute);
+        when(bulkheadRegistry.forRoute(testRoute)).thenReturn(new ServiceBulkhead("test-service", 1, 0));
+        when(jobQueue.enqueue(any(JobStatus.class)))
+                .thenAnswer(invocation -> JobReservation.created(invocation.<JobStatus>getArgument(0).getUuid()));
+
+        // When
+        orchestrationService.createAndTriggerJob(
+                testJobName, null, HttpMethod.POST, Map.of(), Map.of(), Path.of("/spool/body-1.bin"));
+
+        // Then
+        ArgumentCaptor<JobStatus> jobCaptor = ArgumentCaptor.forClass(JobStatus.class);
+        verify(jobQueue).enqueue(jobCaptor.capture());
+        assertNull(jobCaptor.getValue().getRequestBody());
+        assertEquals(Path.of("/spool/body-1.bin").toString(), jobCaptor.getValue().getRequestBodyFile());
+    }
+
+    @Test
+    void startClaimedJob_ForwardsStoredBytesUnchanged() {
+        // Given
+        byte[] body = {0x08, (byte) 0x96, 0x01};
+        JobStatus claimed = claimedJob();
+        claimed.setRequestBody(null);
+        claimed.setRequestBodyBytes(body);
+        when(mappingService.resolveRoute(testJobName)).thenReturn(testRoute);
+        when(bulkheadRegistry.forRoute(testRoute)).thenReturn(new ServiceBulkhead("test-service", 1, 0));
+        when(jobDispatcher.getScheduler()).thenReturn(Schedulers.immediate());
+        when(httpForwardingService.forwardRequestReactive(eq(testRoute), eq(HttpMethod.POST), any(), any(), same(body)))
+                .thenReturn(Mono.just(new HttpForwardingService.HttpForwardingResponse("ok", 200)));
+        when(jobStatusWriter.complete(any(JobCompletion.class))).thenReturn(Mono.empty());
+        ArgumentCaptor<Mono<Void>> execution = ArgumentCaptor.forClass(Mono.class);
+
+        // When
+        orchestrationService.startClaimedJob(claimed);
+        verify(jobDispatcher).dispatch(eq(testUuid), execution.capture());
+        execution.getValue().block();
+
+        // Then
+        verify(httpForwardingService).forwardRequestReactive(eq(testRoute), eq(HttpMethod.POST), any(), any(), same(body));
+    }
+
+    @Test
+    void executeJob_StreamsSpooledBodyAndDeletesItWhenFinished() {
+        // Given
+        Path body = Path.of("/spool/body-1.bin");
+        when(jobDispatcher.getScheduler()).thenReturn(Schedulers.immediate());
+        when(httpForwardingService.forwardRequestReactive(eq(testRoute), eq(HttpMethod.POST), any(), any(), eq(body)))
+                .thenReturn(Mono.just(new HttpForwardingService.HttpForwardingResponse("{\"ok\":true}", 200)));
+        when(jobStatusWriter.complete(any(JobCompletion.class))).thenReturn(Mono.empty());
+
+        // When
+        orchestrationService.executeJob(testUuid, testRoute, HttpMethod.POST, Map.of(), Map.of(), body).block();
+
+        // Then
+        verify(jobStatusWriter).complete(any(JobCompletion.class));
+        verify(requestBodySpool).delete(body.toString());
+    }
+
+    @Test
+    void executeJob_CancelledDuringExecution_DiscardsResult() {
+        // Given
+        activeJobs.track(claimedJob());
+        when(jobDispatcher.getScheduler()).thenReturn(Schedulers.immediate());
+        when(httpForwardingService.forwardRequestReactive(eq(testRoute), eq(HttpMethod.POST), any(), any(), any()))
+                .thenReturn(Mono.fromSupplier(() -> {
+                    orchestrationService.cancelJob(testUuid);
+                    return new HttpForwardingService.HttpForwardingResponse("{\"ok\":true}", 200);
+                }));
+
+        // When
+        orchestrationService.executeJob(testUuid, testRoute, HttpMethod.POST, Map.of(), Map.of(), "{}").block();
+
+        // Then
+        ArgumentCaptor<JobCompletion> completion = ArgumentCaptor.forClass(JobCompletion.class);
+        verify(jobStatusWriter).complete(completion.capture());
+        assertEquals(JobExecutionStatus.CANCELLED, completion.getValue().getStatus());
+        assertEquals(JobExecutionStatus.CANCELLED, orchestrationService.getJobStatus(testUuid).getStatus());
+        verify(jobDispatcher).cancel(testUuid);
+        verifyNoInteractions(jobStatusStore);
+    }
+
+    @Test
+    void getJobStatus_RunningJob_ServedFromMemory() {
+        // Given
+        activeJobs.track(claimedJob());
+
+        // When
+        JobStatus result = orchestrationService.getJobStatus(testUuid);
+
+        // Then
+        assertEquals(JobExecutionStatus.IN_PROGRESS, result.getStatus());
+        assertEquals(testJobName, result.getJobName());
+        verifyNoInteractions(jobStatusStore, jobStatusWriter);
+    }
+
+    @Test
+    void getJobStatus_RecentJob_ServedFromCacheWithResponseReadFromStore() {
+        // Given
+        JobStatus stored = new JobStatus(testUuid, JobExecutionStatus.SUCCESS);
+        stored.setResponse("done");
+        when(jobStatusStore.findByUuid(testUuid)).thenReturn(Optional.of(stored));
+        when(jobStatusStore.findResponse(testUuid)).thenReturn(Optional.of(StoredResponse.inline("done")));
+
+        // When
+        orchestrationService.getJobStatus(testUuid);
+        JobStatus result = orchestrationService.getJobStatus(testUuid);
+
+        // Then: the cache keeps no body, so only the response is read again
+        assertEquals(JobExecutionStatus.SUCCESS, result.getStatus());
+        assertEquals("done", result.getResponse());
+        verify(jobStatusStore, times(1)).findByUuid(testUuid);
+        verify(jobStatusStore, times(1)).findResponse(testUuid);
+    }
+
+    @Test
+    void getJobStatus_CachedFileResponse_ServedFromCacheOnly() {
+        // Given
+        JobStatus stored = new JobStatus(testUuid, JobExecutionStatus.SUCCESS);
+        stored.setResponseRef("sha256:abc");
+        stored.setResponseSize(5_000_000L);
+        statusCache.put(stored);
+
+        // When
+        JobStatus result = orchestrationService.getJobStatus(testUuid);
+
+        // Then
+        assertEquals("sha256:abc", result.getResponseRef());
+        verifyNoInteractions(jobStatusStore);
+    }
+
+    @Test
+    void getJobStatus_WithoutResponse_ReadsStatusFieldsOnly() {
+        // Given
+        JobStatus stored = new JobStatus(testUuid, JobExecutionStatus.SUCCESS);
+        stored.setResponseSize(5_000_000L);
+        when(jobStatusStore.findStatusWithoutResponse(testUuid)).thenReturn(Optional.of(stored));
+
+        // When
+        JobStatus result = orchestrationService.getJobStatus(testUuid, false);
+        orchestrationService.getJobStatus(testUuid, false);
+
+        // Then
+        assertEquals(JobExecutionStatus.SUCCESS, result.getStatus());
+        assertEquals(5_000_000L, result.getResponseSize());
+        // A finished job read without its response is not cached, so full reads still get it
+        verify(jobStatusStore, times(2)).findStatusWithoutResponse(testUuid);
+        verify(jobStatusStore, never()).findByUuid(any());
+    }
+
+    @Test
+    void getJobStatus_WithoutResponse_CachesRunningJob() {
+        // Given
+        when(jobStatusStore.findStatusWithoutResponse(testUuid))
+                .thenReturn(Optional.of(new JobStatus(testUuid, JobExecutionStatus.STARTED)));
+
+        // When
+        orchestrationService.getJobStatus(testUuid, false);
+        JobStatus result = orchestrationService.getJobStatus(testUuid, true);
+
+        // Then
+        assertEquals(JobExecutionStatus.STARTED, result.getStatus());
+        verify(jobStatusStore, times(1)).findStatusWithoutResponse(testUuid);
+        verify(jobStatusStore, never()).findByUuid(any());
+    }
+
+    @Test
+    void executeJob_CompletionUpdatesCachedStatus() {
+        // Given
+        JobStatus claimed = claimedJob();
+        activeJobs.track(claimed);
+        statusCache.put(claimed);
+        when(jobDispatcher.getScheduler()).thenReturn(Schedulers.immediate());
+        when(httpForwardingService.forwardRequestReactive(eq(testRoute), eq(HttpMethod.POST), any(), any(), any()))
+                .thenReturn(Mono.just(new HttpForwardingService.HttpForwardingResponse("{\"ok\":true}", 200)));
+        AtomicReference<JobCompletion> written = new AtomicReference<>();
+        when(jobStatusWriter.complete(any(JobCompletion.class))).thenAnswer(invocation -> {
+            written.set(invocation.getArgument(0));
+            return Mono.empty();
+        });
+        when(jobStatusWriter.pending(testUuid)).thenAnswer(invocation -> Optional.ofNullable(written.get()));
+
+        // When
+        orchestrationService.executeJob(testUuid, testRoute, HttpMethod.POST, Map.of(), Map.of(), "{}").block();
+        activeJobs.remove(testUuid);
+        JobStatus result = orchestrationService.getJobStatus(testUuid);
+
+        // Then: the response is taken from the completion the writer has not stored yet
+        assertEquals(JobExecutionStatus.SUCCESS, result.getStatus());
+        assertEquals(200, result.getHttpStatus());
+        assertEquals("{\"ok\":true}", result.getResponse());
+        verifyNoInteractions(jobStatusStore);
+    }
+
+    @Test
+    void awaitJob_FinishedJob_ReturnsRightAway() {
         // Given
-        JobStatus existingJob = new JobStatus(testUuid, JobExecutionStatus.IN_PROGRESS);
-        existingJob.setIdempotencyKey(testIdempotencyKey);
-        when(jobStatusRepository.findByIdempotencyKey(testIdempotencyKey))
-                .thenReturn(Optional.of(existingJob));
+        when(jobStatusStore.findByUuid(testUuid))
+                .thenReturn(Optional.of(new JobStatus(testUuid, JobExecutionStatus.FAILED)));
+
+        // When
+        JobStatus result = orchestrationService.awaitJob(testUuid, 1000L).block(Duration.ofSeconds(1));
+
+        // Then
+        assertNotNull(result);
+        assertEquals(JobExecutionStatus.FAILED, result.getStatus());
+        assertEquals(0, statusNotifier.getWatchedCount());
+    }
+
+    @Test
+    void awaitJob_RunningJob_CompletesWhenTheJobFinishes() throws Exception {
+        // Given
+        activeJobs.track(claimedJob());
+        when(jobDispatcher.getScheduler()).thenReturn(Schedulers.immediate());
+        when(httpForwardingService.forwardRequestReactive(eq(testRoute), eq(HttpMethod.POST), any(), any(), any()))
+                .thenReturn(Mono.just(new HttpForwardingService.HttpForwardingResponse("{\"ok\":true}", 200)));
+        when(jobStatusWriter.complete(any(JobCompletion.class))).thenReturn(Mono.empty());
+        CompletableFuture<JobStatus> awaited = orchestrationService.awaitJob(testUuid, 5000L).toFuture();
+        assertFalse(awaited.isDone());
+
+        // When
+        orchestrationService.executeJob(testUuid, testRoute, HttpMethod.POST, Map.of(), Map.of(), "{}").block();
+
+        // Then
+        assertEquals(JobExecutionStatus.SUCCESS, awaited.get(1, TimeUnit.SECONDS).getStatus());
+        verifyNoInteractions(jobStatusStore);
+    }
+
+    @Test
+    void awaitJob_StillRunningAtTimeout_ReturnsCurrentStatus() {
+        // Given
+        activeJobs.track(claimedJob());
+
+        // When
+        JobStatus result = orchestrationService.awaitJob(testUuid, 50L).block(Duration.ofSeconds(5));
+
+        // Then
+        assertNotNull(result);
+        assertEquals(JobExecutionStatus.IN_PROGRESS, result.getStatus());
+    }
+
+    @Test
+    void findJobStatuses_ReadsUncachedJobsWithOneQueryPerChunk() {
+        // Given
+        lookupProperties.setChunkSize(2);
+        JobStatus cached = new JobStatus(UUID.randomUUID(), JobExecutionStatus.SUCCESS);
+        cached.setResponseRef("sha256:abc");
+        statusCache.put(cached);
+        JobStatus stored = new JobStatus(UUID.randomUUID(), JobExecutionStatus.FAILED);
+        JobStatus other = new JobStatus(UUID.randomUUID(), JobExecutionStatus.STARTED);
+        UUID unknown = UUID.randomUUID();
+        when(jobStatusStore.findStatusesByUuids(any())).thenAnswer(invocation -> {
+            Collection<UUID> uuids = invocation.getArgument(0);
+            return Stream.of(stored, other).filter(job -> uuids.contains(job.getUuid())).toList();
+        });
+
+        // When
+        List<UUID> found = orchestrationService
+                .findJobStatuses(List.of(cached.getUuid(), stored.getUuid(), unknown, other.getUuid()))
+                .flatMap(List::stream)
+                .map(JobStatus::getUuid)
+                .toList();
+
+        // Then
+        assertEquals(List.of(cached.getUuid(), stored.getUuid(), other.getUuid()), found);
+        verify(jobStatusStore, times(2)).findStatusesByUuids(any());
+    }
+
+    @Test
+    void findJobStatuses_TooManyJobs_IsRejected() {
+        // Given
+        lookupProperties.setMaxUuids(1);
 
         // When/Then
-        assertThrows(JobOrchestrationService.IdempotentRequestException.class, 
+        assertThrows(ValidationException.class,
+                () -> orchestrationService.findJobStatuses(List.of(UUID.randomUUID(), UUID.randomUUID())));
+        verifyNoInteractions(jobStatusStore);
+    }
+
+    @Test
+    void getJobStatus_IncludesCompletionNotStoredYet() {
+        // Given
+        when(jobStatusStore.findByUuid(testUuid))
+                .thenReturn(Optional.of(new JobStatus(testUuid, JobExecutionStatus.IN_PROGRESS)));
+        when(jobStatusWriter.pending(testUuid)).thenReturn(Optional.of(
+                new JobCompletion(testUuid, JobExecutionStatus.SUCCESS, "done", 200, LocalDateTime.now())));
+
+        // When
+        JobStatus result = orchestrationService.getJobStatus(testUuid);
+
+        // Then
+        assertEquals(JobExecutionStatus.SUCCESS, result.getStatus());
+        assertEquals("done", result.getResponse());
+    }
+
+    @Test
+    void createAndTriggerJob_ServiceAtCapacity() {
+        // Given
+        ServiceBulkhead bulkhead = new ServiceBulkhead("test-service", 1, 0);
+        bulkhead.reserve();
+        when(idempotencyIndex.findExisting(testJobName, testIdempotencyKey)).thenReturn(Optional.empty());
+        when(mappingService.resolveRoute(testJobName)).thenReturn(testRoute);
+        when(bulkheadRegistry.forRoute(testRoute)).thenReturn(bulkhead);
+
+        // When/Then
+        assertThrows(BulkheadFullException.class,
                 () -> orchestrationService.createAndTriggerJob(
-                        testJobName, testIdempotencyKey, HttpMethod.POST, 
+                        testJobName, testIdempotencyKey, HttpMethod.POST,
                         new HashMap<>(), new HashMap<>(), "{}"));
-        
-        verify(jobStatusRepository).findByIdempotencyKey(testIdempotencyKey);
-        verify(mappingService, never()).resolveMapping(any());
+
+        verify(jobQueue, never()).enqueue(any(JobStatus.class));
+    }
+
+    @Test
+    void createAndTriggerJob_IdempotentRequest() {
+        // Given
+        when(idempotencyIndex.findExisting(testJobName, testIdempotencyKey)).thenReturn(Optional.of(testUuid));
+
+        // When
+        JobReservation reservation = orchestrationService.createAndTriggerJob(
+                testJobName, testIdempotencyKey, HttpMethod.POST,
+                new HashMap<>(), new HashMap<>(), "{}");
+
+        // Then
+        assertFalse(reservation.isCreated());
+        assertEquals(testUuid, reservation.getUuid());
+        verify(mappingService, never()).resolveRoute(any());
+        verify(jobQueue, never()).enqueue(any(JobStatus.class));
+    }
+
+    @Test
+    void createAndTriggerJob_ConcurrentDuplicateLosesInsert() {
+        // Given
+        when(idempotencyIndex.findExisting(testJobName, testIdempotencyKey)).thenReturn(Optional.empty());
+        when(mappingService.resolveRoute(testJobName)).thenReturn(testRoute);
+        when(bulkheadRegistry.forRoute(testRoute)).thenReturn(new ServiceBulkhead("test-service", 1, 0));
+        when(jobQueue.enqueue(any(JobStatus.class))).thenReturn(JobReservation.existing(testUuid));
+
+        // When
+        JobReservation reservation = orchestrationService.createAndTriggerJob(
+                testJobName, testIdempotencyKey, HttpMethod.POST,
+                new HashMap<>(), new HashMap<>(), "{}");
+
+        // Then
+        assertFalse(reservation.isCreated());
+        assertEquals(testUuid, reservation.getUuid());
+        verify(idempotencyIndex).record(testJobName, testIdempotencyKey, testUuid, null);
+    }
+
+    @Test
+    void createAndTriggerJob_RetryOfJobAcceptedElsewhere_ReturnsExistingJobDespiteMissingMapping() {
+        // Given: the key was used on another node, so the local filter does not know it
+        when(idempotencyIndex.findExisting(testJobName, testIdempotencyKey)).thenReturn(Optional.empty());
+        when(mappingService.resolveRoute(testJobName))
+                .thenThrow(new JobMappingNotFoundException("Mapping not found"));
+        when(idempotencyIndex.findStored(testJobName, testIdempotencyKey)).thenReturn(Optional.of(testUuid));
+
+        // When
+        JobReservation reservation = orchestrationService.createAndTriggerJob(
+                testJobName, testIdempotencyKey, HttpMethod.POST,
+                new HashMap<>(), new HashMap<>(), "{}");
+
+        // Then
+        assertFalse(reservation.isCreated());
+        assertEquals(testUuid, reservation.getUuid());
+        verify(jobQueue, never()).enqueue(any(JobStatus.class));
+    }
+
+    @Test
+    void createAndTriggerJob_RetryOfJobAcceptedElsewhere_ReturnsExistingJobDespiteFullService() {
+        // Given
+        ServiceBulkhead full = new ServiceBulkhead("test-service", 1, 0);
+        full.reserve();
+        when(idempotencyIndex.findExisting(testJobName, testIdempotencyKey)).thenReturn(Optional.empty());
+        when(mappingService.resolveRoute(testJobName)).thenReturn(testRoute);
+        when(bulkheadRegistry.forRoute(testRoute)).thenReturn(full);
+        when(idempotencyIndex.findStored(testJobName, testIdempotencyKey)).thenReturn(Optional.of(testUuid));
+
+        // When
+        JobReservation reservation = orchestrationService.createAndTriggerJob(
+                testJobName, testIdempotencyKey, HttpMethod.POST,
+                new HashMap<>(), new HashMap<>(), "{}");
+
+        // Then
+        assertFalse(reservation.isCreated());
+        assertEquals(testUuid, reservation.getUuid());
+        verify(jobQueue, never()).enqueue(any(JobStatus.class));
     }
 
     @Test
     void createAndTriggerJob_MappingNotFound() {
         // Given
-        when(jobStatusRepository.findByIdempotencyKey(testIdempotencyKey)).thenReturn(Optional.empty());
-        when(mappingService.resolveMapping(testJobName))
+        when(idempotencyIndex.findExisting(testJobName, testIdempotencyKey)).thenReturn(Optional.empty());
+        when(mappingService.resolveRoute(testJobName))
                 .thenThrow(new JobMappingNotFoundException("Mapping not found"));
 
         // When/Then
@@ -118,7 +650,7 @@ class JobOrchestrationServiceTest {
     void getJobStatus_Success() {
         // Given
         JobStatus jobStatus = new JobStatus(testUuid, JobExecutionStatus.SUCCESS);
-        when(jobStatusRepository.findByUuid(testUuid)).thenReturn(Optional.of(jobStatus));
+        when(jobStatusStore.findByUuid(testUuid)).thenReturn(Optional.of(jobStatus));
 
         // When
         JobStatus result = orchestrationService.getJobStatus(testUuid);
@@ -127,13 +659,13 @@ class JobOrchestrationServiceTest {
         assertNotNull(result);
         assertEquals(testUuid, result.getUuid());
         assertEquals(JobExecutionStatus.SUCCESS, result.getStatus());
-        verify(jobStatusRepository).findByUuid(testUuid);
+        verify(jobStatusStore).findByUuid(testUuid);
     }
 
     @Test
     void getJobStatus_NotFound() {
         // Given
-        when(jobStatusRepository.findByUuid(testUuid)).thenReturn(Optional.empty());
+        when(jobStatusStore.findByUuid(testUuid)).thenReturn(Optional.empty());
 
         // When/Then
         assertThrows(JobNotFoundException.class, 
@@ -144,33 +676,128 @@ class JobOrchestrationServiceTest {
     void cancelJob_Success() {
         // Given
         JobStatus jobStatus = new JobStatus(testUuid, JobExecutionStatus.IN_PROGRESS);
-        when(jobStatusRepository.findByUuid(testUuid)).thenReturn(Optional.of(jobStatus));
-        when(jobStatusRepository.save(any(JobStatus.class))).thenReturn(jobStatus);
+        when(jobStatusStore.findByUuid(testUuid)).thenReturn(Optional.of(jobStatus));
+        when(jobStatusStore.cancel(any(JobCompletion.class))).thenReturn(Optional.of(JobExecutionStatus.IN_PROGRESS));
+        when(jobDispatcher.cancel(testUuid)).thenReturn(true);
+
+        // When
+        orchestrationService.cancelJob(testUuid);
+
+        // Then
+        verify(jobStatusStore).findByUuid(testUuid);
+        ArgumentCaptor<JobCompletion> cancellation = ArgumentCaptor.forClass(JobCompletion.class);
+        verify(jobStatusStore).cancel(cancellation.capture());
+        assertEquals(testUuid, cancellation.getValue().getUuid());
+        assertEquals(JobExecutionStatus.CANCELLED, cancellation.getValue().getStatus());
+        verify(jobStatusStore, never()).save(any(JobStatus.class));
+        verify(jobDispatcher).cancel(testUuid);
+        assertEquals(JobExecutionStatus.CANCELLED, orchestrationService.getJobStatus(testUuid).getStatus());
+    }
+
+    @Test
+    void cancelJob_FinishedOnAnotherNodeMeanwhile_KeepsFinalStatus() {
+        // Given
+        JobStatus jobStatus = new JobStatus(testUuid, JobExecutionStatus.IN_PROGRESS);
+        jobStatus.setRequestBodyFile("/spool/body-1.bin");
+        when(jobStatusStore.findByUuid(testUuid)).thenReturn(Optional.of(jobStatus));
+        when(jobStatusStore.cancel(any(JobCompletion.class))).thenReturn(Optional.empty());
+
+        // When
+        orchestrationService.cancelJob(testUuid);
+
+        // Then
+        verify(jobStatusStore, never()).save(any(JobStatus.class));
+        verify(requestBodySpool, never()).delete(any());
+        assertEquals(0, statusCache.size());
+    }
+
+    @Test
+    void cancelJob_RunningJob_DeletesSpooledBody(@TempDir Path spoolDir) throws IOException {
+        // Given
+        Path body = Files.writeString(spoolDir.resolve("body-1.bin"), "{}");
+        JobStatus job = claimedJob();
+        job.setRequestBodyFile(body.toString());
+        activeJobs.track(job);
+        doCallRealMethod().when(requestBodySpool).delete(body.toString());
+
+        // When
+        orchestrationService.cancelJob(testUuid);
+
+        // Then
+        assertFalse(Files.exists(body));
+        verify(jobDispatcher).cancel(testUuid);
+        verifyNoInteractions(jobStatusStore);
+    }
+
+    @Test
+    void cancelJob_ClaimedByAnotherNode_LeavesSpooledBodyToThatNode() {
+        // Given
+        JobStatus jobStatus = new JobStatus(testUuid, JobExecutionStatus.IN_PROGRESS);
+        jobStatus.setRequestBodyFile("/spool/body-1.bin");
+        when(jobStatusStore.findByUuid(testUuid)).thenReturn(Optional.of(jobStatus));
+        when(jobStatusStore.cancel(any(JobCompletion.class))).thenReturn(Optional.of(JobExecutionStatus.IN_PROGRESS));
 
-        // Get the execution registry and add a mock future
-        @SuppressWarnings("unchecked")
-        Map<UUID, Future<?>> registry = (Map<UUID, Future<?>>) 
-                ReflectionTestUtils.getField(orchestrationService, "executionRegistry");
-        Future<?> mockFuture = mock(Future.class);
-        when(mockFuture.cancel(true)).thenReturn(true);
-        registry.put(testUuid, mockFuture);
+        // When
+        orchestrationService.cancelJob(testUuid);
+
+        // Then
+        verify(requestBodySpool, never()).delete(any());
+        assertEquals(JobExecutionStatus.CANCELLED, orchestrationService.getJobStatus(testUuid).getStatus());
+    }
+
+    @Test
+    void cancelJob_QueuedJob_DeletesSpooledBody() {
+        // Given
+        JobStatus jobStatus = new JobStatus(testUuid, JobExecutionStatus.STARTED);
+        jobStatus.setRequestBodyFile("/spool/body-1.bin");
+        when(jobStatusStore.findByUuid(testUuid)).thenReturn(Optional.of(jobStatus));
+        when(jobStatusStore.cancel(any(JobCompletion.class))).thenReturn(Optional.of(JobExecutionStatus.STARTED));
 
         // When
         orchestrationService.cancelJob(testUuid);
 
         // Then
-        verify(jobStatusRepository).findByUuid(testUuid);
-        verify(jobStatusRepository).save(any(JobStatus.class));
-        ArgumentCaptor<JobStatus> statusCaptor = ArgumentCaptor.forClass(JobStatus.class);
-        verify(jobStatusRepository).save(statusCaptor.capture());
-        assertEquals(JobExecutionStatus.CANCELLED, statusCaptor.getValue().getStatus());
-        verify(mockFuture).cancel(true);
+        verify(requestBodySpool).delete("/spool/body-1.bin");
+    }
+
+    @Test
+    void stopLostJob_CancelledElsewhere_DeletesSpooledBody() {
+        // Given
+        JobStatus job = claimedJob();
+        job.setRequestBodyFile("/spool/body-1.bin");
+        activeJobs.track(job);
+        when(jobStatusStore.findStatusWithoutResponse(testUuid))
+                .thenReturn(Optional.of(new JobStatus(testUuid, JobExecutionStatus.CANCELLED)));
+
+        // When
+        orchestrationService.stopLostJob(testUuid);
+
+        // Then
+        verify(jobDispatcher).cancel(testUuid);
+        verify(requestBodySpool).delete("/spool/body-1.bin");
+    }
+
+    @Test
+    void stopLostJob_TakenOverByAnotherNode_KeepsSpooledBody() {
+        // Given
+        JobStatus job = claimedJob();
+        job.setRequestBodyFile("/spool/body-1.bin");
+        activeJobs.track(job);
+        when(jobStatusStore.findStatusWithoutResponse(testUuid))
+                .thenReturn(Optional.of(new JobStatus(testUuid, JobExecutionStatus.IN_PROGRESS)));
+
+        // When
+        orchestrationService.stopLostJob(testUuid);
+
+        // Then
+        verify(jobDispatcher).cancel(testUuid);
+        verify(requestBodySpool, never()).delete(any());
     }
 
     @Test
     void cancelJob_NotFound() {
         // Given
-        when(jobStatusRepository.findByUuid(testUuid)).thenReturn(Optional.empty());
+        when(jobStatusStore.findByUuid(testUuid)).thenReturn(Optional.empty());
 
         // When/Then
         assertThrows(JobNotFoundException.class, 
@@ -182,14 +809,14 @@ class JobOrchestrationServiceTest {
         // Given
         JobStatus jobStatus = new JobStatus(testUuid, JobExecutionStatus.SUCCESS);
         jobStatus.setEndDate(LocalDateTime.now());
-        when(jobStatusRepository.findByUuid(testUuid)).thenReturn(Optional.of(jobStatus));
+        when(jobStatusStore.findByUuid(testUuid)).thenReturn(Optional.of(jobStatus));
 
         // When
         orchestrationService.cancelJob(testUuid);
 
         // Then
-        verify(jobStatusRepository).findByUuid(testUuid);
-        verify(jobStatusRepository, never()).save(any(JobStatus.class));
+        verify(jobStatusStore).findByUuid(testUuid);
+        verify(jobStatusStore, never()).cancel(any(JobCompletion.class));
     }
 
     @Test
@@ -197,13 +824,22 @@ class JobOrchestrationServiceTest {
         // Given
         JobStatus jobStatus = new JobStatus(testUuid, JobExecutionStatus.CANCELLED);
         jobStatus.setEndDate(LocalDateTime.now());
-        when(jobStatusRepository.findByUuid(testUuid)).thenReturn(Optional.of(jobStatus));
+        when(jobStatusStore.findByUuid(testUuid)).thenReturn(Optional.of(jobStatus));
 
         // When
         orchestrationService.cancelJob(testUuid);
 
         // Then
-        verify(jobStatusRepository).findByUuid(testUuid);
-        verify(jobStatusRepository, never()).save(any(JobStatus.class));
+        verify(jobStatusStore).findByUuid(testUuid);
+        verify(jobStatusStore, never()).cancel(any(JobCompletion.class));
+    }
+
+    private JobStatus claimedJob() {
+        JobStatus job = new JobStatus(testUuid, JobExecutionStatus.IN_PROGRESS);
+        job.setJobName(testJobName);
+        job.setRequestMethod("POST");
+        job.setRequestHeaders("{\"X-Trace\":\"abc\"}");
+        job.setRequestBody("{}");
+        return job;
     }
 }
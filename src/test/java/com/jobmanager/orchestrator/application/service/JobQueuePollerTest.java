@@ -0,0 +1,146 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JobQueuePoller.
+ */
+@ExtendWith(MockitoExtension.class)
+class JobQueuePollerTest {
+
+    @Mock
+    private JobQueue jobQueue;
+
+    @Mock
+    private JobOrchestrationService orchestrationService;
+
+    @Mock
+    private JobDispatcher jobDispatcher;
+
+    @Mock
+    private ServiceBulkheadRegistry bulkheadRegistry;
+
+    private JobQueueProperties properties;
+    private JobQueuePoller poller;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JobQueueProperties();
+        properties.setNodeId("node-a");
+        properties.setBatchSize(50);
+        properties.setMaxInFlight(10);
+        poller = new JobQueuePoller(jobQueue, orchestrationService, jobDispatcher, bulkheadRegistry, properties);
+    }
+
+    @Test
+    void pollOnce_ClaimsUpToFreeCapacity() {
+        // Given
+        List<JobStatus> jobs = List.of(job(), job(), job());
+        when(jobDispatcher.getActiveCount()).thenReturn(7);
+        when(bulkheadRegistry.getSaturatedServices()).thenReturn(Set.of("report-service"));
+        when(jobQueue.claim(eq("node-a"), eq(3), eq(Set.of("report-service")), any(Duration.class))).thenReturn(jobs);
+        when(orchestrationService.startClaimedJob(any(JobStatus.class))).thenReturn(true);
+
+        // When
+        boolean moreWork = poller.pollOnce();
+
+        // Then
+        assertTrue(moreWork);
+        verify(orchestrationService, times(3)).startClaimedJob(any(JobStatus.class));
+        verify(jobQueue, never()).release(anyString(), any(UUID.class));
+    }
+
+    @Test
+    void pollOnce_ReleasesJobsThatCannotStart() {
+        // Given
+        JobStatus started = job();
+        JobStatus rejected = job();
+        when(jobDispatcher.getActiveCount()).thenReturn(0);
+        when(bulkheadRegistry.getSaturatedServices()).thenReturn(Set.of());
+        when(jobQueue.claim(eq("node-a"), eq(10), eq(Set.of()), any(Duration.class)))
+                .thenReturn(List.of(started, rejected));
+        when(orchestrationService.startClaimedJob(started)).thenReturn(true);
+        when(orchestrationService.startClaimedJob(rejected)).thenReturn(false);
+
+        // When
+        boolean moreWork = poller.pollOnce();
+
+        // Then
+        assertFalse(moreWork);
+        verify(jobQueue).release("node-a", rejected.getUuid());
+        verify(jobQueue, never()).release("node-a", started.getUuid());
+    }
+
+    @Test
+    void pollOnce_AtCapacity_DoesNotClaim() {
+        // Given
+        when(jobDispatcher.getActiveCount()).thenReturn(10);
+
+        // When
+        boolean moreWork = poller.pollOnce();
+
+        // Then
+        assertFalse(moreWork);
+        verify(jobQueue, never()).claim(anyString(), anyInt(), any(), any(Duration.class));
+    }
+
+    @Test
+    void start_RecoversOrphanedJobsBeforePolling() {
+        // Given
+        when(jobQueue.recoverExpiredLeases()).thenReturn(2);
+        // The poller thread may or may not get to poll before it is stopped
+        lenient().when(bulkheadRegistry.getSaturatedServices()).thenReturn(Set.of());
+        lenient().when(jobQueue.claim(anyString(), anyInt(), any(), any(Duration.class))).thenReturn(List.of());
+
+        // When
+        poller.start();
+        poller.stop();
+
+        // Then
+        assertFalse(poller.isRunning());
+        verify(jobQueue, atLeastOnce()).recoverExpiredLeases();
+        verify(jobQueue).addEnqueueListener(any(Runnable.class));
+        verify(jobDispatcher).addCompletionListener(any(Runnable.class));
+    }
+
+    @Test
+    void start_CancelsJobsWhoseLeaseWasLost() {
+        // Given
+        UUID lostJob = UUID.randomUUID();
+        when(jobDispatcher.getActiveUuids()).thenReturn(Set.of(lostJob));
+        when(jobQueue.renewLeases(eq("node-a"), eq(Set.of(lostJob)), any(Duration.class))).thenReturn(Set.of(lostJob));
+        lenient().when(jobDispatcher.getActiveCount()).thenReturn(10);
+
+        // When
+        poller.start();
+        verify(orchestrationService, timeout(1000)).stopLostJob(lostJob);
+        poller.stop();
+
+        // Then
+        assertFalse(poller.isRunning());
+    }
+
+    private static JobStatus job() {
+        JobStatus job = new JobStatus(UUID.randomUUID(), JobExecutionStatus.IN_PROGRESS);
+        job.setJobName("report");
+        return job;
+    }
+}
@@ -0,0 +1,146 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JobStatusCache.
+ */
+class JobStatusCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private JobStatusCacheProperties properties;
+    private JobStatusCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JobStatusCacheProperties();
+        properties.setTtl(60000);
+        properties.setActiveTtl(1000);
+        properties.setMaxSize(2);
+        cache = new JobStatusCache(properties, clock::get);
+    }
+
+    @Test
+    void get_RunningStatusExpiresSoonerThanFinalStatus() {
+        // Given
+        JobStatus running = job(JobExecutionStatus.IN_PROGRESS);
+        JobStatus finished = job(JobExecutionStatus.SUCCESS);
+        cache.put(running);
+        cache.put(finished);
+
+        // When
+        advance(2000);
+
+        // Then
+        assertTrue(cache.get(running.getUuid()).isEmpty());
+        assertEquals(JobExecutionStatus.SUCCESS, cache.get(finished.getUuid()).orElseThrow().getStatus());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void update_AppliesCompletionToCachedJob() {
+        // Given
+        JobStatus running = job(JobExecutionStatus.IN_PROGRESS);
+        cache.put(running);
+
+        // When
+        cache.update(new JobCompletion(running.getUuid(), JobExecutionStatus.SUCCESS, "done", 200, LocalDateTime.now()));
+        advance(2000);
+
+        // Then
+        JobStatus cached = cache.get(running.getUuid()).orElseThrow();
+        assertEquals(JobExecutionStatus.SUCCESS, cached.getStatus());
+        assertEquals(200, cached.getHttpStatus());
+        assertNull(cached.getResponse()); // bodies are not cached
+        assertEquals("report-service", cached.getJobName());
+    }
+
+    @Test
+    void put_KeepsResponseReferenceButNotBody() {
+        // Given
+        JobStatus compressed = job(JobExecutionStatus.SUCCESS);
+        compressed.setResponseData(new byte[]{1, 2, 3});
+        compressed.setResponseSize(2048L);
+        JobStatus inFile = job(JobExecutionStatus.SUCCESS);
+        inFile.setResponseRef("sha256:abc");
+        inFile.setResponseSize(5_000_000L);
+
+        // When
+        cache.put(compressed);
+        cache.put(inFile);
+
+        // Then
+        JobStatus cachedCompressed = cache.get(compressed.getUuid()).orElseThrow();
+        assertNull(cachedCompressed.getResponseData());
+        assertEquals(2048L, cachedCompressed.getResponseSize());
+        JobStatus cachedInFile = cache.get(inFile.getUuid()).orElseThrow();
+        assertEquals("sha256:abc", cachedInFile.getResponseRef());
+        assertEquals(5_000_000L, cachedInFile.getResponseSize());
+    }
+
+    @Test
+    void update_UncachedJob_StaysUncached() {
+        // When
+        UUID uuid = UUID.randomUUID();
+        cache.update(new JobCompletion(uuid, JobExecutionStatus.SUCCESS, "done", 200, LocalDateTime.now()));
+
+        // Then
+        assertTrue(cache.get(uuid).isEmpty());
+    }
+
+    @Test
+    void get_ReturnsCopies() {
+        // Given
+        JobStatus finished = job(JobExecutionStatus.SUCCESS);
+        cache.put(finished);
+        finished.setStatus(JobExecutionStatus.FAILED);
+
+        // When
+        cache.get(finished.getUuid()).orElseThrow().setResponse("changed");
+
+        // Then
+        JobStatus cached = cache.get(finished.getUuid()).orElseThrow();
+        assertEquals(JobExecutionStatus.SUCCESS, cached.getStatus());
+        assertNull(cached.getResponse());
+    }
+
+    @Test
+    void put_FullCache_EvictsTheEntryClosestToExpiry() {
+        // Given
+        JobStatus running = job(JobExecutionStatus.IN_PROGRESS);
+        JobStatus first = job(JobExecutionStatus.SUCCESS);
+        JobStatus second = job(JobExecutionStatus.FAILED);
+        cache.put(running);
+        cache.put(first);
+
+        // When
+        cache.put(second);
+
+        // Then
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(running.getUuid()).isEmpty());
+        assertTrue(cache.get(first.getUuid()).isPresent());
+        assertTrue(cache.get(second.getUuid()).isPresent());
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static JobStatus job(JobExecutionStatus status) {
+        JobStatus job = new JobStatus(UUID.randomUUID(), status);
+        job.setJobName("report-service");
+        return job;
+    }
+}
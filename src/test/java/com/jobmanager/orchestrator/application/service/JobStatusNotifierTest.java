@@ -0,0 +1,120 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JobStatusNotifier.
+ */
+class JobStatusNotifierTest {
+
+    private final Map<UUID, JobExecutionStatus> statuses = new ConcurrentHashMap<>();
+    private final AtomicInteger reads = new AtomicInteger();
+    private JobStatusNotifier notifier;
+
+    @BeforeEach
+    void setUp() {
+        JobAwaitProperties properties = new JobAwaitProperties();
+        properties.setRecheckInterval(60000);
+        notifier = new JobStatusNotifier(properties, Schedulers.immediate());
+    }
+
+    @Test
+    void watch_EmitsCurrentStatusAndEachChangeUntilFinal() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        statuses.put(uuid, JobExecutionStatus.STARTED);
+        List<JobExecutionStatus> seen = new CopyOnWriteArrayList<>();
+        Disposable waiter = notifier.watch(uuid, this::load).subscribe(job -> seen.add(job.getStatus()));
+
+        // When
+        change(uuid, JobExecutionStatus.IN_PROGRESS);
+        notifier.statusChanged(uuid);
+        change(uuid, JobExecutionStatus.SUCCESS);
+
+        // Then
+        assertEquals(List.of(JobExecutionStatus.STARTED, JobExecutionStatus.IN_PROGRESS, JobExecutionStatus.SUCCESS), seen);
+        assertTrue(waiter.isDisposed());
+        assertEquals(0, notifier.getWatchedCount());
+    }
+
+    @Test
+    void watch_WaitersOfTheSameJobShareOneWatch() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        statuses.put(uuid, JobExecutionStatus.IN_PROGRESS);
+        List<JobExecutionStatus> first = new CopyOnWriteArrayList<>();
+        List<JobExecutionStatus> second = new CopyOnWriteArrayList<>();
+
+        // When
+        notifier.watch(uuid, this::load).subscribe(job -> first.add(job.getStatus()));
+        notifier.watch(uuid, this::load).subscribe(job -> second.add(job.getStatus()));
+        change(uuid, JobExecutionStatus.FAILED);
+
+        // Then
+        assertEquals(2, reads.get());
+        assertEquals(List.of(JobExecutionStatus.IN_PROGRESS, JobExecutionStatus.FAILED), first);
+        assertEquals(List.of(JobExecutionStatus.IN_PROGRESS, JobExecutionStatus.FAILED), second);
+        assertEquals(0, notifier.getWatchedCount());
+    }
+
+    @Test
+    void watch_LastWaiterLeaving_StopsTheWatch() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        statuses.put(uuid, JobExecutionStatus.IN_PROGRESS);
+        Disposable waiter = notifier.watch(uuid, this::load).subscribe();
+        assertEquals(1, notifier.getWatchedCount());
+
+        // When
+        waiter.dispose();
+
+        // Then
+        assertEquals(0, notifier.getWatchedCount());
+    }
+
+    @Test
+    void watch_RechecksForChangesMadeByOtherNodes() {
+        // Given
+        JobAwaitProperties properties = new JobAwaitProperties();
+        properties.setRecheckInterval(20);
+        notifier = new JobStatusNotifier(properties, Schedulers.boundedElastic());
+        UUID uuid = UUID.randomUUID();
+        statuses.put(uuid, JobExecutionStatus.IN_PROGRESS);
+
+        // When
+        List<JobStatus> seen = notifier.watch(uuid, this::load)
+                .doOnNext(job -> statuses.put(uuid, JobExecutionStatus.SUCCESS))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // Then
+        assertNotNull(seen);
+        assertEquals(List.of(JobExecutionStatus.IN_PROGRESS, JobExecutionStatus.SUCCESS),
+                seen.stream().map(JobStatus::getStatus).toList());
+    }
+
+    private void change(UUID uuid, JobExecutionStatus status) {
+        statuses.put(uuid, status);
+        notifier.statusChanged(uuid);
+    }
+
+    private JobStatus load(UUID uuid) {
+        reads.incrementAndGet();
+        return new JobStatus(uuid, statuses.get(uuid));
+    }
+}
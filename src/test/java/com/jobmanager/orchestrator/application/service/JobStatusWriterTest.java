@@ -0,0 +1,147 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JobStatusWriter.
+ */
+@ExtendWith(MockitoExtension.class)
+class JobStatusWriterTest {
+
+    @Mock
+    private JobStatusStore jobStatusStore;
+
+    private JobStatusWriterProperties properties;
+    private JobStatusWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JobStatusWriterProperties();
+        properties.setBatchSize(2);
+        properties.setFlushInterval(10);
+        writer = new JobStatusWriter(jobStatusStore, properties);
+    }
+
+    @Test
+    void flush_WritesBufferedCompletionsInBatches() {
+        // Given
+        when(jobStatusStore.completeAll(anyCollection())).thenAnswer(invocation -> invocation.<Collection<?>>getArgument(0).size());
+        for (int i = 0; i < 5; i++) {
+            writer.complete(completion(UUID.randomUUID(), JobExecutionStatus.SUCCESS));
+        }
+
+        // When
+        int stored = writer.flush();
+
+        // Then
+        assertEquals(5, stored);
+        verify(jobStatusStore, times(3)).completeAll(anyCollection());
+        assertEquals(0, writer.flush());
+    }
+
+    @Test
+    void complete_CoalescesCompletionsOfTheSameJob() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        writer.complete(completion(uuid, JobExecutionStatus.FAILED));
+        writer.complete(completion(uuid, JobExecutionStatus.SUCCESS));
+        when(jobStatusStore.completeAll(anyCollection())).thenReturn(1);
+
+        // When
+        writer.flush();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<JobCompletion>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(jobStatusStore).completeAll(batch.capture());
+        assertEquals(1, batch.getValue().size());
+        assertEquals(JobExecutionStatus.SUCCESS, batch.getValue().iterator().next().getStatus());
+    }
+
+    @Test
+    void complete_SyncDurability_FinishesOnceStored() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        CompletableFuture<Void> done = writer.complete(completion(uuid, JobExecutionStatus.SUCCESS)).toFuture();
+        assertFalse(done.isDone());
+        assertTrue(writer.pending(uuid).isPresent());
+        when(jobStatusStore.completeAll(anyCollection())).thenReturn(1);
+
+        // When
+        writer.flush();
+
+        // Then
+        assertTrue(done.isDone());
+        assertTrue(writer.pending(uuid).isEmpty());
+    }
+
+    @Test
+    void complete_AsyncDurability_FinishesImmediately() {
+        // Given
+        properties.setDurability("async");
+
+        // When
+        Mono<Void> done = writer.complete(completion(UUID.randomUUID(), JobExecutionStatus.SUCCESS));
+
+        // Then
+        assertTrue(done.toFuture().isDone());
+        verifyNoInteractions(jobStatusStore);
+    }
+
+    @Test
+    void flush_FailedWrite_KeepsCompletionsForTheNextBatch() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        writer.complete(completion(uuid, JobExecutionStatus.SUCCESS));
+        when(jobStatusStore.completeAll(anyCollection()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(1);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> writer.flush());
+        int stored = writer.flush();
+
+        // Then
+        assertEquals(1, stored);
+        verify(jobStatusStore, times(2)).completeAll(anyCollection());
+    }
+
+    @Test
+    void start_FlushesFullBatchWithoutWaitingForTheInterval() {
+        // Given
+        properties.setFlushInterval(60000);
+        when(jobStatusStore.completeAll(anyCollection())).thenReturn(2);
+        writer.start();
+
+        // When
+        Mono<Void> first = writer.complete(completion(UUID.randomUUID(), JobExecutionStatus.SUCCESS));
+        Mono<Void> second = writer.complete(completion(UUID.randomUUID(), JobExecutionStatus.SUCCESS));
+
+        // Then
+        assertDoesNotThrow(() -> Mono.when(first, second).block(Duration.ofSeconds(5)));
+        writer.stop();
+        verify(jobStatusStore, atLeastOnce()).completeAll(any());
+    }
+
+    private static JobCompletion completion(UUID uuid, JobExecutionStatus status) {
+        return new JobCompletion(uuid, status, "body", 200, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,452 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import com.jobmanager.orchestrator.persistence.repository.JobStatusRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for JpaJobQueue and JpaJobStatusStore against the embedded H2 database.
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Import({JpaJobQueue.class, JpaJobStatusStore.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaJobQueueTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Autowired
+    private JpaJobQueue jobQueue;
+
+    @Autowired
+    private JpaJobStatusStore jobStatusStore;
+
+    @Autowired
+    private JobStatusRepository jobStatusRepository;
+
+    @Test
+    void claim_LeasesOldestJobsOnlyOnce() {
+        // Given
+        jobStatusRepository.deleteAll();
+        UUID first = enqueue("report-service");
+        UUID second = enqueue("report-service");
+        UUID third = enqueue("report-service");
+
+        // When
+        List<JobStatus> claimedByA = jobQueue.claim("node-a", 2, Set.of(), LEASE);
+        List<JobStatus> claimedByB = jobQueue.claim("node-b", 2, Set.of(), LEASE);
+
+        // Then
+        assertEquals(List.of(first, second), claimedByA.stream().map(JobStatus::getUuid).toList());
+        assertEquals(List.of(third), claimedByB.stream().map(JobStatus::getUuid).toList());
+        JobStatus stored = jobStatusRepository.findByUuid(first).orElseThrow();
+        assertEquals(JobExecutionStatus.IN_PROGRESS, stored.getStatus());
+        assertEquals("node-a", stored.getLeaseOwner());
+        assertNotNull(stored.getLeaseExpiresAt());
+        assertEquals("{\"X-Test\":\"1\"}", claimedByA.get(0).getRequestHeaders());
+    }
+
+    @Test
+    void claim_SkipsExcludedServices() {
+        // Given
+        jobStatusRepository.deleteAll();
+        enqueue("report-service");
+        UUID notification = enqueue("notification-service");
+
+        // When
+        List<JobStatus> claimed = jobQueue.claim("node-a", 10, Set.of("report-service"), LEASE);
+
+        // Then
+        assertEquals(List.of(notification), claimed.stream().map(JobStatus::getUuid).toList());
+    }
+
+    @Test
+    void release_ReturnsJobToQueue() {
+        // Given
+        jobStatusRepository.deleteAll();
+        UUID uuid = enqueue("report-service");
+        jobQueue.claim("node-a", 1, Set.of(), LEASE);
+
+        // When
+        jobQueue.release("node-b", uuid); // Not the owner: ignored
+        assertEquals(JobExecutionStatus.IN_PROGRESS, jobStatusRepository.findByUuid(uuid).orElseThrow().getStatus());
+        jobQueue.release("node-a", uuid);
+
+        // Then
+        JobStatus stored = jobStatusRepository.findByUuid(uuid).orElseThrow();
+        assertEquals(JobExecutionStatus.STARTED, stored.getStatus());
+        assertNull(stored.getLeaseOwner());
+    }
+
+    @Test
+    void recoverExpiredLeases_RequeuesOrphanedJobsOnly() {
+        // Given
+        jobStatusRepository.deleteAll();
+        UUID orphaned = enqueue("report-service");
+        UUID alive = enqueue("report-service");
+        jobQueue.claim("node-a", 2, Set.of(), LEASE);
+        JobStatus expired = jobStatusRepository.findByUuid(orphaned).orElseThrow();
+        expired.setLeaseExpiresAt(LocalDateTime.now().minusSeconds(1));
+        jobStatusRepository.save(expired);
+
+        // When
+        int recovered = jobQueue.recoverExpiredLeases();
+
+        // Then
+        assertEquals(1, recovered);
+        assertEquals(JobExecutionStatus.STARTED, jobStatusRepository.findByUuid(orphaned).orElseThrow().getStatus());
+        assertEquals(JobExecutionStatus.IN_PROGRESS, jobStatusRepository.findByUuid(alive).orElseThrow().getStatus());
+    }
+
+    @Test
+    void recoverExpiredLeases_FailsRunningJobsWithoutLease() {
+        // Given: a job left running before the queue existed, without lease or request
+        jobStatusRepository.deleteAll();
+        JobStatus legacy = new JobStatus(UUID.randomUUID(), JobExecutionStatus.IN_PROGRESS);
+        jobStatusRepository.save(legacy);
+
+        // When
+        int recovered = jobQueue.recoverExpiredLeases();
+
+        // Then
+        assertEquals(0, recovered);
+        JobStatus stored = jobStatusRepository.findByUuid(legacy.getUuid()).orElseThrow();
+        assertEquals(JobExecutionStatus.FAILED, stored.getStatus());
+        assertEquals(JobQueue.UNLEASED_CLAIM_FAILURE, stored.getResponse());
+        assertNotNull(stored.getEndDate());
+        assertTrue(jobQueue.claim("node-a", 10, Set.of(), LEASE).isEmpty());
+    }
+
+    @Test
+    void claim_SkipsJobsWithoutJobName() {
+        // Given
+        jobStatusRepository.deleteAll();
+        jobStatusRepository.save(new JobStatus(UUID.randomUUID(), JobExecutionStatus.STARTED));
+        UUID routable = enqueue("report-service");
+
+        // When
+        List<JobStatus> claimed = jobQueue.claim("node-a", 10, Set.of(), LEASE);
+        List<JobStatus> claimedExcluding = jobQueue.claim("node-a", 10, Set.of("other-service"), LEASE);
+
+        // Then
+        assertEquals(List.of(routable), claimed.stream().map(JobStatus::getUuid).toList());
+        assertTrue(claimedExcluding.isEmpty());
+    }
+
+    @Test
+    void renewLeases_ExtendsLeasesOfOwnedJobs() {
+        // Given
+        jobStatusRepository.deleteAll();
+        UUID uuid = enqueue("report-service");
+        jobQueue.claim("node-a", 1, Set.of(), Duration.ofSeconds(1));
+        LocalDateTime before = jobStatusRepository.findByUuid(uuid).orElseThrow().getLeaseExpiresAt();
+
+        // When
+        Set<UUID> lost = jobQueue.renewLeases("node-a", Set.of(uuid), Duration.ofMinutes(5));
+
+        // Then
+        assertTrue(lost.isEmpty());
+        assertTrue(jobStatusRepository.findByUuid(uuid).orElseThrow().getLeaseExpiresAt().isAfter(before));
+    }
+
+    @Test
+    void renewLeases_ReportsJobsNoLongerHeld() {
+        // Given
+        jobStatusRepository.deleteAll();
+        UUID running = enqueue("report-service");
+        UUID cancelled = enqueue("report-service");
+        jobQueue.claim("node-a", 2, Set.of(), LEASE);
+        JobStatus job = jobStatusRepository.findByUuid(cancelled).orElseThrow();
+        job.setStatus(JobExecutionStatus.CANCELLED);
+        jobStatusRepository.save(job);
+
+        // When
+        Set<UUID> lost = jobQueue.renewLeases("node-a", Set.of(running, cancelled), LEASE);
+
+        // Then
+        assertEquals(Set.of(cancelled), lost);
+    }
+
+    @Test
+    void enqueue_DuplicateIdempotencyKey_ReturnsExistingJob() {
+        // Given
+        String key = "dup-key-" + UUID.randomUUID();
+        JobStatus first = keyed("test-job", key);
+        assertTrue(jobQueue.enqueue(first).isCreated());
+
+        // When
+        JobReservation repeat = jobQueue.enqueue(keyed("test-job", key));
+        JobReservation otherJob = jobQueue.enqueue(keyed("other-job", key));
+
+        // Then
+        assertFalse(repeat.isCreated());
+        assertEquals(first.getUuid(), repeat.getUuid());
+        assertTrue(otherJob.isCreated());
+    }
+
+    @Test
+    void enqueue_ConcurrentDuplicateIdempotencyKeys_CreateOneJob() throws Exception {
+        // Given
+        String key = "racing-key-" + UUID.randomUUID();
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<JobReservation>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return jobQueue.enqueue(keyed("test-job", key));
+            }));
+        }
+        start.countDown();
+        List<JobReservation> reservations = new ArrayList<>();
+        for (Future<JobReservation> future : futures) {
+            reservations.add(future.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then: every request got the one stored job
+        JobStatus stored = jobStatusRepository.findByJobNameAndIdempotencyKey("test-job", key).orElseThrow();
+        assertEquals(1, reservations.stream().filter(JobReservation::isCreated).count());
+        assertEquals(Set.of(stored.getUuid()), reservations.stream().map(JobReservation::getUuid).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void enqueue_IdempotencyKeyPastItsWindow_CreatesNewJob() {
+        // Given
+        String key = "expired-key-" + UUID.randomUUID();
+        JobStatus first = keyed("test-job", key);
+        first.setIdempotencyExpiresAt(LocalDateTime.now().minusSeconds(1));
+        jobQueue.enqueue(first);
+
+        // When
+        JobReservation reservation = jobQueue.enqueue(keyed("test-job", key));
+
+        // Then
+        assertTrue(reservation.isCreated());
+        assertNull(jobStatusRepository.findByUuid(first.getUuid()).orElseThrow().getIdempotencyKey());
+    }
+
+    @Test
+    void clearExpiredIdempotencyKeys_ClearsOnlyExpiredKeysInBatches() {
+        // Given
+        jobStatusRepository.deleteAll();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            JobStatus expired = keyed("test-job", "expired-" + i);
+            expired.setIdempotencyExpiresAt(now.minusMinutes(1));
+            jobQueue.enqueue(expired);
+        }
+        JobStatus live = keyed("test-job", "live");
+        live.setIdempotencyExpiresAt(now.plusMinutes(1));
+        jobQueue.enqueue(live);
+
+        // When
+        int firstBatch = jobStatusStore.clearExpiredIdempotencyKeys(now, 2);
+        int secondBatch = jobStatusStore.clearExpiredIdempotencyKeys(now, 2);
+        int thirdBatch = jobStatusStore.clearExpiredIdempotencyKeys(now, 2);
+
+        // Then
+        assertEquals(List.of(2, 1, 0), List.of(firstBatch, secondBatch, thirdBatch));
+        assertEquals("live", jobStatusRepository.findByUuid(live.getUuid()).orElseThrow().getIdempotencyKey());
+        assertEquals(4, jobStatusRepository.count());
+    }
+
+    @Test
+    void completeAll_StoresFinalStatusesButKeepsCancellations() {
+        // Given
+        jobStatusRepository.deleteAll();
+        UUID finished = enqueue("report-service");
+        UUID cancelled = enqueue("report-service");
+        jobQueue.claim("node-a", 2, Set.of(), LEASE);
+        JobStatus job = jobStatusRepository.findByUuid(cancelled).orElseThrow();
+        job.setStatus(JobExecutionStatus.CANCELLED);
+        jobStatusRepository.save(job);
+        LocalDateTime endDate = LocalDateTime.now();
+
+        // When
+        int updated = jobStatusStore.completeAll(List.of(
+                new JobCompletion(finished, JobExecutionStatus.SUCCESS, "{\"ok\":true}", 200, endDate),
+                new JobCompletion(cancelled, JobExecutionStatus.SUCCESS, "late", 200, endDate)));
+
+        // Then
+        assertEquals(1, updated);
+        JobStatus stored = jobStatusRepository.findByUuid(finished).orElseThrow();
+        assertEquals(JobExecutionStatus.SUCCESS, stored.getStatus());
+        assertEquals("{\"ok\":true}", stored.getResponse());
+        assertEquals(200, stored.getHttpStatus());
+        assertNotNull(stored.getEndDate());
+        assertEquals(JobExecutionStatus.CANCELLED, jobStatusRepository.findByUuid(cancelled).orElseThrow().getStatus());
+    }
+
+    @Test
+    void cancel_CancelsActiveJobsButKeepsFinalStatuses() {
+        // Given
+        jobStatusRepository.deleteAll();
+        UUID claimed = enqueue("report-service");
+        UUID queued = enqueue("report-service");
+        UUID finished = enqueue("report-service");
+        jobQueue.claim("node-a", 1, Set.of(), LEASE);
+        jobStatusStore.completeAll(List.of(
+                new JobCompletion(finished, JobExecutionStatus.SUCCESS, "{\"ok\":true}", 200, LocalDateTime.now())));
+
+        // When
+        Optional<JobExecutionStatus> queuedCancelled = jobStatusStore.cancel(cancellation(queued));
+        Optional<JobExecutionStatus> claimedCancelled = jobStatusStore.cancel(cancellation(claimed));
+        Optional<JobExecutionStatus> finishedCancelled = jobStatusStore.cancel(cancellation(finished));
+
+        // Then
+        assertEquals(Optional.of(JobExecutionStatus.STARTED), queuedCancelled);
+        assertEquals(Optional.of(JobExecutionStatus.IN_PROGRESS), claimedCancelled);
+        assertTrue(finishedCancelled.isEmpty());
+        JobStatus stored = jobStatusRepository.findByUuid(claimed).orElseThrow();
+        assertEquals(JobExecutionStatus.CANCELLED, stored.getStatus());
+        assertEquals("cancelled", stored.getResponse());
+        assertNull(stored.getLeaseOwner());
+        assertEquals(JobExecutionStatus.CANCELLED, jobStatusRepository.findByUuid(queued).orElseThrow().getStatus());
+        assertEquals(JobExecutionStatus.SUCCESS, jobStatusRepository.findByUuid(finished).orElseThrow().getStatus());
+    }
+
+    @Test
+    void findReferencedResponses_ReturnsOnlyReferencesHeldByJobs() {
+        // Given: two jobs share one file
+        jobStatusRepository.deleteAll();
+        String shared = "sha256:" + "a".repeat(64);
+        String orphaned = "sha256:" + "b".repeat(64);
+        UUID first = enqueue("report-service");
+        UUID second = enqueue("report-service");
+        LocalDateTime endDate = LocalDateTime.now();
+        jobStatusStore.completeAll(List.of(
+                new JobCompletion(first, JobExecutionStatus.SUCCESS, StoredResponse.file(shared, 50_000), 200, endDate),
+                new JobCompletion(second, JobExecutionStatus.SUCCESS, StoredResponse.file(shared, 50_000), 200, endDate)));
+
+        // When
+        Set<String> referenced = jobStatusStore.findReferencedResponses(List.of(shared, orphaned));
+
+        // Then
+        assertEquals(Set.of(shared), referenced);
+    }
+
+    @Test
+    void findStatusesByUuids_ReadsStatusesOfKnownJobsOnly() {
+        // Given
+        UUID first = enqueue("report-service");
+        UUID second = enqueue("report-service");
+        enqueue("report-service");
+        jobStatusStore.completeAll(List.of(
+                new JobCompletion(second, JobExecutionStatus.SUCCESS, "done", 200, LocalDateTime.now())));
+
+        // When
+        List<JobStatus> found = jobStatusStore.findStatusesByUuids(List.of(first, second, UUID.randomUUID()));
+
+        // Then
+        assertEquals(2, found.size());
+        JobStatus queued = found.stream().filter(job -> job.getUuid().equals(first)).findFirst().orElseThrow();
+        JobStatus finished = found.stream().filter(job -> job.getUuid().equals(second)).findFirst().orElseThrow();
+        assertEquals(JobExecutionStatus.STARTED, queued.getStatus());
+        assertEquals("test-job", queued.getJobName());
+        assertNotNull(queued.getStartDate());
+        assertNull(queued.getRequestHeaders());
+        assertEquals(JobExecutionStatus.SUCCESS, finished.getStatus());
+        assertEquals("done", finished.getResponse());
+        assertEquals(200, finished.getHttpStatus());
+    }
+
+    @Test
+    void findStatusWithoutResponse_LeavesResponseOut() {
+        // Given
+        UUID uuid = enqueue("report-service");
+        jobStatusStore.completeAll(List.of(new JobCompletion(uuid, JobExecutionStatus.SUCCESS,
+                StoredResponse.compressed(new byte[] {1, 2, 3}, 300_000), 200, LocalDateTime.now())));
+
+        // When
+        JobStatus found = jobStatusStore.findStatusWithoutResponse(uuid).orElseThrow();
+
+        // Then
+        assertEquals(JobExecutionStatus.SUCCESS, found.getStatus());
+        assertEquals(300_000L, found.getResponseSize());
+        assertEquals(200, found.getHttpStatus());
+        assertEquals("test-job", found.getJobName());
+        assertNull(found.getResponseData());
+        assertNull(found.getRequestHeaders());
+        assertArrayEquals(new byte[] {1, 2, 3}, jobStatusRepository.findByUuid(uuid).orElseThrow().getResponseData());
+        assertTrue(jobStatusStore.findStatusWithoutResponse(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void findResponse_ReadsResponseFieldsOnly() {
+        // Given
+        UUID uuid = enqueue("report-service");
+        jobStatusStore.completeAll(List.of(new JobCompletion(uuid, JobExecutionStatus.SUCCESS,
+                StoredResponse.compressed(new byte[] {1, 2, 3}, 300_000), 200, LocalDateTime.now())));
+
+        // When
+        StoredResponse found = jobStatusStore.findResponse(uuid).orElseThrow();
+
+        // Then
+        assertArrayEquals(new byte[] {1, 2, 3}, found.getData());
+        assertEquals(300_000L, found.getSize());
+        assertNull(found.getText());
+        assertNull(found.getRef());
+        assertTrue(jobStatusStore.findResponse(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void enqueue_NotifiesListeners() {
+        // Given
+        AtomicInteger notified = new AtomicInteger();
+        jobQueue.addEnqueueListener(notified::incrementAndGet);
+
+        // When
+        enqueue("report-service");
+
+        // Then
+        assertEquals(1, notified.get());
+    }
+
+    private static JobStatus keyed(String jobName, String idempotencyKey) {
+        JobStatus job = new JobStatus(UUID.randomUUID(), JobExecutionStatus.STARTED);
+        job.setJobName(jobName);
+        job.setIdempotencyKey(idempotencyKey);
+        return job;
+    }
+
+    private static JobCompletion cancellation(UUID uuid) {
+        return new JobCompletion(uuid, JobExecutionStatus.CANCELLED, "cancelled", null, LocalDateTime.now());
+    }
+
+    private UUID enqueue(String serviceName) {
+        UUID uuid = UUID.randomUUID();
+        JobStatus job = new JobStatus(uuid, JobExecutionStatus.STARTED);
+        job.setJobName("test-job");
+        job.setServiceName(serviceName);
+        job.setRequestMethod("POST");
+        job.setRequestHeaders("{\"X-Test\":\"1\"}");
+        jobQueue.enqueue(job);
+        return uuid;
+    }
+}
@@ -0,0 +1,199 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import com.jobmanager.orchestrator.domain.exception.ValidationException;
+import com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus;
+import com.jobmanager.orchestrator.persistence.mongodb.document.MongoDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the paginated job status and document listings of MongoDbService.
+ */
+@ExtendWith(MockitoExtension.class)
+class MongoDbServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private MongoDbService mongoDbService;
+
+    @Test
+    void getJobStatusPage_ReturnsCursorOfLastJobWhenMoreMatch() {
+        // Given
+        List<JobStatus> found = List.of(job("a1", START), job("a2", START), job("a3", START.plusMinutes(1)));
+        when(mongoTemplate.find(any(Query.class), eq(JobStatus.class))).thenReturn(found);
+
+        // When
+        CursorPage<JobStatus> page = mongoDbService.getJobStatusPage(null, null, null, null, 2);
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(JobStatus.class));
+        assertEquals(3, query.getValue().getLimit());
+        assertEquals(new Document("startDate", 1).append("_id", 1), query.getValue().getSortObject());
+        assertEquals(List.of("a1", "a2"), page.getItems().stream().map(JobStatus::getId).toList());
+        assertEquals(MongoDbService.encodeCursor(START, "a2"), page.getNextCursor());
+    }
+
+    @Test
+    void getJobStatusPage_LastPageHasNoCursor() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(JobStatus.class))).thenReturn(List.of(job("a1", START)));
+
+        // When
+        CursorPage<JobStatus> page = mongoDbService.getJobStatusPage(null, null, null, null, 2);
+
+        // Then
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getJobStatusPage_FiltersAndContinuesAfterCursor() {
+        // Given
+        String cursor = MongoDbService.encodeCursor(START, "a2");
+        when(mongoTemplate.find(any(Query.class), eq(JobStatus.class))).thenReturn(List.of());
+
+        // When
+        mongoDbService.getJobStatusPage(JobExecutionStatus.SUCCESS, START.minusDays(1), START.plusDays(1), cursor, 10);
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(JobStatus.class));
+        String filter = query.getValue().getQueryObject().toString();
+        assertTrue(filter.contains("status"), filter);
+        assertTrue(filter.contains("$gte"), filter);
+        assertTrue(filter.contains("$lt"), filter);
+        assertTrue(filter.contains("$or"), filter);
+        assertFalse(query.getValue().getFieldsObject().containsKey("forwardRequest"));
+    }
+
+    @Test
+    void getJobStatusPage_RejectsInvalidCursor() {
+        // When / Then
+        assertThrows(ValidationException.class,
+                () -> mongoDbService.getJobStatusPage(null, null, null, "not a cursor!", 10));
+        assertThrows(ValidationException.class,
+                () -> mongoDbService.getJobStatusPage(null, null, null, "bm8tc2VwYXJhdG9y", 10));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void getDocumentPage_ContinuesAfterCursorKey() {
+        // Given
+        List<MongoDocument> found = List.of(document("doc-3"), document("doc-4"), document("doc-5"));
+        when(mongoTemplate.find(any(Query.class), eq(MongoDocument.class))).thenReturn(found);
+
+        // When
+        CursorPage<MongoDocument> page = mongoDbService.getDocumentPage(MongoDbService.encodeCursor("doc-2"), 2, true);
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(MongoDocument.class));
+        assertEquals(new Document("documentKey", new Document("$gt", "doc-2")), query.getValue().getQueryObject());
+        assertEquals(new Document("documentKey", 1), query.getValue().getSortObject());
+        assertEquals(3, query.getValue().getLimit());
+        assertTrue(query.getValue().getFieldsObject().isEmpty());
+        assertEquals(List.of("doc-3", "doc-4"), page.getItems().stream().map(MongoDocument::getDocumentKey).toList());
+        assertEquals(MongoDbService.encodeCursor("doc-4"), page.getNextCursor());
+    }
+
+    @Test
+    void getDocumentPage_KeysOnlyExcludesData() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(MongoDocument.class))).thenReturn(List.of(document("doc-1")));
+
+        // When
+        CursorPage<MongoDocument> page = mongoDbService.getDocumentPage(null, 10, false);
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(MongoDocument.class));
+        assertEquals(new Document("data", 0), query.getValue().getFieldsObject());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getValuesByDocumentKey_ProjectsOnlyRequestedPaths() {
+        // Given
+        MongoDocument stored = new MongoDocument("doc-1",
+                Map.of("name", "Ada", "address", Map.of("city", "London", "zip", "N1")));
+        when(mongoTemplate.findOne(any(Query.class), eq(MongoDocument.class))).thenReturn(stored);
+
+        // When
+        Optional<Map<String, Object>> values = mongoDbService.getValuesByDocumentKey("doc-1",
+                List.of("name", "address.city", "address", "missing"));
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(query.capture(), eq(MongoDocument.class));
+        assertEquals(new Document("documentKey", "doc-1"), query.getValue().getQueryObject());
+        assertEquals(new Document("data.name", 1).append("data.address", 1).append("data.missing", 1)
+                .append("documentKey", 1), query.getValue().getFieldsObject());
+        assertEquals(Map.of("name", "Ada", "address.city", "London",
+                "address", Map.of("city", "London", "zip", "N1")), values.orElseThrow());
+    }
+
+    @Test
+    void getValueByDocumentKeyAndDataKey_ReadsNestedValue() {
+        // Given
+        MongoDocument stored = new MongoDocument("doc-1", Map.of("address", Map.of("city", "London")));
+        when(mongoTemplate.findOne(any(Query.class), eq(MongoDocument.class))).thenReturn(stored);
+
+        // When / Then
+        assertEquals(Optional.of("London"), mongoDbService.getValueByDocumentKeyAndDataKey("doc-1", "address.city"));
+    }
+
+    @Test
+    void getValuesByDocumentKey_EmptyWhenDocumentMissing() {
+        // Given
+        when(mongoTemplate.findOne(any(Query.class), eq(MongoDocument.class))).thenReturn(null);
+
+        // When / Then
+        assertTrue(mongoDbService.getValuesByDocumentKey("missing", List.of("name")).isEmpty());
+    }
+
+    @Test
+    void getValuesByDocumentKey_RejectsInvalidDataKeys() {
+        // When / Then
+        for (String dataKey : List.of("$where", "a..b", ".a", "a.", " ")) {
+            assertThrows(ValidationException.class,
+                    () -> mongoDbService.getValuesByDocumentKey("doc-1", List.of(dataKey)), dataKey);
+        }
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private static MongoDocument document(String documentKey) {
+        return new MongoDocument(documentKey, null);
+    }
+
+    private static JobStatus job(String id, LocalDateTime startDate) {
+        JobStatus job = new JobStatus();
+        job.setId(id);
+        job.setStartDate(startDate);
+        return job;
+    }
+}
@@ -0,0 +1,183 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Checks the filters MongoJobQueue and MongoJobStatusStore send to MongoDB, so the multi-node
+ * claim, renewal, recovery and cancellation rules are covered without a running server.
+ * {@link MongoJobQueueTest} runs the same paths against a real MongoDB when one is available.
+ */
+@ExtendWith(MockitoExtension.class)
+class MongoJobQueueQueryTest {
+
+    private static final Class<com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus> DOCUMENT =
+            com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus.class;
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private MongoJobQueue jobQueue;
+    private MongoJobStatusStore jobStatusStore;
+
+    @BeforeEach
+    void setUp() {
+        jobQueue = new MongoJobQueue(mongoTemplate);
+        jobStatusStore = new MongoJobStatusStore(mongoTemplate);
+    }
+
+    @Test
+    void claim_LeasesOldestRoutableQueuedJobsToTheOwner() {
+        // Given
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(DOCUMENT)))
+                .thenReturn(document(JobExecutionStatus.IN_PROGRESS))
+                .thenReturn(null);
+
+        // When
+        List<JobStatus> claimed = jobQueue.claim("node-a", 5, Set.of("report-service"), LEASE);
+
+        // Then: the queue is drained after one job
+        assertEquals(1, claimed.size());
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        ArgumentCaptor<FindAndModifyOptions> options = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate, times(2)).findAndModify(query.capture(), update.capture(), options.capture(), eq(DOCUMENT));
+
+        Document filter = query.getValue().getQueryObject();
+        assertEquals(JobExecutionStatus.STARTED, filter.get("status"));
+        assertEquals(new Document("$ne", null), filter.get("jobName"));
+        assertEquals(Set.of("report-service"),
+                Set.copyOf((Collection<?>) ((Document) filter.get("serviceName")).get("$nin")));
+        assertEquals(new Document("startDate", 1), query.getValue().getSortObject());
+
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertEquals(JobExecutionStatus.IN_PROGRESS, set.get("status"));
+        assertEquals("node-a", set.get("leaseOwner"));
+        assertTrue(((LocalDateTime) set.get("leaseExpiresAt")).isAfter(LocalDateTime.now()));
+        assertTrue(options.getValue().isReturnNew());
+        assertFalse(options.getValue().isUpsert());
+    }
+
+    @Test
+    void renewLeases_OnlyExtendsJobsStillHeldByTheOwner() {
+        // Given
+        UUID held = UUID.randomUUID();
+        UUID lost = UUID.randomUUID();
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(DOCUMENT)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        var stillHeld = document(JobExecutionStatus.IN_PROGRESS);
+        stillHeld.setUuid(held.toString());
+        when(mongoTemplate.find(any(Query.class), eq(DOCUMENT))).thenReturn(List.of(stillHeld));
+
+        // When
+        Set<UUID> lostLeases = jobQueue.renewLeases("node-a", Set.of(held, lost), LEASE);
+
+        // Then
+        assertEquals(Set.of(lost), lostLeases);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(query.capture(), update.capture(), eq(DOCUMENT));
+        Document filter = query.getValue().getQueryObject();
+        assertEquals("node-a", filter.get("leaseOwner"));
+        assertEquals(JobExecutionStatus.IN_PROGRESS, filter.get("status"));
+        assertEquals(Set.of(held.toString(), lost.toString()),
+                Set.copyOf((Collection<?>) ((Document) filter.get("uuid")).get("$in")));
+        assertTrue(((Document) update.getValue().getUpdateObject().get("$set")).containsKey("leaseExpiresAt"));
+    }
+
+    @Test
+    void recoverExpiredLeases_FailsUnleasedJobsAndRequeuesExpiredOnes() {
+        // Given
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(DOCUMENT)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null), UpdateResult.acknowledged(2, 2L, null));
+
+        // When
+        int recovered = jobQueue.recoverExpiredLeases();
+
+        // Then
+        assertEquals(2, recovered);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateMulti(query.capture(), update.capture(), eq(DOCUMENT));
+
+        Document unleased = query.getAllValues().get(0).getQueryObject();
+        assertEquals(JobExecutionStatus.IN_PROGRESS, unleased.get("status"));
+        assertTrue(unleased.containsKey("leaseExpiresAt"));
+        assertNull(unleased.get("leaseExpiresAt"));
+        Document fail = (Document) update.getAllValues().get(0).getUpdateObject().get("$set");
+        assertEquals(JobExecutionStatus.FAILED, fail.get("status"));
+        assertEquals(JobQueue.UNLEASED_CLAIM_FAILURE, fail.get("response"));
+
+        Document expired = query.getAllValues().get(1).getQueryObject();
+        assertEquals(JobExecutionStatus.IN_PROGRESS, expired.get("status"));
+        assertTrue(((Document) expired.get("leaseExpiresAt")).containsKey("$lt"));
+        Document requeue = update.getAllValues().get(1).getUpdateObject();
+        assertEquals(JobExecutionStatus.STARTED, ((Document) requeue.get("$set")).get("status"));
+        assertTrue(((Document) requeue.get("$unset")).containsKey("leaseOwner"));
+    }
+
+    @Test
+    void cancel_OnlyCancelsActiveJobsAndReportsTheStatusTheyHad() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), eq(DOCUMENT)))
+                .thenReturn(document(JobExecutionStatus.IN_PROGRESS))
+                .thenReturn(null);
+        JobCompletion cancellation = new JobCompletion(
+                uuid, JobExecutionStatus.CANCELLED, "cancelled", null, LocalDateTime.now());
+
+        // When
+        Optional<JobExecutionStatus> claimed = jobStatusStore.cancel(cancellation);
+        Optional<JobExecutionStatus> finished = jobStatusStore.cancel(cancellation);
+
+        // Then
+        assertEquals(Optional.of(JobExecutionStatus.IN_PROGRESS), claimed);
+        assertTrue(finished.isEmpty());
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).findAndModify(query.capture(), update.capture(), eq(DOCUMENT));
+        Document filter = query.getValue().getQueryObject();
+        assertEquals(uuid.toString(), filter.get("uuid"));
+        assertEquals(List.of(JobExecutionStatus.STARTED, JobExecutionStatus.IN_PROGRESS),
+                List.copyOf((Collection<?>) ((Document) filter.get("status")).get("$in")));
+        Document cancel = update.getValue().getUpdateObject();
+        assertEquals(JobExecutionStatus.CANCELLED, ((Document) cancel.get("$set")).get("status"));
+        assertTrue(((Document) cancel.get("$unset")).containsKey("leaseOwner"));
+    }
+
+    private static com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus document(JobExecutionStatus status) {
+        com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus document =
+                new com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus();
+        document.setUuid(UUID.randomUUID().toString());
+        document.setStatus(status);
+        document.setJobName("test-job");
+        return document;
+    }
+}
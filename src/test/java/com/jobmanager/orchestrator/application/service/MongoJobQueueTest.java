@@ -0,0 +1,270 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobStatus;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Multi-node tests for MongoJobQueue and MongoJobStatusStore.
+ * Each node is a separate queue instance with its own owner name, all sharing one collection.
+ * Runs against the MongoDB at {@code MONGODB_URI} (default {@code mongodb://localhost:27017})
+ * and is skipped when none is reachable.
+ */
+class MongoJobQueueTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private MongoJobStatusStore jobStatusStore;
+
+    @BeforeAll
+    static void connect() {
+        String uri = System.getenv().getOrDefault("MONGODB_URI", "mongodb://localhost:27017");
+        mongoClient = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(uri))
+                .applyToClusterSettings(cluster -> cluster.serverSelectionTimeout(1, TimeUnit.SECONDS))
+                .build());
+        boolean reachable;
+        try {
+            mongoClient.getDatabase("admin").runCommand(new Document("ping", 1));
+            reachable = true;
+        } catch (RuntimeException e) {
+            reachable = false;
+        }
+        assumeTrue(reachable, "MongoDB is not reachable at " + uri);
+        mongoTemplate = new MongoTemplate(mongoClient, "job_orchestrator_queue_test");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (mongoClient != null) {
+            mongoClient.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Class<?> document = com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus.class;
+        mongoTemplate.dropCollection(document);
+        // The indexes the application creates on startup, including the idempotency key index
+        IndexOperations indexOps = mongoTemplate.indexOps(document);
+        IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(document)
+                .forEach(indexOps::ensureIndex);
+        jobStatusStore = new MongoJobStatusStore(mongoTemplate);
+    }
+
+    @Test
+    void claim_ConcurrentNodesClaimEachJobOnce() throws Exception {
+        // Given
+        int jobCount = 400;
+        Set<UUID> enqueued = new HashSet<>();
+        MongoJobQueue producer = new MongoJobQueue(mongoTemplate);
+        for (int i = 0; i < jobCount; i++) {
+            enqueued.add(enqueue(producer, "report-service"));
+        }
+        Set<UUID> claimed = ConcurrentHashMap.newKeySet();
+        List<UUID> duplicates = new ArrayList<>();
+
+        // When
+        ExecutorService nodes = Executors.newFixedThreadPool(4);
+        List<Future<?>> runs = new ArrayList<>();
+        for (int n = 0; n < 4; n++) {
+            MongoJobQueue node = new MongoJobQueue(mongoTemplate);
+            String owner = "node-" + n;
+            runs.add(nodes.submit(() -> {
+                List<JobStatus> batch;
+                while (!(batch = node.claim(owner, 10, Set.of(), LEASE)).isEmpty()) {
+                    for (JobStatus job : batch) {
+                        assertEquals(owner, job.getLeaseOwner());
+                        if (!claimed.add(job.getUuid())) {
+                            synchronized (duplicates) {
+                                duplicates.add(job.getUuid());
+                            }
+                        }
+                    }
+                }
+            }));
+        }
+        for (Future<?> run : runs) {
+            run.get(30, TimeUnit.SECONDS);
+        }
+        nodes.shutdown();
+
+        // Then
+        assertTrue(duplicates.isEmpty(), "Jobs claimed twice: " + duplicates);
+        assertEquals(enqueued, claimed);
+    }
+
+    @Test
+    void claim_SkipsExcludedServices() {
+        // Given
+        MongoJobQueue node = new MongoJobQueue(mongoTemplate);
+        enqueue(node, "report-service");
+        UUID notification = enqueue(node, "notification-service");
+
+        // When
+        List<JobStatus> claimed = node.claim("node-a", 10, Set.of("report-service"), LEASE);
+
+        // Then
+        assertEquals(List.of(notification), claimed.stream().map(JobStatus::getUuid).toList());
+    }
+
+    @Test
+    void enqueue_SameKeyOnConcurrentNodes_CreatesOneJob() throws Exception {
+        // Given
+        int nodeCount = 8;
+        ExecutorService nodes = Executors.newFixedThreadPool(nodeCount);
+        List<Future<JobReservation>> reservations = new ArrayList<>();
+
+        // When
+        for (int n = 0; n < nodeCount; n++) {
+            MongoJobQueue node = new MongoJobQueue(mongoTemplate);
+            reservations.add(nodes.submit(() -> {
+                JobStatus job = new JobStatus(UUID.randomUUID(), JobExecutionStatus.STARTED);
+                job.setJobName("test-job");
+                job.setIdempotencyKey("retried-key");
+                return node.enqueue(job);
+            }));
+        }
+        Set<UUID> uuids = new HashSet<>();
+        int created = 0;
+        for (Future<JobReservation> reservation : reservations) {
+            JobReservation result = reservation.get(10, TimeUnit.SECONDS);
+            uuids.add(result.getUuid());
+            created += result.isCreated() ? 1 : 0;
+        }
+        nodes.shutdown();
+
+        // Then
+        assertEquals(1, created);
+        assertEquals(1, uuids.size());
+        assertEquals(uuids, Set.of(jobStatusStore.findByJobNameAndIdempotencyKey("test-job", "retried-key")
+                .orElseThrow().getUuid()));
+    }
+
+    @Test
+    void renewLeases_ReportsJobsCancelledThroughAnotherNode() {
+        // Given
+        MongoJobQueue owningNode = new MongoJobQueue(mongoTemplate);
+        UUID running = enqueue(owningNode, "report-service");
+        UUID cancelled = enqueue(owningNode, "report-service");
+        owningNode.claim("node-a", 2, Set.of(), LEASE);
+
+        // Another node handles the cancel request
+        JobStatus job = jobStatusStore.findByUuid(cancelled).orElseThrow();
+        job.setStatus(JobExecutionStatus.CANCELLED);
+        jobStatusStore.save(job);
+
+        // When
+        Set<UUID> lost = owningNode.renewLeases("node-a", Set.of(running, cancelled), LEASE);
+
+        // Then
+        assertEquals(Set.of(cancelled), lost);
+    }
+
+    @Test
+    void recoverExpiredLeases_LetsAnotherNodeTakeOver() {
+        // Given
+        MongoJobQueue crashedNode = new MongoJobQueue(mongoTemplate);
+        MongoJobQueue survivingNode = new MongoJobQueue(mongoTemplate);
+        UUID uuid = enqueue(crashedNode, "report-service");
+        crashedNode.claim("node-a", 1, Set.of(), LEASE);
+        JobStatus orphaned = jobStatusStore.findByUuid(uuid).orElseThrow();
+        orphaned.setLeaseExpiresAt(LocalDateTime.now().minusSeconds(1));
+        jobStatusStore.save(orphaned);
+
+        // When
+        int recovered = survivingNode.recoverExpiredLeases();
+        List<JobStatus> claimed = survivingNode.claim("node-b", 1, Set.of(), LEASE);
+
+        // Then
+        assertEquals(1, recovered);
+        assertEquals(List.of(uuid), claimed.stream().map(JobStatus::getUuid).toList());
+        assertEquals(Set.of(uuid), crashedNode.renewLeases("node-a", Set.of(uuid), LEASE));
+    }
+
+    @Test
+    void throughput_ScalesWithNodeCount() throws Exception {
+        // Given: each job costs 2ms of work on a node that runs one job at a time
+        int jobCount = 300;
+
+        // When
+        long oneNode = drain(1, jobCount);
+        long twoNodes = drain(2, jobCount);
+        long fourNodes = drain(4, jobCount);
+
+        // Then: claiming is not a bottleneck, so adding nodes divides the drain time
+        assertTrue(oneNode / (double) twoNodes > 1.6, "2 nodes: " + oneNode + "ms vs " + twoNodes + "ms");
+        assertTrue(oneNode / (double) fourNodes > 3.0, "4 nodes: " + oneNode + "ms vs " + fourNodes + "ms");
+    }
+
+    private long drain(int nodeCount, int jobCount) throws Exception {
+        mongoTemplate.dropCollection(com.jobmanager.orchestrator.persistence.mongodb.document.JobStatus.class);
+        MongoJobQueue producer = new MongoJobQueue(mongoTemplate);
+        for (int i = 0; i < jobCount; i++) {
+            enqueue(producer, "report-service");
+        }
+
+        ExecutorService nodes = Executors.newFixedThreadPool(nodeCount);
+        List<Future<?>> runs = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int n = 0; n < nodeCount; n++) {
+            MongoJobQueue node = new MongoJobQueue(mongoTemplate);
+            String owner = "node-" + n;
+            runs.add(nodes.submit(() -> {
+                List<JobStatus> batch;
+                while (!(batch = node.claim(owner, 5, Set.of(), LEASE)).isEmpty()) {
+                    for (int i = 0; i < batch.size(); i++) {
+                        Thread.sleep(2);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> run : runs) {
+            run.get(60, TimeUnit.SECONDS);
+        }
+        nodes.shutdown();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static UUID enqueue(MongoJobQueue queue, String serviceName) {
+        UUID uuid = UUID.randomUUID();
+        JobStatus job = new JobStatus(uuid, JobExecutionStatus.STARTED);
+        job.setJobName("test-job");
+        job.setServiceName(serviceName);
+        job.setRequestMethod("POST");
+        queue.enqueue(job);
+        return uuid;
+    }
+}
@@ -0,0 +1,99 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PeriodicTask.
+ */
+class PeriodicTaskTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PeriodicTaskTest.class);
+    private static final long LONG_INTERVAL = 60_000;
+
+    @Test
+    void start_StepWithMoreWork_RunsAgainWithoutWaiting() throws InterruptedException {
+        // Given
+        CountDownLatch steps = new CountDownLatch(3);
+        PeriodicTask task = new PeriodicTask("test-task", () -> LONG_INTERVAL, () -> {
+            steps.countDown();
+            return steps.getCount() > 0;
+        }, logger, "Step failed");
+
+        // When
+        task.start();
+
+        // Then
+        assertTrue(steps.await(5, TimeUnit.SECONDS));
+        task.stop();
+        assertFalse(task.isRunning());
+    }
+
+    @Test
+    void wakeUp_EndsTheWait() throws InterruptedException {
+        // Given
+        CountDownLatch secondStep = new CountDownLatch(2);
+        PeriodicTask task = new PeriodicTask("test-task", () -> LONG_INTERVAL, () -> {
+            secondStep.countDown();
+            return false;
+        }, logger, "Step failed");
+        task.start();
+
+        // When
+        task.wakeUp();
+
+        // Then
+        assertTrue(secondStep.await(5, TimeUnit.SECONDS));
+        task.stop();
+    }
+
+    @Test
+    void start_FailedStep_IsRetriedAfterTheInterval() throws InterruptedException {
+        // Given
+        CountDownLatch attempts = new CountDownLatch(2);
+        PeriodicTask task = new PeriodicTask("test-task", () -> 10, () -> {
+            attempts.countDown();
+            throw new IllegalStateException("store unavailable");
+        }, logger, "Step failed");
+
+        // When
+        task.start();
+
+        // Then
+        assertTrue(attempts.await(5, TimeUnit.SECONDS));
+        task.stop();
+    }
+
+    @Test
+    void stop_StepThatDoesNotFinish_IsInterruptedAfterTheStopTimeout() {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PeriodicTask task = new PeriodicTask("test-task", () -> LONG_INTERVAL, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(LONG_INTERVAL);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return false;
+        }, logger, "Step failed");
+        task.start();
+        assertDoesNotThrow(() -> started.await(5, TimeUnit.SECONDS));
+
+        // When
+        long start = System.nanoTime();
+        task.stop();
+
+        // Then
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(millis < PeriodicTask.STOP_TIMEOUT.toMillis() + 1_000, "Stopping took " + millis + "ms");
+        assertDoesNotThrow(() -> assertTrue(interrupted.await(5, TimeUnit.SECONDS)));
+    }
+}
@@ -0,0 +1,115 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.application.service.ReplicatedMappingTable.Source;
+import com.jobmanager.orchestrator.domain.entity.JobRestMapping;
+import com.jobmanager.orchestrator.persistence.mongodb.document.JobMapping;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReplicatedMappingTable.
+ */
+class ReplicatedMappingTableTest {
+
+    private final ReplicatedMappingTable table = new ReplicatedMappingTable();
+
+    @Test
+    void put_RenamingDocumentMovesItsMapping() {
+        // Given
+        table.put(Source.REST_MAPPINGS, "id-1", mapping("id-1", "report"));
+
+        // When
+        Set<String> changed = table.put(Source.REST_MAPPINGS, "id-1", mapping("id-1", "monthly-report"));
+
+        // Then
+        assertEquals(Set.of("report", "monthly-report"), changed);
+        assertTrue(table.find("report").isEmpty());
+        assertTrue(table.find("monthly-report").isPresent());
+    }
+
+    @Test
+    void put_PublishesCompiledRoutesInNewSnapshot() {
+        // Given
+        RoutingTable before = table.snapshot();
+
+        // When
+        table.put(Source.REST_MAPPINGS, "id-1", mapping("id-1", "report"));
+
+        // Then
+        assertTrue(before.find("report").isEmpty());
+        Route route = table.snapshot().find("report").orElseThrow();
+        assertEquals(URI.create("http://localhost:8081"), route.getEndpoint());
+        assertEquals(HttpMethod.POST, route.getHttpMethod());
+        assertEquals("report-service", route.getBulkheadKey());
+    }
+
+    @Test
+    void put_DropsMappingsWithoutEndpoint() {
+        // Given
+        table.put(Source.REST_MAPPINGS, "id-1", mapping("id-1", "report"));
+        JobRestMapping broken = mapping("id-1", "report");
+        broken.setPort(null);
+
+        // When
+        table.put(Source.REST_MAPPINGS, "id-1", broken);
+
+        // Then
+        assertTrue(table.find("report").isEmpty());
+    }
+
+    @Test
+    void batch_PublishesOneSnapshotForAllChanges() {
+        // When
+        table.batch(() -> {
+            table.put(Source.REST_MAPPINGS, "id-1", mapping("id-1", "report"));
+            assertEquals(0, table.size());
+            table.put(Source.REST_MAPPINGS, "id-2", mapping("id-2", "notify"));
+        });
+
+        // Then
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void remove_LeavesJobNameTakenOverByAnotherDocument() {
+        // Given
+        table.put(Source.REST_MAPPINGS, "id-1", mapping("id-1", "report"));
+        table.put(Source.REST_MAPPINGS, "id-2", mapping("id-2", "report"));
+
+        // When
+        Optional<String> removed = table.remove(Source.REST_MAPPINGS, "id-1");
+
+        // Then
+        assertEquals(Optional.of("report"), removed);
+        assertEquals("id-2", table.find("report").orElseThrow().getMappingId());
+    }
+
+    @Test
+    void find_PrefersRestMappingsOverApiMappings() {
+        // Given
+        JobMapping apiDocument = new JobMapping("report", "api-service", "http://api", 9000);
+        apiDocument.setId("api-1");
+        table.put(Source.API_MAPPINGS, "api-1", ReplicatedMappingTable.toMapping(apiDocument));
+        assertEquals("api-service", table.find("report").orElseThrow().getServiceName());
+
+        // When
+        table.put(Source.REST_MAPPINGS, "id-1", mapping("id-1", "report"));
+
+        // Then
+        assertEquals("report-service", table.find("report").orElseThrow().getServiceName());
+        table.remove(Source.REST_MAPPINGS, "id-1");
+        assertEquals("api-service", table.find("report").orElseThrow().getServiceName());
+    }
+
+    private static JobRestMapping mapping(String id, String jobName) {
+        JobRestMapping mapping = new JobRestMapping(jobName, "report-service", "http://localhost", 8081, "POST");
+        mapping.setId(id);
+        return mapping;
+    }
+}
@@ -0,0 +1,116 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.exception.RequestBodySpoolException;
+import com.jobmanager.orchestrator.domain.exception.RequestBodyTooLargeException;
+import com.jobmanager.orchestrator.domain.exception.RequestBodyUnreadableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RequestBodySpool.
+ */
+class RequestBodySpoolTest {
+
+    @TempDir
+    Path spoolDir;
+
+    private RequestBodySpoolProperties properties;
+    private RequestBodySpool spool;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RequestBodySpoolProperties();
+        properties.setInlineLimit(16);
+        properties.setBufferSize(8);
+        properties.setSpoolDir(spoolDir.toString());
+        spool = new RequestBodySpool(properties);
+    }
+
+    @Test
+    void read_SmallBodyIsReturnedAsRawBytes() throws IOException {
+        // Given
+        byte[] content = {0x0a, (byte) 0xff, 0x00, (byte) 0xc3, 0x28};
+
+        // When
+        Object body = spool.read(new ByteArrayInputStream(content));
+
+        // Then
+        assertArrayEquals(content, assertInstanceOf(byte[].class, body));
+        assertNull(spool.read(new ByteArrayInputStream(new byte[0])));
+        assertEquals(0, fileCount());
+    }
+
+    @Test
+    void read_LargeBodyIsSpooledToFile() throws IOException {
+        // Given
+        byte[] content = new byte[100];
+        Arrays.fill(content, (byte) 'x');
+
+        // When
+        Object body = spool.read(new ByteArrayInputStream(content));
+
+        // Then
+        Path file = assertInstanceOf(Path.class, body);
+        assertEquals(spoolDir, file.getParent());
+        assertArrayEquals(content, Files.readAllBytes(file));
+
+        spool.delete(file.toString());
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void read_BodyOverMaximumIsRejectedAndNotKept() {
+        // Given
+        properties.setMaxSize(64);
+
+        // When / Then
+        assertThrows(RequestBodyTooLargeException.class,
+                () -> spool.read(new ByteArrayInputStream(new byte[65])));
+        assertEquals(0, fileCount());
+    }
+
+    @Test
+    void read_TruncatedUploadIsRejectedAndNotKept() {
+        // Given: the client goes away after 40 bytes of a larger body
+        InputStream truncated = new SequenceInputStream(new ByteArrayInputStream(new byte[40]), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new EOFException("Unexpected EOF read on the socket");
+            }
+        });
+
+        // When / Then
+        assertThrows(RequestBodyUnreadableException.class, () -> spool.read(truncated));
+        assertEquals(0, fileCount());
+    }
+
+    @Test
+    void read_UnwritableSpoolDirectoryIsReported() throws IOException {
+        // Given
+        Path notADirectory = Files.createFile(spoolDir.resolve("file"));
+        properties.setSpoolDir(notADirectory.toString());
+
+        // When / Then
+        assertThrows(RequestBodySpoolException.class, () -> spool.read(new ByteArrayInputStream(new byte[100])));
+    }
+
+    private long fileCount() {
+        try (var files = Files.list(spoolDir)) {
+            return files.count();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.jobmanager.orchestrator.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ResponseFileSweeper.
+ */
+@ExtendWith(MockitoExtension.class)
+class ResponseFileSweeperTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private JobStatusStore jobStatusStore;
+
+    private ResponseStore responseStore;
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseFileSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        ResponseStoreProperties properties = new ResponseStoreProperties();
+        properties.setInlineLimit(100);
+        properties.setSpillThreshold(1_000);
+        properties.setDir(tempDir.toString());
+        properties.setSweepGracePeriod(Duration.ofHours(1).toMillis());
+        properties.setSweepBatchSize(2);
+        responseStore = new ResponseStore(properties);
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new ResponseFileSweeper(responseStore, jobStatusStore, properties, meterRegistry);
+    }
+
+    @Test
+    void sweep_DeletesOldFilesNoJobRefersTo() throws IOException {
+        // Given
+        StoredResponse held = store(1, Duration.ofHours(2));
+        store(2, Duration.ofHours(2));
+        store(3, Duration.ofHours(2));
+        when(jobStatusStore.findReferencedResponses(anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<String> refs = invocation.getArgument(0);
+                    return refs.contains(held.getRef()) ? Set.of(held.getRef()) : Set.of();
+                });
+
+        // When
+        int deleted = sweeper.sweep();
+
+        // Then: three files checked in batches of two
+        assertEquals(2, deleted);
+        verify(jobStatusStore, times(2)).findReferencedResponses(anyCollection());
+        assertEquals(List.of(held.getRef().substring("sha256:".length()) + ".deflate"),
+                storedFiles().stream().map(file -> file.getFileName().toString()).toList());
+        assertEquals(2.0, meterRegistry.get("job.response-store.files.deleted").counter().count());
+    }
+
+    @Test
+    void sweep_KeepsFilesWithinGracePeriod() throws IOException {
+        // Given: the job holding it may not have been written yet
+        store(1, Duration.ofMinutes(5));
+
+        // When
+        int deleted = sweeper.sweep();
+
+        // Then
+        assertEquals(0, deleted);
+        verify(jobStatusStore, never()).findReferencedResponses(any());
+        assertEquals(1, storedFiles().size());
+    }
+
+    @Test
+    void sweep_MissingDirectory_DeletesNothing() {
+        // Given: no response has been stored in a file yet
+        ResponseStoreProperties properties = new ResponseStoreProperties();
+        properties.setDir(tempDir.resolve("missing").toString());
+        ResponseFileSweeper fresh = new ResponseFileSweeper(
+                new ResponseStore(properties), jobStatusStore, properties, meterRegistry);
+
+        // When/Then
+        assertEquals(0, fresh.sweep());
+        verifyNoInteractions(jobStatusStore);
+    }
+
+    private StoredResponse store(int seed, Duration age) throws IOException {
+        byte[] response = new byte[5_000];
+        new Random(seed).nextBytes(response);
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(response);
+        StoredResponse stored = responseStore.capture(Flux.just(buffer)).block();
+        String hash = stored.getRef().substring("sha256:".length());
+        Path file = tempDir.resolve(hash.substring(0, 2)).resolve(hash + ".deflate");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(age)));
+        return stored;
+    }
+
+    private List<Path> storedFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+}
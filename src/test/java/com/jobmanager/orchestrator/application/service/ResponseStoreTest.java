@@ -0,0 +1,285 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ResponseStore.
+ */
+class ResponseStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ResponseStore responseStore;
+
+    @BeforeEach
+    void setUp() {
+        ResponseStoreProperties properties = new ResponseStoreProperties();
+        properties.setInlineLimit(100);
+        properties.setSpillThreshold(10_000);
+        properties.setDir(tempDir.toString());
+        responseStore = new ResponseStore(properties);
+    }
+
+    @Test
+    void capture_KeepsSmallResponseInline() {
+        // When
+        StoredResponse stored = responseStore.capture(body("{\"ok\":true}".getBytes(StandardCharsets.UTF_8))).block();
+
+        // Then
+        assertEquals("{\"ok\":true}", stored.getText());
+        assertNull(stored.getData());
+        assertNull(stored.getRef());
+        assertEquals(11L, stored.getSize());
+    }
+
+    @Test
+    void capture_CompressesSmallBodyThatIsNotText() throws IOException {
+        // Given: not valid UTF-8, so a String would replace its bytes
+        byte[] response = {(byte) 0x89, 'P', 'N', 'G', (byte) 0xff, (byte) 0xfe, 0, 1};
+
+        // When
+        StoredResponse stored = responseStore.capture(body(response)).block();
+
+        // Then
+        assertNull(stored.getText());
+        assertNotNull(stored.getData());
+        assertEquals(8L, stored.getSize());
+        assertArrayEquals(response, responseStore.open(stored).readAllBytes());
+    }
+
+    @Test
+    void capture_CompressesMediumResponse() {
+        // Given
+        String json = "{\"state\":\"done\"},".repeat(300);
+
+        // When
+        StoredResponse stored = responseStore.capture(body(json.getBytes(StandardCharsets.UTF_8))).block();
+
+        // Then
+        assertNull(stored.getText());
+        assertTrue(stored.getData().length < json.length() / 10);
+        assertEquals(json.length(), stored.getSize());
+        assertEquals(json, responseStore.read(stored));
+    }
+
+    @Test
+    void capture_SpillsLargeResponseToContentAddressedFile() throws IOException {
+        // Given
+        byte[] response = new byte[50_000];
+        new Random(3).nextBytes(response);
+
+        // When
+        StoredResponse first = responseStore.capture(body(response)).block();
+        StoredResponse second = responseStore.capture(body(response)).block();
+
+        // Then
+        assertTrue(first.getRef().startsWith("sha256:"));
+        assertEquals(first.getRef(), second.getRef());
+        assertEquals(50_000L, first.getSize());
+        assertNull(first.getText());
+        assertNull(first.getData());
+        assertArrayEquals(response, responseStore.open(first).readAllBytes());
+        assertEquals(1, storedFiles().size());
+    }
+
+    @Test
+    void capture_CompressesSpilledFile() throws IOException {
+        // Given
+        String json = "{\"id\":1,\"state\":\"done\"},".repeat(5_000);
+
+        // When
+        StoredResponse stored = responseStore.capture(body(json.getBytes(StandardCharsets.UTF_8))).block();
+
+        // Then
+        Path file = storedFiles().get(0);
+        assertEquals(stored.getRef().substring("sha256:".length()) + ".deflate", file.getFileName().toString());
+        assertTrue(Files.size(file) < json.length() / 10);
+        assertEquals(json, responseStore.read(stored));
+    }
+
+    @Test
+    void capture_SameBodyAgain_RefreshesTheFileForTheSweeper() throws IOException {
+        // Given
+        byte[] response = new byte[50_000];
+        new Random(5).nextBytes(response);
+        StoredResponse stored = responseStore.capture(body(response)).block();
+        Path file = storedFiles().get(0);
+        Instant storedAt = Instant.now().minus(Duration.ofHours(2));
+        Files.setLastModifiedTime(file, FileTime.from(storedAt));
+        Instant cutoff = storedAt.plus(Duration.ofHours(1));
+        assertEquals(List.of(stored.getRef()), responseStore.findFilesModifiedBefore(cutoff));
+
+        // When
+        responseStore.capture(body(response)).block();
+
+        // Then
+        assertTrue(responseStore.findFilesModifiedBefore(cutoff).isEmpty());
+        assertFalse(responseStore.deleteFileModifiedBefore(stored.getRef(), cutoff));
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    void findFilesModifiedBefore_DeletesStaleTempFiles() throws IOException {
+        // Given: left behind by a node that stopped mid-capture
+        Path stale = Files.createFile(tempDir.resolve("response-1.tmp"));
+        Files.setLastModifiedTime(stale, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+        Path fresh = Files.createFile(tempDir.resolve("response-2.tmp"));
+
+        // When
+        List<String> refs = responseStore.findFilesModifiedBefore(Instant.now().minus(Duration.ofHours(1)));
+
+        // Then
+        assertTrue(refs.isEmpty());
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(fresh));
+    }
+
+    @Test
+    void deleteFileModifiedBefore_DeletesOldFile() throws IOException {
+        // Given
+        byte[] response = new byte[50_000];
+        new Random(7).nextBytes(response);
+        StoredResponse stored = responseStore.capture(body(response)).block();
+
+        // When
+        boolean deleted = responseStore.deleteFileModifiedBefore(stored.getRef(), Instant.now().plusSeconds(1));
+
+        // Then
+        assertTrue(deleted);
+        assertTrue(storedFiles().isEmpty());
+    }
+
+    @Test
+    void read_ReadsUncompressedFile() throws IOException {
+        // Given
+        String hash = "ab".repeat(32);
+        Files.createDirectories(tempDir.resolve("ab"));
+        Files.writeString(tempDir.resolve("ab").resolve(hash), "{\"ok\":true}");
+
+        // When
+        String body = responseStore.read(StoredResponse.file("sha256:" + hash, 11));
+
+        // Then
+        assertEquals("{\"ok\":true}", body);
+    }
+
+    @Test
+    void capture_StoresNothingForEmptyBody() {
+        // When
+        StoredResponse stored = responseStore.capture(Flux.empty()).block();
+
+        // Then
+        assertTrue(stored.isEmpty());
+        assertNull(responseStore.read(stored));
+    }
+
+    @Test
+    void capture_DeletesPartlyStoredFileOnError() throws IOException {
+        // Given
+        Flux<DataBuffer> failing = body(new byte[20_000]).concatWith(Flux.error(new IOException("connection reset")));
+
+        // When
+        RuntimeException error = assertThrows(RuntimeException.class, () -> responseStore.capture(failing).block());
+
+        // Then
+        assertInstanceOf(IOException.class, error.getCause());
+        assertTrue(storedFiles().isEmpty());
+    }
+
+    @Test
+    void read_RejectsInvalidReference() {
+        // Given
+        StoredResponse stored = StoredResponse.file("sha256:../../etc/passwd", 10);
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> responseStore.read(stored));
+    }
+
+    @Test
+    void read_FailsWhenFileIsMissing() {
+        // Given
+        StoredResponse stored = StoredResponse.file("sha256:" + "0".repeat(64), 10);
+
+        // When/Then
+        assertThrows(UncheckedIOException.class, () -> responseStore.read(stored));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_StoredBytesAndCaptureThroughputPerSize() throws IOException {
+        ResponseStoreProperties properties = new ResponseStoreProperties();
+        properties.setDir(tempDir.toString());
+        ResponseStore store = new ResponseStore(properties);
+        for (int size : new int[] {8 * 1024, 128 * 1024, 768 * 1024, 16 * 1024 * 1024}) {
+            StringBuilder json = new StringBuilder(size + 64).append('[');
+            Random random = new Random(size);
+            while (json.length() < size) {
+                json.append("{\"id\":").append(random.nextInt(1_000_000))
+                        .append(",\"state\":\"done\",\"score\":").append(random.nextDouble()).append("},");
+            }
+            byte[] response = json.toString().getBytes(StandardCharsets.UTF_8);
+            int captures = Math.max(5, (int) Math.min(500, (256L * 1024 * 1024) / size));
+
+            StoredResponse stored = store.capture(body(response)).block();
+            long start = System.nanoTime();
+            for (int i = 0; i < captures; i++) {
+                store.capture(body(response)).block();
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            System.out.printf("%8d bytes: stored %8d bytes, capture %.1f MB/s%n",
+                    response.length, storedBytes(stored), captures * (double) response.length / (1024 * 1024) / seconds);
+        }
+    }
+
+    private long storedBytes(StoredResponse stored) throws IOException {
+        if (stored.getData() != null) {
+            return stored.getData().length;
+        }
+        if (stored.getRef() != null) {
+            String hash = stored.getRef().substring("sha256:".length());
+            return Files.size(tempDir.resolve(hash.substring(0, 2)).resolve(hash + ".deflate"));
+        }
+        return stored.getText().length();
+    }
+
+    private static Flux<DataBuffer> body(byte[] bytes) {
+        // Split into chunks, as a response arrives from the network
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int from = 0; from < bytes.length; from += 4096) {
+            int length = Math.min(4096, bytes.length - from);
+            DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(length);
+            buffer.write(bytes, from, length);
+            buffers.add(buffer);
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    private List<Path> storedFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+}
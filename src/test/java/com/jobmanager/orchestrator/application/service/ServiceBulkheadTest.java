@@ -0,0 +1,150 @@
+package com.jobmanager.orchestrator.application.service;
+
+import com.jobmanager.orchestrator.domain.entity.JobRestMapping;
+import com.jobmanager.orchestrator.domain.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ServiceBulkhead and ServiceBulkheadRegistry.
+ */
+class ServiceBulkheadTest {
+
+    @Test
+    void reserve_QueuesOnceSlotsAreTakenAndRejectsWhenQueueIsFull() {
+        // Given
+        ServiceBulkhead bulkhead = new ServiceBulkhead("report-service", 2, 1);
+
+        // When
+        ServiceBulkhead.Permit first = bulkhead.reserve();
+        ServiceBulkhead.Permit second = bulkhead.reserve();
+        ServiceBulkhead.Permit third = bulkhead.reserve();
+
+        // Then
+        assertFalse(first.isQueued());
+        assertFalse(second.isQueued());
+        assertTrue(third.isQueued());
+        assertEquals(2, bulkhead.getActiveCount());
+        assertEquals(1, bulkhead.getQueueDepth());
+        BulkheadFullException ex = assertThrows(BulkheadFullException.class, bulkhead::reserve);
+        assertEquals("report-service", ex.getServiceName());
+        assertEquals(1, bulkhead.getRejectedCount());
+    }
+
+    @Test
+    void guard_StartsQueuedJobWhenSlotIsReleased() {
+        // Given
+        ServiceBulkhead bulkhead = new ServiceBulkhead("report-service", 1, 10);
+        Sinks.Empty<Void> firstJob = Sinks.empty();
+        AtomicInteger secondStarted = new AtomicInteger();
+
+        bulkhead.reserve().guard(firstJob.asMono()).subscribe();
+        ServiceBulkhead.Permit queued = bulkhead.reserve();
+        queued.guard(Mono.fromRunnable(secondStarted::incrementAndGet)).subscribe();
+        assertEquals(0, secondStarted.get());
+
+        // When
+        firstJob.tryEmitEmpty();
+
+        // Then
+        assertEquals(1, secondStarted.get());
+        assertEquals(0, bulkhead.getActiveCount());
+        assertEquals(0, bulkhead.getQueueDepth());
+    }
+
+    @Test
+    void guard_CancellingQueuedJobLeavesTheQueue() {
+        // Given
+        ServiceBulkhead bulkhead = new ServiceBulkhead("report-service", 1, 10);
+        bulkhead.reserve().guard(Mono.never()).subscribe();
+        AtomicInteger started = new AtomicInteger();
+        Disposable queued = bulkhead.reserve().guard(Mono.fromRunnable(started::incrementAndGet)).subscribe();
+
+        // When
+        queued.dispose();
+
+        // Then
+        assertEquals(0, bulkhead.getQueueDepth());
+        assertEquals(1, bulkhead.getActiveCount());
+        assertEquals(0, started.get());
+    }
+
+    @Test
+    void release_IsIdempotent() {
+        // Given
+        ServiceBulkhead bulkhead = new ServiceBulkhead("report-service", 1, 0);
+        ServiceBulkhead.Permit permit = bulkhead.reserve();
+
+        // When
+        permit.release();
+        permit.release();
+
+        // Then
+        assertEquals(0, bulkhead.getActiveCount());
+        assertFalse(bulkhead.reserve().isQueued());
+    }
+
+    @Test
+    void updateLimits_RaisingConcurrencyStartsQueuedJobs() {
+        // Given
+        ServiceBulkhead bulkhead = new ServiceBulkhead("report-service", 1, 10);
+        bulkhead.reserve();
+        ServiceBulkhead.Permit queued = bulkhead.reserve();
+
+        // When
+        bulkhead.updateLimits(2, 10);
+
+        // Then
+        assertFalse(queued.isQueued());
+        assertEquals(2, bulkhead.getActiveCount());
+    }
+
+    @Test
+    void registry_IsolatesServicesAndPublishesMetrics() {
+        // Given
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setDefaultMaxConcurrency(1);
+        properties.setDefaultQueueCapacity(0);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ServiceBulkheadRegistry registry = new ServiceBulkheadRegistry(properties, meterRegistry);
+        JobRestMapping report = new JobRestMapping("report", "report-service", "http://localhost", 8081, "POST");
+        JobRestMapping notification = new JobRestMapping("notify", "notification-service", "http://localhost", 8082, "POST");
+
+        // When
+        registry.forRoute(Route.compile(report)).reserve();
+        assertThrows(BulkheadFullException.class, () -> registry.forRoute(Route.compile(report)).reserve());
+        ServiceBulkhead.Permit notificationPermit = registry.forRoute(Route.compile(notification)).reserve();
+
+        // Then
+        assertFalse(notificationPermit.isQueued());
+        assertEquals(1.0, meterRegistry.get("job.bulkhead.rejections").tag("service", "report-service")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("job.bulkhead.active").tag("service", "notification-service")
+                .gauge().value());
+        assertEquals(0.0, meterRegistry.get("job.bulkhead.queue.depth").tag("service", "report-service")
+                .gauge().value());
+    }
+
+    @Test
+    void registry_AppliesLimitsFromMapping() {
+        // Given
+        ServiceBulkheadRegistry registry = new ServiceBulkheadRegistry(new BulkheadProperties(), new SimpleMeterRegistry());
+        JobRestMapping mapping = new JobRestMapping("report", "report-service", "http://localhost", 8081, "POST");
+        mapping.setMaxConcurrency(3);
+        mapping.setQueueCapacity(7);
+
+        // When
+        ServiceBulkhead bulkhead = registry.forRoute(Route.compile(mapping));
+
+        // Then
+        assertEquals(3, bulkhead.getMaxConcurrency());
+        assertEquals(7, bulkhead.getQueueCapacity());
+    }
+}
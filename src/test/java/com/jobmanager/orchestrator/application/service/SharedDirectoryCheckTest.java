@@ -0,0 +1,39 @@
+package com.jobmanager.orchestrator.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SharedDirectoryCheck.
+ */
+class SharedDirectoryCheckTest {
+
+    @Test
+    void bothDirectoriesSet_Passes() {
+        // Given
+        RequestBodySpoolProperties spoolProperties = new RequestBodySpoolProperties();
+        spoolProperties.setSpoolDir("/shared/request-bodies");
+        ResponseStoreProperties responseStoreProperties = new ResponseStoreProperties();
+        responseStoreProperties.setDir("/shared/responses");
+
+        // When/Then
+        assertDoesNotThrow(() -> new SharedDirectoryCheck(spoolProperties, responseStoreProperties));
+    }
+
+    @Test
+    void unsetDirectories_FailStartup() {
+        // Given
+        RequestBodySpoolProperties spoolProperties = new RequestBodySpoolProperties();
+        ResponseStoreProperties responseStoreProperties = new ResponseStoreProperties();
+        responseStoreProperties.setDir(" ");
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new SharedDirectoryCheck(spoolProperties, responseStoreProperties));
+
+        // Then
+        assertTrue(exception.getMessage().contains("job.request-body.spool-dir"));
+        assertTrue(exception.getMessage().contains("job.response-store.dir"));
+    }
+}
@@ -0,0 +1,192 @@
+package com.jobmanager.orchestrator.config;
+
+import com.jobmanager.orchestrator.application.service.JobDispatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VirtualThreadJobExecutor.
+ * The dispatch benchmark only runs with -Dbenchmark=true.
+ */
+class VirtualThreadJobExecutorTest {
+
+    private VirtualThreadJobExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new VirtualThreadJobExecutor("test-virtual-", 2, 5);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executor.destroy();
+    }
+
+    @Test
+    void execute_RunsOnVirtualThread() throws Exception {
+        // Given
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean virtual = new AtomicBoolean();
+
+        // When
+        executor.execute(() -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            finished.countDown();
+        });
+
+        // Then
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertTrue(virtual.get());
+    }
+
+    @Test
+    void execute_RespectsConcurrencyLimitWithoutBlockingCaller() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // When - submitting more tasks than permits returns immediately
+        for (int i = 0; i < 10; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                awaitQuietly(release);
+                running.decrementAndGet();
+            });
+        }
+        waitFor(() -> executor.getWaitingCount() == 8);
+
+        // Then
+        assertEquals(2, executor.getActiveCount());
+        assertEquals(8, executor.getWaitingCount());
+        release.countDown();
+        waitFor(() -> executor.getActiveCount() == 0);
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    void submit_CancelInterruptsRunningTask() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Future<?> future = executor.submit(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(30_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        future.cancel(true);
+
+        // Then
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        waitFor(() -> executor.getActiveCount() == 0);
+    }
+
+    @Test
+    void submit_CancelWhileWaitingForPermit_NeverRuns() throws Exception {
+        // Given - both permits taken
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+        executor.execute(() -> awaitQuietly(release));
+        AtomicBoolean ran = new AtomicBoolean();
+        Future<?> waiting = executor.submit(() -> ran.set(true));
+        waitFor(() -> executor.getWaitingCount() == 1);
+
+        // When
+        waiting.cancel(true);
+        release.countDown();
+        waitFor(() -> executor.getActiveCount() == 0);
+
+        // Then
+        assertFalse(ran.get());
+    }
+
+    @Test
+    void execute_AfterShutdown_Rejects() throws Exception {
+        executor.destroy();
+        assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_TenThousandDispatchedJobs() throws Exception {
+        int jobs = 10_000;
+        long remoteMillis = 20;
+
+        ThreadPoolTaskExecutor platform = new ThreadPoolTaskExecutor();
+        platform.setCorePoolSize(5);
+        platform.setMaxPoolSize(10);
+        platform.setQueueCapacity(jobs);
+        platform.initialize();
+        VirtualThreadJobExecutor virtual = new VirtualThreadJobExecutor("bench-virtual-", 1000, 5);
+
+        try {
+            double platformThroughput = dispatchJobs(platform, jobs, remoteMillis);
+            double virtualThroughput = dispatchJobs(virtual, jobs, remoteMillis);
+
+            System.out.printf("platform (5/10 threads): %.0f jobs/s%n", platformThroughput);
+            System.out.printf("virtual (limit 1000): %.0f jobs/s%n", virtualThroughput);
+            // The remote wait holds no executor thread, so 10 platform threads are not the limit
+            // (blocking on them would cap both runs at 500 jobs/s) and the thread type barely matters
+            double blockingBound = 10 * 1000.0 / remoteMillis;
+            assertTrue(platformThroughput > blockingBound * 4, "platform: " + platformThroughput);
+            assertTrue(virtualThroughput > blockingBound * 4, "virtual: " + virtualThroughput);
+        } finally {
+            platform.shutdown();
+            virtual.destroy();
+        }
+    }
+
+    /**
+     * Dispatches jobs shaped like real job pipelines: a short step on the job executor followed
+     * by a remote call that completes on a timer thread, as WebClient calls complete on Netty.
+     */
+    private static double dispatchJobs(AsyncTaskExecutor target, int jobs, long remoteMillis) throws Exception {
+        JobDispatcher dispatcher = new JobDispatcher(target);
+        CountDownLatch finished = new CountDownLatch(jobs);
+        dispatcher.addCompletionListener(finished::countDown);
+        long start = System.nanoTime();
+        for (int i = 0; i < jobs; i++) {
+            dispatcher.dispatch(UUID.randomUUID(), Mono.delay(Duration.ofMillis(remoteMillis)).then());
+        }
+        assertTrue(finished.await(5, TimeUnit.MINUTES));
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return jobs / seconds;
+    }
+
+    private static void waitFor(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
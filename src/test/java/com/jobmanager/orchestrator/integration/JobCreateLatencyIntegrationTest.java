@@ -0,0 +1,219 @@
+package com.jobmanager.orchestrator.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobmanager.orchestrator.JobOrchestratorApplication;
+import com.jobmanager.orchestrator.application.service.JobMappingService;
+import com.jobmanager.orchestrator.application.service.Route;
+import com.jobmanager.orchestrator.domain.entity.JobRestMapping;
+import com.jobmanager.orchestrator.domain.enums.JobExecutionStatus;
+import com.jobmanager.orchestrator.persistence.repository.JobStatusRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Load test for job creation through the REST API.
+ * Jobs are created with POST /job/create against targets that take from half a second to eight
+ * seconds to answer, and run through the job queue, the dispatcher and the HTTP client like any
+ * other job. Creating a job must return its UUID without waiting for the target, so create
+ * latency must not grow with the target's delay.
+ *
+ * The job mappings are stubbed, so no MongoDB is needed; jobs are queued in the embedded H2 database.
+ */
+@SpringBootTest(classes = JobOrchestratorApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:job-create-latency;DB_CLOSE_DELAY=-1",
+        "spring.sql.init.mode=never",
+        "spring.data.mongodb.auto-index-creation=false",
+        "job.mapping-replication.enabled=false",
+        "job.queue.poll-interval=50",
+        "job.bulkhead.default-max-concurrency=100"
+})
+@AutoConfigureMockMvc
+class JobCreateLatencyIntegrationTest {
+
+    // One target per delay, each holding every request for its delay before answering
+    private static final long[] TARGET_DELAYS_MILLIS = {500, 2_000, 8_000};
+    private static final int JOBS_PER_DELAY = 40;
+
+    private static final Map<Long, HttpServer> targets = new LinkedHashMap<>();
+    private static final AtomicInteger answered = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobStatusRepository jobStatusRepository;
+
+    @MockBean
+    private JobMappingService mappingService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void startTargets() throws IOException {
+        for (long delay : TARGET_DELAYS_MILLIS) {
+            HttpServer target = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            target.setExecutor(Executors.newCachedThreadPool());
+            target.createContext("/", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] response = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", MediaType.APPLICATION_JSON_VALUE);
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response);
+                }
+                answered.incrementAndGet();
+            });
+            target.start();
+            targets.put(delay, target);
+        }
+    }
+
+    @AfterAll
+    static void stopTargets() {
+        targets.values().forEach(target -> target.stop(0));
+    }
+
+    @BeforeEach
+    void setUp() {
+        targets.forEach((delay, target) -> {
+            JobRestMapping mapping = new JobRestMapping(
+                    jobName(delay), "slow-service-" + delay, "http://localhost", target.getAddress().getPort(), "POST");
+            when(mappingService.resolveRoute(jobName(delay))).thenReturn(Route.compile(mapping));
+        });
+    }
+
+    @Test
+    void createJob_ReturnsBeforeTheTargetAnswers() throws Exception {
+        // Given
+        long delay = 2_000;
+        int answeredBefore = answered.get();
+        long start = System.nanoTime();
+
+        // When
+        UUID uuid = createJob(jobName(delay), "single-" + UUID.randomUUID());
+
+        // Then: the request came back while the target was still holding the call
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(millis < delay / 2, "Creating the job took " + millis + "ms");
+        assertEquals(answeredBefore, answered.get());
+        assertNotEquals(JobExecutionStatus.SUCCESS, jobStatusRepository.findByUuid(uuid).orElseThrow().getStatus());
+        assertEquals(JobExecutionStatus.SUCCESS, awaitFinalStatus(uuid, 15_000));
+    }
+
+    @Test
+    void createLatency_StaysFlatAsTheTargetGetsSlower() throws Exception {
+        // Given: warmed up, so the first delay does not pay for class loading and connection setup
+        createConcurrently(jobName(TARGET_DELAYS_MILLIS[0]), JOBS_PER_DELAY, new ArrayList<>());
+
+        // When
+        Map<Long, Long> p95ByDelay = new LinkedHashMap<>();
+        List<UUID> uuids = Collections.synchronizedList(new ArrayList<>());
+        for (long delay : TARGET_DELAYS_MILLIS) {
+            List<Long> latencies = createConcurrently(jobName(delay), JOBS_PER_DELAY, uuids);
+            p95ByDelay.put(delay, p95(latencies));
+        }
+
+        // Then: a sixteen times slower target leaves create latency where it was
+        long fastest = p95ByDelay.get(TARGET_DELAYS_MILLIS[0]);
+        for (Map.Entry<Long, Long> entry : p95ByDelay.entrySet()) {
+            assertTrue(entry.getValue() < TARGET_DELAYS_MILLIS[0],
+                    "p95 create latency against a " + entry.getKey() + "ms target: " + entry.getValue() + "ms");
+            assertTrue(entry.getValue() <= 2 * fastest + 100, "p95 create latency by target delay: " + p95ByDelay);
+        }
+        for (UUID uuid : uuids) {
+            assertEquals(JobExecutionStatus.SUCCESS, awaitFinalStatus(uuid, 60_000));
+        }
+    }
+
+    /**
+     * Creates jobs from as many concurrent clients and returns each create's latency in milliseconds.
+     */
+    private List<Long> createConcurrently(String jobName, int jobs, List<UUID> uuids) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(jobs);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < jobs; i++) {
+                String key = jobName + "-" + UUID.randomUUID();
+                futures.add(clients.submit(() -> {
+                    long start = System.nanoTime();
+                    uuids.add(createJob(jobName, key));
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }));
+            }
+            List<Long> latencies = new ArrayList<>();
+            for (Future<Long> future : futures) {
+                latencies.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return latencies;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private static long p95(List<Long> latencies) {
+        List<Long> sorted = latencies.stream().sorted().toList();
+        return sorted.get((int) Math.ceil(sorted.size() * 0.95) - 1);
+    }
+
+    private static String jobName(long delay) {
+        return "slow-job-" + delay;
+    }
+
+    private UUID createJob(String jobName, String idempotencyKey) throws Exception {
+        String response = mockMvc.perform(post("/job/create/{jobName}", jobName)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"test\":\"data\"}"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return UUID.fromString(objectMapper.readTree(response).get("uuid").asText());
+    }
+
+    private JobExecutionStatus awaitFinalStatus(UUID uuid, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        JobExecutionStatus status = jobStatusRepository.findByUuid(uuid).orElseThrow().getStatus();
+        while ((status == JobExecutionStatus.STARTED || status == JobExecutionStatus.IN_PROGRESS)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            status = jobStatusRepository.findByUuid(uuid).orElseThrow().getStatus();
+        }
+        return status;
+    }
+}